@@ -0,0 +1,387 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CoarseClock.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.base.TimeSource;
+import net.time4j.scale.TimeScale;
+
+import java.lang.ref.WeakReference;
+import java.util.Locale;
+
+
+/**
+ * <p>Represents a coarse-grained clock whose current time is periodically published
+ * by a background thread. </p>
+ *
+ * <p>Reading the time only needs one volatile memory access and creates no new objects
+ * so this clock is suitable for timestamping at very high rates where the precision of
+ * the clock unit is sufficient. The time is based on {@link System#currentTimeMillis()}
+ * like {@link SystemClock#INSTANCE} and truncated to the clock unit. Its accuracy depends
+ * on the thread scheduling of the underlying platform, so the published time might lag
+ * behind the system time by one or more ticks under heavy load. </p>
+ *
+ * <p>The background thread only holds the clock weakly and terminates as soon as the clock
+ * is no longer referenced by the application, has been {@link #shutdown() shut down} or the
+ * thread has been interrupted. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     SystemClock#coarse(ClockUnit)
+ * @since   5.6
+ * @doctags.concurrency {threadsafe}
+ */
+/*[deutsch]
+ * <p>Repr&auml;sentiert eine grobk&ouml;rnige Uhr, deren aktuelle Zeit periodisch von einem
+ * Hintergrund-Thread ver&ouml;ffentlicht wird. </p>
+ *
+ * <p>Das Lesen der Zeit ben&ouml;tigt nur einen volatile-Speicherzugriff und erzeugt keine neuen
+ * Objekte, so da&szlig; sich diese Uhr f&uuml;r Zeitstempel mit sehr hohen Raten eignet, wenn
+ * die Genauigkeit der Uhreinheit ausreicht. Die Zeit basiert wie {@link SystemClock#INSTANCE}
+ * auf {@link System#currentTimeMillis()} und wird auf die Uhreinheit abgeschnitten. Ihre Genauigkeit
+ * h&auml;ngt von der Thread-Steuerung der zugrundeliegenden Plattform ab, so da&szlig; die
+ * ver&ouml;ffentlichte Zeit unter hoher Last der Systemzeit um einen oder mehrere Takte
+ * hinterherhinken kann. </p>
+ *
+ * <p>Der Hintergrund-Thread h&auml;lt die Uhr nur schwach referenziert und beendet sich, sobald
+ * die Uhr von der Anwendung nicht mehr referenziert wird, {@link #shutdown() heruntergefahren}
+ * oder der Thread unterbrochen wurde. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     SystemClock#coarse(ClockUnit)
+ * @since   5.6
+ * @doctags.concurrency {threadsafe}
+ */
+public final class CoarseClock
+    implements TimeSource<Moment> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MIO = 1000000;
+
+    private static WeakReference<CoarseClock> millisClock = null;
+    private static WeakReference<CoarseClock> secondsClock = null;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ClockUnit unit;
+    private final long step;
+    private volatile Tick tick;
+    private volatile boolean stopped;
+    private Thread ticker;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private CoarseClock(ClockUnit unit) {
+        super();
+
+        this.unit = unit;
+        this.step = ((unit == ClockUnit.SECONDS) ? 1000L : 1L);
+        this.tick = new Tick(this.truncate(System.currentTimeMillis()));
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the last published time. </p>
+     *
+     * @return  current time truncated to the clock unit (cached instance)
+     */
+    /*[deutsch]
+     * <p>Liefert die zuletzt ver&ouml;ffentlichte Zeit. </p>
+     *
+     * @return  current time truncated to the clock unit (cached instance)
+     */
+    @Override
+    public Moment currentTime() {
+
+        return this.getTick().moment;
+
+    }
+
+    /**
+     * <p>Yields the last published time in milliseconds elapsed since [1970-01-01T00:00:00,000Z]. </p>
+     *
+     * @return  count of milliseconds since UNIX epoch without leap seconds truncated to the clock unit
+     */
+    /*[deutsch]
+     * <p>Liefert die zuletzt ver&ouml;ffentlichte seit [1970-01-01T00:00:00,000Z] verstrichene
+     * Zeit in Millisekunden. </p>
+     *
+     * @return  count of milliseconds since UNIX epoch without leap seconds truncated to the clock unit
+     */
+    public long currentTimeInMillis() {
+
+        return this.getTick().millis;
+
+    }
+
+    /**
+     * <p>Yields the text representation of the last published time. </p>
+     *
+     * <p>The text is equivalent to {@code currentTime().toString()} but is only built once per tick
+     * and then shared by all readers. </p>
+     *
+     * @return  ISO-like text of current time in UTC
+     * @see     Moment#toString()
+     */
+    /*[deutsch]
+     * <p>Liefert die Textdarstellung der zuletzt ver&ouml;ffentlichten Zeit. </p>
+     *
+     * <p>Der Text ist zu {@code currentTime().toString()} &auml;quivalent, wird aber nur einmal
+     * je Takt erzeugt und dann von allen Lesern gemeinsam genutzt. </p>
+     *
+     * @return  ISO-like text of current time in UTC
+     * @see     Moment#toString()
+     */
+    public String currentTimeAsString() {
+
+        return this.getTick().getText();
+
+    }
+
+    /**
+     * <p>Yields the clock unit which determines the tick interval of this clock. </p>
+     *
+     * @return  ClockUnit
+     */
+    /*[deutsch]
+     * <p>Liefert die Uhreinheit, die das Taktintervall dieser Uhr bestimmt. </p>
+     *
+     * @return  ClockUnit
+     */
+    public ClockUnit getPrecision() {
+
+        return this.unit;
+
+    }
+
+    /**
+     * <p>Stops the background thread of this clock. </p>
+     *
+     * <p>After shutdown, this clock does not publish any new time but reads the system time
+     * directly on every call. The next call of {@link SystemClock#coarse(ClockUnit)} will yield
+     * a new clock with its own background thread. Repeated calls of this method have no
+     * effect. </p>
+     */
+    /*[deutsch]
+     * <p>Stoppt den Hintergrund-Thread dieser Uhr. </p>
+     *
+     * <p>Nach dem Herunterfahren ver&ouml;ffentlicht diese Uhr keine neue Zeit mehr, sondern liest
+     * bei jedem Aufruf direkt die Systemzeit. Der n&auml;chste Aufruf von
+     * {@link SystemClock#coarse(ClockUnit)} liefert eine neue Uhr mit eigenem Hintergrund-Thread.
+     * Wiederholte Aufrufe dieser Methode haben keine Wirkung. </p>
+     */
+    public void shutdown() {
+
+        Thread t;
+
+        synchronized (CoarseClock.class) {
+            if (this.stopped) {
+                return;
+            }
+            this.stopped = true;
+            this.tick = null; // erst nach dem Setzen von stopped, siehe Ticker.run()
+            t = this.ticker;
+            this.ticker = null;
+        }
+
+        if (t != null) {
+            t.interrupt();
+        }
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "CoarseClock[" + this.unit + "]";
+
+    }
+
+    /**
+     * <p>Liefert die gemeinsame Instanz zur angegebenen Uhreinheit und startet bei Bedarf
+     * den zugeh&ouml;rigen Hintergrund-Thread. </p>
+     *
+     * @param   unit    either {@code SECONDS} or {@code MILLIS}
+     * @return  shared coarse clock
+     * @throws  IllegalArgumentException if the unit is not supported
+     */
+    static synchronized CoarseClock of(ClockUnit unit) {
+
+        switch (unit) {
+            case SECONDS:
+                CoarseClock sc = get(secondsClock);
+                if (sc == null) {
+                    sc = start(new CoarseClock(unit));
+                    secondsClock = new WeakReference<>(sc);
+                }
+                return sc;
+            case MILLIS:
+                CoarseClock mc = get(millisClock);
+                if (mc == null) {
+                    mc = start(new CoarseClock(unit));
+                    millisClock = new WeakReference<>(mc);
+                }
+                return mc;
+            default:
+                throw new IllegalArgumentException("Coarse clock requires seconds or milliseconds: " + unit);
+        }
+
+    }
+
+    private static CoarseClock get(WeakReference<CoarseClock> ref) {
+
+        CoarseClock clock = ((ref == null) ? null : ref.get());
+        return (((clock == null) || clock.stopped) ? null : clock);
+
+    }
+
+    private static CoarseClock start(CoarseClock clock) {
+
+        Thread t =
+            new Thread(
+                new Ticker(clock),
+                "time4j-coarse-clock-" + clock.unit.name().toLowerCase(Locale.ROOT));
+        t.setDaemon(true);
+        t.setContextClassLoader(null);
+        clock.ticker = t;
+        t.start();
+        return clock;
+
+    }
+
+    private Tick getTick() {
+
+        Tick t = this.tick;
+        return ((t == null) ? new Tick(this.truncate(System.currentTimeMillis())) : t);
+
+    }
+
+    private long truncate(long millis) {
+
+        return millis - Math.floorMod(millis, this.step);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Ticker
+        implements Runnable {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        // nur schwach referenziert, damit der Thread die Uhr nicht am Leben erhält
+        private final WeakReference<CoarseClock> ref;
+        private final long step;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Ticker(CoarseClock clock) {
+            super();
+
+            this.ref = new WeakReference<>(clock);
+            this.step = clock.step;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void run() {
+
+            while (!Thread.currentThread().isInterrupted()) {
+                CoarseClock clock = this.ref.get();
+
+                if ((clock == null) || clock.stopped) {
+                    return;
+                }
+
+                long millis = System.currentTimeMillis();
+                long truncated = clock.truncate(millis);
+                Tick current = clock.tick;
+
+                if ((current != null) && (truncated != current.millis)) {
+                    clock.tick = new Tick(truncated);
+
+                    if (clock.stopped) { // Rennen mit shutdown(): keine veraltete Zeit zurücklassen
+                        clock.tick = null;
+                        return;
+                    }
+                }
+
+                clock = null; // keine starke Referenz während des Schlafens
+
+                try {
+                    Thread.sleep(this.step - (millis - truncated)); // bis zur nächsten Taktgrenze
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            // von außen unterbrochen: die Uhr darf nicht mit veralteter Zeit stehenbleiben
+            CoarseClock clock = this.ref.get();
+
+            if (clock != null) {
+                clock.shutdown();
+            }
+
+        }
+
+    }
+
+    private static class Tick {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long millis;
+        private final Moment moment;
+        private String text; // einmalig je Takt berechnet, unkritisches Rennen
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Tick(long millis) {
+            super();
+
+            this.millis = millis;
+            int nanos = ((int) Math.floorMod(millis, 1000)) * MIO;
+            this.moment = Moment.of(Math.floorDiv(millis, 1000), nanos, TimeScale.POSIX);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        String getText() {
+
+            String s = this.text;
+
+            if (s == null) {
+                s = this.moment.toString();
+                this.text = s;
+            }
+
+            return s;
+
+        }
+
+    }
+
+}
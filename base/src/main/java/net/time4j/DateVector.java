@@ -0,0 +1,591 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (DateVector.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.EpochDays;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+
+/**
+ * <p>Immutable column of calendar dates stored as primitive epoch days. </p>
+ *
+ * <p>Every element is held as count of days since [1970-01-01] in an {@code int[]} so a
+ * vector needs four bytes per date instead of a {@code PlainDate}-object. The bulk operations
+ * work directly on the primitive values and yield the same results as the corresponding
+ * methods of {@code PlainDate} applied to every single element. The supported range is
+ * about +/- 5.8 million years around 1970. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     TimestampVector
+ * @see     MomentVector
+ * @since   5.6
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Unver&auml;nderliche Spalte von Kalenderdaten, die als primitive Epochentage
+ * gespeichert werden. </p>
+ *
+ * <p>Jedes Element wird als Anzahl der Tage seit [1970-01-01] in einem {@code int[]}
+ * gehalten, so da&szlig; ein Vektor vier Bytes je Datum statt eines {@code PlainDate}-Objekts
+ * ben&ouml;tigt. Die Massenoperationen arbeiten direkt auf den primitiven Werten und liefern
+ * dieselben Ergebnisse wie die entsprechenden Methoden von {@code PlainDate}, angewandt auf
+ * jedes einzelne Element. Der unterst&uuml;tzte Bereich umfa&szlig;t etwa +/- 5,8 Millionen
+ * Jahre um 1970. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     TimestampVector
+ * @see     MomentVector
+ * @since   5.6
+ * @doctags.concurrency {immutable}
+ */
+public final class DateVector {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final long MJD_OFFSET = 40587; // MJD von 1970-01-01
+    private static final long UTC_OFFSET = 730; // Tage zwischen 1970 und 1972
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int[] epochDays;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private DateVector(int[] epochDays) {
+        super();
+
+        this.epochDays = epochDays;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new vector containing given dates. </p>
+     *
+     * @param   dates   calendar dates to be stored
+     * @return  new vector
+     * @throws  ArithmeticException if any date is out of the supported range
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Vektor mit den angegebenen Kalenderdaten. </p>
+     *
+     * @param   dates   calendar dates to be stored
+     * @return  new vector
+     * @throws  ArithmeticException if any date is out of the supported range
+     */
+    public static DateVector of(PlainDate[] dates) {
+
+        int[] days = new int[dates.length];
+
+        for (int i = 0; i < days.length; i++) {
+            days[i] = Math.toIntExact(dates[i].getDaysSinceUTC() + UTC_OFFSET);
+        }
+
+        return new DateVector(days);
+
+    }
+
+    /**
+     * <p>Creates a new vector based on given counts of days since [1970-01-01]. </p>
+     *
+     * @param   epochDays   count of days since UNIX epoch (will be copied)
+     * @return  new vector
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Vektor auf Basis der angegebenen Anzahl von Tagen seit [1970-01-01]. </p>
+     *
+     * @param   epochDays   count of days since UNIX epoch (will be copied)
+     * @return  new vector
+     */
+    public static DateVector ofEpochDays(int[] epochDays) {
+
+        return new DateVector(epochDays.clone());
+
+    }
+
+    /**
+     * <p>Creates a new vector containing given threeten-dates. </p>
+     *
+     * @param   dates   dates to be stored
+     * @return  new vector
+     * @throws  ArithmeticException if any date is out of the supported range
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Vektor mit den angegebenen Threeten-Datumsangaben. </p>
+     *
+     * @param   dates   dates to be stored
+     * @return  new vector
+     * @throws  ArithmeticException if any date is out of the supported range
+     */
+    public static DateVector from(LocalDate[] dates) {
+
+        int[] days = new int[dates.length];
+
+        for (int i = 0; i < days.length; i++) {
+            days[i] = Math.toIntExact(dates[i].toEpochDay());
+        }
+
+        return new DateVector(days);
+
+    }
+
+    /**
+     * <p>Yields the count of elements. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Elemente. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.epochDays.length;
+
+    }
+
+    /**
+     * <p>Yields the date at given position. </p>
+     *
+     * @param   index   position in this vector
+     * @return  PlainDate
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert das Datum an der angegebenen Position. </p>
+     *
+     * @param   index   position in this vector
+     * @return  PlainDate
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public PlainDate get(int index) {
+
+        return PlainDate.of(this.epochDays[index], EpochDays.UNIX);
+
+    }
+
+    /**
+     * <p>Yields the count of days since [1970-01-01] at given position. </p>
+     *
+     * @param   index   position in this vector
+     * @return  epoch day
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Tage seit [1970-01-01] an der angegebenen Position. </p>
+     *
+     * @param   index   position in this vector
+     * @return  epoch day
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public int getEpochDay(int index) {
+
+        return this.epochDays[index];
+
+    }
+
+    /**
+     * <p>Yields a copy of all counts of days since [1970-01-01]. </p>
+     *
+     * @return  new array
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie aller Anzahlen von Tagen seit [1970-01-01]. </p>
+     *
+     * @return  new array
+     */
+    public int[] getEpochDays() {
+
+        return this.epochDays.clone();
+
+    }
+
+    /**
+     * <p>Adds given amount in given calendar unit to every element. </p>
+     *
+     * <p>Equivalent to {@code PlainDate.plus(amount, unit)}
+     * for every element, that is month-based units keep the day of month if possible
+     * and choose the last day of month otherwise. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    calendar unit
+     * @return  new vector with changed dates
+     * @throws  ArithmeticException if any result is out of the supported range
+     */
+    /*[deutsch]
+     * <p>Addiert den angegebenen Betrag in der angegebenen Kalendereinheit zu jedem Element. </p>
+     *
+     * <p>&Auml;quivalent zu {@code PlainDate.plus(amount, unit)}
+     * f&uuml;r jedes Element, das hei&szlig;t, monatsbasierte Einheiten behalten den Tag des
+     * Monats wenn m&ouml;glich und w&auml;hlen sonst den letzten Tag des Monats. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    calendar unit
+     * @return  new vector with changed dates
+     * @throws  ArithmeticException if any result is out of the supported range
+     */
+    public DateVector plus(
+        long amount,
+        CalendarUnit unit
+    ) {
+
+        if (amount == 0) {
+            return this;
+        }
+
+        int[] source = this.epochDays;
+        int[] result = new int[source.length];
+        long months = toMonths(amount, unit);
+
+        if (months == 0) {
+            long days = Math.multiplyExact(amount, (unit == CalendarUnit.WEEKS) ? 7 : 1);
+
+            for (int i = 0; i < source.length; i++) {
+                result[i] = Math.toIntExact(source[i] + days);
+            }
+        } else {
+            for (int i = 0; i < source.length; i++) {
+                result[i] = Math.toIntExact(plusMonths(source[i], months));
+            }
+        }
+
+        return new DateVector(result);
+
+    }
+
+    /**
+     * <p>Subtracts given amount in given calendar unit from every element. </p>
+     *
+     * @param   amount  amount to be subtracted (maybe negative)
+     * @param   unit    calendar unit
+     * @return  new vector with changed dates
+     * @throws  ArithmeticException if any result is out of the supported range
+     * @see     #plus(long, CalendarUnit)
+     */
+    /*[deutsch]
+     * <p>Subtrahiert den angegebenen Betrag in der angegebenen Kalendereinheit von jedem Element. </p>
+     *
+     * @param   amount  amount to be subtracted (maybe negative)
+     * @param   unit    calendar unit
+     * @return  new vector with changed dates
+     * @throws  ArithmeticException if any result is out of the supported range
+     * @see     #plus(long, CalendarUnit)
+     */
+    public DateVector minus(
+        long amount,
+        CalendarUnit unit
+    ) {
+
+        return this.plus(Math.negateExact(amount), unit);
+
+    }
+
+    /**
+     * <p>Truncates every element to the start of given calendar unit. </p>
+     *
+     * <p>Supported units are {@code YEARS}, {@code QUARTERS}, {@code MONTHS}, {@code WEEKS}
+     * (ISO-week starting on Monday) and {@code DAYS}. </p>
+     *
+     * @param   unit    calendar unit
+     * @return  new vector with truncated dates
+     * @throws  IllegalArgumentException if given unit is not supported
+     */
+    /*[deutsch]
+     * <p>Schneidet jedes Element auf den Beginn der angegebenen Kalendereinheit ab. </p>
+     *
+     * <p>Unterst&uuml;tzte Einheiten sind {@code YEARS}, {@code QUARTERS}, {@code MONTHS},
+     * {@code WEEKS} (ISO-Woche, die am Montag beginnt) und {@code DAYS}. </p>
+     *
+     * @param   unit    calendar unit
+     * @return  new vector with truncated dates
+     * @throws  IllegalArgumentException if given unit is not supported
+     */
+    public DateVector truncatedTo(CalendarUnit unit) {
+
+        int[] source = this.epochDays;
+        int[] result = new int[source.length];
+
+        switch (unit) {
+            case DAYS:
+                return this;
+            case WEEKS:
+                for (int i = 0; i < source.length; i++) {
+                    // 1970-01-01 war ein Donnerstag (Index 3 bei Montag = 0)
+                    result[i] = source[i] - (int) Math.floorMod(source[i] + 3L, 7);
+                }
+                break;
+            case MONTHS:
+            case QUARTERS:
+            case YEARS:
+                for (int i = 0; i < source.length; i++) {
+                    long packed = GregorianMath.toPackedDate(source[i] + MJD_OFFSET);
+                    int year = GregorianMath.readYear(packed);
+                    int month = GregorianMath.readMonth(packed);
+                    if (unit == CalendarUnit.YEARS) {
+                        month = 1;
+                    } else if (unit == CalendarUnit.QUARTERS) {
+                        month = ((month - 1) / 3) * 3 + 1;
+                    }
+                    result[i] = (int) (GregorianMath.toMJD(year, month, 1) - MJD_OFFSET);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported unit for truncation: " + unit);
+        }
+
+        return new DateVector(result);
+
+    }
+
+    /**
+     * <p>Combines every element with given wall time to a local timestamp. </p>
+     *
+     * @param   time    wall time
+     * @return  new timestamp vector
+     * @see     PlainDate#at(PlainTime)
+     */
+    /*[deutsch]
+     * <p>Kombiniert jedes Element mit der angegebenen Uhrzeit zu einem lokalen Zeitstempel. </p>
+     *
+     * @param   time    wall time
+     * @return  new timestamp vector
+     * @see     PlainDate#at(PlainTime)
+     */
+    public TimestampVector at(PlainTime time) {
+
+        long nanoOfDay = time.getNanoOfDay();
+
+        if (nanoOfDay == 86400L * 1000000000L) { // T24:00 entspricht dem Folgetag
+            return this.plus(1, CalendarUnit.DAYS).at(PlainTime.MIN);
+        }
+
+        int[] source = this.epochDays;
+        long[] seconds = new long[source.length];
+        int[] nanos = new int[source.length];
+        long secondOfDay = nanoOfDay / 1000000000L;
+        int nano = (int) (nanoOfDay % 1000000000L);
+
+        for (int i = 0; i < source.length; i++) {
+            seconds[i] = source[i] * 86400L + secondOfDay;
+            nanos[i] = nano;
+        }
+
+        return TimestampVector.create(seconds, nanos);
+
+    }
+
+    /**
+     * <p>Marks all elements which are before given date. </p>
+     *
+     * @param   date    date to be compared with
+     * @return  new array with {@code true} for every element before given date
+     */
+    /*[deutsch]
+     * <p>Markiert alle Elemente, die vor dem angegebenen Datum liegen. </p>
+     *
+     * @param   date    date to be compared with
+     * @return  new array with {@code true} for every element before given date
+     */
+    public boolean[] isBefore(PlainDate date) {
+
+        long day = date.getDaysSinceUTC() + UTC_OFFSET;
+        int[] source = this.epochDays;
+        boolean[] mask = new boolean[source.length];
+
+        for (int i = 0; i < source.length; i++) {
+            mask[i] = (source[i] < day);
+        }
+
+        return mask;
+
+    }
+
+    /**
+     * <p>Marks all elements which are after given date. </p>
+     *
+     * @param   date    date to be compared with
+     * @return  new array with {@code true} for every element after given date
+     */
+    /*[deutsch]
+     * <p>Markiert alle Elemente, die nach dem angegebenen Datum liegen. </p>
+     *
+     * @param   date    date to be compared with
+     * @return  new array with {@code true} for every element after given date
+     */
+    public boolean[] isAfter(PlainDate date) {
+
+        long day = date.getDaysSinceUTC() + UTC_OFFSET;
+        int[] source = this.epochDays;
+        boolean[] mask = new boolean[source.length];
+
+        for (int i = 0; i < source.length; i++) {
+            mask[i] = (source[i] > day);
+        }
+
+        return mask;
+
+    }
+
+    /**
+     * <p>Marks all elements which are equal to given date. </p>
+     *
+     * @param   date    date to be compared with
+     * @return  new array with {@code true} for every element equal to given date
+     */
+    /*[deutsch]
+     * <p>Markiert alle Elemente, die gleich dem angegebenen Datum sind. </p>
+     *
+     * @param   date    date to be compared with
+     * @return  new array with {@code true} for every element equal to given date
+     */
+    public boolean[] isSimultaneous(PlainDate date) {
+
+        long day = date.getDaysSinceUTC() + UTC_OFFSET;
+        int[] source = this.epochDays;
+        boolean[] mask = new boolean[source.length];
+
+        for (int i = 0; i < source.length; i++) {
+            mask[i] = (source[i] == day);
+        }
+
+        return mask;
+
+    }
+
+    /**
+     * <p>Converts all elements to threeten-dates. </p>
+     *
+     * @return  new array of {@code LocalDate}-objects
+     */
+    /*[deutsch]
+     * <p>Konvertiert alle Elemente zu Threeten-Datumsangaben. </p>
+     *
+     * @return  new array of {@code LocalDate}-objects
+     */
+    public LocalDate[] toLocalDates() {
+
+        LocalDate[] dates = new LocalDate[this.epochDays.length];
+
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = LocalDate.ofEpochDay(this.epochDays[i]);
+        }
+
+        return dates;
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof DateVector) {
+            return Arrays.equals(this.epochDays, ((DateVector) obj).epochDays);
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Arrays.hashCode(this.epochDays);
+
+    }
+
+    /**
+     * <p>For debugging purposes. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>F&uuml;r Debugging-Zwecke. </p>
+     *
+     * @return  String
+     */
+    @Override
+    public String toString() {
+
+        return "DateVector[size=" + this.epochDays.length + "]";
+
+    }
+
+    /**
+     * <p>Bestimmt die Anzahl der Monate einer monatsbasierten Kalendereinheit. </p>
+     *
+     * @param   amount  amount in given unit
+     * @param   unit    calendar unit
+     * @return  count of months or {@code 0} if the unit is day-based
+     */
+    static long toMonths(
+        long amount,
+        CalendarUnit unit
+    ) {
+
+        switch (unit) {
+            case MILLENNIA:
+                return Math.multiplyExact(amount, 12000);
+            case CENTURIES:
+                return Math.multiplyExact(amount, 1200);
+            case DECADES:
+                return Math.multiplyExact(amount, 120);
+            case YEARS:
+                return Math.multiplyExact(amount, 12);
+            case QUARTERS:
+                return Math.multiplyExact(amount, 3);
+            case MONTHS:
+                return amount;
+            default:
+                return 0;
+        }
+
+    }
+
+    /**
+     * <p>Addiert Monate zu einem Epochentag, wobei der Tag des Monats falls n&ouml;tig
+     * auf das Monatsende gek&uuml;rzt wird. </p>
+     *
+     * @param   epochDay    count of days since UNIX epoch
+     * @param   months      count of months to be added
+     * @return  new epoch day
+     */
+    static long plusMonths(
+        long epochDay,
+        long months
+    ) {
+
+        long packed = GregorianMath.toPackedDate(epochDay + MJD_OFFSET);
+        long total = Math.addExact(GregorianMath.readYear(packed) * 12L + GregorianMath.readMonth(packed) - 1, months);
+        int year = Math.toIntExact(Math.floorDiv(total, 12));
+        int month = (int) Math.floorMod(total, 12) + 1;
+        int dom = Math.min(GregorianMath.readDayOfMonth(packed), GregorianMath.getLengthOfMonth(year, month));
+        return GregorianMath.toMJD(year, month, dom) - MJD_OFFSET;
+
+    }
+
+}
@@ -383,6 +383,7 @@ public final class Moment
     private static final int MIO = 1000_000;
     private static final int MRD = 1000_000_000;
     private static final int POSITIVE_LEAP_MASK = 0x40000000;
+    private static final int ENCODED_SLOTS_PER_DAY = 86401; // inklusive Schaltsekunde
 
     private static final long MIN_LIMIT;
     private static final long MAX_LIMIT;
@@ -823,6 +824,97 @@ public final class Moment
 
     }
 
+    /**
+     * <p>Restores a moment from its packed representation. </p>
+     *
+     * @param   encoded     packed moment as produced by {@link #encode()}
+     * @return  Moment
+     * @throws  IllegalArgumentException if the argument denotes a leap second
+     *          which is not registered
+     * @see     #encode()
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Stellt einen Moment aus seiner gepackten Darstellung wieder her. </p>
+     *
+     * @param   encoded     packed moment as produced by {@link #encode()}
+     * @return  Moment
+     * @throws  IllegalArgumentException if the argument denotes a leap second
+     *          which is not registered
+     * @see     #encode()
+     * @since   5.6
+     */
+    public static Moment decode(long encoded) {
+
+        long slot = Math.floorDiv(encoded, MRD);
+        int nano = (int) Math.floorMod(encoded, MRD);
+        long days = Math.floorDiv(slot, ENCODED_SLOTS_PER_DAY);
+        int slotOfDay = (int) Math.floorMod(slot, ENCODED_SLOTS_PER_DAY);
+
+        if (slotOfDay < 86400) {
+            return Moment.of(days * 86400 + slotOfDay, nano, POSIX);
+        }
+
+        // die Schaltsekunde folgt der letzten regulären Sekunde des Tages
+        long unixTime = days * 86400 + 86399;
+        LeapSeconds ls = LeapSeconds.getInstance();
+
+        if (ls.isEnabled() && !ls.isPositiveLS(ls.enhance(unixTime) + 1)) {
+            throw new IllegalArgumentException(
+                "Not registered as leap second event: " + PlainDate.of(days, EpochDays.UNIX));
+        }
+
+        return new Moment(nano | POSITIVE_LEAP_MASK, unixTime);
+
+    }
+
+    /**
+     * <p>Packs this moment including a possible leap second into a single primitive value. </p>
+     *
+     * <p>The result reserves an extra second at the end of every UTC day for a positive leap
+     * second and counts nanoseconds on this extended time line. Hence the numerical order of
+     * packed values is the same as the chronological order of the moments, and the encoding does
+     * not depend on the current leap second table. The packed value is opaque and not suitable
+     * for arithmetic. Due to the limited capacity of a {@code long}, only moments in the years
+     * 1678-2261 (approximately) can be packed. </p>
+     *
+     * @return  packed moment with nanosecond precision
+     * @throws  ArithmeticException if this moment is out of the range mentioned above
+     * @see     #decode(long)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Packt diesen Moment einschlie&szlig;lich einer eventuellen Schaltsekunde in einen
+     * einzigen primitiven Wert. </p>
+     *
+     * <p>Das Ergebnis reserviert am Ende jedes UTC-Tages eine zus&auml;tzliche Sekunde f&uuml;r
+     * eine positive Schaltsekunde und z&auml;hlt Nanosekunden auf diesem erweiterten Zeitstrahl.
+     * Deshalb ist die numerische Reihenfolge gepackter Werte dieselbe wie die chronologische
+     * Reihenfolge der Momente, und die Kodierung h&auml;ngt nicht von der aktuellen
+     * Schaltsekundentabelle ab. Der gepackte Wert ist undurchsichtig und nicht f&uuml;r
+     * Arithmetik geeignet. Wegen der begrenzten Kapazit&auml;t eines {@code long} k&ouml;nnen
+     * nur Momente in den Jahren 1678-2261 (ungef&auml;hr) gepackt werden. </p>
+     *
+     * @return  packed moment with nanosecond precision
+     * @throws  ArithmeticException if this moment is out of the range mentioned above
+     * @see     #decode(long)
+     * @since   5.6
+     */
+    public long encode() {
+
+        long days = Math.floorDiv(this.posixTime, 86400);
+        int secondOfDay = (int) Math.floorMod(this.posixTime, 86400);
+        long slot = days * ENCODED_SLOTS_PER_DAY + secondOfDay + (this.isLeapSecond() ? 1 : 0);
+        int nano = this.getNanosecond();
+
+        if (slot < 0) { // vermeidet Überlauf des Zwischenergebnisses nahe dem Minimum
+            return Math.addExact(Math.multiplyExact(slot + 1, MRD), nano - MRD);
+        }
+
+        return Math.addExact(Math.multiplyExact(slot, MRD), nano);
+
+    }
+
     @Override
     public long getPosixTime() {
 
@@ -2028,7 +2120,7 @@ public final class Moment
 
     }
 
-    private static void checkUnixTime(long unixTime) {
+    static void checkUnixTime(long unixTime) {
 
         if ((unixTime > MAX_LIMIT) || (unixTime < MIN_LIMIT)) {
             throw new IllegalArgumentException(
@@ -0,0 +1,681 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (MomentVector.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Immutable column of global timestamps stored as primitive posix seconds and fractions. </p>
+ *
+ * <p>Every element is held as elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z] in a
+ * {@code long[]} and as nanosecond fraction including a possible leap second marker in an
+ * {@code int[]}. The bulk operations work directly on the primitive values and yield the same
+ * results as the corresponding methods of {@code Moment} applied to every single element. Like
+ * the time units of {@code Moment}, the units of {@code java.util.concurrent.TimeUnit} count
+ * on the POSIX time scale so that leap seconds will be lost by addition or subtraction. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     DateVector
+ * @see     TimestampVector
+ * @since   5.6
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Unver&auml;nderliche Spalte von globalen Zeitstempeln, die als primitive POSIX-Sekunden
+ * und Bruchteile gespeichert werden. </p>
+ *
+ * <p>Jedes Element wird als Sekunden seit der UNIX-Epoche [1970-01-01T00:00:00Z] in einem
+ * {@code long[]} und als Nanosekundenbruchteil einschlie&szlig;lich einer eventuellen
+ * Schaltsekundenmarkierung in einem {@code int[]} gehalten. Die Massenoperationen arbeiten
+ * direkt auf den primitiven Werten und liefern dieselben Ergebnisse wie die entsprechenden
+ * Methoden von {@code Moment}, angewandt auf jedes einzelne Element. Wie die Zeiteinheiten
+ * von {@code Moment} z&auml;hlen die Einheiten von {@code java.util.concurrent.TimeUnit}
+ * auf der POSIX-Zeitskala, so da&szlig; Schaltsekunden bei Addition oder Subtraktion
+ * verlorengehen. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     DateVector
+ * @see     TimestampVector
+ * @since   5.6
+ * @doctags.concurrency {immutable}
+ */
+public final class MomentVector {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MRD = 1000000000;
+    private static final int POSITIVE_LEAP_MASK = 0x40000000;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final long[] posixTimes;
+    private final int[] fractions;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private MomentVector(
+        long[] posixTimes,
+        int[] fractions
+    ) {
+        super();
+
+        this.posixTimes = posixTimes;
+        this.fractions = fractions;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new vector containing given moments. </p>
+     *
+     * @param   moments     global timestamps to be stored
+     * @return  new vector
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Vektor mit den angegebenen Momenten. </p>
+     *
+     * @param   moments     global timestamps to be stored
+     * @return  new vector
+     */
+    public static MomentVector of(Moment[] moments) {
+
+        long[] seconds = new long[moments.length];
+        int[] fractions = new int[moments.length];
+
+        for (int i = 0; i < seconds.length; i++) {
+            Moment moment = moments[i];
+            seconds[i] = moment.getPosixTime();
+            fractions[i] = moment.getNanosecond() | (moment.isLeapSecond() ? POSITIVE_LEAP_MASK : 0);
+        }
+
+        return new MomentVector(seconds, fractions);
+
+    }
+
+    /**
+     * <p>Creates a new vector based on given posix times without fraction. </p>
+     *
+     * @param   posixTimes  elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z] (will be copied)
+     * @return  new vector
+     * @throws  IllegalArgumentException if any value is out of range
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Vektor auf Basis der angegebenen POSIX-Zeiten ohne Bruchteil. </p>
+     *
+     * @param   posixTimes  elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z] (will be copied)
+     * @return  new vector
+     * @throws  IllegalArgumentException if any value is out of range
+     */
+    public static MomentVector ofPosixTimes(long[] posixTimes) {
+
+        return ofPosixTimes(posixTimes, new int[posixTimes.length]);
+
+    }
+
+    /**
+     * <p>Creates a new vector based on given posix times and nanosecond fractions. </p>
+     *
+     * @param   posixTimes  elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z] (will be copied)
+     * @param   nanos       nanosecond fractions in range {@code 0-999,999,999} (will be copied)
+     * @return  new vector
+     * @throws  IllegalArgumentException if the arrays have different lengths or any value is out of range
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Vektor auf Basis der angegebenen POSIX-Zeiten und
+     * Nanosekundenbruchteile. </p>
+     *
+     * @param   posixTimes  elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z] (will be copied)
+     * @param   nanos       nanosecond fractions in range {@code 0-999,999,999} (will be copied)
+     * @return  new vector
+     * @throws  IllegalArgumentException if the arrays have different lengths or any value is out of range
+     */
+    public static MomentVector ofPosixTimes(
+        long[] posixTimes,
+        int[] nanos
+    ) {
+
+        if (posixTimes.length != nanos.length) {
+            throw new IllegalArgumentException(
+                "Different array lengths: " + posixTimes.length + " != " + nanos.length);
+        }
+
+        for (int i = 0; i < nanos.length; i++) {
+            if ((nanos[i] < 0) || (nanos[i] >= MRD)) {
+                throw new IllegalArgumentException("Nanosecond out of range: " + nanos[i]);
+            }
+        }
+
+        long[] seconds = posixTimes.clone();
+        checkRange(seconds);
+        return new MomentVector(seconds, nanos.clone());
+
+    }
+
+    /**
+     * <p>Creates a new vector containing given threeten-instants. </p>
+     *
+     * @param   instants    global timestamps to be stored
+     * @return  new vector
+     * @throws  IllegalArgumentException if any instant is out of the range of {@code Moment}
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Vektor mit den angegebenen Threeten-Instants. </p>
+     *
+     * @param   instants    global timestamps to be stored
+     * @return  new vector
+     * @throws  IllegalArgumentException if any instant is out of the range of {@code Moment}
+     */
+    public static MomentVector from(Instant[] instants) {
+
+        long[] seconds = new long[instants.length];
+        int[] fractions = new int[instants.length];
+
+        for (int i = 0; i < seconds.length; i++) {
+            seconds[i] = instants[i].getEpochSecond();
+            fractions[i] = instants[i].getNano();
+        }
+
+        checkRange(seconds);
+        return new MomentVector(seconds, fractions);
+
+    }
+
+    /**
+     * <p>Yields the count of elements. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Elemente. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.posixTimes.length;
+
+    }
+
+    /**
+     * <p>Yields the moment at given position. </p>
+     *
+     * @param   index   position in this vector
+     * @return  Moment
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Moment an der angegebenen Position. </p>
+     *
+     * @param   index   position in this vector
+     * @return  Moment
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public Moment get(int index) {
+
+        int fraction = this.fractions[index];
+        Moment moment = Moment.of(this.posixTimes[index], fraction & ~POSITIVE_LEAP_MASK, TimeScale.POSIX);
+
+        if ((fraction & POSITIVE_LEAP_MASK) != 0) {
+            moment = moment.plus(1, SI.SECONDS); // die Schaltsekunde folgt der letzten Sekunde des Tages
+        }
+
+        return moment;
+
+    }
+
+    /**
+     * <p>Yields the elapsed seconds since UNIX epoch at given position. </p>
+     *
+     * <p>A leap second has the same posix time as the preceding second. </p>
+     *
+     * @param   index   position in this vector
+     * @return  posix time in seconds
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert die Sekunden seit der UNIX-Epoche an der angegebenen Position. </p>
+     *
+     * <p>Eine Schaltsekunde hat dieselbe POSIX-Zeit wie die vorangehende Sekunde. </p>
+     *
+     * @param   index   position in this vector
+     * @return  posix time in seconds
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public long getPosixTime(int index) {
+
+        return this.posixTimes[index];
+
+    }
+
+    /**
+     * <p>Yields the nanosecond fraction at given position. </p>
+     *
+     * @param   index   position in this vector
+     * @return  nanosecond in range {@code 0-999,999,999}
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Nanosekundenbruchteil an der angegebenen Position. </p>
+     *
+     * @param   index   position in this vector
+     * @return  nanosecond in range {@code 0-999,999,999}
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public int getNanosecond(int index) {
+
+        return (this.fractions[index] & ~POSITIVE_LEAP_MASK);
+
+    }
+
+    /**
+     * <p>Queries if the element at given position is a positive leap second. </p>
+     *
+     * @param   index   position in this vector
+     * @return  boolean
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Ist das Element an der angegebenen Position eine positive Schaltsekunde? </p>
+     *
+     * @param   index   position in this vector
+     * @return  boolean
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean isLeapSecond(int index) {
+
+        return ((this.fractions[index] & POSITIVE_LEAP_MASK) != 0);
+
+    }
+
+    /**
+     * <p>Yields a copy of all posix times. </p>
+     *
+     * @return  new array
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie aller POSIX-Zeiten. </p>
+     *
+     * @return  new array
+     */
+    public long[] getPosixTimes() {
+
+        return this.posixTimes.clone();
+
+    }
+
+    /**
+     * <p>Adds given amount in given time unit to every element. </p>
+     *
+     * <p>Equivalent to {@code Moment.plus(amount, unit)} for every element. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    time unit on the POSIX time scale
+     * @return  new vector with changed moments
+     * @throws  IllegalArgumentException if any result is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    /*[deutsch]
+     * <p>Addiert den angegebenen Betrag in der angegebenen Zeiteinheit zu jedem Element. </p>
+     *
+     * <p>&Auml;quivalent zu {@code Moment.plus(amount, unit)} f&uuml;r jedes Element. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    time unit on the POSIX time scale
+     * @return  new vector with changed moments
+     * @throws  IllegalArgumentException if any result is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    public MomentVector plus(
+        long amount,
+        TimeUnit unit
+    ) {
+
+        if (amount == 0) {
+            return this;
+        }
+
+        long[] seconds = new long[this.posixTimes.length];
+        int[] nanos = new int[seconds.length];
+
+        if (unit.compareTo(TimeUnit.SECONDS) >= 0) {
+            long delta = Math.multiplyExact(amount, unit.toSeconds(1));
+
+            for (int i = 0; i < seconds.length; i++) {
+                seconds[i] = Math.addExact(this.posixTimes[i], delta);
+                nanos[i] = this.fractions[i] & ~POSITIVE_LEAP_MASK;
+            }
+        } else {
+            long delta = Math.multiplyExact(amount, unit.toNanos(1));
+            long deltaSeconds = Math.floorDiv(delta, MRD);
+            int deltaNanos = (int) Math.floorMod(delta, MRD);
+
+            for (int i = 0; i < seconds.length; i++) {
+                int sum = (this.fractions[i] & ~POSITIVE_LEAP_MASK) + deltaNanos;
+                int carry = ((sum >= MRD) ? 1 : 0);
+                seconds[i] = Math.addExact(this.posixTimes[i], deltaSeconds + carry);
+                nanos[i] = sum - carry * MRD;
+            }
+        }
+
+        checkRange(seconds);
+        return new MomentVector(seconds, nanos);
+
+    }
+
+    /**
+     * <p>Subtracts given amount in given time unit from every element. </p>
+     *
+     * @param   amount  amount to be subtracted (maybe negative)
+     * @param   unit    time unit on the POSIX time scale
+     * @return  new vector with changed moments
+     * @throws  IllegalArgumentException if any result is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #plus(long, TimeUnit)
+     */
+    /*[deutsch]
+     * <p>Subtrahiert den angegebenen Betrag in der angegebenen Zeiteinheit von jedem Element. </p>
+     *
+     * @param   amount  amount to be subtracted (maybe negative)
+     * @param   unit    time unit on the POSIX time scale
+     * @return  new vector with changed moments
+     * @throws  IllegalArgumentException if any result is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #plus(long, TimeUnit)
+     */
+    public MomentVector minus(
+        long amount,
+        TimeUnit unit
+    ) {
+
+        return this.plus(Math.negateExact(amount), unit);
+
+    }
+
+    /**
+     * <p>Truncates every element to given time unit relative to UTC. </p>
+     *
+     * <p>Truncating to seconds or smaller units keeps a leap second while truncating to
+     * minutes, hours or days removes it. </p>
+     *
+     * @param   unit    time unit
+     * @return  new vector with truncated moments
+     */
+    /*[deutsch]
+     * <p>Schneidet jedes Element auf die angegebene Zeiteinheit bezogen auf UTC ab. </p>
+     *
+     * <p>Das Abschneiden auf Sekunden oder kleinere Einheiten beh&auml;lt eine Schaltsekunde,
+     * w&auml;hrend das Abschneiden auf Minuten, Stunden oder Tage sie entfernt. </p>
+     *
+     * @param   unit    time unit
+     * @return  new vector with truncated moments
+     */
+    public MomentVector truncatedTo(TimeUnit unit) {
+
+        if (unit == TimeUnit.NANOSECONDS) {
+            return this;
+        }
+
+        int[] nanos = new int[this.fractions.length];
+
+        if (unit.compareTo(TimeUnit.SECONDS) > 0) {
+            long step = unit.toSeconds(1);
+            long[] seconds = new long[this.posixTimes.length];
+
+            for (int i = 0; i < seconds.length; i++) {
+                seconds[i] = this.posixTimes[i] - Math.floorMod(this.posixTimes[i], step);
+            }
+
+            return new MomentVector(seconds, nanos);
+        }
+
+        int step = (int) unit.toNanos(1);
+
+        for (int i = 0; i < nanos.length; i++) {
+            int fraction = this.fractions[i];
+            int nano = fraction & ~POSITIVE_LEAP_MASK;
+            nanos[i] = (nano - nano % step) | (fraction & POSITIVE_LEAP_MASK);
+        }
+
+        return new MomentVector(this.posixTimes, nanos);
+
+    }
+
+    /**
+     * <p>Converts every element to a local timestamp in given timezone. </p>
+     *
+     * <p>Equivalent to {@link Moment#toZonalTimestamp(net.time4j.tz.TZID)} for every element,
+     * so leap seconds will be lost. The offsets are determined by the bulk method
+     * {@link Timezone#getOffsets(long[], int[])}. </p>
+     *
+     * @param   tz      timezone
+     * @return  new timestamp vector
+     */
+    /*[deutsch]
+     * <p>Konvertiert jedes Element zu einem lokalen Zeitstempel in der angegebenen Zeitzone. </p>
+     *
+     * <p>&Auml;quivalent zu {@link Moment#toZonalTimestamp(net.time4j.tz.TZID)} f&uuml;r jedes
+     * Element, so da&szlig; Schaltsekunden verlorengehen. Die Verschiebungen werden mit der
+     * Massenmethode {@link Timezone#getOffsets(long[], int[])} bestimmt. </p>
+     *
+     * @param   tz      timezone
+     * @return  new timestamp vector
+     */
+    public TimestampVector toZonalTimestamps(Timezone tz) {
+
+        int n = this.posixTimes.length;
+        int[] offsets = new int[n];
+        tz.getOffsets(this.posixTimes, offsets);
+
+        long[] localSeconds = new long[n];
+        int[] nanos = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            localSeconds[i] = this.posixTimes[i] + offsets[i];
+            nanos[i] = this.fractions[i] & ~POSITIVE_LEAP_MASK;
+        }
+
+        return TimestampVector.create(localSeconds, nanos);
+
+    }
+
+    /**
+     * <p>Marks all elements which are before given moment. </p>
+     *
+     * @param   moment  global timestamp to be compared with
+     * @return  new array with {@code true} for every element before given moment
+     */
+    /*[deutsch]
+     * <p>Markiert alle Elemente, die vor dem angegebenen Moment liegen. </p>
+     *
+     * @param   moment  global timestamp to be compared with
+     * @return  new array with {@code true} for every element before given moment
+     */
+    public boolean[] isBefore(Moment moment) {
+
+        long s = moment.getPosixTime();
+        int f = fraction(moment);
+        boolean[] mask = new boolean[this.posixTimes.length];
+
+        for (int i = 0; i < mask.length; i++) {
+            long posix = this.posixTimes[i];
+            mask[i] = ((posix < s) || ((posix == s) && (this.fractions[i] < f)));
+        }
+
+        return mask;
+
+    }
+
+    /**
+     * <p>Marks all elements which are after given moment. </p>
+     *
+     * @param   moment  global timestamp to be compared with
+     * @return  new array with {@code true} for every element after given moment
+     */
+    /*[deutsch]
+     * <p>Markiert alle Elemente, die nach dem angegebenen Moment liegen. </p>
+     *
+     * @param   moment  global timestamp to be compared with
+     * @return  new array with {@code true} for every element after given moment
+     */
+    public boolean[] isAfter(Moment moment) {
+
+        long s = moment.getPosixTime();
+        int f = fraction(moment);
+        boolean[] mask = new boolean[this.posixTimes.length];
+
+        for (int i = 0; i < mask.length; i++) {
+            long posix = this.posixTimes[i];
+            mask[i] = ((posix > s) || ((posix == s) && (this.fractions[i] > f)));
+        }
+
+        return mask;
+
+    }
+
+    /**
+     * <p>Marks all elements which are simultaneous to given moment. </p>
+     *
+     * @param   moment  global timestamp to be compared with
+     * @return  new array with {@code true} for every element simultaneous to given moment
+     */
+    /*[deutsch]
+     * <p>Markiert alle Elemente, die gleichzeitig mit dem angegebenen Moment sind. </p>
+     *
+     * @param   moment  global timestamp to be compared with
+     * @return  new array with {@code true} for every element simultaneous to given moment
+     */
+    public boolean[] isSimultaneous(Moment moment) {
+
+        long s = moment.getPosixTime();
+        int f = fraction(moment);
+        boolean[] mask = new boolean[this.posixTimes.length];
+
+        for (int i = 0; i < mask.length; i++) {
+            mask[i] = ((this.posixTimes[i] == s) && (this.fractions[i] == f));
+        }
+
+        return mask;
+
+    }
+
+    /**
+     * <p>Converts all elements to threeten-instants. </p>
+     *
+     * @return  new array of {@code Instant}-objects (leap seconds will be lost)
+     * @throws  java.time.DateTimeException if any element is out of the threeten-range
+     */
+    /*[deutsch]
+     * <p>Konvertiert alle Elemente zu Threeten-Instants. </p>
+     *
+     * @return  new array of {@code Instant}-objects (leap seconds will be lost)
+     * @throws  java.time.DateTimeException if any element is out of the threeten-range
+     */
+    public Instant[] toInstants() {
+
+        Instant[] result = new Instant[this.posixTimes.length];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Instant.ofEpochSecond(this.posixTimes[i], this.fractions[i] & ~POSITIVE_LEAP_MASK);
+        }
+
+        return result;
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof MomentVector) {
+            MomentVector that = (MomentVector) obj;
+            return Arrays.equals(this.posixTimes, that.posixTimes) && Arrays.equals(this.fractions, that.fractions);
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return 31 * Arrays.hashCode(this.posixTimes) + Arrays.hashCode(this.fractions);
+
+    }
+
+    /**
+     * <p>For debugging purposes. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>F&uuml;r Debugging-Zwecke. </p>
+     *
+     * @return  String
+     */
+    @Override
+    public String toString() {
+
+        return "MomentVector[size=" + this.posixTimes.length + "]";
+
+    }
+
+    /**
+     * <p>Interne Fabrikmethode ohne Kopie und Pr&uuml;fung der Nanosekunden. </p>
+     *
+     * @param   posixTimes  elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   nanos       nanosecond fractions without leap second marker
+     * @return  new vector
+     * @throws  IllegalArgumentException if any posix time is out of range
+     */
+    static MomentVector create(
+        long[] posixTimes,
+        int[] nanos
+    ) {
+
+        checkRange(posixTimes);
+        return new MomentVector(posixTimes, nanos);
+
+    }
+
+    private static int fraction(Moment moment) {
+
+        return moment.getNanosecond() | (moment.isLeapSecond() ? POSITIVE_LEAP_MASK : 0);
+
+    }
+
+    private static void checkRange(long[] posixTimes) {
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            Moment.checkUnixTime(posixTimes[i]);
+        }
+
+    }
+
+}
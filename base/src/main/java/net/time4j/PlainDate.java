@@ -956,6 +956,72 @@ public final class PlainDate
 
     }
 
+    /**
+     * <p>Restores a calendar date from its packed representation. </p>
+     *
+     * @param   encoded     packed date as produced by {@link #encode()}
+     * @return  PlainDate
+     * @throws  IllegalArgumentException if the argument does not denote a valid date
+     * @see     #encode()
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Stellt ein Kalenderdatum aus seiner gepackten Darstellung wieder her. </p>
+     *
+     * @param   encoded     packed date as produced by {@link #encode()}
+     * @return  PlainDate
+     * @throws  IllegalArgumentException if the argument does not denote a valid date
+     * @see     #encode()
+     * @since   5.6
+     */
+    public static PlainDate decode(long encoded) {
+
+        if ((encoded & 0xFF00FF00L) != 0) {
+            throw new IllegalArgumentException("Invalid packed date: " + encoded);
+        }
+
+        return PlainDate.of(
+            GregorianMath.readYear(encoded),
+            GregorianMath.readMonth(encoded),
+            GregorianMath.readDayOfMonth(encoded));
+
+    }
+
+    /**
+     * <p>Packs this date into a single primitive value. </p>
+     *
+     * <p>The result contains the year in the upper 32 bits, then the month in bits 16-23 and
+     * the day of month in the lowest bits, so it is compatible with the methods
+     * {@code readYear()}, {@code readMonth()} and {@code readDayOfMonth()} of
+     * {@link GregorianMath}. The numerical order of packed values is the same as the
+     * chronological order of the dates, so they are suitable as sort keys or for storing
+     * many dates in a {@code long[]}. </p>
+     *
+     * @return  packed date covering the whole supported year range
+     * @see     #decode(long)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Packt dieses Datum in einen einzigen primitiven Wert. </p>
+     *
+     * <p>Das Ergebnis enth&auml;lt das Jahr in den oberen 32 Bits, dann den Monat in den Bits 16-23
+     * und den Tag des Monats in den untersten Bits, so da&szlig; es zu den Methoden
+     * {@code readYear()}, {@code readMonth()} und {@code readDayOfMonth()} von
+     * {@link GregorianMath} kompatibel ist. Die numerische Reihenfolge gepackter Werte
+     * ist dieselbe wie die chronologische Reihenfolge der Datumsangaben, so da&szlig; sie
+     * sich als Sortierschl&uuml;ssel oder zum Speichern vieler Datumsangaben in einem
+     * {@code long[]} eignen. </p>
+     *
+     * @return  packed date covering the whole supported year range
+     * @see     #decode(long)
+     * @since   5.6
+     */
+    public long encode() {
+
+        return ((((long) this.year) << 32) | (this.month << 16) | this.dayOfMonth);
+
+    }
+
     /**
      * <p>Creates a new local timestamp with this date at midnight at the
      * begin of associated day. </p>
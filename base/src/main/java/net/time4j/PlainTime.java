@@ -1971,7 +1971,7 @@ public final class PlainTime
 
     }
 
-    private static PlainTime createFromNanos(long nanosOfDay) {
+    static PlainTime createFromNanos(long nanosOfDay) {
 
         int nanosecond = (int) (nanosOfDay % MRD);
         int secondsOfDay = (int) (nanosOfDay / MRD);
@@ -1984,7 +1984,7 @@ public final class PlainTime
 
     }
 
-    private long getNanoOfDay() {
+    long getNanoOfDay() {
 
         return (
             this.nano
@@ -192,6 +192,7 @@ public final class PlainTimestamp
     //~ Statische Felder/Initialisierungen --------------------------------
 
     private static final int MRD = 1000000000;
+    private static final long NANOS_PER_DAY = 86400L * MRD;
 
     private static final PlainTimestamp MIN =
         new PlainTimestamp(PlainDate.MIN, PlainTime.MIN);
@@ -582,6 +583,76 @@ public final class PlainTimestamp
 
     }
 
+    /**
+     * <p>Restores a local timestamp from its packed representation. </p>
+     *
+     * @param   encoded     local nanoseconds as produced by {@link #encode()}
+     * @return  PlainTimestamp
+     * @see     #encode()
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Stellt einen lokalen Zeitstempel aus seiner gepackten Darstellung wieder her. </p>
+     *
+     * @param   encoded     local nanoseconds as produced by {@link #encode()}
+     * @return  PlainTimestamp
+     * @see     #encode()
+     * @since   5.6
+     */
+    public static PlainTimestamp decode(long encoded) {
+
+        long days = Math.floorDiv(encoded, NANOS_PER_DAY);
+        long nanoOfDay = Math.floorMod(encoded, NANOS_PER_DAY);
+
+        return PlainTimestamp.of(
+            PlainDate.of(days, EpochDays.UNIX),
+            PlainTime.createFromNanos(nanoOfDay));
+
+    }
+
+    /**
+     * <p>Packs this timestamp into a single primitive value. </p>
+     *
+     * <p>The result is the count of local nanoseconds since [1970-01-01T00:00] without any
+     * timezone reference. The numerical order of packed values is the same as the chronological
+     * order of the timestamps, so they are suitable as sort keys or for storing many timestamps
+     * in a {@code long[]}. Due to the limited capacity of a {@code long}, only timestamps in
+     * the range [1677-09-21T00:12:43,145224192] until [2262-04-11T23:47:16,854775807] can be
+     * packed. </p>
+     *
+     * @return  count of local nanoseconds since UNIX epoch
+     * @throws  ArithmeticException if this timestamp is out of the range mentioned above
+     * @see     #decode(long)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Packt diesen Zeitstempel in einen einzigen primitiven Wert. </p>
+     *
+     * <p>Das Ergebnis ist die Anzahl der lokalen Nanosekunden seit [1970-01-01T00:00] ohne
+     * Zeitzonenbezug. Die numerische Reihenfolge gepackter Werte ist dieselbe wie die
+     * chronologische Reihenfolge der Zeitstempel, so da&szlig; sie sich als Sortierschl&uuml;ssel
+     * oder zum Speichern vieler Zeitstempel in einem {@code long[]} eignen. Wegen der begrenzten
+     * Kapazit&auml;t eines {@code long} k&ouml;nnen nur Zeitstempel im Bereich
+     * [1677-09-21T00:12:43,145224192] bis [2262-04-11T23:47:16,854775807] gepackt werden. </p>
+     *
+     * @return  count of local nanoseconds since UNIX epoch
+     * @throws  ArithmeticException if this timestamp is out of the range mentioned above
+     * @see     #decode(long)
+     * @since   5.6
+     */
+    public long encode() {
+
+        long days = EpochDays.UNIX.transform(this.date.getDaysSinceUTC(), EpochDays.UTC);
+        long nanoOfDay = this.time.getNanoOfDay();
+
+        if (days < 0) { // vermeidet Überlauf des Zwischenergebnisses nahe dem Minimum
+            return Math.addExact(Math.multiplyExact(days + 1, NANOS_PER_DAY), nanoOfDay - NANOS_PER_DAY);
+        }
+
+        return Math.addExact(Math.multiplyExact(days, NANOS_PER_DAY), nanoOfDay);
+
+    }
+
     /**
      * <p>Provides the calendar date part. </p>
      *
@@ -55,6 +55,7 @@ public final class SystemClock
 
     private static final TickProvider PROVIDER;
     private static final boolean MONOTON_MODE;
+    private static final boolean PRECISE_WALLCLOCK;
 
     static {
         String platform = System.getProperty("java.vm.name");
@@ -73,6 +74,9 @@ public final class SystemClock
 
         PROVIDER = candidate;
         MONOTON_MODE = Boolean.getBoolean("net.time4j.systemclock.nanoTime");
+
+        // ab Java 9 liefert Clock.systemUTC() mindestens Mikrosekunden (JDK-8068730), unter Java 8 nur Millisekunden
+        PRECISE_WALLCLOCK = !System.getProperty("java.specification.version", "1.8").startsWith("1.");
     }
 
     /**
@@ -81,7 +85,9 @@ public final class SystemClock
      * <p>The system property &quot;net.time4j.systemclock.nanoTime&quot; controls if this clock is internally
      * based on the expression {@link System#nanoTime()} (if property is set to &quot;true&quot;) or
      * {@link System#currentTimeMillis()} (default). The standard case is a clock which is affected by
-     * OS-triggered time jumps and user adjustments so there is no guarantee for a monotonic time. </p>
+     * OS-triggered time jumps and user adjustments so there is no guarantee for a monotonic time. On Java 9
+     * or later, the default case reads the wall clock via {@code Clock.systemUTC()} with its finer resolution
+     * (at least microseconds on common platforms). </p>
      */
     /*[deutsch]
      * <p>Standard-Implementierung. </p>
@@ -90,7 +96,9 @@ public final class SystemClock
      * Uhr intern auf dem Ausdruck {@link System#nanoTime()} (wenn Property auf &quot;true&quot; gesetzt)
      * oder {@link System#currentTimeMillis()} (Standard) basiert. Der Standardfall ist eine Uhr, die
      * f&uuml;r Zeitspr&uuml;nge und manuelle Verstellungen der Betriebssystem-Uhr empfindlich ist, so
-     * da&szlig; keine Garantie f&uuml;r eine monoton ablaufende Zeit gegeben werden kann. </p>
+     * da&szlig; keine Garantie f&uuml;r eine monoton ablaufende Zeit gegeben werden kann. Ab Java 9
+     * liest der Standardfall die Wanduhr &uuml;ber {@code Clock.systemUTC()} mit dessen feinerer
+     * Aufl&ouml;sung (auf g&auml;ngigen Plattformen mindestens Mikrosekunden). </p>
      */
     public static final SystemClock INSTANCE = new SystemClock(false, calibrate());
 
@@ -146,6 +154,9 @@ public final class SystemClock
         if ((this.monotonic || MONOTON_MODE) && LeapSeconds.getInstance().isEnabled()) {
             long nanos = this.utcNanos();
             return Moment.of(Math.floorDiv(nanos, MRD), (int) Math.floorMod(nanos, MRD), TimeScale.UTC);
+        } else if (PRECISE_WALLCLOCK) {
+            Instant instant = Clock.systemUTC().instant();
+            return Moment.of(instant.getEpochSecond(), instant.getNano(), TimeScale.POSIX);
         } else {
             long millis = System.currentTimeMillis();
             int nanos = ((int) Math.floorMod(millis, 1000)) * MIO;
@@ -173,7 +184,7 @@ public final class SystemClock
         if (this.monotonic || MONOTON_MODE) {
             long nanos = this.utcNanos();
             long secs = LeapSeconds.getInstance().strip(Math.floorDiv(nanos, MRD));
-            return Math.multiplyExact(secs, 1000) + Math.floorMod(nanos, MIO);
+            return Math.multiplyExact(secs, 1000) + Math.floorMod(nanos, MRD) / MIO;
         } else {
             return System.currentTimeMillis();
         }
@@ -184,13 +195,14 @@ public final class SystemClock
      * <p>Yields the current time in microseconds elapsed since
      * [1970-01-01T00:00:00,000000Z]. </p>
      *
-     * <p>If this clock is based only on {@link System#currentTimeMillis()}
-     * then this method will just multiply the millisecond value by factor
-     * {@code 1000}. On many operating systems the precision is limited to
-     * milliseconds. This is even true if this clock is based on
-     * {@link System#nanoTime()} because for purpose of calibration even
-     * here the method {@code System.currentTimeMillis()} must be accessed
-     * at least one time. </p>
+     * <p>If this clock is not monotonic then it reads the wall clock of the
+     * operating system. On Java 9 or later, this is done via
+     * {@code Clock.systemUTC()} which offers at least microsecond resolution
+     * on common platforms.
+     * On Java 8, the clock is only based on {@link System#currentTimeMillis()}
+     * and this method will just multiply the millisecond value by factor
+     * {@code 1000}. A monotonic clock is calibrated against the wall clock
+     * at least one time, so its accuracy is limited by the same resolution. </p>
      *
      * @return  count of microseconds since UNIX epoch without leap seconds
      */
@@ -198,13 +210,13 @@ public final class SystemClock
      * <p>Liefert die aktuelle seit [1970-01-01T00:00:00,000000Z] verstrichene
      * Zeit in Mikrosekunden. </p>
      *
-     * <p>Basiert diese Uhr nur auf {@link System#currentTimeMillis()}, wird
-     * diese Methode lediglich den Millisekundenwert mit dem Faktor {@code 1000}
-     * multiplizieren. Auf vielen Betriebssystemen ist die Genauigkeit auch
-     * nur auf Millisekunden begrenzt. Das gilt selbst dann, wenn diese
-     * Uhr auf {@link System#nanoTime()} basiert, weil hier wenigstens einmal
-     * zum Zweck der Kalibrierung auf {@code System.currentTimeMillis()}
-     * zur&uuml;ckgegriffen werden mu&szlig;. </p>
+     * <p>Ist diese Uhr nicht monoton, liest sie die Wanduhr des Betriebssystems.
+     * Ab Java 9 geschieht das &uuml;ber {@code Clock.systemUTC()}, das auf
+     * g&auml;ngigen Plattformen mindestens Mikrosekunden aufl&ouml;st. Unter Java 8 basiert die Uhr nur auf
+     * {@link System#currentTimeMillis()}, und diese Methode wird lediglich den
+     * Millisekundenwert mit dem Faktor {@code 1000} multiplizieren. Eine
+     * monotone Uhr wird wenigstens einmal gegen die Wanduhr geeicht, so
+     * da&szlig; ihre Genauigkeit durch dieselbe Aufl&ouml;sung begrenzt ist. </p>
      *
      * @return  count of microseconds since UNIX epoch without leap seconds
      */
@@ -213,7 +225,10 @@ public final class SystemClock
         if (this.monotonic || MONOTON_MODE) {
             long nanos = this.utcNanos();
             long secs = LeapSeconds.getInstance().strip(Math.floorDiv(nanos, MRD));
-            return Math.multiplyExact(secs, MIO) + Math.floorMod(nanos, 1000);
+            return Math.multiplyExact(secs, MIO) + Math.floorMod(nanos, MRD) / 1000;
+        } else if (PRECISE_WALLCLOCK) {
+            Instant instant = Clock.systemUTC().instant();
+            return Math.multiplyExact(instant.getEpochSecond(), MIO) + instant.getNano() / 1000;
         } else {
             return Math.multiplyExact(System.currentTimeMillis(), 1000);
         }
@@ -240,6 +255,10 @@ public final class SystemClock
 
         if (this.monotonic || MONOTON_MODE) {
             return Math.floorDiv(this.utcNanos(), 1000);
+        } else if (PRECISE_WALLCLOCK) {
+            Instant instant = Clock.systemUTC().instant();
+            long utc = LeapSeconds.getInstance().enhance(instant.getEpochSecond());
+            return Math.multiplyExact(utc, MIO) + instant.getNano() / 1000;
         } else {
             long millis = System.currentTimeMillis();
             long utc = LeapSeconds.getInstance().enhance(Math.floorDiv(millis, 1000));
@@ -399,6 +418,49 @@ public final class SystemClock
 
     }
 
+    /**
+     * <p>Obtains a shared coarse-grained clock which publishes the current time once per given clock unit. </p>
+     *
+     * <p>Only the units {@code SECONDS} and {@code MILLIS} are supported. The first call per unit starts
+     * a daemon thread which keeps the clock ticking as long as the clock is referenced and not
+     * {@link CoarseClock#shutdown() shut down}. Afterwards reading the time is just a memory access
+     * without creating any new {@code Moment}. Example: </p>
+     *
+     * <pre>
+     *     CoarseClock clock = SystemClock.coarse(ClockUnit.MILLIS);
+     *     Moment stamp = clock.currentTime(); // cached instance, truncated to milliseconds
+     * </pre>
+     *
+     * @param   unit    tick interval (either {@code SECONDS} or {@code MILLIS})
+     * @return  shared coarse clock based on {@link System#currentTimeMillis()}
+     * @throws  IllegalArgumentException if given unit is not supported
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Liefert eine gemeinsam genutzte grobk&ouml;rnige Uhr, die die aktuelle Zeit einmal je angegebener
+     * Uhreinheit ver&ouml;ffentlicht. </p>
+     *
+     * <p>Nur die Einheiten {@code SECONDS} und {@code MILLIS} werden unterst&uuml;tzt. Der erste Aufruf
+     * je Einheit startet einen Daemon-Thread, der die Uhr am Laufen h&auml;lt, solange sie referenziert
+     * und nicht {@link CoarseClock#shutdown() heruntergefahren} ist. Danach ist das Lesen der
+     * Zeit nur ein Speicherzugriff, ohne einen neuen {@code Moment} zu erzeugen. Beispiel: </p>
+     *
+     * <pre>
+     *     CoarseClock clock = SystemClock.coarse(ClockUnit.MILLIS);
+     *     Moment stamp = clock.currentTime(); // gecachte Instanz, auf Millisekunden abgeschnitten
+     * </pre>
+     *
+     * @param   unit    tick interval (either {@code SECONDS} or {@code MILLIS})
+     * @return  shared coarse clock based on {@link System#currentTimeMillis()}
+     * @throws  IllegalArgumentException if given unit is not supported
+     * @since   5.6
+     */
+    public static CoarseClock coarse(ClockUnit unit) {
+
+        return CoarseClock.of(unit);
+
+    }
+
     /**
      * <p>Recalibrates this instance and yields a new copy. </p>
      *
@@ -0,0 +1,774 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (TimestampVector.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.engine.EpochDays;
+import net.time4j.tz.Timezone;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+
+/**
+ * <p>Immutable column of local timestamps stored as primitive local seconds and nanoseconds. </p>
+ *
+ * <p>Every element is held as elapsed seconds since [1970-01-01T00:00] on the local timeline
+ * in a {@code long[]} and as nanosecond fraction in an {@code int[]}. The bulk operations work
+ * directly on the primitive values and yield the same results as the corresponding methods of
+ * {@code PlainTimestamp} applied to every single element. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     DateVector
+ * @see     MomentVector
+ * @since   5.6
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Unver&auml;nderliche Spalte von lokalen Zeitstempeln, die als primitive lokale Sekunden
+ * und Nanosekunden gespeichert werden. </p>
+ *
+ * <p>Jedes Element wird als Sekunden seit [1970-01-01T00:00] auf dem lokalen Zeitstrahl in
+ * einem {@code long[]} und als Nanosekundenbruchteil in einem {@code int[]} gehalten. Die
+ * Massenoperationen arbeiten direkt auf den primitiven Werten und liefern dieselben Ergebnisse
+ * wie die entsprechenden Methoden von {@code PlainTimestamp}, angewandt auf jedes einzelne
+ * Element. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     DateVector
+ * @see     MomentVector
+ * @since   5.6
+ * @doctags.concurrency {immutable}
+ */
+public final class TimestampVector {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MRD = 1000000000;
+    private static final long UTC_OFFSET = 730; // Tage zwischen 1970 und 1972
+    private static final long MIN_SECONDS = (PlainDate.MIN.getDaysSinceUTC() + UTC_OFFSET) * 86400;
+    private static final long MAX_SECONDS = (PlainDate.MAX.getDaysSinceUTC() + UTC_OFFSET) * 86400 + 86399;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final long[] localSeconds;
+    private final int[] nanos;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private TimestampVector(
+        long[] localSeconds,
+        int[] nanos
+    ) {
+        super();
+
+        this.localSeconds = localSeconds;
+        this.nanos = nanos;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new vector containing given local timestamps. </p>
+     *
+     * @param   timestamps  local timestamps to be stored
+     * @return  new vector
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Vektor mit den angegebenen lokalen Zeitstempeln. </p>
+     *
+     * @param   timestamps  local timestamps to be stored
+     * @return  new vector
+     */
+    public static TimestampVector of(PlainTimestamp[] timestamps) {
+
+        long[] seconds = new long[timestamps.length];
+        int[] fractions = new int[timestamps.length];
+
+        for (int i = 0; i < seconds.length; i++) {
+            PlainTimestamp tsp = timestamps[i];
+            PlainTime time = tsp.getWallTime();
+            seconds[i] =
+                (tsp.getCalendarDate().getDaysSinceUTC() + UTC_OFFSET) * 86400
+                + time.getHour() * 3600 + time.getMinute() * 60 + time.getSecond();
+            fractions[i] = time.getNanosecond();
+        }
+
+        return new TimestampVector(seconds, fractions);
+
+    }
+
+    /**
+     * <p>Creates a new vector based on given local seconds without fraction. </p>
+     *
+     * @param   localSeconds    elapsed seconds since [1970-01-01T00:00] on the local timeline (will be copied)
+     * @return  new vector
+     * @throws  IllegalArgumentException if any value is out of range
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Vektor auf Basis der angegebenen lokalen Sekunden ohne Bruchteil. </p>
+     *
+     * @param   localSeconds    elapsed seconds since [1970-01-01T00:00] on the local timeline (will be copied)
+     * @return  new vector
+     * @throws  IllegalArgumentException if any value is out of range
+     */
+    public static TimestampVector ofLocalSeconds(long[] localSeconds) {
+
+        return ofLocalSeconds(localSeconds, new int[localSeconds.length]);
+
+    }
+
+    /**
+     * <p>Creates a new vector based on given local seconds and nanosecond fractions. </p>
+     *
+     * @param   localSeconds    elapsed seconds since [1970-01-01T00:00] on the local timeline (will be copied)
+     * @param   nanos           nanosecond fractions in range {@code 0-999,999,999} (will be copied)
+     * @return  new vector
+     * @throws  IllegalArgumentException if the arrays have different lengths or any value is out of range
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Vektor auf Basis der angegebenen lokalen Sekunden und
+     * Nanosekundenbruchteile. </p>
+     *
+     * @param   localSeconds    elapsed seconds since [1970-01-01T00:00] on the local timeline (will be copied)
+     * @param   nanos           nanosecond fractions in range {@code 0-999,999,999} (will be copied)
+     * @return  new vector
+     * @throws  IllegalArgumentException if the arrays have different lengths or any value is out of range
+     */
+    public static TimestampVector ofLocalSeconds(
+        long[] localSeconds,
+        int[] nanos
+    ) {
+
+        if (localSeconds.length != nanos.length) {
+            throw new IllegalArgumentException(
+                "Different array lengths: " + localSeconds.length + " != " + nanos.length);
+        }
+
+        for (int i = 0; i < nanos.length; i++) {
+            if ((nanos[i] < 0) || (nanos[i] >= MRD)) {
+                throw new IllegalArgumentException("Nanosecond out of range: " + nanos[i]);
+            }
+        }
+
+        long[] seconds = localSeconds.clone();
+        checkRange(seconds);
+        return new TimestampVector(seconds, nanos.clone());
+
+    }
+
+    /**
+     * <p>Creates a new vector containing given threeten-timestamps. </p>
+     *
+     * @param   timestamps  local timestamps to be stored
+     * @return  new vector
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Vektor mit den angegebenen Threeten-Zeitstempeln. </p>
+     *
+     * @param   timestamps  local timestamps to be stored
+     * @return  new vector
+     */
+    public static TimestampVector from(LocalDateTime[] timestamps) {
+
+        long[] seconds = new long[timestamps.length];
+        int[] fractions = new int[timestamps.length];
+
+        for (int i = 0; i < seconds.length; i++) {
+            seconds[i] = timestamps[i].toEpochSecond(ZoneOffset.UTC);
+            fractions[i] = timestamps[i].getNano();
+        }
+
+        return new TimestampVector(seconds, fractions);
+
+    }
+
+    /**
+     * <p>Yields the count of elements. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Elemente. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.localSeconds.length;
+
+    }
+
+    /**
+     * <p>Yields the local timestamp at given position. </p>
+     *
+     * @param   index   position in this vector
+     * @return  PlainTimestamp
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den lokalen Zeitstempel an der angegebenen Position. </p>
+     *
+     * @param   index   position in this vector
+     * @return  PlainTimestamp
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public PlainTimestamp get(int index) {
+
+        long local = this.localSeconds[index];
+        long days = Math.floorDiv(local, 86400L);
+        long nanoOfDay = Math.floorMod(local, 86400L) * MRD + this.nanos[index];
+
+        return PlainTimestamp.of(
+            PlainDate.of(days, EpochDays.UNIX),
+            PlainTime.createFromNanos(nanoOfDay));
+
+    }
+
+    /**
+     * <p>Yields the elapsed seconds since [1970-01-01T00:00] on the local timeline at given position. </p>
+     *
+     * @param   index   position in this vector
+     * @return  local seconds
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert die Sekunden seit [1970-01-01T00:00] auf dem lokalen Zeitstrahl an der
+     * angegebenen Position. </p>
+     *
+     * @param   index   position in this vector
+     * @return  local seconds
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public long getLocalSeconds(int index) {
+
+        return this.localSeconds[index];
+
+    }
+
+    /**
+     * <p>Yields the nanosecond fraction at given position. </p>
+     *
+     * @param   index   position in this vector
+     * @return  nanosecond in range {@code 0-999,999,999}
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Nanosekundenbruchteil an der angegebenen Position. </p>
+     *
+     * @param   index   position in this vector
+     * @return  nanosecond in range {@code 0-999,999,999}
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public int getNanosecond(int index) {
+
+        return this.nanos[index];
+
+    }
+
+    /**
+     * <p>Yields a copy of all local seconds since [1970-01-01T00:00]. </p>
+     *
+     * @return  new array
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie aller lokalen Sekunden seit [1970-01-01T00:00]. </p>
+     *
+     * @return  new array
+     */
+    public long[] getLocalSeconds() {
+
+        return this.localSeconds.clone();
+
+    }
+
+    /**
+     * <p>Yields the calendar dates of all elements. </p>
+     *
+     * @return  new date vector
+     * @throws  ArithmeticException if any date is out of the range of a date vector
+     */
+    /*[deutsch]
+     * <p>Liefert die Kalenderdaten aller Elemente. </p>
+     *
+     * @return  new date vector
+     * @throws  ArithmeticException if any date is out of the range of a date vector
+     */
+    public DateVector getCalendarDates() {
+
+        int[] days = new int[this.localSeconds.length];
+
+        for (int i = 0; i < days.length; i++) {
+            days[i] = Math.toIntExact(Math.floorDiv(this.localSeconds[i], 86400L));
+        }
+
+        return DateVector.ofEpochDays(days);
+
+    }
+
+    /**
+     * <p>Adds given amount in given clock unit to every element. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    clock unit
+     * @return  new vector with changed timestamps
+     * @throws  IllegalArgumentException if any result is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    /*[deutsch]
+     * <p>Addiert den angegebenen Betrag in der angegebenen Uhreinheit zu jedem Element. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    clock unit
+     * @return  new vector with changed timestamps
+     * @throws  IllegalArgumentException if any result is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    public TimestampVector plus(
+        long amount,
+        ClockUnit unit
+    ) {
+
+        if (amount == 0) {
+            return this;
+        }
+
+        long[] seconds = new long[this.localSeconds.length];
+        int[] fractions;
+
+        if (unit.compareTo(ClockUnit.SECONDS) <= 0) {
+            long delta = Math.multiplyExact(amount, toSeconds(unit));
+
+            for (int i = 0; i < seconds.length; i++) {
+                seconds[i] = Math.addExact(this.localSeconds[i], delta);
+            }
+
+            fractions = this.nanos;
+        } else {
+            long delta = Math.multiplyExact(amount, toNanos(unit));
+            long deltaSeconds = Math.floorDiv(delta, MRD);
+            int deltaNanos = (int) Math.floorMod(delta, MRD);
+            fractions = new int[seconds.length];
+
+            for (int i = 0; i < seconds.length; i++) {
+                int sum = this.nanos[i] + deltaNanos;
+                int carry = ((sum >= MRD) ? 1 : 0);
+                seconds[i] = Math.addExact(this.localSeconds[i], deltaSeconds + carry);
+                fractions[i] = sum - carry * MRD;
+            }
+        }
+
+        checkRange(seconds);
+        return new TimestampVector(seconds, fractions);
+
+    }
+
+    /**
+     * <p>Subtracts given amount in given clock unit from every element. </p>
+     *
+     * @param   amount  amount to be subtracted (maybe negative)
+     * @param   unit    clock unit
+     * @return  new vector with changed timestamps
+     * @throws  IllegalArgumentException if any result is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #plus(long, ClockUnit)
+     */
+    /*[deutsch]
+     * <p>Subtrahiert den angegebenen Betrag in der angegebenen Uhreinheit von jedem Element. </p>
+     *
+     * @param   amount  amount to be subtracted (maybe negative)
+     * @param   unit    clock unit
+     * @return  new vector with changed timestamps
+     * @throws  IllegalArgumentException if any result is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #plus(long, ClockUnit)
+     */
+    public TimestampVector minus(
+        long amount,
+        ClockUnit unit
+    ) {
+
+        return this.plus(Math.negateExact(amount), unit);
+
+    }
+
+    /**
+     * <p>Adds given amount in given calendar unit to the date part of every element. </p>
+     *
+     * <p>The wall time of every element is kept. Month-based units keep the day of month
+     * if possible and choose the last day of month otherwise. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    calendar unit
+     * @return  new vector with changed timestamps
+     * @throws  IllegalArgumentException if any result is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     DateVector#plus(long, CalendarUnit)
+     */
+    /*[deutsch]
+     * <p>Addiert den angegebenen Betrag in der angegebenen Kalendereinheit zum Datumsteil
+     * jedes Elements. </p>
+     *
+     * <p>Die Uhrzeit jedes Elements bleibt erhalten. Monatsbasierte Einheiten behalten den Tag
+     * des Monats wenn m&ouml;glich und w&auml;hlen sonst den letzten Tag des Monats. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    calendar unit
+     * @return  new vector with changed timestamps
+     * @throws  IllegalArgumentException if any result is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     DateVector#plus(long, CalendarUnit)
+     */
+    public TimestampVector plus(
+        long amount,
+        CalendarUnit unit
+    ) {
+
+        if (amount == 0) {
+            return this;
+        }
+
+        long[] seconds = new long[this.localSeconds.length];
+        long months = DateVector.toMonths(amount, unit);
+
+        if (months == 0) {
+            long delta = Math.multiplyExact(amount, (unit == CalendarUnit.WEEKS) ? 7 * 86400 : 86400);
+
+            for (int i = 0; i < seconds.length; i++) {
+                seconds[i] = Math.addExact(this.localSeconds[i], delta);
+            }
+        } else {
+            for (int i = 0; i < seconds.length; i++) {
+                long local = this.localSeconds[i];
+                long days = DateVector.plusMonths(Math.floorDiv(local, 86400L), months);
+                seconds[i] = Math.addExact(Math.multiplyExact(days, 86400), Math.floorMod(local, 86400L));
+            }
+        }
+
+        checkRange(seconds);
+        return new TimestampVector(seconds, this.nanos);
+
+    }
+
+    /**
+     * <p>Subtracts given amount in given calendar unit from the date part of every element. </p>
+     *
+     * @param   amount  amount to be subtracted (maybe negative)
+     * @param   unit    calendar unit
+     * @return  new vector with changed timestamps
+     * @throws  IllegalArgumentException if any result is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #plus(long, CalendarUnit)
+     */
+    /*[deutsch]
+     * <p>Subtrahiert den angegebenen Betrag in der angegebenen Kalendereinheit vom Datumsteil
+     * jedes Elements. </p>
+     *
+     * @param   amount  amount to be subtracted (maybe negative)
+     * @param   unit    calendar unit
+     * @return  new vector with changed timestamps
+     * @throws  IllegalArgumentException if any result is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #plus(long, CalendarUnit)
+     */
+    public TimestampVector minus(
+        long amount,
+        CalendarUnit unit
+    ) {
+
+        return this.plus(Math.negateExact(amount), unit);
+
+    }
+
+    /**
+     * <p>Truncates the wall time of every element to given clock unit. </p>
+     *
+     * @param   unit    clock unit
+     * @return  new vector with truncated timestamps
+     */
+    /*[deutsch]
+     * <p>Schneidet die Uhrzeit jedes Elements auf die angegebene Uhreinheit ab. </p>
+     *
+     * @param   unit    clock unit
+     * @return  new vector with truncated timestamps
+     */
+    public TimestampVector truncatedTo(ClockUnit unit) {
+
+        if (unit == ClockUnit.NANOS) {
+            return this;
+        }
+
+        int[] fractions = new int[this.nanos.length];
+
+        if (unit.compareTo(ClockUnit.SECONDS) <= 0) {
+            long step = toSeconds(unit);
+            long[] seconds = new long[this.localSeconds.length];
+
+            for (int i = 0; i < seconds.length; i++) {
+                seconds[i] = this.localSeconds[i] - Math.floorMod(this.localSeconds[i], step);
+            }
+
+            return new TimestampVector(seconds, fractions);
+        }
+
+        int step = (int) toNanos(unit);
+
+        for (int i = 0; i < fractions.length; i++) {
+            fractions[i] = this.nanos[i] - this.nanos[i] % step;
+        }
+
+        return new TimestampVector(this.localSeconds, fractions);
+
+    }
+
+    /**
+     * <p>Converts every element to a global timestamp using given timezone. </p>
+     *
+     * <p>Equivalent to {@link PlainTimestamp#in(Timezone)} for every element. The conversion
+     * uses the bulk method {@link Timezone#getPosixTimes(long[], long[])} so the transition
+     * strategy of given timezone is applied. </p>
+     *
+     * @param   tz      timezone
+     * @return  new moment vector
+     * @throws  IllegalArgumentException if the strategy of the timezone rejects a local timestamp
+     */
+    /*[deutsch]
+     * <p>Konvertiert jedes Element mit Hilfe der angegebenen Zeitzone zu einem globalen Zeitstempel. </p>
+     *
+     * <p>&Auml;quivalent zu {@link PlainTimestamp#in(Timezone)} f&uuml;r jedes Element. Die
+     * Konversion verwendet die Massenmethode {@link Timezone#getPosixTimes(long[], long[])},
+     * so da&szlig; die &Uuml;bergangsstrategie der angegebenen Zeitzone angewandt wird. </p>
+     *
+     * @param   tz      timezone
+     * @return  new moment vector
+     * @throws  IllegalArgumentException if the strategy of the timezone rejects a local timestamp
+     */
+    public MomentVector in(Timezone tz) {
+
+        long[] posixTimes = new long[this.localSeconds.length];
+        tz.getPosixTimes(this.localSeconds, posixTimes);
+        return MomentVector.create(posixTimes, this.nanos);
+
+    }
+
+    /**
+     * <p>Marks all elements which are before given local timestamp. </p>
+     *
+     * @param   timestamp   local timestamp to be compared with
+     * @return  new array with {@code true} for every element before given timestamp
+     */
+    /*[deutsch]
+     * <p>Markiert alle Elemente, die vor dem angegebenen lokalen Zeitstempel liegen. </p>
+     *
+     * @param   timestamp   local timestamp to be compared with
+     * @return  new array with {@code true} for every element before given timestamp
+     */
+    public boolean[] isBefore(PlainTimestamp timestamp) {
+
+        TimestampVector ref = TimestampVector.of(new PlainTimestamp[] {timestamp});
+        long s = ref.localSeconds[0];
+        int n = ref.nanos[0];
+        boolean[] mask = new boolean[this.localSeconds.length];
+
+        for (int i = 0; i < mask.length; i++) {
+            long local = this.localSeconds[i];
+            mask[i] = ((local < s) || ((local == s) && (this.nanos[i] < n)));
+        }
+
+        return mask;
+
+    }
+
+    /**
+     * <p>Marks all elements which are after given local timestamp. </p>
+     *
+     * @param   timestamp   local timestamp to be compared with
+     * @return  new array with {@code true} for every element after given timestamp
+     */
+    /*[deutsch]
+     * <p>Markiert alle Elemente, die nach dem angegebenen lokalen Zeitstempel liegen. </p>
+     *
+     * @param   timestamp   local timestamp to be compared with
+     * @return  new array with {@code true} for every element after given timestamp
+     */
+    public boolean[] isAfter(PlainTimestamp timestamp) {
+
+        TimestampVector ref = TimestampVector.of(new PlainTimestamp[] {timestamp});
+        long s = ref.localSeconds[0];
+        int n = ref.nanos[0];
+        boolean[] mask = new boolean[this.localSeconds.length];
+
+        for (int i = 0; i < mask.length; i++) {
+            long local = this.localSeconds[i];
+            mask[i] = ((local > s) || ((local == s) && (this.nanos[i] > n)));
+        }
+
+        return mask;
+
+    }
+
+    /**
+     * <p>Marks all elements which are equal to given local timestamp. </p>
+     *
+     * @param   timestamp   local timestamp to be compared with
+     * @return  new array with {@code true} for every element equal to given timestamp
+     */
+    /*[deutsch]
+     * <p>Markiert alle Elemente, die gleich dem angegebenen lokalen Zeitstempel sind. </p>
+     *
+     * @param   timestamp   local timestamp to be compared with
+     * @return  new array with {@code true} for every element equal to given timestamp
+     */
+    public boolean[] isSimultaneous(PlainTimestamp timestamp) {
+
+        TimestampVector ref = TimestampVector.of(new PlainTimestamp[] {timestamp});
+        long s = ref.localSeconds[0];
+        int n = ref.nanos[0];
+        boolean[] mask = new boolean[this.localSeconds.length];
+
+        for (int i = 0; i < mask.length; i++) {
+            mask[i] = ((this.localSeconds[i] == s) && (this.nanos[i] == n));
+        }
+
+        return mask;
+
+    }
+
+    /**
+     * <p>Converts all elements to threeten-timestamps. </p>
+     *
+     * @return  new array of {@code LocalDateTime}-objects
+     * @throws  java.time.DateTimeException if any element is out of the threeten-range
+     */
+    /*[deutsch]
+     * <p>Konvertiert alle Elemente zu Threeten-Zeitstempeln. </p>
+     *
+     * @return  new array of {@code LocalDateTime}-objects
+     * @throws  java.time.DateTimeException if any element is out of the threeten-range
+     */
+    public LocalDateTime[] toLocalDateTimes() {
+
+        LocalDateTime[] result = new LocalDateTime[this.localSeconds.length];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = LocalDateTime.ofEpochSecond(this.localSeconds[i], this.nanos[i], ZoneOffset.UTC);
+        }
+
+        return result;
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof TimestampVector) {
+            TimestampVector that = (TimestampVector) obj;
+            return Arrays.equals(this.localSeconds, that.localSeconds) && Arrays.equals(this.nanos, that.nanos);
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return 31 * Arrays.hashCode(this.localSeconds) + Arrays.hashCode(this.nanos);
+
+    }
+
+    /**
+     * <p>For debugging purposes. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>F&uuml;r Debugging-Zwecke. </p>
+     *
+     * @return  String
+     */
+    @Override
+    public String toString() {
+
+        return "TimestampVector[size=" + this.localSeconds.length + "]";
+
+    }
+
+    /**
+     * <p>Interne Fabrikmethode ohne Kopie und Pr&uuml;fung der Nanosekunden. </p>
+     *
+     * @param   localSeconds    elapsed seconds since [1970-01-01T00:00] on the local timeline
+     * @param   nanos           nanosecond fractions
+     * @return  new vector
+     */
+    static TimestampVector create(
+        long[] localSeconds,
+        int[] nanos
+    ) {
+
+        checkRange(localSeconds);
+        return new TimestampVector(localSeconds, nanos);
+
+    }
+
+    private static void checkRange(long[] localSeconds) {
+
+        for (int i = 0; i < localSeconds.length; i++) {
+            long local = localSeconds[i];
+
+            if ((local < MIN_SECONDS) || (local > MAX_SECONDS)) {
+                throw new IllegalArgumentException("Local timestamp out of range: " + local);
+            }
+        }
+
+    }
+
+    private static long toSeconds(ClockUnit unit) {
+
+        switch (unit) {
+            case HOURS:
+                return 3600;
+            case MINUTES:
+                return 60;
+            default:
+                return 1;
+        }
+
+    }
+
+    private static long toNanos(ClockUnit unit) {
+
+        switch (unit) {
+            case MILLIS:
+                return 1000000;
+            case MICROS:
+                return 1000;
+            default:
+                return 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ArraySink.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import java.io.IOException;
+
+
+/**
+ * <p>Schreibt formatierten Text direkt in ein vorgegebenes {@code char}- oder {@code byte}-Array. </p>
+ *
+ * <p>Im {@code byte}-Modus wird UTF-8 verwendet, was f&uuml;r reinen ASCII-Text eine Eins-zu-Eins-Abbildung
+ * der Zeichen bedeutet. Ersatzzeichenpaare werden zu vier Bytes zusammengefasst. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+final class ArraySink
+    implements Appendable {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final char REPLACEMENT = '?';
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final char[] chars;
+    private final byte[] bytes;
+    private final int start;
+    private int offset;
+    private char highSurrogate;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ArraySink(
+        char[] chars,
+        byte[] bytes,
+        int offset
+    ) {
+        super();
+
+        int len = ((chars == null) ? bytes.length : chars.length);
+
+        if ((offset < 0) || (offset > len)) {
+            throw new IndexOutOfBoundsException("Offset out of range: " + offset + " (array length: " + len + ")");
+        }
+
+        this.chars = chars;
+        this.bytes = bytes;
+        this.start = offset;
+        this.offset = offset;
+        this.highSurrogate = '\u0000';
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Erzeugt eine Senke f&uuml;r das angegebene {@code char}-Array. </p>
+     *
+     * @param   buffer  destination array
+     * @param   offset  start position in array
+     * @return  new sink
+     * @throws  IndexOutOfBoundsException if the offset is out of range
+     */
+    static ArraySink of(
+        char[] buffer,
+        int offset
+    ) {
+
+        if (buffer == null) {
+            throw new NullPointerException("Missing text result buffer.");
+        }
+
+        return new ArraySink(buffer, null, offset);
+
+    }
+
+    /**
+     * <p>Erzeugt eine Senke f&uuml;r das angegebene {@code byte}-Array (UTF-8). </p>
+     *
+     * @param   buffer  destination array
+     * @param   offset  start position in array
+     * @return  new sink
+     * @throws  IndexOutOfBoundsException if the offset is out of range
+     */
+    static ArraySink of(
+        byte[] buffer,
+        int offset
+    ) {
+
+        if (buffer == null) {
+            throw new NullPointerException("Missing text result buffer.");
+        }
+
+        return new ArraySink(null, buffer, offset);
+
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+
+        return this.append(csq, 0, csq.length());
+
+    }
+
+    @Override
+    public Appendable append(
+        CharSequence csq,
+        int start,
+        int end
+    ) throws IOException {
+
+        for (int i = start; i < end; i++) {
+            this.append(csq.charAt(i));
+        }
+
+        return this;
+
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+
+        if (this.chars != null) {
+            this.ensureCapacity(1);
+            this.chars[this.offset++] = c;
+            return this;
+        }
+
+        if (this.highSurrogate != '\u0000') {
+            char high = this.highSurrogate;
+            this.highSurrogate = '\u0000';
+            if (Character.isLowSurrogate(c)) {
+                int cp = Character.toCodePoint(high, c);
+                this.ensureCapacity(4);
+                this.bytes[this.offset++] = (byte) (0xF0 | (cp >> 18));
+                this.bytes[this.offset++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                this.bytes[this.offset++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                this.bytes[this.offset++] = (byte) (0x80 | (cp & 0x3F));
+                return this;
+            }
+            this.append(REPLACEMENT); // unpaired surrogate, same behaviour as String.getBytes(UTF_8)
+        }
+
+        if (c < 0x80) {
+            this.ensureCapacity(1);
+            this.bytes[this.offset++] = (byte) c;
+        } else if (c < 0x800) {
+            this.ensureCapacity(2);
+            this.bytes[this.offset++] = (byte) (0xC0 | (c >> 6));
+            this.bytes[this.offset++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            this.highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            this.append(REPLACEMENT);
+        } else {
+            this.ensureCapacity(3);
+            this.bytes[this.offset++] = (byte) (0xE0 | (c >> 12));
+            this.bytes[this.offset++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            this.bytes[this.offset++] = (byte) (0x80 | (c & 0x3F));
+        }
+
+        return this;
+
+    }
+
+    /**
+     * <p>Liefert die Position hinter dem zuletzt geschriebenen Zeichen. </p>
+     *
+     * @return  new offset in destination array
+     * @throws  IndexOutOfBoundsException if a pending unpaired surrogate does not fit any longer
+     */
+    int getOffset() {
+
+        if (this.highSurrogate != '\u0000') {
+            this.highSurrogate = '\u0000';
+            this.ensureCapacity(1);
+            this.bytes[this.offset++] = (byte) REPLACEMENT;
+        }
+
+        return this.offset;
+
+    }
+
+    /**
+     * <p>F&uuml;r Debugging-Zwecke. </p>
+     */
+    @Override
+    public String toString() {
+
+        return "ArraySink[" + ((this.chars == null) ? "bytes" : "chars") + ", written=" + (this.offset - this.start) + "]";
+
+    }
+
+    private void ensureCapacity(int count) {
+
+        int len = ((this.chars == null) ? this.bytes.length : this.chars.length);
+
+        if (this.offset + count > len) {
+            throw new IndexOutOfBoundsException(
+                "Text result buffer too small: " + len + " (required minimum: " + (this.offset + count) + ")");
+        }
+
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (AsciiText.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * <p>Zeichenfolge als Sicht auf einen Bereich von ASCII-Bytes ohne Kopie der Daten. </p>
+ *
+ * <p>Jedes Byte entspricht genau einem Zeichen, so da&szlig; Positionen in der Zeichenfolge auch
+ * Byte-Positionen relativ zum Anfang des Bereichs sind. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+final class AsciiText
+    implements CharSequence {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final byte[] array;
+    private final ByteBuffer buffer;
+    private final int start;
+    private final int length;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private AsciiText(
+        byte[] array,
+        ByteBuffer buffer,
+        int start,
+        int length
+    ) {
+        super();
+
+        this.array = array;
+        this.buffer = buffer;
+        this.start = start;
+        this.length = length;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Liefert eine Zeichenfolge f&uuml;r den angegebenen Byte-Bereich. </p>
+     *
+     * <p>Enth&auml;lt der Bereich nur ASCII-Zeichen, wird eine Sicht ohne Kopie geliefert,
+     * sonst ein mit UTF-8 dekodierter String. </p>
+     *
+     * @param   text    UTF-8-encoded text
+     * @param   offset  start position in array
+     * @param   length  count of bytes to be considered
+     * @return  CharSequence
+     * @throws  IndexOutOfBoundsException if offset or length are out of range
+     */
+    static CharSequence of(
+        byte[] text,
+        int offset,
+        int length
+    ) {
+
+        if ((offset < 0) || (length < 0) || (offset > text.length - length)) {
+            throw new IndexOutOfBoundsException(
+                "Invalid byte range: offset=" + offset + ", length=" + length + ", array length=" + text.length);
+        }
+
+        for (int i = offset, n = offset + length; i < n; i++) {
+            if (text[i] < 0) {
+                return new String(text, offset, length, StandardCharsets.UTF_8);
+            }
+        }
+
+        return new AsciiText(text, null, offset, length);
+
+    }
+
+    /**
+     * <p>Liefert eine Zeichenfolge f&uuml;r die verbleibenden Bytes des angegebenen Puffers. </p>
+     *
+     * <p>Die Position des Puffers wird nicht ver&auml;ndert. </p>
+     *
+     * @param   text    UTF-8-encoded text
+     * @return  CharSequence
+     */
+    static CharSequence of(ByteBuffer text) {
+
+        if (text.hasArray()) {
+            return of(text.array(), text.arrayOffset() + text.position(), text.remaining());
+        }
+
+        int pos = text.position();
+        int len = text.remaining();
+
+        for (int i = pos, n = pos + len; i < n; i++) {
+            if (text.get(i) < 0) {
+                byte[] copy = new byte[len];
+                ByteBuffer view = text.duplicate();
+                view.get(copy);
+                return new String(copy, StandardCharsets.UTF_8);
+            }
+        }
+
+        return new AsciiText(null, text, pos, len);
+
+    }
+
+    @Override
+    public int length() {
+
+        return this.length;
+
+    }
+
+    @Override
+    public char charAt(int index) {
+
+        if ((index < 0) || (index >= this.length)) {
+            throw new StringIndexOutOfBoundsException(index);
+        } else if (this.array == null) {
+            return (char) this.buffer.get(this.start + index);
+        }
+
+        return (char) this.array[this.start + index];
+
+    }
+
+    @Override
+    public CharSequence subSequence(
+        int start,
+        int end
+    ) {
+
+        if ((start < 0) || (end > this.length) || (start > end)) {
+            throw new StringIndexOutOfBoundsException("start=" + start + ", end=" + end + ", length=" + this.length);
+        }
+
+        return new AsciiText(this.array, this.buffer, this.start + start, end - start);
+
+    }
+
+    @Override
+    public String toString() {
+
+        if (this.array == null) {
+            char[] chars = new char[this.length];
+            for (int i = 0; i < this.length; i++) {
+                chars[i] = (char) this.buffer.get(this.start + i);
+            }
+            return new String(chars);
+        }
+
+        return new String(this.array, this.start, this.length, StandardCharsets.US_ASCII);
+
+    }
+
+}
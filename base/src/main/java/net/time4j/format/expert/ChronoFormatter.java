@@ -81,11 +81,13 @@ import java.text.FieldPosition;
 import java.text.Format;
 import java.text.ParseException;
 import java.text.ParsePosition;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -93,6 +95,11 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.IntPredicate;
 import java.util.function.Supplier;
@@ -252,6 +259,9 @@ public final class ChronoFormatter<T>
     private final Chronology<?> deepestParser;
     private final int stepCount;
     private final boolean singleStepMode;
+    private final PrintPlan printPlan;
+    private final IsoFastPath<T> fastPath;
+    private final CacheKey cacheKey;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -322,6 +332,9 @@ public final class ChronoFormatter<T>
         this.stepCount = steps.size();
         this.steps = this.freeze(steps);
         this.singleStepMode = this.getSingleStepMode();
+        this.printPlan = PrintPlan.compile(this.steps);
+        this.fastPath = null;
+        this.cacheKey = null;
 
     }
 
@@ -440,6 +453,9 @@ public final class ChronoFormatter<T>
         this.stepCount = copy.size();
         this.steps = this.freeze(copy);
         this.singleStepMode = this.getSingleStepMode();
+        this.printPlan = old.printPlan;
+        this.fastPath = null;
+        this.cacheKey = null;
 
     }
 
@@ -490,6 +506,40 @@ public final class ChronoFormatter<T>
         this.stepCount = formatter.stepCount;
         this.steps = this.freeze(formatter.steps);
         this.singleStepMode = this.getSingleStepMode();
+        this.printPlan = formatter.printPlan;
+        this.fastPath = null;
+        this.cacheKey = null;
+
+    }
+
+    // Aufruf durch withFastPath oder den Formatierer-Cache
+    private ChronoFormatter(
+        ChronoFormatter<T> formatter,
+        IsoFastPath<T> fastPath,
+        CacheKey cacheKey
+    ) {
+        super();
+
+        this.chronology = formatter.chronology;
+        this.overrideHandler = formatter.overrideHandler;
+        this.deepestParser = formatter.deepestParser;
+        this.globalAttributes = formatter.globalAttributes;
+        this.leniency = formatter.leniency;
+        this.defaults = formatter.defaults;
+        this.fracproc = formatter.fracproc;
+        this.hasOptionals = formatter.hasOptionals;
+        this.hasOrMarkers = formatter.hasOrMarkers;
+        this.needsExtensions = formatter.needsExtensions;
+        this.countOfElements = formatter.countOfElements;
+        this.indexable = formatter.indexable;
+        this.trailing = formatter.trailing;
+        this.noPreparser = formatter.noPreparser;
+        this.stepCount = formatter.stepCount;
+        this.steps = formatter.steps;
+        this.singleStepMode = formatter.singleStepMode;
+        this.printPlan = formatter.printPlan;
+        this.fastPath = fastPath;
+        this.cacheKey = cacheKey;
 
     }
 
@@ -682,6 +732,17 @@ public final class ChronoFormatter<T>
     @Override
     public String print(T formattable) {
 
+        if (this.fastPath != null) {
+            StringBuilder buffer = new StringBuilder(32);
+            try {
+                if (this.fastPath.print(formattable, buffer)) {
+                    return buffer.toString();
+                }
+            } catch (IOException ioe) {
+                throw new AssertionError(ioe);
+            }
+        }
+
         ChronoDisplay display = this.display(formattable, this.globalAttributes);
         return this.format0(display);
 
@@ -769,6 +830,28 @@ public final class ChronoFormatter<T>
 
     }
 
+    @Override
+    public int print(
+        T formattable,
+        char[] buffer,
+        int offset
+    ) {
+
+        return this.print(formattable, ArraySink.of(buffer, offset));
+
+    }
+
+    @Override
+    public int print(
+        T formattable,
+        byte[] buffer,
+        int offset
+    ) {
+
+        return this.print(formattable, ArraySink.of(buffer, offset));
+
+    }
+
     // also directly called by CustomizedProcessor and StyleProcessor
     Set<ElementPosition> print(
         ChronoDisplay formattable,
@@ -787,105 +870,70 @@ public final class ChronoFormatter<T>
         Set<ElementPosition> positions = null;
         boolean quickPath = (attributes == this.globalAttributes);
 
-        if (withPositions) {
-            positions = new LinkedHashSet<>(len);
-        }
-
         if (this.hasOrMarkers) {
-            Deque<StringBuilder> collectorStack = new LinkedList<>();
-            StringBuilder buf = new StringBuilder(len << 2);
-            collectorStack.push(buf);
+            // alle oder-Blöcke teilen sich einen Puffer, Rücksprung erfolgt über Längenmarken
+            StringBuilder buf;
+            int base;
+
+            if (buffer instanceof StringBuilder) {
+                buf = (StringBuilder) buffer;
+                base = buf.length();
+            } else {
+                buf = new StringBuilder(len << 2);
+                base = 0;
+            }
+
+            PositionCollector collector = null;
+            int maxLevel = this.printPlan.getMaxLevel();
+            int[] textMarks = ((maxLevel == 0) ? null : new int[maxLevel + 1]);
+            int[] positionMarks = null;
 
-            Deque<Set<ElementPosition>> positionStack = null;
             if (withPositions) {
-                positionStack = new LinkedList<>();
-                positionStack.push(positions);
+                collector = new PositionCollector(len);
+                positionMarks = ((maxLevel == 0) ? null : new int[maxLevel + 1]);
             }
 
             int previous = 0;
-            int current = 0;
 
             while (index < len) {
                 FormatStep step = this.steps.get(index);
-                current = step.getLevel();
-                int level = current;
+                int current = step.getLevel();
 
-                // Start einer optionalen Sektion: Stack erweitern
-                while (level > previous) {
-                    StringBuilder sb = new StringBuilder();
-                    sb.append(collectorStack.peek());
-                    collectorStack.push(sb);
+                // Start einer optionalen Sektion: Rücksprungmarken setzen
+                for (int level = previous + 1; level <= current; level++) {
+                    textMarks[level] = buf.length();
                     if (withPositions) {
-                        positions = new LinkedHashSet<>();
-                        positions.addAll(positionStack.peek());
-                        positionStack.push(positions);
+                        positionMarks[level] = collector.size();
                     }
-                    level--;
-                }
-
-                // Ende einer optionalen Sektion: Werte im Stack sichern
-                while (level < previous) {
-                    buf = collectorStack.pop();
-                    collectorStack.pop();
-                    collectorStack.push(buf);
-                    if (withPositions) {
-                        positions = positionStack.pop();
-                        positionStack.pop();
-                        positionStack.push(positions);
-                    }
-                    level++;
-                }
-
-                buf = collectorStack.peek();
-                if (withPositions) {
-                    positions = positionStack.peek();
                 }
 
                 RuntimeException re = null;
                 int printed = -1;
 
                 try {
-                    printed = step.print(formattable, buf, attributes, positions, quickPath);
+                    printed = step.print(formattable, buf, attributes, collector, quickPath);
                 } catch (ChronoException | IllegalArgumentException ex) {
                     re = ex;
                 }
 
                 if (printed == -1) {
                     // Fehlerfall: nächsten oder-Block suchen
-                    int section = step.getSection();
-                    int last = index;
-
-                    if (!step.isNewOrBlockStarted()) {
-                        for (int j = index + 1; j < len; j++) {
-                            FormatStep test = this.steps.get(j);
-                            if (test.isNewOrBlockStarted() && (test.getSection() == section)) {
-                                last = j;
-                                break;
-                            }
-                        }
-                    }
+                    int last = this.printPlan.getOrBlockEnd(index);
 
-                    if ((last > index) || step.isNewOrBlockStarted()) {
-                        // wenn gefunden, zum nächsten oder-Block springen
-                        collectorStack.pop();
-                        StringBuilder sb = new StringBuilder();
-                        if (!collectorStack.isEmpty()) {
-                            sb.append(collectorStack.peek());
-                        }
-                        collectorStack.push(sb);
+                    if (last != -1) {
+                        // wenn gefunden, Ausgabe der aktuellen Ebene verwerfen und zum nächsten oder-Block springen
+                        buf.setLength((current == 0) ? base : textMarks[current]);
                         if (withPositions) {
-                            positionStack.pop();
-                            Set<ElementPosition> ep = new LinkedHashSet<>();
-                            if (!positionStack.isEmpty()) {
-                                ep.addAll(positionStack.peek());
-                            }
-                            positionStack.push(ep);
+                            collector.truncate((current == 0) ? 0 : positionMarks[current]);
                         }
                         index = last;
-                    } else if (re == null) {
-                        throw new IllegalArgumentException("Not formattable: " + formattable);
                     } else {
-                        throw new IllegalArgumentException("Not formattable: " + formattable, re);
+                        buf.setLength(base);
+                        if (re == null) {
+                            throw new IllegalArgumentException("Not formattable: " + formattable);
+                        } else {
+                            throw new IllegalArgumentException("Not formattable: " + formattable, re);
+                        }
                     }
                 } else if (step.isNewOrBlockStarted()) {
                     index = step.skipTrailingOrBlocks();
@@ -896,16 +944,19 @@ public final class ChronoFormatter<T>
                 index++;
             }
 
-            // Verbleibende optionale Sektionen auflösen und Ergebnis schreiben
-            buf = collectorStack.peek();
-            collectorStack.clear();
-            buffer.append(buf);
+            // Ergebnis schreiben (Positionen bleiben relativ zum Anfang dieser Ausgabe)
+            if (buf != buffer) {
+                buffer.append(buf);
+            }
 
             if (withPositions) {
-                positions = positionStack.peek();
-                positionStack.clear();
+                positions = collector.toPositions(base);
             }
         } else {
+            if (withPositions) {
+                positions = new LinkedHashSet<>(len);
+            }
+
             try {
                 while (index < len) {
                     FormatStep step = this.steps.get(index);
@@ -934,7 +985,7 @@ public final class ChronoFormatter<T>
     public T parse(CharSequence text) throws ParseException {
 
         ParseLog status = new ParseLog();
-        T result = this.parse(text, status);
+        T result = this.parseFully(text, status);
 
         if (result == null) {
             throw new ParseException(
@@ -943,15 +994,6 @@ public final class ChronoFormatter<T>
             );
         }
 
-        int index = status.getPosition();
-
-        if (!this.trailing && (index < text.length())) {
-            throw new ParseException(
-                "Unparsed trailing characters: " + sub(index, text),
-                index
-            );
-        }
-
         return result;
 
     }
@@ -1000,6 +1042,36 @@ public final class ChronoFormatter<T>
 
     }
 
+    /**
+     * <p>Creates a new reusable parse session for high-volume parsing without exceptions. </p>
+     *
+     * <p>The session recycles its parse log and its internal container of parsed values
+     * between calls and reports erraneous input only by an error index and message, not by
+     * throwing a {@code ParseException}. It is not thread-safe and should be confined to
+     * one thread, for example by creating one session per worker thread. </p>
+     *
+     * @return  new parse session bound to this formatter
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine neue wiederverwendbare Sitzung zur Massenverarbeitung von Texten
+     * ohne Ausnahmen. </p>
+     *
+     * <p>Die Sitzung verwendet ihr Log und ihren internen Container f&uuml;r interpretierte
+     * Werte zwischen den Aufrufen wieder und meldet fehlerhafte Eingaben nur mit einem
+     * Fehlerindex und einer Fehlermeldung, nicht mit einer {@code ParseException}. Sie ist
+     * nicht thread-sicher und sollte auf einen Thread beschr&auml;nkt werden, zum Beispiel
+     * mit einer Sitzung pro Arbeits-Thread. </p>
+     *
+     * @return  new parse session bound to this formatter
+     * @since   5.6
+     */
+    public ParseSession<T> newParseSession() {
+
+        return new ParseSession<>(this, new ParsedValues(this.countOfElements, this.indexable));
+
+    }
+
     /**
      * <p>Interpretes given text as chronological entity starting
      * at the specified position in parse log. </p>
@@ -1308,6 +1380,16 @@ public final class ChronoFormatter<T>
     @Override
     public ChronoFormatter<T> with(Leniency leniency) {
 
+        if ((this.cacheKey != null) && (leniency != null)) {
+            if (leniency == this.leniency) {
+                return this;
+            }
+            CacheKey key = this.cacheKey.with(leniency);
+            return Cache.lookup(
+                key,
+                () -> new ChronoFormatter<>(this.with(Attributes.LENIENCY, leniency), null, key));
+        }
+
         return this.with(Attributes.LENIENCY, leniency);
 
     }
@@ -2229,14 +2311,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainDate> builder = new Builder<>(PlainDate.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return ofCachedPattern(pattern, type, locale, PlainDate.axis(), null);
 
     }
 
@@ -2268,14 +2343,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainTime> builder = new Builder<>(PlainTime.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return ofCachedPattern(pattern, type, locale, PlainTime.axis(), null);
 
     }
 
@@ -2307,14 +2375,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainTimestamp> builder = new Builder<>(PlainTimestamp.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return ofCachedPattern(pattern, type, locale, PlainTimestamp.axis(), null);
 
     }
 
@@ -2351,14 +2412,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<Moment> builder = new Builder<>(Moment.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return ofCachedPattern(pattern, type, locale, Moment.axis(), null);
 
     }
 
@@ -2399,15 +2453,12 @@ public final class ChronoFormatter<T>
         TZID tzid
     ) {
 
-        Builder<Moment> builder = new Builder<>(Moment.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build().withTimezone(tzid);
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
+        if (tzid == null) {
+            throw new NullPointerException("Missing timezone id.");
         }
 
+        return ofCachedPattern(pattern, type, locale, Moment.axis(), tzid);
+
     }
 
     /**
@@ -2475,14 +2526,7 @@ public final class ChronoFormatter<T>
         Chronology<T> chronology
     ) {
 
-        Builder<T> builder = new Builder<>(chronology, locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return ofCachedPattern(pattern, type, locale, chronology, null);
 
     }
 
@@ -3122,6 +3166,24 @@ public final class ChronoFormatter<T>
 
     }
 
+    private int print(
+        T formattable,
+        ArraySink sink
+    ) {
+
+        try {
+            if ((this.fastPath == null) || !this.fastPath.print(formattable, sink)) {
+                ChronoDisplay display = this.display(formattable, this.globalAttributes);
+                this.print(display, sink, this.globalAttributes, false);
+            }
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
+        }
+
+        return sink.getOffset();
+
+    }
+
     private static ChronoFormatter<Moment> rfc1123() {
 
         ChronoFormatter.Builder<Moment> builder = ChronoFormatter.setUp(Moment.class, Locale.ENGLISH);
@@ -3483,6 +3545,40 @@ public final class ChronoFormatter<T>
 
     }
 
+    // Aufruf durch die pattern-basierten Fabrikmethoden
+    private static <T> ChronoFormatter<T> ofCachedPattern(
+        String pattern,
+        PatternType type,
+        Locale locale,
+        Chronology<T> chronology,
+        TZID tzid
+    ) {
+
+        CacheKey key = new CacheKey(pattern, type, locale, chronology, Leniency.SMART, tzid);
+
+        return Cache.lookup(
+            key,
+            () -> {
+                Builder<T> builder = new Builder<>(chronology, locale);
+                addPattern(builder, pattern, type);
+                ChronoFormatter<T> formatter;
+
+                try {
+                    formatter = builder.build();
+                } catch (IllegalStateException ise) {
+                    throw new IllegalArgumentException(ise);
+                }
+
+                if (tzid != null) {
+                    formatter = formatter.withTimezone(tzid);
+                }
+
+                return new ChronoFormatter<>(formatter, null, key);
+            }
+        );
+
+    }
+
     private static <T> void addPattern(
         Builder<T> builder,
         String pattern,
@@ -3681,7 +3777,12 @@ public final class ChronoFormatter<T>
         int countOfElements
     ) {
 
-        ParsedValues values = new ParsedValues(countOfElements, this.indexable);
+        ParsedValues values = status.takeRecycledValues(this); // Optimierung für ParseSession
+
+        if (values == null) {
+            values = new ParsedValues(countOfElements, this.indexable);
+        }
+
         values.setPosition(status.getPosition());
         Deque<ParsedValues> data = null;
 
@@ -3825,6 +3926,80 @@ public final class ChronoFormatter<T>
 
     }
 
+    /**
+     * <p>Liefert eine Kopie dieses Formatierers, die f&uuml;r Ausgaben ohne Positionsangaben und
+     * f&uuml;r die Interpretierung ganzer Texte zuerst die angegebene schnelle Variante versucht. </p>
+     *
+     * <p>Nur f&uuml;r die Konstanten in {@code Iso8601Format}. Alle mit {@code with...()}
+     * abgeleiteten Formatierer verwerfen die schnelle Variante wieder, weil sich ihr Verhalten
+     * &auml;ndern kann. </p>
+     *
+     * @param   fastPath    hand-written fast path for fixed formats
+     * @return  changed copy of this formatter
+     */
+    ChronoFormatter<T> withFastPath(IsoFastPath<T> fastPath) {
+
+        return new ChronoFormatter<>(this, fastPath, this.cacheKey);
+
+    }
+
+    /**
+     * <p>Analysiert die festen f&uuml;hrenden Formatschritte f&uuml;r {@code MultiFormatParser}. </p>
+     *
+     * @return  shape of text start (maybe empty if nothing is known)
+     */
+    PrefixShape getPrefixShape() {
+
+        PrefixShape.Builder builder = new PrefixShape.Builder();
+
+        if (!this.hasOrMarkers) {
+            for (FormatStep step : this.steps) {
+                if (!step.addToPrefix(builder)) {
+                    break;
+                }
+            }
+        }
+
+        return builder.build();
+
+    }
+
+    /**
+     * <p>Interpretiert den ganzen Text und meldet Fehler einschlie&szlig;lich nicht erlaubter
+     * restlicher Zeichen nur im Log. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   status      parser information
+     * @return  result or {@code null} if parsing does not work
+     */
+    T parseFully(
+        CharSequence text,
+        ParseLog status
+    ) {
+
+        if ((this.fastPath != null) && (status.getPosition() == 0)) {
+            T result = this.fastPath.parse(text);
+            if (result != null) {
+                status.setPosition(text.length());
+                return result;
+            }
+        }
+
+        T result = this.parse(text, status);
+
+        if (result != null) {
+            int index = status.getPosition();
+
+            if (!this.trailing && (index < text.length())) {
+                status.setError(index, "Unparsed trailing characters: " + sub(index, text));
+                return null;
+            }
+        }
+
+        return result;
+
+    }
+
     private static String sub(
         int index,
         CharSequence text
@@ -7432,6 +7607,390 @@ s         * <p>Definiert ein Textformat f&uuml;r das angegebene Element mit
 
     }
 
+    /**
+     * <p>Offers some static methods for the configuration and statistics of the shared
+     * cache of pattern-based formatters. </p>
+     *
+     * <p>All factory methods which build a formatter from a pattern and a pattern type,
+     * for example {@link ChronoFormatter#ofDatePattern(String, PatternType, Locale)} or
+     * {@link ChronoFormatter#ofPattern(String, PatternType, Locale, Chronology)}, look up
+     * this cache first because formatters are immutable. The cache key consists of the
+     * pattern, the pattern type, the locale, the chronology, the leniency and the timezone
+     * id (if any). A formatter obtained from the cache also caches its variants derived by
+     * {@link ChronoFormatter#with(Leniency)}. </p>
+     *
+     * <p>The cache is bounded. If it is full then a formatter which has not been requested since
+     * the last sweep of the eviction cursor will be displaced (CLOCK-algorithm like the timezone
+     * cache). The maximum size is 256 by default and can be set by the system property
+     * &quot;net.time4j.format.cache.size&quot; or by {@link #setMaximumCacheSize(int)}. </p>
+     *
+     * @since   5.6
+     * @doctags.concurrency {threadsafe}
+     */
+    /*[deutsch]
+     * <p>Bietet statische Methoden zur Konfiguration und Statistik des gemeinsamen Cache f&uuml;r
+     * musterbasierte Formatierer. </p>
+     *
+     * <p>Alle Fabrikmethoden, die einen Formatierer aus einem Formatmuster und einem Mustertyp
+     * erzeugen, zum Beispiel {@link ChronoFormatter#ofDatePattern(String, PatternType, Locale)} oder
+     * {@link ChronoFormatter#ofPattern(String, PatternType, Locale, Chronology)}, schauen zuerst in
+     * diesem Cache nach, weil Formatierer unver&auml;nderlich sind. Der Schl&uuml;ssel besteht aus
+     * dem Formatmuster, dem Mustertyp, der Sprache, der Chronologie, dem Nachsichtigkeitsmodus und
+     * der Zeitzonen-ID (falls vorhanden). Ein Formatierer aus dem Cache speichert auch seine mit
+     * {@link ChronoFormatter#with(Leniency)} abgeleiteten Varianten im Cache. </p>
+     *
+     * <p>Der Cache ist begrenzt. Wenn er voll ist, wird ein Formatierer verdr&auml;ngt, der seit dem
+     * letzten Durchlauf des Verdr&auml;ngungszeigers nicht mehr angefordert wurde (CLOCK-Algorithmus
+     * wie beim Zeitzonen-Cache). Die maximale Gr&ouml;&szlig;e ist standardm&auml;&szlig;ig 256 und kann mit der System-Property
+     * &quot;net.time4j.format.cache.size&quot; oder mit {@link #setMaximumCacheSize(int)} gesetzt
+     * werden. </p>
+     *
+     * @since   5.6
+     * @doctags.concurrency {threadsafe}
+     */
+    public static final class Cache {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final ConcurrentMap<CacheKey, Entry> FORMATTERS = new ConcurrentHashMap<>();
+        private static final AtomicInteger HAND = new AtomicInteger();
+        private static final LongAdder HITS = new LongAdder();
+        private static final LongAdder MISSES = new LongAdder();
+
+        private static volatile AtomicReferenceArray<Entry> ring =
+            new AtomicReferenceArray<>(Math.max(0, Integer.getInteger("net.time4j.format.cache.size", 256).intValue()));
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Cache() {
+            // no instantiation
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Removes all cached formatters, for example after a dynamic update of
+         * format resources or timezone data. </p>
+         *
+         * <p>The statistical counters will not be reset. </p>
+         */
+        /*[deutsch]
+         * <p>Entfernt alle Formatierer aus dem Cache, zum Beispiel nach einer dynamischen
+         * Aktualisierung von Formatressourcen oder Zeitzonendaten. </p>
+         *
+         * <p>Die statistischen Z&auml;hler werden nicht zur&uuml;ckgesetzt. </p>
+         */
+        public static void refresh() {
+
+            AtomicReferenceArray<Entry> slots = ring;
+
+            for (int i = 0, n = slots.length(); i < n; i++) {
+                slots.set(i, null);
+            }
+
+            FORMATTERS.clear();
+
+        }
+
+        /**
+         * <p>Updates the maximum size of the cache. </p>
+         *
+         * <p>The value {@code 0} deactivates the cache. A changed size removes all cached
+         * formatters. </p>
+         *
+         * @param   maximumCacheSize    new maximum count of cached formatters
+         * @throws  IllegalArgumentException if the argument is negative
+         */
+        /*[deutsch]
+         * <p>Konfiguriert die maximale Gr&ouml;&szlig;e des Cache neu. </p>
+         *
+         * <p>Der Wert {@code 0} deaktiviert den Cache. Eine ge&auml;nderte Gr&ouml;&szlig;e entfernt
+         * alle gespeicherten Formatierer. </p>
+         *
+         * @param   maximumCacheSize    new maximum count of cached formatters
+         * @throws  IllegalArgumentException if the argument is negative
+         */
+        public static void setMaximumCacheSize(int maximumCacheSize) {
+
+            if (maximumCacheSize < 0) {
+                throw new IllegalArgumentException("Negative formatter cache size: " + maximumCacheSize);
+            }
+
+            synchronized (Cache.class) {
+                if (maximumCacheSize != ring.length()) {
+                    ring = new AtomicReferenceArray<>(maximumCacheSize);
+                    FORMATTERS.clear();
+                }
+            }
+
+        }
+
+        /**
+         * <p>Yields the maximum size of the cache. </p>
+         *
+         * @return  maximum count of cached formatters ({@code 0} if the cache is not active)
+         */
+        /*[deutsch]
+         * <p>Liefert die maximale Gr&ouml;&szlig;e des Cache. </p>
+         *
+         * @return  maximum count of cached formatters ({@code 0} if the cache is not active)
+         */
+        public static int getMaximumCacheSize() {
+
+            return ring.length();
+
+        }
+
+        /**
+         * <p>Yields the current count of cached formatters. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die aktuelle Anzahl der gespeicherten Formatierer. </p>
+         *
+         * @return  int
+         */
+        public static int getCurrentSize() {
+
+            return FORMATTERS.size();
+
+        }
+
+        /**
+         * <p>Counts how often a requested formatter was found in the cache. </p>
+         *
+         * @return  count of cache hits since start of application
+         */
+        /*[deutsch]
+         * <p>Z&auml;hlt, wie oft ein angeforderter Formatierer im Cache gefunden wurde. </p>
+         *
+         * @return  count of cache hits since start of application
+         */
+        public static long getHitCount() {
+
+            return HITS.sum();
+
+        }
+
+        /**
+         * <p>Counts how often a requested formatter had to be built because it was not found
+         * in the active cache. </p>
+         *
+         * @return  count of cache misses since start of application
+         */
+        /*[deutsch]
+         * <p>Z&auml;hlt, wie oft ein angeforderter Formatierer erzeugt werden mu&szlig;te, weil
+         * er nicht im aktiven Cache gefunden wurde. </p>
+         *
+         * @return  count of cache misses since start of application
+         */
+        public static long getMissCount() {
+
+            return MISSES.sum();
+
+        }
+
+        // Suche im Cache, sonst Erzeugung und Speicherung
+        static <T> ChronoFormatter<T> lookup(
+            CacheKey key,
+            Supplier<ChronoFormatter<T>> factory
+        ) {
+
+            AtomicReferenceArray<Entry> slots = ring;
+
+            if (slots.length() == 0) {
+                return factory.get();
+            }
+
+            Entry cached = FORMATTERS.get(key);
+
+            if (cached != null) {
+                if (!cached.referenced) {
+                    cached.referenced = true; // vermeidet unnötige Schreibzugriffe
+                }
+                HITS.increment();
+                return cast(cached.formatter);
+            }
+
+            MISSES.increment();
+            ChronoFormatter<T> formatter = factory.get();
+
+            // zuerst einen Platz im Ring belegen, damit die Map nie über die Kapazität wächst
+            Entry entry = new Entry(key, formatter);
+            admit(slots, entry);
+            cached = FORMATTERS.putIfAbsent(key, entry);
+
+            if (cached != null) {
+                slots.compareAndSet(entry.slot, entry, null);
+                return cast(cached.formatter);
+            }
+
+            // inzwischen nebenläufig verdrängt oder Größenänderung?
+            if ((slots != ring) || (slots.get(entry.slot) != entry)) {
+                FORMATTERS.remove(key, entry);
+            }
+
+            return formatter;
+
+        }
+
+        // CLOCK: erster Platz ohne Zugriffsbit wird neu belegt
+        private static void admit(
+            AtomicReferenceArray<Entry> slots,
+            Entry entry
+        ) {
+
+            int n = slots.length();
+
+            while (true) {
+                int index = Math.floorMod(HAND.getAndIncrement(), n);
+                Entry current = slots.get(index);
+                entry.slot = index; // wird erst mit erfolgreichem CAS sichtbar
+
+                if (current == null) {
+                    if (slots.compareAndSet(index, null, entry)) {
+                        return;
+                    }
+                } else if (current.referenced) {
+                    current.referenced = false; // zweite Chance
+                } else if (slots.compareAndSet(index, current, entry)) {
+                    FORMATTERS.remove(current.key, current);
+                    return;
+                }
+            }
+
+        }
+
+        //~ Innere Klassen ------------------------------------------------
+
+        private static final class Entry {
+
+            //~ Instanzvariablen ------------------------------------------
+
+            private final CacheKey key;
+            private final ChronoFormatter<?> formatter;
+            private volatile boolean referenced;
+            private int slot = -1;
+
+            //~ Konstruktoren ---------------------------------------------
+
+            Entry(
+                CacheKey key,
+                ChronoFormatter<?> formatter
+            ) {
+                super();
+
+                this.key = key;
+                this.formatter = formatter;
+
+            }
+
+        }
+
+    }
+
+    private static final class CacheKey {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String pattern;
+        private final PatternType type;
+        private final Locale locale;
+        private final Chronology<?> chronology;
+        private final Leniency leniency;
+        private final String tzid;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        CacheKey(
+            String pattern,
+            PatternType type,
+            Locale locale,
+            Chronology<?> chronology,
+            Leniency leniency,
+            TZID tzid
+        ) {
+            super();
+
+            if ((pattern == null) || (type == null) || (locale == null) || (chronology == null)) {
+                throw new NullPointerException();
+            }
+
+            this.pattern = pattern;
+            this.type = type;
+            this.locale = locale;
+            this.chronology = chronology;
+            this.leniency = leniency;
+            this.tzid = ((tzid == null) ? null : tzid.canonical());
+
+        }
+
+        private CacheKey(
+            CacheKey key,
+            Leniency leniency
+        ) {
+            super();
+
+            this.pattern = key.pattern;
+            this.type = key.type;
+            this.locale = key.locale;
+            this.chronology = key.chronology;
+            this.leniency = leniency;
+            this.tzid = key.tzid;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        CacheKey with(Leniency leniency) {
+
+            return new CacheKey(this, leniency);
+
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            } else if (obj instanceof CacheKey) {
+                CacheKey that = (CacheKey) obj;
+                return (
+                    this.pattern.equals(that.pattern)
+                    && (this.type == that.type)
+                    && this.locale.equals(that.locale)
+                    && (this.chronology == that.chronology)
+                    && (this.leniency == that.leniency)
+                    && ((this.tzid == null) ? (that.tzid == null) : this.tzid.equals(that.tzid))
+                );
+            } else {
+                return false;
+            }
+
+        }
+
+        @Override
+        public int hashCode() {
+
+            int h = this.pattern.hashCode();
+            h = 31 * h + this.type.hashCode();
+            h = 31 * h + this.locale.hashCode();
+            h = 31 * h + System.identityHashCode(this.chronology);
+            h = 31 * h + this.leniency.hashCode();
+            return ((this.tzid == null) ? h : (31 * h + this.tzid.hashCode()));
+
+        }
+
+        @Override
+        public String toString() {
+
+            return this.pattern + "/" + this.type + "/" + this.locale + "/" + this.leniency + "/" + this.tzid;
+
+        }
+
+    }
+
     /**
      * @serial  exclude
      */
@@ -7860,4 +8419,138 @@ s         * <p>Definiert ein Textformat f&uuml;r das angegebene Element mit
 
     }
 
+    // kompilierter Ausgabeplan, einmalig beim Erzeugen des Formatierers aus der Struktur der Steps abgeleitet
+    private static final class PrintPlan {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int[] orBlockEnds;
+        private final int maxLevel;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private PrintPlan(
+            int[] orBlockEnds,
+            int maxLevel
+        ) {
+            super();
+
+            this.orBlockEnds = orBlockEnds;
+            this.maxLevel = maxLevel;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        static PrintPlan compile(List<FormatStep> steps) {
+
+            int len = steps.size();
+            int[] orBlockEnds = new int[len];
+            int maxLevel = 0;
+
+            for (int index = 0; index < len; index++) {
+                FormatStep step = steps.get(index);
+                int last = -1;
+
+                if (step.isNewOrBlockStarted()) {
+                    last = index;
+                } else {
+                    int section = step.getSection();
+                    for (int j = index + 1; j < len; j++) {
+                        FormatStep test = steps.get(j);
+                        if (test.isNewOrBlockStarted() && (test.getSection() == section)) {
+                            last = j;
+                            break;
+                        }
+                    }
+                }
+
+                orBlockEnds[index] = last;
+                maxLevel = Math.max(maxLevel, step.getLevel());
+            }
+
+            return new PrintPlan(orBlockEnds, maxLevel);
+
+        }
+
+        // Index des letzten Steps im aktuellen oder-Block oder -1, wenn kein weiterer oder-Block folgt
+        int getOrBlockEnd(int index) {
+
+            return this.orBlockEnds[index];
+
+        }
+
+        int getMaxLevel() {
+
+            return this.maxLevel;
+
+        }
+
+    }
+
+    // sammelt Elementpositionen in Reihenfolge und erlaubt das Verwerfen der zuletzt gesammelten Positionen
+    private static final class PositionCollector
+        extends AbstractSet<ElementPosition> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final List<ElementPosition> list;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        PositionCollector(int capacity) {
+            super();
+
+            this.list = new ArrayList<>(capacity);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean add(ElementPosition position) {
+
+            return this.list.add(position);
+
+        }
+
+        @Override
+        public Iterator<ElementPosition> iterator() {
+
+            return this.list.iterator();
+
+        }
+
+        @Override
+        public int size() {
+
+            return this.list.size();
+
+        }
+
+        void truncate(int size) {
+
+            this.list.subList(size, this.list.size()).clear();
+
+        }
+
+        Set<ElementPosition> toPositions(int offset) {
+
+            Set<ElementPosition> positions = new LinkedHashSet<>(this.list.size());
+
+            for (ElementPosition ep : this.list) {
+                if (offset == 0) {
+                    positions.add(ep);
+                } else {
+                    positions.add(
+                        new ElementPosition(ep.getElement(), ep.getStartIndex() - offset, ep.getEndIndex() - offset));
+                }
+            }
+
+            return positions;
+
+        }
+
+    }
+
 }
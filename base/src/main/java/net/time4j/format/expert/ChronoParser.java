@@ -24,6 +24,7 @@ package net.time4j.format.expert;
 import net.time4j.engine.AttributeQuery;
 import net.time4j.format.Attributes;
 
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 
 
@@ -82,6 +83,81 @@ public interface ChronoParser<T> {
 
     }
 
+    /**
+     * <p>Interpretes given range of UTF-8-encoded bytes as chronological entity. </p>
+     *
+     * <p>If the range only consists of ASCII-characters (as usual for numerical formats like ISO-8601)
+     * then the bytes will be parsed directly without copying or decoding them first. Otherwise the
+     * range will be decoded as UTF-8. The error index of any {@code ParseException} is relative to
+     * the start of the range and counts bytes in the ASCII-case and chars otherwise. Note: Instances
+     * of {@code java.nio.CharBuffer} are already char sequences and can be given directly to
+     * {@link #parse(CharSequence)} without any copy. </p>
+     *
+     * @param   text        UTF-8-encoded text to be parsed
+     * @param   offset      start position in array
+     * @param   length      count of bytes to be parsed
+     * @return  parse result
+     * @throws  IndexOutOfBoundsException if the range is not inside given array
+     * @throws  ParseException if the text is not parseable
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen Bereich von UTF-8-kodierten Bytes. </p>
+     *
+     * <p>Besteht der Bereich nur aus ASCII-Zeichen (wie bei numerischen Formaten wie ISO-8601
+     * &uuml;blich), dann werden die Bytes direkt ohne Kopie oder vorherige Dekodierung interpretiert.
+     * Sonst wird der Bereich als UTF-8 dekodiert. Der Fehlerindex einer {@code ParseException} ist
+     * relativ zum Anfang des Bereichs und z&auml;hlt im ASCII-Fall Bytes, sonst Zeichen. Hinweis:
+     * Instanzen von {@code java.nio.CharBuffer} sind bereits Zeichenfolgen und k&ouml;nnen ohne Kopie
+     * direkt an {@link #parse(CharSequence)} &uuml;bergeben werden. </p>
+     *
+     * @param   text        UTF-8-encoded text to be parsed
+     * @param   offset      start position in array
+     * @param   length      count of bytes to be parsed
+     * @return  parse result
+     * @throws  IndexOutOfBoundsException if the range is not inside given array
+     * @throws  ParseException if the text is not parseable
+     * @since   5.6
+     */
+    default T parseBytes(
+        byte[] text,
+        int offset,
+        int length
+    ) throws ParseException {
+
+        return this.parse(AsciiText.of(text, offset, length));
+
+    }
+
+    /**
+     * <p>Interpretes the remaining UTF-8-encoded bytes of given buffer as chronological entity. </p>
+     *
+     * <p>The position of the buffer will not be changed. Otherwise this method works like
+     * {@link #parseBytes(byte[], int, int)}, also for direct or memory-mapped buffers. </p>
+     *
+     * @param   text        UTF-8-encoded text to be parsed (from position to limit)
+     * @return  parse result
+     * @throws  ParseException if the text is not parseable
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Interpretiert die verbleibenden UTF-8-kodierten Bytes des angegebenen Puffers. </p>
+     *
+     * <p>Die Position des Puffers wird nicht ver&auml;ndert. Ansonsten funktioniert diese Methode
+     * wie {@link #parseBytes(byte[], int, int)}, auch f&uuml;r direkte oder in den Speicher abgebildete
+     * Puffer. </p>
+     *
+     * @param   text        UTF-8-encoded text to be parsed (from position to limit)
+     * @return  parse result
+     * @throws  ParseException if the text is not parseable
+     * @since   5.6
+     */
+    default T parseBytes(ByteBuffer text) throws ParseException {
+
+        return this.parse(AsciiText.of(text));
+
+    }
+
     /**
      * <p>Interpretes given text as chronological entity starting
      * at the specified position in parse log. </p>
@@ -24,6 +24,7 @@ package net.time4j.format.expert;
 import net.time4j.engine.AttributeQuery;
 import net.time4j.format.Attributes;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Set;
 
 
@@ -132,6 +133,113 @@ public interface ChronoPrinter<T> {
         AttributeQuery attributes
     );
 
+    /**
+     * <p>Prints given chronological entity as formatted text directly into given char array. </p>
+     *
+     * <p>The default implementation creates an intermediate string. {@code ChronoFormatter} overrides
+     * this method and writes the characters without any intermediate string. If printing fails then
+     * the content of the array behind given offset is undefined. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          destination array
+     * @param   offset          start position in destination array
+     * @return  position behind last written character
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IndexOutOfBoundsException if the offset is out of range or the formatted text does not fit
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Formatiert das angegebene Objekt als Text und schreibt ihn direkt in das angegebene
+     * {@code char}-Array. </p>
+     *
+     * <p>Die Standardimplementierung erzeugt eine Zeichenkette als Zwischenschritt. {@code ChronoFormatter}
+     * &uuml;berschreibt diese Methode und schreibt die Zeichen ohne Zwischenschritt. Schl&auml;gt die
+     * Formatierung fehl, ist der Inhalt des Arrays hinter der angegebenen Position undefiniert. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          destination array
+     * @param   offset          start position in destination array
+     * @return  position behind last written character
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IndexOutOfBoundsException if the offset is out of range or the formatted text does not fit
+     * @since   5.6
+     */
+    default int print(
+        T formattable,
+        char[] buffer,
+        int offset
+    ) {
+
+        String text = this.print(formattable);
+        int end = offset + text.length();
+
+        if ((offset < 0) || (end > buffer.length)) {
+            throw new IndexOutOfBoundsException(
+                "Text result buffer too small: " + buffer.length + " (required minimum: " + end + ")");
+        }
+
+        text.getChars(0, text.length(), buffer, offset);
+        return end;
+
+    }
+
+    /**
+     * <p>Prints given chronological entity as formatted text directly into given byte array
+     * using the encoding UTF-8. </p>
+     *
+     * <p>Every ASCII-character is written as exactly one byte so this method is also suitable
+     * for the encoding US-ASCII as long as the formatter only produces ASCII-characters (for
+     * example all formatters of {@link Iso8601Format}). The default implementation creates
+     * an intermediate string. {@code ChronoFormatter} overrides this method and encodes the
+     * characters without any intermediate string. If printing fails then the content of the
+     * array behind given offset is undefined. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          destination array
+     * @param   offset          start position in destination array
+     * @return  position behind last written byte
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IndexOutOfBoundsException if the offset is out of range or the formatted text does not fit
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Formatiert das angegebene Objekt als Text und schreibt ihn in der Kodierung UTF-8 direkt
+     * in das angegebene {@code byte}-Array. </p>
+     *
+     * <p>Jedes ASCII-Zeichen wird als genau ein Byte geschrieben, so da&szlig; diese Methode auch
+     * f&uuml;r die Kodierung US-ASCII geeignet ist, solange der Formatierer nur ASCII-Zeichen erzeugt
+     * (zum Beispiel alle Formatierer von {@link Iso8601Format}). Die Standardimplementierung erzeugt eine
+     * Zeichenkette als Zwischenschritt. {@code ChronoFormatter} &uuml;berschreibt diese Methode und kodiert
+     * die Zeichen ohne Zwischenschritt. Schl&auml;gt die Formatierung fehl, ist der Inhalt des Arrays
+     * hinter der angegebenen Position undefiniert. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          destination array
+     * @param   offset          start position in destination array
+     * @return  position behind last written byte
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IndexOutOfBoundsException if the offset is out of range or the formatted text does not fit
+     * @since   5.6
+     */
+    default int print(
+        T formattable,
+        byte[] buffer,
+        int offset
+    ) {
+
+        byte[] encoded = this.print(formattable).getBytes(StandardCharsets.UTF_8);
+        int end = offset + encoded.length;
+
+        if ((offset < 0) || (end > buffer.length)) {
+            throw new IndexOutOfBoundsException(
+                "Text result buffer too small: " + buffer.length + " (required minimum: " + end + ")");
+        }
+
+        System.arraycopy(encoded, 0, buffer, offset, encoded.length);
+        return end;
+
+    }
+
     /**
      * <p>Returns the global format attributes which are active if they are not
      * overridden by sectional attributes. </p>
@@ -419,6 +419,30 @@ final class FormatStep {
 
     }
 
+    /**
+     * <p>Tr&auml;gt die Zeichentests dieses Schritts zur Pr&auml;fix-Analyse bei. </p>
+     *
+     * <p>Nur f&uuml;r eingefrorene Schritte (quick path) eines Formatierers ohne oder-Bl&ouml;cke
+     * sinnvoll. </p>
+     *
+     * @param   builder     collects the character tests
+     * @return  {@code true} if the next step can be analyzed, too, else {@code false}
+     * @since   5.6
+     */
+    boolean addToPrefix(PrefixShape.Builder builder) {
+
+        if ((this.level > 0) || (this.padLeft != 0) || (this.padRight != 0)) {
+            return false;
+        } else if (this.processor instanceof NumberProcessor) {
+            return NumberProcessor.class.cast(this.processor).addToPrefix(builder);
+        } else if (this.processor instanceof LiteralProcessor) {
+            return LiteralProcessor.class.cast(this.processor).addToPrefix(builder);
+        }
+
+        return false;
+
+    }
+
     /**
      * <p>Finaler Schritt nach dem <i>build</i> des Formatierers oder bei Attribut&auml;nderungen. </p>
      *
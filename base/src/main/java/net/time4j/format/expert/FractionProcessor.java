@@ -46,6 +46,8 @@ final class FractionProcessor
     //~ Statische Felder/Initialisierungen --------------------------------
 
     private static final int MRD_MINUS_1 = 999_999_999;
+    private static final int[] POWERS_OF_TEN =
+        {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000};
 
     //~ Instanzvariablen --------------------------------------------------
 
@@ -144,25 +146,9 @@ final class FractionProcessor
         boolean quickPath
     ) throws IOException {
 
-        BigDecimal value = toDecimal(formattable.get(this.element));
-        BigDecimal min = toDecimal(formattable.getMinimum(this.element));
-        BigDecimal max = toDecimal(formattable.getMaximum(this.element));
-
-        if (value.compareTo(max) > 0) {
-            value = max;
-        }
-
-        BigDecimal fraction =
-            value.subtract(min).divide(
-                max.subtract(min).add(BigDecimal.ONE),
-                9,
-                RoundingMode.FLOOR);
-
-        fraction = (
-            (fraction.compareTo(BigDecimal.ZERO) == 0)
-            ? BigDecimal.ZERO
-            : fraction.stripTrailingZeros()
-        );
+        int min = formattable.getMinimum(this.element).intValue();
+        int max = formattable.getMaximum(this.element).intValue();
+        int value = Math.min(formattable.get(this.element).intValue(), max);
 
         char zeroChar = (
             quickPath
@@ -176,26 +162,19 @@ final class FractionProcessor
             start = ((CharSequence) buffer).length();
         }
 
-        if (fraction.scale() == 0) {
-            // scale ist 0, wenn value das Minimum ist
-            if (this.minDigits > 0) {
-                if (this.hasDecimalSeparator()) {
-                    this.decimalSeparator.print(
-                        formattable,
-                        buffer,
-                        attributes,
-                        positions,
-                        quickPath);
-                    printed++;
-                }
+        int width = getDecimalWidth(min, max);
+        int fraction = value - min;
 
-                for (int i = 0; i < this.minDigits; i++) {
-                    buffer.append(zeroChar);
-                }
+        if ((width == -1) || (fraction == 0)) {
+            printed = this.printDecimal(formattable, buffer, attributes, positions, quickPath, value, min, max, zeroChar);
+        } else {
+            // Optimierung: Wertebereich ist eine Zehnerpotenz, also ist der Bruch direkt an den Ziffern ablesbar
+            int scale = width;
 
-                printed += this.minDigits;
+            for (int test = fraction; test % 10 == 0; test /= 10) {
+                scale--;
             }
-        } else {
+
             if (this.hasDecimalSeparator()) {
                 this.decimalSeparator.print(
                     formattable,
@@ -206,17 +185,11 @@ final class FractionProcessor
                 printed++;
             }
 
-            int outputScale =
-                Math.min(
-                    Math.max(fraction.scale(), this.minDigits),
-                    this.maxDigits);
-            fraction = fraction.setScale(outputScale, RoundingMode.FLOOR);
-            String digits = fraction.toPlainString();
-            int diff = zeroChar - '0';
+            int outputScale = Math.min(Math.max(scale, this.minDigits), this.maxDigits);
 
-            for (int i = 2, n = digits.length(); i < n; i++) {
-                char c = (char) (digits.charAt(i) + diff);
-                buffer.append(c);
+            for (int i = 1; i <= outputScale; i++) {
+                int digit = ((i <= width) ? (fraction / POWERS_OF_TEN[width - i]) % 10 : 0);
+                buffer.append((char) (zeroChar + digit));
                 printed++;
             }
         }
@@ -482,6 +455,99 @@ final class FractionProcessor
 
     }
 
+    private int printDecimal(
+        ChronoDisplay formattable,
+        Appendable buffer,
+        AttributeQuery attributes,
+        Set<ElementPosition> positions,
+        boolean quickPath,
+        int value,
+        int min,
+        int max,
+        char zeroChar
+    ) throws IOException {
+
+        BigDecimal fraction =
+            toDecimal(value).subtract(toDecimal(min)).divide(
+                toDecimal(max).subtract(toDecimal(min)).add(BigDecimal.ONE),
+                9,
+                RoundingMode.FLOOR);
+
+        fraction = (
+            (fraction.compareTo(BigDecimal.ZERO) == 0)
+            ? BigDecimal.ZERO
+            : fraction.stripTrailingZeros()
+        );
+
+        int printed = 0;
+
+        if (fraction.scale() == 0) {
+            // scale ist 0, wenn value das Minimum ist
+            if (this.minDigits > 0) {
+                if (this.hasDecimalSeparator()) {
+                    this.decimalSeparator.print(
+                        formattable,
+                        buffer,
+                        attributes,
+                        positions,
+                        quickPath);
+                    printed++;
+                }
+
+                for (int i = 0; i < this.minDigits; i++) {
+                    buffer.append(zeroChar);
+                }
+
+                printed += this.minDigits;
+            }
+        } else {
+            if (this.hasDecimalSeparator()) {
+                this.decimalSeparator.print(
+                    formattable,
+                    buffer,
+                    attributes,
+                    positions,
+                    quickPath);
+                printed++;
+            }
+
+            int outputScale =
+                Math.min(
+                    Math.max(fraction.scale(), this.minDigits),
+                    this.maxDigits);
+            fraction = fraction.setScale(outputScale, RoundingMode.FLOOR);
+            String digits = fraction.toPlainString();
+            int diff = zeroChar - '0';
+
+            for (int i = 2, n = digits.length(); i < n; i++) {
+                char c = (char) (digits.charAt(i) + diff);
+                buffer.append(c);
+                printed++;
+            }
+        }
+
+        return printed;
+
+    }
+
+    // liefert die Anzahl der Ziffern, wenn der Wertebereich eine Zehnerpotenz ist, sonst -1
+    private static int getDecimalWidth(
+        int min,
+        int max
+    ) {
+
+        long range = (long) max - min + 1;
+
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            if (range == POWERS_OF_TEN[i]) {
+                return i;
+            }
+        }
+
+        return -1;
+
+    }
+
     private static BigDecimal toDecimal(Number num) {
 
         return BigDecimal.valueOf(num.longValue());
@@ -31,6 +31,7 @@ import net.time4j.engine.ChronoCondition;
 import net.time4j.engine.ChronoDisplay;
 import net.time4j.engine.ChronoElement;
 import net.time4j.engine.ChronoEntity;
+import net.time4j.engine.EpochDays;
 import net.time4j.format.Attributes;
 import net.time4j.format.DisplayMode;
 import net.time4j.format.Leniency;
@@ -333,24 +334,35 @@ public class Iso8601Format {
     public static final ChronoFormatter<Moment> EXTENDED_DATE_TIME_OFFSET;
 
     static {
-        BASIC_CALENDAR_DATE = calendarFormat(false);
-        EXTENDED_CALENDAR_DATE = calendarFormat(true);
+        char decimalSeparator = ((DEFAULT_ISO_DECIMAL_STYLE == IsoDecimalStyle.DOT) ? '.' : ',');
+
+        BASIC_CALENDAR_DATE = calendarFormat(false).withFastPath(IsoFastPath.ofDate(false));
+        EXTENDED_CALENDAR_DATE = calendarFormat(true).withFastPath(IsoFastPath.ofDate(true));
         BASIC_ORDINAL_DATE = ordinalFormat(false);
         EXTENDED_ORDINAL_DATE = ordinalFormat(true);
         BASIC_WEEK_DATE = weekdateFormat(false);
         EXTENDED_WEEK_DATE = weekdateFormat(true);
 
-        BASIC_DATE = generalDateFormat(false);
-        EXTENDED_DATE = generalDateFormat(true);
-
-        BASIC_WALL_TIME = timeFormat(false, DEFAULT_ISO_DECIMAL_STYLE);
-        EXTENDED_WALL_TIME = timeFormat(true, DEFAULT_ISO_DECIMAL_STYLE);
-
-        BASIC_DATE_TIME = timestampFormat(false, DEFAULT_ISO_DECIMAL_STYLE);
-        EXTENDED_DATE_TIME = timestampFormat(true, DEFAULT_ISO_DECIMAL_STYLE);
-
-        BASIC_DATE_TIME_OFFSET = momentFormat(false, DEFAULT_ISO_DECIMAL_STYLE);
-        EXTENDED_DATE_TIME_OFFSET = momentFormat(true, DEFAULT_ISO_DECIMAL_STYLE);
+        // der schnelle Pfad deckt nur Kalenderdaten ab, Ordinal- und Wochendaten laufen generisch
+        BASIC_DATE = generalDateFormat(false).withFastPath(IsoFastPath.ofDate(false));
+        EXTENDED_DATE = generalDateFormat(true).withFastPath(IsoFastPath.ofDate(true));
+
+        BASIC_WALL_TIME =
+            timeFormat(false, DEFAULT_ISO_DECIMAL_STYLE).withFastPath(IsoFastPath.ofTime(false, decimalSeparator));
+        EXTENDED_WALL_TIME =
+            timeFormat(true, DEFAULT_ISO_DECIMAL_STYLE).withFastPath(IsoFastPath.ofTime(true, decimalSeparator));
+
+        BASIC_DATE_TIME =
+            timestampFormat(false, DEFAULT_ISO_DECIMAL_STYLE)
+                .withFastPath(IsoFastPath.ofTimestamp(false, decimalSeparator));
+        EXTENDED_DATE_TIME =
+            timestampFormat(true, DEFAULT_ISO_DECIMAL_STYLE)
+                .withFastPath(IsoFastPath.ofTimestamp(true, decimalSeparator));
+
+        BASIC_DATE_TIME_OFFSET =
+            momentFormat(false, DEFAULT_ISO_DECIMAL_STYLE).withFastPath(IsoFastPath.ofMoment(false, decimalSeparator));
+        EXTENDED_DATE_TIME_OFFSET =
+            momentFormat(true, DEFAULT_ISO_DECIMAL_STYLE).withFastPath(IsoFastPath.ofMoment(true, decimalSeparator));
     }
 
     //~ Konstruktoren -----------------------------------------------------
@@ -571,6 +583,15 @@ public class Iso8601Format {
      */
     public static PlainDate parseDate(CharSequence iso) throws ParseException {
 
+        int n = iso.length();
+
+        if ((n == 10) || (n == 8)) { // Optimierung für Kalenderdaten
+            long mjd = IsoFastPath.parseDate(iso, 0, n == 10);
+            if (mjd != Long.MIN_VALUE) {
+                return PlainDate.of(mjd, EpochDays.MODIFIED_JULIAN_DATE);
+            }
+        }
+
         ParseLog plog = new ParseLog();
         PlainDate date = parseDate(iso, plog);
 
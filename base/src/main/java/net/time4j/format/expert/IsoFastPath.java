@@ -0,0 +1,738 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IsoFastPath.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.TimeScale;
+
+import java.io.IOException;
+
+
+/**
+ * <p>Handgeschriebener Interpretierer und Formatierer f&uuml;r die h&auml;ufigsten festen Formen
+ * von ISO-8601, der ohne Formatschritte, Elementwerte und {@code ChronoMerger} auskommt. </p>
+ *
+ * <p>Unterst&uuml;tzt werden nur Jahre von 0000 bis 9999, Uhrzeiten mit mindestens Stunde und Minute,
+ * die Stunde 24 ausgenommen, und Offsets wie &quot;Z&quot;, &quot;+05:30&quot; oder &quot;+0530&quot;,
+ * jeweils passend zur <i>basic</i>- oder <i>extended</i>-Form. Alle anderen Eingaben (zum Beispiel
+ * Ordinal- oder Wochendaten, Schaltsekunden oder fehlerhafte Texte) werden dem generischen
+ * Formatierer &uuml;berlassen, der auch die genauen Fehlermeldungen liefert. </p>
+ *
+ * @param   <T> generic type of chronological entity
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+abstract class IsoFastPath<T> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int UNIX_EPOCH_MJD = 40587;
+    private static final int[] POWERS_OF_TEN = {
+        1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000
+    };
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    final boolean extended;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private IsoFastPath(boolean extended) {
+        super();
+
+        this.extended = extended;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Liefert die schnelle Variante f&uuml;r Kalenderdaten. </p>
+     *
+     * @param   extended    extended or basic format?
+     * @return  fast path
+     */
+    static IsoFastPath<PlainDate> ofDate(boolean extended) {
+
+        return new DateFastPath(extended);
+
+    }
+
+    /**
+     * <p>Liefert die schnelle Variante f&uuml;r Uhrzeiten. </p>
+     *
+     * @param   extended            extended or basic format?
+     * @param   decimalSeparator    decimal separator used for printing
+     * @return  fast path
+     */
+    static IsoFastPath<PlainTime> ofTime(
+        boolean extended,
+        char decimalSeparator
+    ) {
+
+        return new TimeFastPath(extended, decimalSeparator);
+
+    }
+
+    /**
+     * <p>Liefert die schnelle Variante f&uuml;r Zeitstempel. </p>
+     *
+     * @param   extended            extended or basic format?
+     * @param   decimalSeparator    decimal separator used for printing
+     * @return  fast path
+     */
+    static IsoFastPath<PlainTimestamp> ofTimestamp(
+        boolean extended,
+        char decimalSeparator
+    ) {
+
+        return new TimestampFastPath(extended, decimalSeparator);
+
+    }
+
+    /**
+     * <p>Liefert die schnelle Variante f&uuml;r Momente mit Offset (Ausgabe immer in UTC). </p>
+     *
+     * @param   extended            extended or basic format?
+     * @param   decimalSeparator    decimal separator used for printing
+     * @return  fast path
+     */
+    static IsoFastPath<Moment> ofMoment(
+        boolean extended,
+        char decimalSeparator
+    ) {
+
+        return new MomentFastPath(extended, decimalSeparator);
+
+    }
+
+    /**
+     * <p>Interpretiert den ganzen Text. </p>
+     *
+     * @param   text    text to be parsed completely
+     * @return  result or {@code null} if the generic formatter must be used instead
+     */
+    abstract T parse(CharSequence text);
+
+    /**
+     * <p>Formatiert das angegebene Objekt. </p>
+     *
+     * <p>Wenn diese Methode {@code false} liefert, wurde noch nichts geschrieben. </p>
+     *
+     * @param   formattable     object to be printed
+     * @param   buffer          text output buffer
+     * @return  {@code true} if printed else {@code false} if the generic formatter must be used instead
+     * @throws  IOException if writing to buffer fails
+     */
+    abstract boolean print(
+        T formattable,
+        Appendable buffer
+    ) throws IOException;
+
+    /**
+     * <p>Interpretiert ein Kalenderdatum in der Form &quot;uuuu-MM-dd&quot; oder &quot;uuuuMMdd&quot;
+     * beginnend bei {@code index}. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   index       start position
+     * @param   extended    extended or basic format?
+     * @return  modified julian date or {@code Long.MIN_VALUE} if not applicable
+     */
+    static long parseDate(
+        CharSequence text,
+        int index,
+        boolean extended
+    ) {
+
+        int end = index + (extended ? 10 : 8);
+
+        if (end > text.length()) {
+            return Long.MIN_VALUE;
+        }
+
+        int year = digits(text, index, 4);
+        int pos = index + 4;
+
+        if (extended && (text.charAt(pos++) != '-')) {
+            return Long.MIN_VALUE;
+        }
+
+        int month = digits(text, pos, 2);
+        pos += 2;
+
+        if (extended && (text.charAt(pos++) != '-')) {
+            return Long.MIN_VALUE;
+        }
+
+        int dom = digits(text, pos, 2);
+
+        if (
+            (year < 0) || (month < 1) || (month > 12) || (dom < 1)
+            || (dom > GregorianMath.getLengthOfMonth(year, month))
+        ) {
+            return Long.MIN_VALUE;
+        }
+
+        return GregorianMath.toMJD(year, month, dom);
+
+    }
+
+    /**
+     * <p>Interpretiert eine Uhrzeit im Bereich [start, end) als Sekunden und Nanosekunden. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   start       start position
+     * @param   end         end position which must be exactly reached
+     * @param   extended    extended or basic format?
+     * @return  nanoseconds of day or {@code -1} if not applicable
+     */
+    static long parseTime(
+        CharSequence text,
+        int start,
+        int end,
+        boolean extended
+    ) {
+
+        int pos = start;
+
+        if (end - pos < (extended ? 5 : 4)) {
+            return -1;
+        }
+
+        int hour = digits(text, pos, 2);
+        pos += 2;
+
+        if (extended && (text.charAt(pos++) != ':')) {
+            return -1;
+        }
+
+        int minute = digits(text, pos, 2);
+        pos += 2;
+        int second = 0;
+        int nano = 0;
+
+        if (pos < end) {
+            if (extended && (text.charAt(pos++) != ':')) {
+                return -1;
+            } else if (end - pos < 2) {
+                return -1;
+            }
+
+            second = digits(text, pos, 2);
+            pos += 2;
+
+            if (pos < end) {
+                char c = text.charAt(pos++);
+                int count = end - pos;
+
+                if (((c != ',') && (c != '.')) || (count < 1) || (count > 9)) {
+                    return -1;
+                }
+
+                nano = digits(text, pos, count);
+
+                if (nano < 0) {
+                    return -1;
+                }
+
+                nano *= POWERS_OF_TEN[9 - count];
+            }
+        }
+
+        if ((hour < 0) || (hour > 23) || (minute < 0) || (minute > 59) || (second < 0) || (second > 59)) {
+            return -1;
+        }
+
+        return ((hour * 3600 + minute * 60 + second) * 1_000_000_000L) + nano;
+
+    }
+
+    /**
+     * <p>Interpretiert einen Offset wie &quot;Z&quot;, &quot;+05:30&quot; oder &quot;+0530&quot; am Textende. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   start       start position of offset
+     * @param   extended    extended or basic format?
+     * @return  offset in seconds or {@code Integer.MIN_VALUE} if not applicable
+     */
+    static int parseOffset(
+        CharSequence text,
+        int start,
+        boolean extended
+    ) {
+
+        int n = text.length();
+        char sign = text.charAt(start);
+
+        if (sign == 'Z') {
+            return ((n - start == 1) ? 0 : Integer.MIN_VALUE);
+        } else if (((sign != '+') && (sign != '-')) || (n - start != (extended ? 6 : 5))) {
+            return Integer.MIN_VALUE;
+        }
+
+        int hours = digits(text, start + 1, 2);
+
+        if (extended && (text.charAt(start + 3) != ':')) {
+            return Integer.MIN_VALUE;
+        }
+
+        int minutes = digits(text, n - 2, 2);
+
+        if ((hours < 0) || (hours > 17) || (minutes < 0) || (minutes > 59)) {
+            return Integer.MIN_VALUE;
+        }
+
+        int total = hours * 3600 + minutes * 60;
+
+        if (sign == '-') {
+            if (total == 0) {
+                return Integer.MIN_VALUE; // Sonderfall -00:00
+            }
+            total = -total;
+        }
+
+        return total;
+
+    }
+
+    /**
+     * <p>Formatiert ein Kalenderdatum, dessen Jahr im Bereich 0000-9999 liegt. </p>
+     *
+     * @param   year        proleptic iso year (0-9999)
+     * @param   month       gregorian month (1-12)
+     * @param   dom         day of month (1-31)
+     * @param   extended    extended or basic format?
+     * @param   buffer      text output buffer
+     * @throws  IOException if writing to buffer fails
+     */
+    static void printDate(
+        int year,
+        int month,
+        int dom,
+        boolean extended,
+        Appendable buffer
+    ) throws IOException {
+
+        appendTwoDigits(year / 100, buffer);
+        appendTwoDigits(year % 100, buffer);
+
+        if (extended) {
+            buffer.append('-');
+        }
+
+        appendTwoDigits(month, buffer);
+
+        if (extended) {
+            buffer.append('-');
+        }
+
+        appendTwoDigits(dom, buffer);
+
+    }
+
+    /**
+     * <p>Formatiert eine Uhrzeit im Stil &quot;HH[:mm[:ss[,SSSSSSSSS]]]&quot; mit immer vorhandener Minute. </p>
+     *
+     * @param   hour                hour of day (0-24)
+     * @param   minute              minute of hour (0-59)
+     * @param   second              second of minute (0-59)
+     * @param   nano                nanosecond of second
+     * @param   extended            extended or basic format?
+     * @param   decimalSeparator    decimal separator
+     * @param   buffer              text output buffer
+     * @throws  IOException if writing to buffer fails
+     */
+    static void printTime(
+        int hour,
+        int minute,
+        int second,
+        int nano,
+        boolean extended,
+        char decimalSeparator,
+        Appendable buffer
+    ) throws IOException {
+
+        appendTwoDigits(hour, buffer);
+
+        if (extended) {
+            buffer.append(':');
+        }
+
+        appendTwoDigits(minute, buffer);
+
+        if ((second > 0) || (nano > 0)) {
+            if (extended) {
+                buffer.append(':');
+            }
+
+            appendTwoDigits(second, buffer);
+
+            if (nano > 0) {
+                buffer.append(decimalSeparator);
+                int digits = 9;
+                int value = nano;
+                while (value % 10 == 0) {
+                    value /= 10;
+                    digits--;
+                }
+                for (int i = digits - 1; i >= 0; i--) {
+                    int p = POWERS_OF_TEN[i];
+                    buffer.append((char) ('0' + value / p));
+                    value %= p;
+                }
+            }
+        }
+
+    }
+
+    // liefert -1, wenn keine Ziffern vorliegen
+    private static int digits(
+        CharSequence text,
+        int index,
+        int count
+    ) {
+
+        int value = 0;
+
+        for (int i = index, n = index + count; i < n; i++) {
+            int digit = text.charAt(i) - '0';
+            if ((digit < 0) || (digit > 9)) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+
+        return value;
+
+    }
+
+    private static void appendTwoDigits(
+        int value,
+        Appendable buffer
+    ) throws IOException {
+
+        buffer.append((char) ('0' + value / 10));
+        buffer.append((char) ('0' + value % 10));
+
+    }
+
+    private static PlainDate toDate(long mjd) {
+
+        return PlainDate.of(mjd, EpochDays.MODIFIED_JULIAN_DATE);
+
+    }
+
+    private static PlainTime toTime(long nanoOfDay) {
+
+        int secondOfDay = (int) (nanoOfDay / 1_000_000_000L);
+
+        return PlainTime.of(
+            secondOfDay / 3600,
+            (secondOfDay / 60) % 60,
+            secondOfDay % 60,
+            (int) (nanoOfDay % 1_000_000_000L));
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static final class DateFastPath
+        extends IsoFastPath<PlainDate> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        DateFastPath(boolean extended) {
+            super(extended);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        PlainDate parse(CharSequence text) {
+
+            if (text.length() != (this.extended ? 10 : 8)) {
+                return null;
+            }
+
+            long mjd = parseDate(text, 0, this.extended);
+            return ((mjd == Long.MIN_VALUE) ? null : toDate(mjd));
+
+        }
+
+        @Override
+        boolean print(
+            PlainDate formattable,
+            Appendable buffer
+        ) throws IOException {
+
+            if (formattable == null) {
+                return false;
+            }
+
+            int year = formattable.getYear();
+
+            if ((year < 0) || (year > 9999)) {
+                return false;
+            }
+
+            printDate(year, formattable.getMonth(), formattable.getDayOfMonth(), this.extended, buffer);
+            return true;
+
+        }
+
+    }
+
+    private static final class TimeFastPath
+        extends IsoFastPath<PlainTime> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final char decimalSeparator;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        TimeFastPath(
+            boolean extended,
+            char decimalSeparator
+        ) {
+            super(extended);
+
+            this.decimalSeparator = decimalSeparator;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        PlainTime parse(CharSequence text) {
+
+            int start = (((text.length() > 0) && (text.charAt(0) == 'T')) ? 1 : 0);
+            long nanoOfDay = parseTime(text, start, text.length(), this.extended);
+            return ((nanoOfDay == -1) ? null : toTime(nanoOfDay));
+
+        }
+
+        @Override
+        boolean print(
+            PlainTime formattable,
+            Appendable buffer
+        ) throws IOException {
+
+            if (formattable == null) {
+                return false;
+            }
+
+            printTime(
+                formattable.getHour(),
+                formattable.getMinute(),
+                formattable.getSecond(),
+                formattable.getNanosecond(),
+                this.extended,
+                this.decimalSeparator,
+                buffer);
+            return true;
+
+        }
+
+    }
+
+    private static final class TimestampFastPath
+        extends IsoFastPath<PlainTimestamp> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final char decimalSeparator;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        TimestampFastPath(
+            boolean extended,
+            char decimalSeparator
+        ) {
+            super(extended);
+
+            this.decimalSeparator = decimalSeparator;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        PlainTimestamp parse(CharSequence text) {
+
+            int t = (this.extended ? 10 : 8);
+
+            if ((text.length() <= t) || (text.charAt(t) != 'T')) {
+                return null;
+            }
+
+            long mjd = parseDate(text, 0, this.extended);
+
+            if (mjd == Long.MIN_VALUE) {
+                return null;
+            }
+
+            long nanoOfDay = parseTime(text, t + 1, text.length(), this.extended);
+            return ((nanoOfDay == -1) ? null : PlainTimestamp.of(toDate(mjd), toTime(nanoOfDay)));
+
+        }
+
+        @Override
+        boolean print(
+            PlainTimestamp formattable,
+            Appendable buffer
+        ) throws IOException {
+
+            if (formattable == null) {
+                return false;
+            }
+
+            int year = formattable.getYear();
+
+            if ((year < 0) || (year > 9999)) {
+                return false;
+            }
+
+            printDate(year, formattable.getMonth(), formattable.getDayOfMonth(), this.extended, buffer);
+            buffer.append('T');
+            printTime(
+                formattable.getHour(),
+                formattable.getMinute(),
+                formattable.getSecond(),
+                formattable.getNanosecond(),
+                this.extended,
+                this.decimalSeparator,
+                buffer);
+            return true;
+
+        }
+
+    }
+
+    private static final class MomentFastPath
+        extends IsoFastPath<Moment> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final char decimalSeparator;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        MomentFastPath(
+            boolean extended,
+            char decimalSeparator
+        ) {
+            super(extended);
+
+            this.decimalSeparator = decimalSeparator;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        Moment parse(CharSequence text) {
+
+            int n = text.length();
+            int t = (this.extended ? 10 : 8);
+
+            if ((n <= t + 2) || (text.charAt(t) != 'T')) {
+                return null;
+            }
+
+            int start = n - 1;
+
+            if (text.charAt(start) != 'Z') {
+                start = n - (this.extended ? 6 : 5);
+                if (start <= t) {
+                    return null;
+                }
+            }
+
+            long mjd = parseDate(text, 0, this.extended);
+
+            if (mjd == Long.MIN_VALUE) {
+                return null;
+            }
+
+            long nanoOfDay = parseTime(text, t + 1, start, this.extended);
+
+            if (nanoOfDay == -1) {
+                return null;
+            }
+
+            int offset = parseOffset(text, start, this.extended);
+
+            if (offset == Integer.MIN_VALUE) {
+                return null;
+            }
+
+            long posix = (mjd - UNIX_EPOCH_MJD) * 86400 + nanoOfDay / 1_000_000_000L - offset;
+            return Moment.of(posix, (int) (nanoOfDay % 1_000_000_000L), TimeScale.POSIX);
+
+        }
+
+        @Override
+        boolean print(
+            Moment formattable,
+            Appendable buffer
+        ) throws IOException {
+
+            if ((formattable == null) || formattable.isLeapSecond()) {
+                return false;
+            }
+
+            long posix = formattable.getPosixTime();
+            long packed = GregorianMath.toPackedDate(MathUtils.floorDivide(posix, 86400) + UNIX_EPOCH_MJD);
+            int year = GregorianMath.readYear(packed);
+
+            if ((year < 0) || (year > 9999)) {
+                return false;
+            }
+
+            int secondOfDay = MathUtils.floorModulo(posix, 86400);
+
+            printDate(year, GregorianMath.readMonth(packed), GregorianMath.readDayOfMonth(packed), this.extended, buffer);
+            buffer.append('T');
+            printTime(
+                secondOfDay / 3600,
+                (secondOfDay / 60) % 60,
+                secondOfDay % 60,
+                formattable.getNanosecond(),
+                this.extended,
+                this.decimalSeparator,
+                buffer);
+            buffer.append('Z');
+            return true;
+
+        }
+
+    }
+
+}
@@ -415,6 +415,33 @@ final class LiteralProcessor
 
     }
 
+    // Präfix-Analyse für MultiFormatParser (quick path), true, wenn feste Zeichen konsumiert werden
+    boolean addToPrefix(PrefixShape.Builder builder) {
+
+        if (this.attribute != null) {
+            return false;
+        } else if (this.interpunctuationMode) {
+            if (this.single == '.') {
+                return false; // kann beim Interpretieren fehlen
+            }
+            builder.addLiteral(this.single, this.single, false);
+        } else if (this.multi == null) {
+            builder.addLiteral(this.single, this.alt, this.caseInsensitive);
+        } else if (this.rtl) {
+            return false;
+        } else {
+            for (int i = 0, n = this.multi.length(); i < n; i++) {
+                char c = this.multi.charAt(i);
+                if (!isBidi(c)) {
+                    builder.addLiteral(c, c, this.caseInsensitive);
+                }
+            }
+        }
+
+        return true;
+
+    }
+
     // count of leading digits
     int getPrefixedDigitArea() {
 
@@ -486,7 +513,7 @@ final class LiteralProcessor
 
     }
 
-    private static boolean charEqualsIgnoreCase(
+    static boolean charEqualsIgnoreCase(
         char c1,
         char c2
     ) {
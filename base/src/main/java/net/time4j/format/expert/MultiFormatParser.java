@@ -81,9 +81,15 @@ import java.util.List;
 public final class MultiFormatParser<T extends ChronoEntity<T>>
     implements ChronoParser<T> {
 
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int ASCII_LIMIT = 128;
+
     //~ Instanzvariablen --------------------------------------------------
 
     private final ChronoFormatter<T>[] parsers;
+    private final PrefixShape[] shapes; // null if without prefix dispatch
+    private final int[][] candidates; // indexed by ASCII char at start of text, last entry for other chars
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -91,6 +97,8 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
         super();
 
         this.parsers = parsers;
+        this.shapes = null;
+        this.candidates = null;
 
         for (ChronoFormatter<T> parser : this.parsers) {
             if (parser == null) {
@@ -100,6 +108,37 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
     }
 
+    private MultiFormatParser(
+        ChronoFormatter<T>[] parsers,
+        PrefixShape[] shapes
+    ) {
+        super();
+
+        this.parsers = parsers;
+        this.shapes = shapes;
+        this.candidates = new int[ASCII_LIMIT + 1][];
+
+        int n = parsers.length;
+        int[] buffer = new int[n];
+
+        for (int c = 0; c < ASCII_LIMIT; c++) {
+            int count = 0;
+            for (int i = 0; i < n; i++) {
+                if ((shapes[i].length() == 0) || shapes[i].accepts(0, (char) c)) {
+                    buffer[count++] = i;
+                }
+            }
+            this.candidates[c] = Arrays.copyOf(buffer, count);
+        }
+
+        for (int i = 0; i < n; i++) {
+            buffer[i] = i;
+        }
+
+        this.candidates[ASCII_LIMIT] = buffer;
+
+    }
+
     //~ Methoden ----------------------------------------------------------
 
     /**
@@ -151,6 +190,61 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
     }
 
+    /**
+     * <p>Yields a copy of this parser which skips formats whose leading fixed structure
+     * cannot match the input. </p>
+     *
+     * <p>Every format is analyzed once: Leading fixed-width numbers and single-char literals outside
+     * of optional sections and or-blocks are checked character by character before the format
+     * is tried at all. A table indexed by the first input character preselects the candidates.
+     * The order of formats is preserved so the parse result stays the same. This is useful
+     * if many formats with distinct shapes are combined, for example ISO-8601 and slash-separated
+     * dates. </p>
+     *
+     * <p>The dispatch is only applied by {@link #parse(CharSequence)} and
+     * {@link #parse(CharSequence, ParseLog)} because any other attributes specified by
+     * {@link #parse(CharSequence, ParseLog, AttributeQuery)} might change the format
+     * structure. </p>
+     *
+     * @return  new immutable instance of MultiFormatParser with prefix dispatch
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie dieses Interpretierers, die Formate &uuml;berspringt, deren
+     * f&uuml;hrende feste Struktur nicht zur Eingabe passen kann. </p>
+     *
+     * <p>Jedes Format wird einmal analysiert: F&uuml;hrende Zahlen fester Breite und einzelne
+     * Literalzeichen au&szlig;erhalb von optionalen Abschnitten und oder-Bl&ouml;cken werden
+     * Zeichen f&uuml;r Zeichen gepr&uuml;ft, bevor das Format &uuml;berhaupt versucht wird. Eine
+     * nach dem ersten Zeichen der Eingabe indizierte Tabelle w&auml;hlt die Kandidaten vor. Die
+     * Reihenfolge der Formate bleibt erhalten, so da&szlig; das Interpretationsergebnis gleich
+     * bleibt. Das ist n&uuml;tzlich, wenn viele Formate mit verschiedenen Formen kombiniert werden,
+     * zum Beispiel ISO-8601 und Datumsangaben mit Schr&auml;gstrichen. </p>
+     *
+     * <p>Die Vorauswahl wird nur von {@link #parse(CharSequence)} und
+     * {@link #parse(CharSequence, ParseLog)} angewandt, weil beliebige andere Attribute,
+     * die mit {@link #parse(CharSequence, ParseLog, AttributeQuery)} angegeben werden,
+     * die Formatstruktur &auml;ndern k&ouml;nnen. </p>
+     *
+     * @return  new immutable instance of MultiFormatParser with prefix dispatch
+     * @since   5.6
+     */
+    public MultiFormatParser<T> withPrefixDispatch() {
+
+        if (this.shapes != null) {
+            return this;
+        }
+
+        PrefixShape[] s = new PrefixShape[this.parsers.length];
+
+        for (int i = 0; i < s.length; i++) {
+            s[i] = this.parsers[i].getPrefixShape();
+        }
+
+        return new MultiFormatParser<>(this.parsers, s);
+
+    }
+
     /**
      * <p>Interpretes given text as chronological entity starting at the begin of text. </p>
      *
@@ -175,8 +269,15 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
         throws ParseException {
 
         ParseLog status = new ParseLog();
+        int[] indices = this.getCandidates(text, 0);
+
+        for (int k = 0, n = ((indices == null) ? this.parsers.length : indices.length); k < n; k++) {
+            int i = ((indices == null) ? k : indices[k]);
+
+            if ((indices != null) && (this.shapes[i].mismatch(text, 0) >= 0)) {
+                continue;
+            }
 
-        for (int i = 0; i < this.parsers.length; i++) {
             status.reset(); // initialization
             status.setPosition(0);
 
@@ -297,8 +398,17 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
     ) {
 
         int start = status.getPosition();
+        int[] indices = this.getCandidates(text, start);
+        int last = this.parsers.length - 1;
+        boolean lastTried = false;
+
+        for (int k = 0, n = ((indices == null) ? this.parsers.length : indices.length); k < n; k++) {
+            int i = ((indices == null) ? k : indices[k]);
+
+            if ((indices != null) && (i < last) && (this.shapes[i].mismatch(text, start) >= 0)) {
+                continue;
+            }
 
-        for (int i = 0; i < this.parsers.length; i++) {
             status.reset(); // initialization
             status.setPosition(start);
 
@@ -309,6 +419,17 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
                 return parsed;
             }
 
+            lastTried = (i == last);
+
+        }
+
+        if (!lastTried && (last >= 0)) { // determines the error index as without dispatch
+            status.reset();
+            status.setPosition(start);
+            T parsed = this.parsers[last].parse(text, status);
+            if ((parsed != null) && !status.isError()) {
+                return parsed; // not expected
+            }
         }
 
         status.setError(status.getErrorIndex(), "Not matched by any format: " + text);
@@ -344,4 +465,19 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
     }
 
+    // Kandidaten der Vorauswahl oder null, wenn alle Formate der Reihe nach zu versuchen sind
+    private int[] getCandidates(
+        CharSequence text,
+        int start
+    ) {
+
+        if ((this.candidates == null) || (start >= text.length())) {
+            return null;
+        }
+
+        char c = text.charAt(start);
+        return this.candidates[(c < ASCII_LIMIT) ? c : ASCII_LIMIT];
+
+    }
+
 }
@@ -655,6 +655,32 @@ class NumberProcessor<V>
 
     }
 
+    // Präfix-Analyse für MultiFormatParser, true, wenn die Anzahl der konsumierten Zeichen fest ist
+    boolean addToPrefix(PrefixShape.Builder builder) {
+
+        if (this.fixedInt) {
+            builder.addDigits('0', this.minDigits);
+            return true;
+        } else if (
+            (this.protectedLength > 0)
+            || (this.yearOfEra && (this.element instanceof DualFormatElement))
+            || !this.numberSystem.isDecimal()
+        ) {
+            return false;
+        }
+
+        boolean exact = (this.fixedWidth || !this.lenientMode.isLax());
+
+        if ((this.signPolicy != SignPolicy.SHOW_NEVER) || !(this.fixedWidth || this.lenientMode.isStrict())) {
+            builder.addSignOrDigit(this.zeroDigit);
+            return false;
+        }
+
+        builder.addDigits(this.zeroDigit, exact ? this.minDigits : 1);
+        return (exact && (this.minDigits == this.maxDigits) && (this.reserved == 0));
+
+    }
+
     @Override
     public boolean equals(Object obj) {
 
@@ -56,6 +56,8 @@ public class ParseLog {
     private String errorMessage;
     private ChronoEntity<?> rawValues;
     private boolean warning;
+    private ChronoFormatter<?> owner;
+    private ParsedValues recycled;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -359,6 +361,8 @@ public class ParseLog {
         this.errorMessage = "";
         this.warning = false;
         this.rawValues = null;
+        this.owner = null;
+        this.recycled = null;
 
     }
 
@@ -414,6 +418,45 @@ public class ParseLog {
 
     }
 
+    /**
+     * <p>Hinterlegt einen wiederverwendbaren Wertcontainer f&uuml;r den angegebenen Formatierer. </p>
+     *
+     * @param   owner       formatter which is allowed to use the container
+     * @param   recycled    cleared container of parsed values
+     */
+    void setRecycledValues(
+        ChronoFormatter<?> owner,
+        ParsedValues recycled
+    ) {
+
+        this.owner = owner;
+        this.recycled = recycled;
+
+    }
+
+    /**
+     * <p>Entnimmt den wiederverwendbaren Wertcontainer, wenn er dem angegebenen Formatierer
+     * zugeordnet ist. </p>
+     *
+     * <p>Der Container kann nur einmal entnommen werden, so da&szlig; eingebettete Formatierer
+     * mit dem gleichen Log nie die Werte des &auml;u&szlig;eren Formatierers &uuml;berschreiben. </p>
+     *
+     * @param   formatter   formatter which asks for the container
+     * @return  container or {@code null} if not available
+     */
+    ParsedValues takeRecycledValues(ChronoFormatter<?> formatter) {
+
+        if (this.owner != formatter) {
+            return null;
+        }
+
+        ParsedValues values = this.recycled;
+        this.owner = null;
+        this.recycled = null;
+        return values;
+
+    }
+
     /**
      * Liefert das JDK-&Auml;quivalent. </p>
      *
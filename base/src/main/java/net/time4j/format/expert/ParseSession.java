@@ -0,0 +1,237 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ParseSession.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+
+/**
+ * <p>Reusable and exception-free parse context for high-volume parsing with one formatter. </p>
+ *
+ * <p>Example: </p>
+ *
+ * <pre>
+ *  ParseSession&lt;PlainDate&gt; session = Iso8601Format.EXTENDED_CALENDAR_DATE.newParseSession();
+ *
+ *  for (String line : lines) {
+ *      PlainDate date = session.parse(line);
+ *      if (date == null) {
+ *          System.out.println(&quot;Error at &quot; + session.getErrorIndex() + &quot;: &quot; + line);
+ *      }
+ *  }
+ * </pre>
+ *
+ * <p>Every call of {@link #parse(CharSequence)} resets the state of the previous call in place.
+ * Malformed input is only reported by {@link #getErrorIndex()} and {@link #getErrorMessage()}
+ * so the costs of creating exceptions with stack traces are avoided. </p>
+ *
+ * @param   <T> generic type of chronological entity to be parsed
+ * @author  Meno Hochschild
+ * @see     ChronoFormatter#newParseSession()
+ * @since   5.6
+ * @doctags.concurrency {mutable}
+ */
+/*[deutsch]
+ * <p>Wiederverwendbarer und ausnahmefreier Kontext zur Massenverarbeitung von Texten mit
+ * einem Formatierer. </p>
+ *
+ * <p>Beispiel: </p>
+ *
+ * <pre>
+ *  ParseSession&lt;PlainDate&gt; session = Iso8601Format.EXTENDED_CALENDAR_DATE.newParseSession();
+ *
+ *  for (String line : lines) {
+ *      PlainDate date = session.parse(line);
+ *      if (date == null) {
+ *          System.out.println(&quot;Error at &quot; + session.getErrorIndex() + &quot;: &quot; + line);
+ *      }
+ *  }
+ * </pre>
+ *
+ * <p>Jeder Aufruf von {@link #parse(CharSequence)} setzt den Zustand des vorherigen Aufrufs
+ * vor Ort zur&uuml;ck. Fehlerhafte Eingaben werden nur mit {@link #getErrorIndex()} und
+ * {@link #getErrorMessage()} gemeldet, so da&szlig; die Kosten der Erzeugung von Ausnahmen
+ * mit Stack-Traces vermieden werden. </p>
+ *
+ * @param   <T> generic type of chronological entity to be parsed
+ * @author  Meno Hochschild
+ * @see     ChronoFormatter#newParseSession()
+ * @since   5.6
+ * @doctags.concurrency {mutable}
+ */
+public final class ParseSession<T> {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ChronoFormatter<T> formatter;
+    private final ParsedValues values;
+    private final ParseLog status;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    ParseSession(
+        ChronoFormatter<T> formatter,
+        ParsedValues values
+    ) {
+        super();
+
+        this.formatter = formatter;
+        this.values = values;
+        this.status = new ParseLog();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Interpretes given text as chronological entity. </p>
+     *
+     * <p>The whole text will be parsed. Trailing characters are only accepted if the
+     * attribute {@link net.time4j.format.Attributes#TRAILING_CHARACTERS} has been set
+     * on the underlying formatter. </p>
+     *
+     * @param   text    text to be parsed
+     * @return  parse result or {@code null} in case of any error
+     * @see     #getErrorIndex()
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen Text. </p>
+     *
+     * <p>Der ganze Text wird interpretiert. Restliche Zeichen werden nur dann akzeptiert, wenn
+     * das Attribut {@link net.time4j.format.Attributes#TRAILING_CHARACTERS} im zugrundeliegenden
+     * Formatierer gesetzt wurde. </p>
+     *
+     * @param   text    text to be parsed
+     * @return  parse result or {@code null} in case of any error
+     * @see     #getErrorIndex()
+     */
+    public T parse(CharSequence text) {
+
+        this.status.reset();
+
+        if (text.length() == 0) {
+            this.status.setError(0, "Empty text.");
+            return null;
+        }
+
+        this.values.clear();
+        this.status.setRecycledValues(this.formatter, this.values);
+        T result = this.formatter.parseFully(text, this.status);
+        this.status.setRecycledValues(null, null);
+
+        if (this.status.isError()) {
+            return null;
+        } else if (result == null) {
+            this.status.setError(0, "Cannot parse: \"" + text + "\"");
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Queries if the last call of {@link #parse(CharSequence)} has failed. </p>
+     *
+     * @return  {@code true} if the last parsing has failed else {@code false}
+     */
+    /*[deutsch]
+     * <p>Ermittelt, ob der letzte Aufruf von {@link #parse(CharSequence)} fehlgeschlagen ist. </p>
+     *
+     * @return  {@code true} if the last parsing has failed else {@code false}
+     */
+    public boolean isError() {
+
+        return this.status.isError();
+
+    }
+
+    /**
+     * <p>Yields the position where the last parsing has failed. </p>
+     *
+     * @return  error index or {@code -1} if there is no error
+     */
+    /*[deutsch]
+     * <p>Liefert die Position, an der die letzte Interpretierung fehlgeschlagen ist. </p>
+     *
+     * @return  error index or {@code -1} if there is no error
+     */
+    public int getErrorIndex() {
+
+        return this.status.getErrorIndex();
+
+    }
+
+    /**
+     * <p>Yields the error message of the last parsing. </p>
+     *
+     * @return  error message (empty if there is no error)
+     */
+    /*[deutsch]
+     * <p>Liefert die Fehlermeldung der letzten Interpretierung. </p>
+     *
+     * @return  error message (empty if there is no error)
+     */
+    public String getErrorMessage() {
+
+        return this.status.getErrorMessage();
+
+    }
+
+    /**
+     * <p>Yields the position behind the last parsed character of the last successful parsing. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Position hinter dem zuletzt interpretierten Zeichen der letzten
+     * erfolgreichen Interpretierung. </p>
+     *
+     * @return  int
+     */
+    public int getPosition() {
+
+        return this.status.getPosition();
+
+    }
+
+    /**
+     * <p>Yields the underlying formatter. </p>
+     *
+     * @return  ChronoFormatter
+     */
+    /*[deutsch]
+     * <p>Liefert den zugrundeliegenden Formatierer. </p>
+     *
+     * @return  ChronoFormatter
+     */
+    public ChronoFormatter<T> getFormatter() {
+
+        return this.formatter;
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "ParseSession[formatter=" + this.formatter + ", status=" + this.status + "]";
+
+    }
+
+}
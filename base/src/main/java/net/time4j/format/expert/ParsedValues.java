@@ -27,6 +27,7 @@ import net.time4j.engine.ChronoElement;
 import net.time4j.engine.ChronoException;
 
 import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -561,6 +562,31 @@ class ParsedValues
 
     }
 
+    // called by ParseSession before reusing this instance for a new text
+    void clear() {
+
+        if (this.keys == null) {
+            this.len = Integer.MIN_VALUE;
+            this.mask = Integer.MIN_VALUE;
+            this.threshold = Integer.MIN_VALUE;
+            this.count = Integer.MIN_VALUE;
+            for (int i = 0; i < 3; i++) {
+                this.ints[i] = Integer.MIN_VALUE;
+            }
+        } else {
+            Arrays.fill(this.keys, null);
+            if (this.values != null) {
+                Arrays.fill(this.values, null);
+            }
+            this.count = 0;
+        }
+
+        this.map = null;
+        this.duplicateKeysAllowed = false;
+        this.position = -1;
+
+    }
+
     private int getInt0(ChronoElement<?> element) {
 
         Object[] keys = this.keys;
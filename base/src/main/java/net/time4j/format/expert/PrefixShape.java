@@ -0,0 +1,232 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PrefixShape.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import java.util.Arrays;
+
+
+/**
+ * <p>Beschreibt den festen Textanfang eines Formatierers als Folge von Zeichentests pro Position. </p>
+ *
+ * <p>Ein Text, der einen dieser Tests verletzt, kann von dem Formatierer garantiert nicht interpretiert
+ * werden. Ist der Text k&uuml;rzer als die Form, gilt er als passend, weil Standardwerte fehlende
+ * Elemente am Textende ersetzen k&ouml;nnen. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+final class PrefixShape {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final byte DIGIT = 0;
+    private static final byte SIGN_OR_DIGIT = 1;
+    private static final byte LITERAL = 2;
+    private static final byte LITERAL_IGNORING_CASE = 3;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final byte[] kinds;
+    private final char[] firsts;
+    private final char[] seconds;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private PrefixShape(
+        byte[] kinds,
+        char[] firsts,
+        char[] seconds
+    ) {
+        super();
+
+        this.kinds = kinds;
+        this.firsts = firsts;
+        this.seconds = seconds;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Liefert die Anzahl der gepr&uuml;ften Positionen. </p>
+     *
+     * @return  count of character tests
+     */
+    int length() {
+
+        return this.kinds.length;
+
+    }
+
+    /**
+     * <p>Sucht die erste Position, an der der Text nicht zur Form pa&szlig;t. </p>
+     *
+     * @param   text    text to be tested
+     * @param   start   start position in text
+     * @return  position of first mismatch or {@code -1} if the text might be parseable
+     */
+    int mismatch(
+        CharSequence text,
+        int start
+    ) {
+
+        int n = Math.min(this.kinds.length, text.length() - start);
+
+        for (int i = 0; i < n; i++) {
+            if (!this.accepts(i, text.charAt(start + i))) {
+                return start + i;
+            }
+        }
+
+        return -1;
+
+    }
+
+    /**
+     * <p>Testet das Zeichen an der angegebenen Position der Form. </p>
+     *
+     * @param   index   position in this shape
+     * @param   c       character to be tested
+     * @return  {@code true} if given character might be parseable else {@code false}
+     */
+    boolean accepts(
+        int index,
+        char c
+    ) {
+
+        char first = this.firsts[index];
+
+        switch (this.kinds[index]) {
+            case DIGIT:
+                return ((c >= first) && (c <= first + 9));
+            case SIGN_OR_DIGIT:
+                return (((c >= first) && (c <= first + 9)) || (c == '+') || (c == '-'));
+            case LITERAL:
+                return ((c == first) || (c == this.seconds[index]));
+            default:
+                return (
+                    (c == first)
+                    || (c == this.seconds[index])
+                    || LiteralProcessor.charEqualsIgnoreCase(c, first)
+                    || LiteralProcessor.charEqualsIgnoreCase(c, this.seconds[index]));
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Sammelt die Zeichentests der f&uuml;hrenden Formatschritte. </p>
+     */
+    static final class Builder {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private byte[] kinds = new byte[16];
+        private char[] firsts = new char[16];
+        private char[] seconds = new char[16];
+        private int count = 0;
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Erwartet die angegebene Anzahl von Dezimalziffern. </p>
+         *
+         * @param   zeroDigit   zero digit of decimal number system
+         * @param   count       count of digits
+         */
+        void addDigits(
+            char zeroDigit,
+            int count
+        ) {
+
+            for (int i = 0; i < count; i++) {
+                this.add(DIGIT, zeroDigit, zeroDigit);
+            }
+
+        }
+
+        /**
+         * <p>Erwartet eine Dezimalziffer oder ein Vorzeichen. </p>
+         *
+         * @param   zeroDigit   zero digit of decimal number system
+         */
+        void addSignOrDigit(char zeroDigit) {
+
+            this.add(SIGN_OR_DIGIT, zeroDigit, zeroDigit);
+
+        }
+
+        /**
+         * <p>Erwartet ein Literalzeichen oder seine Alternative. </p>
+         *
+         * @param   literal             expected char
+         * @param   alternative         alternative char
+         * @param   caseInsensitive     ignore case?
+         */
+        void addLiteral(
+            char literal,
+            char alternative,
+            boolean caseInsensitive
+        ) {
+
+            this.add((caseInsensitive ? LITERAL_IGNORING_CASE : LITERAL), literal, alternative);
+
+        }
+
+        /**
+         * <p>Erzeugt die unver&auml;nderliche Form. </p>
+         *
+         * @return  PrefixShape
+         */
+        PrefixShape build() {
+
+            return new PrefixShape(
+                Arrays.copyOf(this.kinds, this.count),
+                Arrays.copyOf(this.firsts, this.count),
+                Arrays.copyOf(this.seconds, this.count));
+
+        }
+
+        private void add(
+            byte kind,
+            char first,
+            char second
+        ) {
+
+            if (this.count == this.kinds.length) {
+                int len = this.count * 2;
+                this.kinds = Arrays.copyOf(this.kinds, len);
+                this.firsts = Arrays.copyOf(this.firsts, len);
+                this.seconds = Arrays.copyOf(this.seconds, len);
+            }
+
+            this.kinds[this.count] = kind;
+            this.firsts[this.count] = first;
+            this.seconds[this.count] = second;
+            this.count++;
+
+        }
+
+    }
+
+}
@@ -402,7 +402,7 @@ final class TimezoneGenericProcessor
 
     private ZoneLabels createZoneNames(Locale locale) {
 
-        ZoneLabels.Node node = null;
+        ZoneLabels.Builder builder = new ZoneLabels.Builder();
 
         for (TZID tzid : Timezone.getAvailableIDs()) {
             String tzName = Timezone.getDisplayName(tzid, this.style, locale);
@@ -411,10 +411,10 @@ final class TimezoneGenericProcessor
                 continue; // registrierte NameProvider haben nichts gefunden!
             }
 
-            node = ZoneLabels.insert(node, tzName, tzid);
+            builder.add(tzName, tzid);
         }
 
-        return new ZoneLabels(node);
+        return builder.build();
 
     }
 
@@ -424,11 +424,11 @@ final class TimezoneGenericProcessor
         int[] lenbuf
     ) {
 
-        String prefix = tzNames.longestPrefixOf(text, lenbuf[0]);
-        List<TZID> zones = tzNames.find(prefix);
+        int slot = tzNames.lookup(text, lenbuf[0]);
+        List<TZID> zones = tzNames.getZones(slot);
 
         if (!zones.isEmpty()) {
-            lenbuf[0] += prefix.length();
+            lenbuf[0] += tzNames.getLength(slot);
         }
 
         return zones;
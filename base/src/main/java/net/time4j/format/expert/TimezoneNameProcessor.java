@@ -478,7 +478,7 @@ final class TimezoneNameProcessor
         boolean daylightSaving
     ) {
 
-        ZoneLabels.Node node = null;
+        ZoneLabels.Builder builder = new ZoneLabels.Builder();
         NameStyle style = this.getStyle(daylightSaving);
 
         for (TZID tzid : Timezone.getAvailableIDs()) {
@@ -488,10 +488,10 @@ final class TimezoneNameProcessor
                 continue; // registrierte NameProvider haben nichts gefunden!
             }
 
-            node = ZoneLabels.insert(node, tzName, tzid);
+            builder.add(tzName, tzid);
         }
 
-        return new ZoneLabels(node);
+        return builder.build();
 
     }
 
@@ -649,21 +649,21 @@ final class TimezoneNameProcessor
             int[] lenbuf
         ) {
 
-            String stdKey = this.stdNames.longestPrefixOf(text, offset);
-            int stdLen = stdKey.length();
+            int stdSlot = this.stdNames.lookup(text, offset);
+            int stdLen = this.stdNames.getLength(stdSlot);
             lenbuf[0] = offset + stdLen;
 
-            String dstKey = this.dstNames.longestPrefixOf(text, offset);
-            int dstLen = dstKey.length();
+            int dstSlot = this.dstNames.lookup(text, offset);
+            int dstLen = this.dstNames.getLength(dstSlot);
             lenbuf[1] = offset + dstLen;
 
             if (dstLen > stdLen) {
-                dstZones.addAll(this.dstNames.find(dstKey));
+                dstZones.addAll(this.dstNames.getZones(dstSlot));
             } else if (dstLen < stdLen) {
-                stdZones.addAll(this.stdNames.find(stdKey));
+                stdZones.addAll(this.stdNames.getZones(stdSlot));
             } else if (stdLen > 0) {
-                stdZones.addAll(this.stdNames.find(stdKey));
-                dstZones.addAll(this.dstNames.find(dstKey));
+                stdZones.addAll(this.stdNames.getZones(stdSlot));
+                dstZones.addAll(this.dstNames.getZones(dstSlot));
             }
 
         }
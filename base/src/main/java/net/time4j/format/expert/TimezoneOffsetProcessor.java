@@ -199,14 +199,8 @@ final class TimezoneOffsetProcessor
             int m = (absValue / 60) % 60;
             int s = absValue % 60;
 
-            if (h < 10) {
-                buffer.append('0');
-                printed++;
-            }
-
-            String hours = String.valueOf(h);
-            buffer.append(hours);
-            printed += hours.length();
+            appendTwoDigits(h, buffer);
+            printed += 2;
 
             if (
                 (this.precision != SHORT)
@@ -217,14 +211,8 @@ final class TimezoneOffsetProcessor
                     printed++;
                 }
 
-                if (m < 10) {
-                    buffer.append('0');
-                    printed++;
-                }
-
-                String minutes = String.valueOf(m);
-                buffer.append(minutes);
-                printed += minutes.length();
+                appendTwoDigits(m, buffer);
+                printed += 2;
 
                 if (
                     (this.precision != SHORT)
@@ -236,25 +224,17 @@ final class TimezoneOffsetProcessor
                             printed++;
                         }
 
-                        if (s < 10) {
-                            buffer.append('0');
-                            printed++;
-                        }
-
-                        String seconds = String.valueOf(s);
-                        buffer.append(seconds);
-                        printed += seconds.length();
+                        appendTwoDigits(s, buffer);
+                        printed += 2;
 
                         if (fraction != 0) {
                             buffer.append('.');
                             printed++;
-                            String f = String.valueOf(Math.abs(fraction));
-                            for (int i = 0, n = 9 - f.length(); i < n; i++) {
-                                buffer.append('0');
+                            int f = Math.abs(fraction);
+                            for (int divisor = 100_000_000; divisor > 0; divisor /= 10) {
+                                buffer.append((char) ('0' + (f / divisor) % 10));
                                 printed++;
                             }
-                            buffer.append(f);
-                            printed += f.length();
                         }
                     }
                 }
@@ -592,6 +572,16 @@ final class TimezoneOffsetProcessor
 
     }
 
+    private static void appendTwoDigits(
+        int value, // hour, minute or second of offset, always smaller than 100
+        Appendable buffer
+    ) throws IOException {
+
+        buffer.append((char) ('0' + value / 10));
+        buffer.append((char) ('0' + value % 10));
+
+    }
+
     private static int parseNum(
         CharSequence text,
         int pos,
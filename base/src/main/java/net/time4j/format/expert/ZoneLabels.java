@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2017 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (ZoneLabels.java) is part of project Time4J.
  *
@@ -24,28 +24,61 @@ package net.time4j.format.expert;
 import net.time4j.tz.TZID;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 
 /**
  * Immutable ternary search trie holding zone labels.
  *
+ * <p>The nodes are stored in parallel primitive arrays indexed by node number so that the
+ * prefix search neither traverses node objects nor allocates. </p>
+ *
  * @author  Meno Hochschild
  * @since   3.35/4.30
  */
 class ZoneLabels {
 
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * Marks a missing node or a missing label.
+     */
+    static final int NONE = -1;
+
     //~ Instanzvariablen --------------------------------------------------
 
-    private final Node root;
+    private final char[] chars;
+    private final int[] left;
+    private final int[] mid;
+    private final int[] right;
+    private final int[] slots; // node => label index or NONE
+    private final String[] keys; // label index => label
+    private final List<List<TZID>> zoneIDs; // label index => zone identifiers
 
     //~ Konstruktoren -----------------------------------------------------
 
-    ZoneLabels(Node root) {
+    private ZoneLabels(
+        char[] chars,
+        int[] left,
+        int[] mid,
+        int[] right,
+        int[] slots,
+        String[] keys,
+        List<List<TZID>> zoneIDs
+    ) {
         super();
 
-        this.root = root;
+        this.chars = chars;
+        this.left = left;
+        this.mid = mid;
+        this.right = right;
+        this.slots = slots;
+        this.keys = keys;
+        this.zoneIDs = zoneIDs;
 
     }
 
@@ -59,218 +92,283 @@ class ZoneLabels {
     @Override
     public String toString() {
 
-        List<String> keys = new ArrayList<>();
-        this.collect(this.root, new StringBuilder(), keys);
         StringBuilder sb = new StringBuilder();
         sb.append("count=");
-        sb.append(keys.size());
+        sb.append(this.keys.length);
         sb.append(",labels={");
-        for (String key : keys) {
-            sb.append(key);
+        for (int i = 0; i < this.keys.length; i++) {
+            sb.append(this.keys[i]);
             sb.append("=>");
-            sb.append(this.find(key));
+            sb.append(this.zoneIDs.get(i));
             sb.append(',');
         }
-        sb.deleteCharAt(sb.length() - 1).append('}');
-        return sb.toString();
-
-    }
-
-    static Node insert(
-        Node node,
-        String key,
-        TZID zoneID
-    ) {
-
-        if (key.isEmpty()) {
-            throw new IllegalArgumentException("Empty key cannot be inserted.");
-        } else if (zoneID == null) {
-            throw new NullPointerException("Missing timezone id.");
+        if (this.keys.length > 0) {
+            sb.deleteCharAt(sb.length() - 1);
         }
-
-        return insert(node, key, zoneID, 0);
+        return sb.append('}').toString();
 
     }
 
-    String longestPrefixOf(
+    /**
+     * Yields the index of the longest label which is a prefix of given text starting at offset.
+     *
+     * @param   query   text to be searched
+     * @param   offset  start position in text
+     * @return  label index or {@code NONE} if no label matches
+     */
+    int lookup(
         CharSequence query,
         int offset
     ) {
 
-        int len = offset;
-        Node node = this.root;
+        int slot = NONE;
+        int node = ((this.chars.length == 0) ? NONE : 0);
         int i = offset;
         int n = query.length();
 
-        while ((node != null) && (i < n)) {
+        while ((node != NONE) && (i < n)) {
             char c = query.charAt(i);
+            char nc = this.chars[node];
 
-            if (c < node.c) {
-                node = node.left;
-            } else if (c > node.c) {
-                node = node.right;
+            if (c < nc) {
+                node = this.left[node];
+            } else if (c > nc) {
+                node = this.right[node];
             } else {
                 i++;
-                if (node.zoneIDs != null) { // end node condition
-                    len = i;
+                if (this.slots[node] != NONE) { // end node condition
+                    slot = this.slots[node];
                 }
-                node = node.mid;
+                node = this.mid[node];
             }
         }
 
-        return ((offset >= len) ? "" : query.subSequence(offset, len).toString());
+        return slot;
 
     }
 
-    List<TZID> find(String key) {
+    /**
+     * Yields the length of the label with given index.
+     *
+     * @param   slot    label index as returned by {@link #lookup(CharSequence, int)}
+     * @return  count of chars, {@code 0} if given index is {@code NONE}
+     */
+    int getLength(int slot) {
 
-        if (key.isEmpty()) {
-            return Collections.emptyList();
-        }
+        return ((slot == NONE) ? 0 : this.keys[slot].length());
 
-        Node node = find(this.root, key, 0);
+    }
 
-        if (node == null) {
-            return Collections.emptyList();
-        } else {
-            return Collections.unmodifiableList(node.zoneIDs);
-        }
+    /**
+     * Yields the zone identifiers of the label with given index.
+     *
+     * @param   slot    label index as returned by {@link #lookup(CharSequence, int)}
+     * @return  unmodifiable list of zone identifiers, empty if given index is {@code NONE}
+     */
+    List<TZID> getZones(int slot) {
+
+        return ((slot == NONE) ? Collections.<TZID>emptyList() : this.zoneIDs.get(slot));
 
     }
 
-    private static Node find(
-        Node node,
-        String key,
-        int pos
-    ) {
+    /**
+     * Yields the zone identifiers of given exact label.
+     *
+     * @param   key     label to be searched
+     * @return  unmodifiable list of zone identifiers, empty if not found
+     */
+    List<TZID> find(String key) {
 
-        if (node == null) {
-            return null;
+        int slot = this.lookup(key, 0);
+
+        if ((slot == NONE) || (this.keys[slot].length() != key.length())) {
+            return Collections.emptyList();
         }
 
-        char c = key.charAt(pos);
+        return this.zoneIDs.get(slot);
 
-        if (c < node.c) {
-            return find(node.left, key, pos);
-        } else if (c > node.c) {
-            return find(node.right, key, pos);
-        } else if (pos < key.length() - 1) {
-            return find(node.mid, key, pos + 1);
-        } else {
-            return node;
-        }
+    }
+
+    /**
+     * Counts the nodes of this trie (for testing).
+     *
+     * @return  int
+     */
+    int getNodeCount() {
+
+        return this.chars.length;
 
     }
 
-    private static Node insert(
-        Node node,
-        String key,
-        TZID zoneID,
-        int pos
-    ) {
+    //~ Innere Klassen ----------------------------------------------------
 
-        char c = key.charAt(pos);
+    /**
+     * Collects the labels and compiles them to an immutable trie.
+     */
+    static class Builder {
 
-        if (node == null) {
-            node = new Node(c);
-        }
+        //~ Instanzvariablen ----------------------------------------------
 
-        if (c < node.c) {
-            node = node.withLeft(insert(node.left, key, zoneID, pos));
-        } else if (c > node.c) {
-            node = node.withRight(insert(node.right, key, zoneID, pos));
-        } else if (pos < key.length() - 1) {
-            node = node.withMid(insert(node.mid, key, zoneID, pos + 1));
-        } else {
-            node = node.with(zoneID); // end node
-        }
+        private final Map<String, List<TZID>> entries = new TreeMap<>();
 
-        return node;
+        //~ Methoden ------------------------------------------------------
 
-    }
+        /**
+         * Registers given label for given zone identifier.
+         *
+         * @param   key     label
+         * @param   zoneID  zone identifier
+         * @return  this instance
+         */
+        Builder add(
+            String key,
+            TZID zoneID
+        ) {
+
+            if (key.isEmpty()) {
+                throw new IllegalArgumentException("Empty key cannot be inserted.");
+            } else if (zoneID == null) {
+                throw new NullPointerException("Missing timezone id.");
+            }
 
-    private void collect(
-        Node node,
-        StringBuilder prefix,
-        List<String> keys
-    ) {
+            List<TZID> list = this.entries.get(key);
 
-        if (node == null) {
-            return;
-        }
+            if (list == null) {
+                list = new ArrayList<>(1);
+                this.entries.put(key, list);
+            }
 
-        collect(node.left, prefix, keys);
+            list.add(zoneID);
+            return this;
 
-        if (node.zoneIDs != null) {
-            keys.add(prefix.toString() + node.c);
         }
 
-        collect(node.mid, prefix.append(node.c), keys);
-        prefix.deleteCharAt(prefix.length() - 1);
-        collect(node.right, prefix, keys);
+        /**
+         * Compiles all registered labels to a new trie.
+         *
+         * @return  ZoneLabels
+         */
+        ZoneLabels build() {
+
+            int count = this.entries.size();
+            String[] keys = this.entries.keySet().toArray(new String[count]);
+            List<List<TZID>> zoneIDs = new ArrayList<>(count);
+            int capacity = 0;
+
+            for (int i = 0; i < count; i++) {
+                zoneIDs.add(Collections.unmodifiableList(new ArrayList<>(this.entries.get(keys[i]))));
+                capacity += keys[i].length(); // jedes Zeichen erzeugt höchstens einen Knoten
+            }
 
-    }
+            Compiler compiler = new Compiler(capacity);
+            compiler.insertBalanced(keys, 0, count - 1);
+            int n = compiler.size;
 
-    //~ Innere Klassen ----------------------------------------------------
+            return new ZoneLabels(
+                Arrays.copyOf(compiler.chars, n),
+                Arrays.copyOf(compiler.left, n),
+                Arrays.copyOf(compiler.mid, n),
+                Arrays.copyOf(compiler.right, n),
+                Arrays.copyOf(compiler.slots, n),
+                keys,
+                Collections.unmodifiableList(zoneIDs)
+            );
 
-    static class Node {
+        }
 
-        //~ Instanzvariablen ----------------------------------------------
+    }
 
-        private final char c;
-        private final Node left;
-        private final Node mid;
-        private final Node right;
-        private final List<TZID> zoneIDs;
+    /**
+     * Mutable node arrays used during compilation.
+     */
+    private static class Compiler {
 
-        //~ Konstruktoren -------------------------------------------------
+        //~ Instanzvariablen ----------------------------------------------
 
-        private Node(char c) {
-            this(c, null, null, null, null);
+        private final char[] chars;
+        private final int[] left;
+        private final int[] mid;
+        private final int[] right;
+        private final int[] slots;
+        private int size = 0;
 
-        }
+        //~ Konstruktoren -------------------------------------------------
 
-        private Node(char c, Node left, Node mid, Node right, List<TZID> zoneIDs) {
+        private Compiler(int capacity) {
             super();
 
-            this.c = c;
-            this.left = left;
-            this.mid = mid;
-            this.right = right;
-            this.zoneIDs = zoneIDs;
+            this.chars = new char[capacity];
+            this.left = new int[capacity];
+            this.mid = new int[capacity];
+            this.right = new int[capacity];
+            this.slots = new int[capacity];
 
         }
 
         //~ Methoden ------------------------------------------------------
 
-        private Node withLeft(Node left) {
+        // Einfügen in Median-Reihenfolge hält die linken und rechten Teilbäume ausgewogen
+        private void insertBalanced(
+            String[] keys,
+            int low,
+            int high
+        ) {
 
-            return new Node(this.c, left, this.mid, this.right, this.zoneIDs);
-
-        }
-
-        private Node withMid(Node mid) {
+            if (low > high) {
+                return;
+            }
 
-            return new Node(this.c, this.left, mid, this.right, this.zoneIDs);
+            int median = (low + high) >>> 1;
+            this.insert(keys[median], median);
+            this.insertBalanced(keys, low, median - 1);
+            this.insertBalanced(keys, median + 1, high);
 
         }
 
-        private Node withRight(Node right) {
-
-            return new Node(this.c, this.left, this.mid, right, this.zoneIDs);
+        private void insert(
+            String key,
+            int slot
+        ) {
+
+            int pos = 0;
+            int node = ((this.size == 0) ? this.createNode(key.charAt(0)) : 0);
+
+            while (true) {
+                char c = key.charAt(pos);
+
+                if (c < this.chars[node]) {
+                    if (this.left[node] == NONE) {
+                        this.left[node] = this.createNode(c);
+                    }
+                    node = this.left[node];
+                } else if (c > this.chars[node]) {
+                    if (this.right[node] == NONE) {
+                        this.right[node] = this.createNode(c);
+                    }
+                    node = this.right[node];
+                } else if (pos < key.length() - 1) {
+                    pos++;
+                    if (this.mid[node] == NONE) {
+                        this.mid[node] = this.createNode(key.charAt(pos));
+                    }
+                    node = this.mid[node];
+                } else {
+                    this.slots[node] = slot; // end node
+                    return;
+                }
+            }
 
         }
 
-        private Node with(TZID zoneID) { // end node
+        private int createNode(char c) {
 
-            List<TZID> zoneIDs = new ArrayList<>();
-
-            if (this.zoneIDs != null) {
-                zoneIDs.addAll(this.zoneIDs);
-            }
-
-            zoneIDs.add(zoneID);
-            return new Node(this.c, this.left, this.mid, this.right, zoneIDs);
+            int node = this.size++;
+            this.chars[node] = c;
+            this.left[node] = NONE;
+            this.mid[node] = NONE;
+            this.right[node] = NONE;
+            this.slots[node] = NONE;
+            return node;
 
         }
 
@@ -176,6 +176,7 @@ public final class LeapSeconds
             "data/leapseconds.data");
 
     private static final ExtendedLSE[] EMPTY_ARRAY = new ExtendedLSE[0];
+    private static final Table EMPTY_TABLE = new Table(EMPTY_ARRAY, false);
     private static final LeapSeconds INSTANCE = new LeapSeconds();
     private static final long UNIX_OFFSET = 2 * 365 * 86400;
     private static final long MJD_OFFSET = 40587;
@@ -184,8 +185,8 @@ public final class LeapSeconds
 
     private final LeapSecondProvider provider;
     private final List<ExtendedLSE> list;
-    private final ExtendedLSE[] reverseFinal;
-    private volatile ExtendedLSE[] reverseVolatile;
+    private final Table tableFinal;
+    private volatile Table tableVolatile;
     private final boolean supportsNegativeLS;
 
     //~ Konstruktoren -----------------------------------------------------
@@ -216,8 +217,8 @@ public final class LeapSeconds
         if ((loaded == null) || (leapCount == 0)) {
             this.provider = null;
             this.list = Collections.emptyList();
-            this.reverseFinal = EMPTY_ARRAY;
-            this.reverseVolatile = EMPTY_ARRAY;
+            this.tableFinal = EMPTY_TABLE;
+            this.tableVolatile = EMPTY_TABLE;
             this.supportsNegativeLS = false;
         } else {
             SortedSet<ExtendedLSE> sortedLS = new TreeSet<>(this);
@@ -244,8 +245,6 @@ public final class LeapSeconds
                 this.list = new CopyOnWriteArrayList<>(sortedLS);
             }
 
-            this.reverseFinal = this.initReverse();
-            this.reverseVolatile = this.reverseFinal;
             this.provider = loaded;
 
             if (FINAL_UTC_LEAPSECONDS) {
@@ -264,6 +263,9 @@ public final class LeapSeconds
             } else {
                 this.supportsNegativeLS = true;
             }
+
+            this.tableFinal = new Table(this.initReverse(), this.supportsNegativeLS);
+            this.tableVolatile = this.tableFinal;
         }
 
     }
@@ -606,15 +608,14 @@ public final class LeapSeconds
             return 0;
         }
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        Table table = this.getTable();
+        long[] utcs = table.utc;
 
-            if (utc > lse.utc()) {
+        for (int i = 0; i < utcs.length; i++) {
+            if (utc > utcs[i]) {
                 return 0;
             } else {
-                long start = lse.utc() - lse.getShift();
+                long start = utcs[i] - table.shift[i];
                 if (utc > start) { // Schaltbereich
                     return (int) (utc - start);
                 }
@@ -644,16 +645,15 @@ public final class LeapSeconds
      */
     public LeapSecondEvent getNextEvent(long utc) {
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
+        Table table = this.getTable();
+        long[] utcs = table.utc;
         LeapSecondEvent result = null;
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
-
-            if (utc >= lse.utc()) {
+        for (int i = 0; i < utcs.length; i++) {
+            if (utc >= utcs[i]) {
                 break;
             } else {
-                result = lse;
+                result = table.events[i];
             }
         }
 
@@ -699,13 +699,13 @@ public final class LeapSeconds
 
         // Lineare Suche hier besser als binäre Suche, weil in der
         // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        // (die Gegenwart erfordert nur einen Vergleich mit dem neuesten Ereignis)
+        final Table table = this.getTable();
+        final long[] raws = table.raw;
 
-            if (lse.raw() < epochTime) {
-                return Math.addExact(epochTime, lse.utc() - lse.raw());
+        for (int i = 0; i < raws.length; i++) {
+            if (raws[i] < epochTime) {
+                return Math.addExact(epochTime, table.delta[i]);
             }
         }
 
@@ -748,17 +748,12 @@ public final class LeapSeconds
 
         // Lineare Suche hier besser als binäre Suche, weil in der
         // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        boolean snls = this.supportsNegativeLS;
+        final Table table = this.getTable();
+        final long[] limits = table.stripLimit;
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
-
-            if (
-                (lse.utc() - lse.getShift() < utc)
-                || (snls && (lse.getShift() < 0) && (lse.utc() < utc))
-            ) {
-                utc = Math.addExact(utc, lse.raw() - lse.utc());
+        for (int i = 0; i < limits.length; i++) {
+            if (limits[i] < utc) {
+                utc = Math.subtractExact(utc, table.delta[i]);
                 break;
             }
         }
@@ -791,13 +786,14 @@ public final class LeapSeconds
             return false;
         }
 
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
+        final Table table = this.getTable();
+        final long[] utcs = table.utc;
 
-        for (int i = 0; i < events.length; i++) {
-            long comp = events[i].utc();
+        for (int i = 0; i < utcs.length; i++) {
+            long comp = utcs[i];
 
             if (comp == utc) {
-                return (events[i].getShift() == 1);
+                return (table.shift[i] == 1);
             } else if (comp < utc) {
                 break;
             }
@@ -952,7 +948,7 @@ public final class LeapSeconds
                 throw new IllegalStateException("Leap seconds not activated.");
             }
 
-            ExtendedLSE last = this.reverseVolatile[0];
+            ExtendedLSE last = this.tableVolatile.events[0];
             GregorianDate date = last.getDate();
             boolean ok = false;
 
@@ -977,7 +973,7 @@ public final class LeapSeconds
             GregorianDate newDate =
                 this.provider.getDateOfEvent(year, month, dayOfMonth);
             this.list.add(createLSE(newDate, shift, last));
-            this.reverseVolatile = this.initReverse();
+            this.tableVolatile = new Table(this.initReverse(), this.supportsNegativeLS);
         }
 
     }
@@ -985,10 +981,16 @@ public final class LeapSeconds
     // Ereignisse in zeitlich absteigender Reihenfolge auf (das neueste zuerst)
     private ExtendedLSE[] getEventsInDescendingOrder() {
 
+        return this.getTable().events;
+
+    }
+
+    private Table getTable() {
+
         if (SUPPRESS_UTC_LEAPSECONDS || FINAL_UTC_LEAPSECONDS) {
-            return this.reverseFinal;
+            return this.tableFinal;
         } else {
-            return this.reverseVolatile;
+            return this.tableVolatile;
         }
 
     }
@@ -1062,6 +1064,51 @@ public final class LeapSeconds
 
     //~ Innere Klassen ----------------------------------------------------
 
+    /**
+     * <p>Unver&auml;nderliche Schaltsekundentabelle in zeitlich absteigender Reihenfolge
+     * mit parallelen primitiven Feldern f&uuml;r die Umrechnungsmethoden. </p>
+     */
+    private static final class Table {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ExtendedLSE[] events;
+        private final long[] utc;
+        private final long[] raw;
+        private final long[] delta; // utc - raw
+        private final long[] stripLimit; // untere Grenze (exklusiv) für strip()
+        private final int[] shift;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Table(
+            ExtendedLSE[] events,
+            boolean snls
+        ) {
+            super();
+
+            int n = events.length;
+            this.events = events;
+            this.utc = new long[n];
+            this.raw = new long[n];
+            this.delta = new long[n];
+            this.stripLimit = new long[n];
+            this.shift = new int[n];
+
+            for (int i = 0; i < n; i++) {
+                ExtendedLSE lse = events[i];
+                this.utc[i] = lse.utc();
+                this.raw[i] = lse.raw();
+                this.delta[i] = lse.utc() - lse.raw();
+                this.shift[i] = lse.getShift();
+                // eine negative Schaltsekunde gilt schon ab ihrer UTC-Zeit als vollzogen
+                this.stripLimit[i] = ((snls && (lse.getShift() < 0)) ? lse.utc() : lse.utc() - lse.getShift());
+            }
+
+        }
+
+    }
+
     private static class SimpleLeapSecondEvent
         implements ExtendedLSE, Serializable {
 
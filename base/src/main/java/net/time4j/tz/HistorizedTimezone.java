@@ -52,6 +52,9 @@ final class HistorizedTimezone
     private transient final TransitionHistory history;
     private transient final TransitionStrategy strategy;
 
+    // Cache
+    private transient volatile LocalWindow window = null;
+
     //~ Konstruktoren -----------------------------------------------------
 
     /**
@@ -119,13 +122,12 @@ final class HistorizedTimezone
     @Override
     public ZonalOffset getOffset(UnixTime ut) {
 
-        ZonalTransition t = this.history.getStartTransition(ut);
+        if (this.history.isEmpty()) {
+            return this.history.getInitialOffset(); // evtl. mit Sekundenbruchteil
+        }
 
-        return (
-            (t == null)
-            ? this.history.getInitialOffset()
-            : ZonalOffset.ofTotalSeconds(t.getTotalOffset())
-        );
+        // primitiver Suchpfad ohne Materialisierung von ZonalTransition
+        return ZonalOffset.ofTotalSeconds(this.history.getTotalOffset(ut.getPosixTime()));
 
     }
 
@@ -161,6 +163,19 @@ final class HistorizedTimezone
         WallTime localTime
     ) {
 
+        LocalWindow w = this.getLocalWindow();
+
+        if (w != null) {
+            long localSecs = LocalWindow.toLocalSeconds(localDate, localTime);
+            if (w.contains(localSecs)) {
+                int index = w.search(localSecs);
+                if (w.isGap(index, localSecs) || w.isOverlap(index, localSecs)) {
+                    return ZonalOffset.ofTotalSeconds(w.getTotalOffset(index));
+                }
+                return ZonalOffset.ofTotalSeconds(w.getOffset(index));
+            }
+        }
+
         List<ZonalOffset> offsets =
             this.history.getValidOffsets(localDate, localTime);
 
@@ -179,6 +194,15 @@ final class HistorizedTimezone
         WallTime localTime
     ) {
 
+        LocalWindow w = this.getLocalWindow();
+
+        if (w != null) {
+            long localSecs = LocalWindow.toLocalSeconds(localDate, localTime);
+            if (w.contains(localSecs)) {
+                return w.isGap(w.search(localSecs), localSecs);
+            }
+        }
+
         ZonalTransition t = this.history.getConflictTransition(localDate, localTime);
         return ((t != null) && t.isGap());
 
@@ -295,7 +319,28 @@ final class HistorizedTimezone
             return this;
         }
 
-        return new HistorizedTimezone(this.id, this.history, strategy);
+        HistorizedTimezone tz = new HistorizedTimezone(this.id, this.history, strategy);
+        tz.window = this.window; // gleiche Historie
+        return tz;
+
+    }
+
+    /**
+     * <p>Liefert das vorberechnete Fenster f&uuml;r die schnelle Aufl&ouml;sung lokaler
+     * Zeitstempel. </p>
+     *
+     * @return  window or {@code null} if there are no transitions at all
+     */
+    LocalWindow getLocalWindow() {
+
+        LocalWindow w = this.window;
+
+        if ((w == null) && !this.history.isEmpty()) {
+            w = LocalWindow.of(this.history);
+            this.window = w;
+        }
+
+        return w;
 
     }
 
@@ -0,0 +1,106 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ListCursor.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import java.util.List;
+
+
+/**
+ * <p>Cursor &uuml;ber eine Liste von &Uuml;berg&auml;ngen. </p>
+ *
+ * @author      Meno Hochschild
+ * @since       5.6
+ * @doctags.concurrency {mutable}
+ */
+final class ListCursor
+    implements TransitionCursor {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final List<ZonalTransition> transitions;
+    private int index = -1;
+    private ZonalTransition current = null;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    ListCursor(List<ZonalTransition> transitions) {
+        super();
+
+        this.transitions = transitions;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public boolean next() {
+
+        if (this.index + 1 < this.transitions.size()) {
+            this.index++;
+            this.current = this.transitions.get(this.index);
+            return true;
+        }
+
+        this.current = null; // erschöpft
+        return false;
+
+    }
+
+    @Override
+    public long getPosixTime() {
+
+        return this.current().getPosixTime();
+
+    }
+
+    @Override
+    public int getPreviousOffset() {
+
+        return this.current().getPreviousOffset();
+
+    }
+
+    @Override
+    public int getTotalOffset() {
+
+        return this.current().getTotalOffset();
+
+    }
+
+    @Override
+    public int getExtraOffset() {
+
+        return this.current().getExtraOffset();
+
+    }
+
+    private ZonalTransition current() {
+
+        if (this.current == null) {
+            throw new IllegalStateException("Cursor not positioned on a transition.");
+        }
+
+        return this.current;
+
+    }
+
+}
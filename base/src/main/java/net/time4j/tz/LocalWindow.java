@@ -0,0 +1,250 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (LocalWindow.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import net.time4j.base.GregorianDate;
+import net.time4j.base.GregorianMath;
+import net.time4j.base.WallTime;
+
+import java.util.List;
+
+
+/**
+ * <p>Vorberechnetes Fenster von &Uuml;berg&auml;ngen um die aktuelle Zeit herum, in dem lokale
+ * Zeitstempel ohne Objekterzeugung per Bin&auml;rsuche aufgel&ouml;st werden. </p>
+ *
+ * <p>F&uuml;r jeden &Uuml;bergang werden die Grenzen seines Konfliktbereichs auf dem lokalen
+ * Zeitstrahl gespeichert, also {@code posix + min(previous, total)} und
+ * {@code posix + max(previous, total)}. Eine L&uuml;cke liegt vor, wenn die neue
+ * Verschiebung gr&ouml;&szlig;er als die alte ist, sonst eine &Uuml;berlappung. </p>
+ *
+ * @author      Meno Hochschild
+ * @since       5.6
+ * @doctags.concurrency {immutable}
+ */
+final class LocalWindow {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int YEARS = 50;
+    private static final long MARGIN = 86400L; // größer als jede mögliche Verschiebung
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final long minLocal;
+    private final long maxLocal;
+    private final int initialOffset;
+    private final long[] posixTimes;
+    private final long[] conflictStarts;
+    private final long[] conflictEnds;
+    private final int[] previousOffsets;
+    private final int[] totalOffsets;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private LocalWindow(
+        long start,
+        long end,
+        int initialOffset,
+        List<ZonalTransition> transitions
+    ) {
+        super();
+
+        int n = transitions.size();
+
+        this.minLocal = start + MARGIN;
+        this.maxLocal = end - MARGIN;
+        this.initialOffset = initialOffset;
+        this.posixTimes = new long[n];
+        this.conflictStarts = new long[n];
+        this.conflictEnds = new long[n];
+        this.previousOffsets = new int[n];
+        this.totalOffsets = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            ZonalTransition zt = transitions.get(i);
+            long posix = zt.getPosixTime();
+            int previous = zt.getPreviousOffset();
+            int total = zt.getTotalOffset();
+            this.posixTimes[i] = posix;
+            this.conflictStarts[i] = posix + Math.min(previous, total);
+            this.conflictEnds[i] = posix + Math.max(previous, total);
+            this.previousOffsets[i] = previous;
+            this.totalOffsets[i] = total;
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Erzeugt ein Fenster von etwa 50 Jahren vor und nach der aktuellen Zeit. </p>
+     *
+     * @param   history     non-empty transition history
+     * @return  new window
+     */
+    static LocalWindow of(TransitionHistory history) {
+
+        long now = System.currentTimeMillis() / 1000;
+        long delta = (long) (365.2425 * 86400L * YEARS);
+        long start = now - delta;
+        long end = now + delta;
+
+        List<ZonalTransition> transitions =
+            history.getTransitions(SimpleUT.ofPosixTime(start), SimpleUT.ofPosixTime(end));
+        return new LocalWindow(start, end, history.getTotalOffset(start - 1), transitions);
+
+    }
+
+    /**
+     * <p>Bestimmt die lokalen Sekunden seit 1970-01-01T00:00 f&uuml;r den schnellen Pfad. </p>
+     *
+     * @param   date    local date
+     * @param   time    local wall time
+     * @return  elapsed local seconds or {@code Long.MIN_VALUE} if the wall time is 24:00
+     */
+    static long toLocalSeconds(
+        GregorianDate date,
+        WallTime time
+    ) {
+
+        int hour = time.getHour();
+
+        if (hour == 24) { // die Regeln hängen hier vom Jahr des Datums ab, nicht vom Zeitstempel
+            return Long.MIN_VALUE;
+        }
+
+        long days = GregorianMath.toMJD(date.getYear(), date.getMonth(), date.getDayOfMonth()) - 40587L;
+        return days * 86400L + hour * 3600 + time.getMinute() * 60 + time.getSecond();
+
+    }
+
+    /**
+     * <p>Liegt der lokale Zeitstempel sicher innerhalb dieses Fensters? </p>
+     *
+     * @param   localSecs   elapsed local seconds since 1970-01-01T00:00
+     * @return  boolean
+     */
+    boolean contains(long localSecs) {
+
+        return ((localSecs >= this.minLocal) && (localSecs < this.maxLocal));
+
+    }
+
+    /**
+     * <p>Sucht den ersten &Uuml;bergang, dessen Konfliktbereich nach dem lokalen Zeitstempel
+     * endet. </p>
+     *
+     * @param   localSecs   elapsed local seconds since 1970-01-01T00:00
+     * @return  index of relevant transition (maybe equal to count of transitions)
+     */
+    int search(long localSecs) {
+
+        long[] ends = this.conflictEnds;
+        int low = 0;
+        int high = ends.length - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+
+            if (ends[middle] <= localSecs) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+
+    }
+
+    /**
+     * <p>Liegt der lokale Zeitstempel in einer L&uuml;cke des &Uuml;bergangs mit dem
+     * angegebenen Index? </p>
+     *
+     * @param   index       result of {@link #search(long)}
+     * @param   localSecs   elapsed local seconds since 1970-01-01T00:00
+     * @return  boolean
+     */
+    boolean isGap(
+        int index,
+        long localSecs
+    ) {
+
+        return (
+            (index < this.posixTimes.length)
+            && (localSecs >= this.conflictStarts[index])
+            && (this.totalOffsets[index] > this.previousOffsets[index]));
+
+    }
+
+    /**
+     * <p>Liegt der lokale Zeitstempel in einer &Uuml;berlappung des &Uuml;bergangs mit dem
+     * angegebenen Index? </p>
+     *
+     * @param   index       result of {@link #search(long)}
+     * @param   localSecs   elapsed local seconds since 1970-01-01T00:00
+     * @return  boolean
+     */
+    boolean isOverlap(
+        int index,
+        long localSecs
+    ) {
+
+        return (
+            (index < this.posixTimes.length)
+            && (localSecs >= this.conflictStarts[index])
+            && (this.totalOffsets[index] < this.previousOffsets[index]));
+
+    }
+
+    /**
+     * <p>Liefert die eindeutige Verschiebung au&szlig;erhalb von Konflikten. </p>
+     *
+     * @param   index       result of {@link #search(long)}
+     * @return  total offset valid before the transition with given index
+     */
+    int getOffset(int index) {
+
+        return ((index == 0) ? this.initialOffset : this.totalOffsets[index - 1]);
+
+    }
+
+    long getPosixTime(int index) {
+
+        return this.posixTimes[index];
+
+    }
+
+    int getPreviousOffset(int index) {
+
+        return this.previousOffsets[index];
+
+    }
+
+    int getTotalOffset(int index) {
+
+        return this.totalOffsets[index];
+
+    }
+
+}
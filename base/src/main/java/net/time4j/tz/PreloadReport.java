@@ -0,0 +1,207 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PreloadReport.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * <p>Summarizes the result of preloading timezones into the timezone cache. </p>
+ *
+ * <p>All load times are measured per {@code ZoneModelProvider} and include the loading of the
+ * transition history, the resolving of aliases and the warm-up of display names. Because
+ * preloading runs in parallel, the sum of load times can exceed the {@link #getElapsedTimeInNanos()
+ * elapsed time}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     Timezone.Cache#preload(java.util.Collection, java.util.Locale)
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Fa&szlig;t das Ergebnis des Vorausladens von Zeitzonen in den Zeitzonen-Cache zusammen. </p>
+ *
+ * <p>Alle Ladezeiten werden pro {@code ZoneModelProvider} gemessen und umfassen das Laden der
+ * &Uuml;bergangshistorie, das Aufl&ouml;sen von Aliasnamen und das Vorw&auml;rmen der
+ * Anzeigenamen. Weil das Vorausladen parallel l&auml;uft, kann die Summe der Ladezeiten
+ * die {@link #getElapsedTimeInNanos() verstrichene Zeit} &uuml;bersteigen. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     Timezone.Cache#preload(java.util.Collection, java.util.Locale)
+ * @doctags.concurrency {immutable}
+ */
+public final class PreloadReport {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Map<String, long[]> statistics; // provider => {Anzahl, Nanosekunden}
+    private final List<String> failures;
+    private final long elapsedNanos;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    PreloadReport(
+        Map<String, long[]> statistics,
+        List<String> failures,
+        long elapsedNanos
+    ) {
+        super();
+
+        this.statistics = Collections.unmodifiableMap(statistics);
+        this.failures = Collections.unmodifiableList(failures);
+        this.elapsedNanos = elapsedNanos;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the names of all zone model providers which have loaded at least one timezone. </p>
+     *
+     * @return  unmodifiable set of provider names
+     */
+    /*[deutsch]
+     * <p>Liefert die Namen aller {@code ZoneModelProvider}, die mindestens eine Zeitzone
+     * geladen haben. </p>
+     *
+     * @return  unmodifiable set of provider names
+     */
+    public Set<String> getProviders() {
+
+        return this.statistics.keySet();
+
+    }
+
+    /**
+     * <p>Counts the preloaded timezones of given provider. </p>
+     *
+     * @param   provider    name of zone model provider
+     * @return  count of timezones (zero if the provider is unknown)
+     */
+    /*[deutsch]
+     * <p>Z&auml;hlt die vorausgeladenen Zeitzonen des angegebenen {@code ZoneModelProvider}. </p>
+     *
+     * @param   provider    name of zone model provider
+     * @return  count of timezones (zero if the provider is unknown)
+     */
+    public int getZoneCount(String provider) {
+
+        long[] values = this.statistics.get(provider);
+        return ((values == null) ? 0 : (int) values[0]);
+
+    }
+
+    /**
+     * <p>Sums up the time spent in loading and warming up the timezones of given provider. </p>
+     *
+     * @param   provider    name of zone model provider
+     * @return  load time in nanoseconds (zero if the provider is unknown)
+     */
+    /*[deutsch]
+     * <p>Summiert die Zeit auf, die zum Laden und Vorw&auml;rmen der Zeitzonen des angegebenen
+     * {@code ZoneModelProvider} verbraucht wurde. </p>
+     *
+     * @param   provider    name of zone model provider
+     * @return  load time in nanoseconds (zero if the provider is unknown)
+     */
+    public long getLoadTimeInNanos(String provider) {
+
+        long[] values = this.statistics.get(provider);
+        return ((values == null) ? 0L : values[1]);
+
+    }
+
+    /**
+     * <p>Yields all timezone identifiers which could not be loaded. </p>
+     *
+     * @return  unmodifiable list of unresolvable timezone identifiers
+     */
+    /*[deutsch]
+     * <p>Liefert alle Zeitzonenkennungen, die nicht geladen werden konnten. </p>
+     *
+     * @return  unmodifiable list of unresolvable timezone identifiers
+     */
+    public List<String> getFailures() {
+
+        return this.failures;
+
+    }
+
+    /**
+     * <p>Yields the wall-clock time of the whole preloading. </p>
+     *
+     * @return  elapsed time in nanoseconds
+     */
+    /*[deutsch]
+     * <p>Liefert die Gesamtdauer des Vorausladens. </p>
+     *
+     * @return  elapsed time in nanoseconds
+     */
+    public long getElapsedTimeInNanos() {
+
+        return this.elapsedNanos;
+
+    }
+
+    /**
+     * <p>For debugging purposes. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>F&uuml;r Debugging-Zwecke. </p>
+     *
+     * @return  String
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(128);
+        sb.append("PreloadReport[elapsed=");
+        sb.append(this.elapsedNanos / 1_000_000);
+        sb.append("ms");
+
+        for (Map.Entry<String, long[]> e : this.statistics.entrySet()) {
+            sb.append(',');
+            sb.append(e.getKey());
+            sb.append("={zones=");
+            sb.append(e.getValue()[0]);
+            sb.append(",time=");
+            sb.append(e.getValue()[1] / 1_000_000);
+            sb.append("ms}");
+        }
+
+        if (!this.failures.isEmpty()) {
+            sb.append(",failures=");
+            sb.append(this.failures);
+        }
+
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+}
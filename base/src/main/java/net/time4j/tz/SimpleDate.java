@@ -0,0 +1,109 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (SimpleDate.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import net.time4j.base.GregorianDate;
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+
+
+/**
+ * Simple implementation of a gregorian date derived from local seconds.
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+final class SimpleDate
+    implements GregorianDate {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int year;
+    private final int month;
+    private final int dayOfMonth;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private SimpleDate(long packedDate) {
+        super();
+
+        this.year = GregorianMath.readYear(packedDate);
+        this.month = GregorianMath.readMonth(packedDate);
+        this.dayOfMonth = GregorianMath.readDayOfMonth(packedDate);
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public int getYear() {
+        return this.year;
+    }
+
+    @Override
+    public int getMonth() {
+        return this.month;
+    }
+
+    @Override
+    public int getDayOfMonth() {
+        return this.dayOfMonth;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(10);
+        if (this.year >= 10_000) {
+            sb.append('+');
+        } else if (this.year < 0) {
+            sb.append('-');
+        }
+        int y = Math.abs(this.year);
+        if (y < 1_000) {
+            sb.append('0');
+            if (y < 100) {
+                sb.append('0');
+                if (y < 10) {
+                    sb.append('0');
+                }
+            }
+        }
+        sb.append(y);
+        sb.append('-');
+        if (this.month < 10) {
+            sb.append('0');
+        }
+        sb.append(this.month);
+        sb.append('-');
+        if (this.dayOfMonth < 10) {
+            sb.append('0');
+        }
+        sb.append(this.dayOfMonth);
+        return sb.toString();
+    }
+
+    // localSeconds: seconds since 1970-01-01T00:00 on the local timeline
+    static GregorianDate ofLocalSeconds(long localSeconds) {
+        long mjd = MathUtils.floorDivide(localSeconds, 86400) + 40587L;
+        return new SimpleDate(GregorianMath.toPackedDate(mjd));
+    }
+
+}
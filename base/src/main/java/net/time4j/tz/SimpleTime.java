@@ -0,0 +1,101 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (SimpleTime.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import net.time4j.base.MathUtils;
+import net.time4j.base.WallTime;
+
+
+/**
+ * Simple implementation of a wall time derived from local seconds.
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+final class SimpleTime
+    implements WallTime {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int secondOfDay;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private SimpleTime(int secondOfDay) {
+        super();
+
+        this.secondOfDay = secondOfDay;
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public int getHour() {
+        return this.secondOfDay / 3600;
+    }
+
+    @Override
+    public int getMinute() {
+        return (this.secondOfDay / 60) % 60;
+    }
+
+    @Override
+    public int getSecond() {
+        return this.secondOfDay % 60;
+    }
+
+    @Override
+    public int getNanosecond() {
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(9);
+        sb.append('T');
+        append(sb, this.getHour());
+        sb.append(':');
+        append(sb, this.getMinute());
+        int second = this.getSecond();
+        if (second != 0) {
+            sb.append(':');
+            append(sb, second);
+        }
+        return sb.toString();
+    }
+
+    // localSeconds: seconds since 1970-01-01T00:00 on the local timeline
+    static WallTime ofLocalSeconds(long localSeconds) {
+        return new SimpleTime(MathUtils.floorModulo(localSeconds, 86400));
+    }
+
+    private static void append(
+        StringBuilder sb,
+        int value
+    ) {
+        if (value < 10) {
+            sb.append('0');
+        }
+        sb.append(value);
+    }
+
+}
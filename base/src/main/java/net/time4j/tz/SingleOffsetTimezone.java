@@ -28,6 +28,7 @@ import net.time4j.base.WallTime;
 import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -92,6 +93,28 @@ final class SingleOffsetTimezone
 
     }
 
+    @Override
+    public void getOffsets(
+        long[] posixTimes,
+        int[] totalOffsets
+    ) {
+
+        if (totalOffsets.length < posixTimes.length) {
+            throw new IllegalArgumentException(
+                "Output array too short: " + totalOffsets.length + " < " + posixTimes.length);
+        }
+
+        Arrays.fill(totalOffsets, 0, posixTimes.length, this.offset.getIntegralAmount());
+
+    }
+
+    @Override
+    public int getTotalOffset(long posixTime) {
+
+        return this.offset.getIntegralAmount();
+
+    }
+
     @Override
     public ZonalOffset getRawOffset(UnixTime ut) {
 
@@ -29,22 +29,24 @@ import net.time4j.tz.threeten.JdkZoneProviderSPI;
 
 import java.io.IOException;
 import java.io.Serializable;
-import java.lang.ref.ReferenceQueue;
-import java.lang.ref.SoftReference;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
 
 
 /**
@@ -173,7 +175,9 @@ public abstract class Timezone
     private static volatile ZonalKeys zonalKeys;
     private static volatile Timezone currentSystemTZ = null;
     private static volatile boolean cacheActive = true;
-    private static int softLimit = 11;
+    private static volatile PreloadReport preloadReport = null;
+    private static volatile ZoneModelProvider defaultProvider;
+    private static volatile int registryVersion = 0;
 
     private static final String NAME_JUT = "java.util.TimeZone";
     private static final String NAME_TZDB = "TZDB";
@@ -182,11 +186,9 @@ public abstract class Timezone
     private static final Map<String, TZID> PREDEFINED;
     private static final Map<String, TZID> ETCETERA;
     private static final ZoneModelProvider PLATFORM_PROVIDER;
-    private static final ZoneModelProvider DEFAULT_PROVIDER;
-    private static final ConcurrentMap<String, NamedReference> CACHE;
-    private static final ReferenceQueue<Timezone> QUEUE;
-    private static final LinkedList<Timezone> LAST_USED;
+    private static final ZoneCache CACHE;
     private static final ConcurrentMap<String, ZoneModelProvider> PROVIDERS;
+    private static final List<ZoneChangeListener> LISTENERS = new CopyOnWriteArrayList<>();
 
     /**
      * Default provider for tz-name-repository.
@@ -196,10 +198,8 @@ public abstract class Timezone
     private static final Timezone SYSTEM_TZ_ORIGINAL;
 
     static {
-        CACHE = new ConcurrentHashMap<>();
+        CACHE = new ZoneCache();
         PROVIDERS = new ConcurrentHashMap<>();
-        QUEUE = new ReferenceQueue<>();
-        LAST_USED = new LinkedList<>(); // strong references
 
         List<Class<? extends TZID>> areas;
 
@@ -267,10 +267,10 @@ public abstract class Timezone
         PROVIDERS.put(NAME_JUT, PLATFORM_PROVIDER);
 
         if (zp == null) {
-            DEFAULT_PROVIDER = PLATFORM_PROVIDER;
+            defaultProvider = PLATFORM_PROVIDER;
         } else {
             PROVIDERS.put(NAME_TZDB, zp);
-            DEFAULT_PROVIDER = zp;
+            defaultProvider = zp;
         }
 
         Timezone systemTZ = null;
@@ -299,6 +299,32 @@ public abstract class Timezone
 
         // Cache für Available-IDs
         zonalKeys = new ZonalKeys();
+
+        // optionales Vorausladen im Hintergrund (wartet auf das Ende dieser Initialisierung)
+        String preload = null;
+
+        try {
+            preload = System.getProperty("net.time4j.tz.preload");
+        } catch (SecurityException se) {
+            // kein Vorausladen
+        }
+
+        if ((preload != null) && !preload.trim().isEmpty()) {
+            List<String> zoneIDs = new ArrayList<>();
+
+            for (String token : preload.split(",")) {
+                if (!token.trim().isEmpty()) {
+                    zoneIDs.add(token.trim());
+                }
+            }
+
+            Thread thread =
+                new Thread(
+                    () -> preloadReport = Cache.preload(zoneIDs, Locale.getDefault()),
+                    "time4j-tz-preload");
+            thread.setDaemon(true);
+            thread.start();
+        }
     }
 
     //~ Konstruktoren -----------------------------------------------------
@@ -760,7 +786,7 @@ public abstract class Timezone
             throw new IllegalArgumentException("Empty zone identifier: " + tzid);
         }
 
-        ZoneModelProvider provider = DEFAULT_PROVIDER;
+        ZoneModelProvider provider = defaultProvider;
         boolean useDefault = (providerName.isEmpty() || providerName.equals(NAME_DEFAULT));
 
         if (!useDefault && !providerName.equals("WINDOWS") && !providerName.equals("MILITARY")) {
@@ -837,6 +863,61 @@ public abstract class Timezone
      */
     public abstract ZonalOffset getOffset(UnixTime ut);
 
+    /**
+     * <p>Calculates the total offsets for many global timestamps in one step. </p>
+     *
+     * <p>Equivalent to {@code getOffset(ut).getIntegralAmount()} for every element but
+     * designed for columnar data where the creation of {@code UnixTime}- and
+     * {@code ZonalOffset}-objects per element is too expensive. Sorted or clustered
+     * input is processed faster because the last found transition will be reused. </p>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   totalOffsets    output array for the total shifts in seconds (same index as input)
+     * @throws  IllegalArgumentException if the output array is shorter than the input array
+     * @see     #getOffset(UnixTime)
+     * @see     TransitionHistory#getOffsets(long[], int[])
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Ermittelt die gesamten Zeitzonenverschiebungen f&uuml;r viele globale Zeitpunkte
+     * in einem Schritt. </p>
+     *
+     * <p>&Auml;quivalent zu {@code getOffset(ut).getIntegralAmount()} f&uuml;r jedes Element,
+     * aber f&uuml;r spaltenorientierte Daten gedacht, bei denen die Erzeugung von
+     * {@code UnixTime}- und {@code ZonalOffset}-Objekten pro Element zu teuer ist. Sortierte
+     * oder geh&auml;ufte Eingaben werden schneller verarbeitet, weil der zuletzt gefundene
+     * &Uuml;bergang wiederverwendet wird. </p>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   totalOffsets    output array for the total shifts in seconds (same index as input)
+     * @throws  IllegalArgumentException if the output array is shorter than the input array
+     * @see     #getOffset(UnixTime)
+     * @see     TransitionHistory#getOffsets(long[], int[])
+     * @since   5.6
+     */
+    public void getOffsets(
+        long[] posixTimes,
+        int[] totalOffsets
+    ) {
+
+        TransitionHistory history = this.getHistory();
+
+        if (history != null) {
+            history.getOffsets(posixTimes, totalOffsets);
+            return;
+        }
+
+        if (totalOffsets.length < posixTimes.length) {
+            throw new IllegalArgumentException(
+                "Output array too short: " + totalOffsets.length + " < " + posixTimes.length);
+        }
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            totalOffsets[i] = this.getOffset(SimpleUT.ofPosixTime(posixTimes[i])).getIntegralAmount();
+        }
+
+    }
+
     /**
      * <p>Calculates the raw offset for given global timestamp. </p>
      *
@@ -993,6 +1074,100 @@ public abstract class Timezone
         WallTime localTime
     );
 
+    /**
+     * <p>Converts many local timestamps to global timestamps in one step using the
+     * {@link #getStrategy() transition strategy} of this timezone. </p>
+     *
+     * <p>The local timestamps are given as elapsed seconds since [1970-01-01T00:00] on the
+     * local timeline. Every result is the same as if the strategy had been applied to the
+     * corresponding local date and time. Sorted or clustered input is processed faster
+     * because local timestamps within the same unambiguous offset interval as the preceding
+     * element will be converted by simple subtraction. </p>
+     *
+     * @param   localSeconds    elapsed seconds since [1970-01-01T00:00] on the local timeline
+     * @param   posixTimes      output array for the posix times (same index as input)
+     * @throws  IllegalArgumentException if the output array is shorter than the input array or
+     *          if the strategy rejects a local timestamp in a gap
+     * @see     TransitionStrategy#resolve(GregorianDate, WallTime, Timezone)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Konvertiert viele lokale Zeitstempel in einem Schritt zu globalen Zeitstempeln, indem
+     * die {@link #getStrategy() &Uuml;bergangsstrategie} dieser Zeitzone angewandt wird. </p>
+     *
+     * <p>Die lokalen Zeitstempel werden als Sekunden seit [1970-01-01T00:00] auf dem lokalen
+     * Zeitstrahl angegeben. Jedes Ergebnis ist das gleiche, als ob die Strategie auf das
+     * jeweilige lokale Datum mit Uhrzeit angewandt worden w&auml;re. Sortierte oder
+     * geh&auml;ufte Eingaben werden schneller verarbeitet, weil lokale Zeitstempel innerhalb
+     * des gleichen eindeutigen Verschiebungsintervalls wie das vorherige Element durch
+     * einfache Subtraktion konvertiert werden. </p>
+     *
+     * @param   localSeconds    elapsed seconds since [1970-01-01T00:00] on the local timeline
+     * @param   posixTimes      output array for the posix times (same index as input)
+     * @throws  IllegalArgumentException if the output array is shorter than the input array or
+     *          if the strategy rejects a local timestamp in a gap
+     * @see     TransitionStrategy#resolve(GregorianDate, WallTime, Timezone)
+     * @since   5.6
+     */
+    public void getPosixTimes(
+        long[] localSeconds,
+        long[] posixTimes
+    ) {
+
+        if (posixTimes.length < localSeconds.length) {
+            throw new IllegalArgumentException(
+                "Output array too short: " + posixTimes.length + " < " + localSeconds.length);
+        }
+
+        TransitionStrategy strategy = this.getStrategy();
+        TransitionHistory history = this.getHistory();
+        boolean standard = ((history != null) && (strategy instanceof TransitionResolver));
+
+        // lokales Intervall [runStart, runEnd) mit eindeutiger Verschiebung
+        long runStart = Long.MAX_VALUE;
+        long runEnd = Long.MIN_VALUE;
+        int runOffset = 0;
+
+        for (int i = 0; i < localSeconds.length; i++) {
+            long local = localSeconds[i];
+
+            if ((local >= runStart) && (local < runEnd)) {
+                posixTimes[i] = local - runOffset;
+                continue;
+            }
+
+            long posix =
+                strategy.resolve(SimpleDate.ofLocalSeconds(local), SimpleTime.ofLocalSeconds(local), this);
+            posixTimes[i] = posix;
+
+            if (standard) {
+                runStart = Long.MAX_VALUE;
+                runEnd = Long.MIN_VALUE;
+                UnixTime ut = SimpleUT.ofPosixTime(posix);
+                ZonalTransition start = history.getStartTransition(ut);
+                int offset = ((start == null) ? history.getInitialOffset().getIntegralAmount() : start.getTotalOffset());
+
+                if (local - posix == offset) { // weder Lücke noch Überlappung
+                    ZonalTransition next = history.findNextTransition(ut).orElse(null);
+                    long from = (
+                        (start == null)
+                        ? Long.MIN_VALUE
+                        : start.getPosixTime() + Math.max(start.getPreviousOffset(), offset));
+                    long to = (
+                        (next == null)
+                        ? Long.MAX_VALUE
+                        : next.getPosixTime() + Math.min(next.getTotalOffset(), offset));
+                    if ((local >= from) && (local < to)) {
+                        runStart = from;
+                        runEnd = to;
+                        runOffset = offset;
+                    }
+                }
+            }
+        }
+
+    }
+
     /**
      * <p>Evaluates if given local timestamp is invalid due to a gap
      * on the local timeline. </p>
@@ -1110,7 +1285,7 @@ public abstract class Timezone
         StringBuilder sb = new StringBuilder(128);
         sb.append(Timezone.class.getName());
         sb.append(":[default-provider=");
-        sb.append(DEFAULT_PROVIDER.getName());
+        sb.append(defaultProvider.getName());
         sb.append(", registered={");
 
         for (String key : PROVIDERS.keySet()) {
@@ -1313,7 +1488,7 @@ public abstract class Timezone
 
         String canonical = tzid.canonical();
         int index = canonical.indexOf('~');
-        ZoneModelProvider provider = DEFAULT_PROVIDER;
+        ZoneModelProvider provider = defaultProvider;
         String zoneID = canonical;
 
         if (index >= 0) {
@@ -1397,6 +1572,162 @@ public abstract class Timezone
 
     }
 
+    /**
+     * <p>Installs given zone model provider at runtime and replaces any previously
+     * registered provider with the same name. </p>
+     *
+     * <p>This method is intended for updating the timezone data of a running application,
+     * for example after a new tzdb version has been published. It compares the transition
+     * histories and aliases of the old and the new provider, atomically replaces the provider
+     * and evicts only the affected timezones from the internal cache. Unchanged timezones
+     * stay cached. Finally all registered {@link ZoneChangeListener listeners} are informed
+     * in the calling thread. A provider with the name &quot;TZDB&quot; can only be installed
+     * if the TZDB-provider was already present at startup and then also becomes the new
+     * default provider. </p>
+     *
+     * <p>Lookups running concurrently may still see the old data, but no timezone of the old
+     * provider will remain in the cache after this method has returned. </p>
+     *
+     * @param   provider    new zone model provider to be installed
+     * @return  unmodifiable set of changed, added or removed timezone identifiers in the form
+     *          accepted by {@link #of(String)}
+     * @throws  IllegalArgumentException if given {@code ZoneModelProvider} refers to default
+     *          or platform provider by name or is a TZDB-provider not present at startup
+     * @see     #addChangeListener(ZoneChangeListener)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Installiert den angegebenen {@code ZoneModelProvider} zur Laufzeit und ersetzt dabei
+     * einen schon registrierten {@code ZoneModelProvider} mit dem gleichen Namen. </p>
+     *
+     * <p>Diese Methode dient der Aktualisierung der Zeitzonendaten einer laufenden Anwendung,
+     * zum Beispiel nach der Ver&ouml;ffentlichung einer neuen tzdb-Version. Sie vergleicht die
+     * &Uuml;bergangshistorien und Aliasnamen des alten und des neuen Provider, ersetzt den
+     * Provider atomar und entfernt nur die betroffenen Zeitzonen aus dem internen Cache.
+     * Unver&auml;nderte Zeitzonen bleiben gespeichert. Zum Schlu&szlig; werden alle
+     * registrierten {@link ZoneChangeListener Beobachter} im aufrufenden Thread informiert.
+     * Ein {@code ZoneModelProvider} mit dem Namen &quot;TZDB&quot; kann nur installiert
+     * werden, wenn der TZDB-Provider schon beim Start vorhanden war, und wird dann auch der
+     * neue Standard-Provider. </p>
+     *
+     * <p>Gleichzeitig laufende Abfragen k&ouml;nnen noch die alten Daten sehen, aber keine
+     * Zeitzone des alten Provider bleibt nach dem Ende dieser Methode im Cache. </p>
+     *
+     * @param   provider    new zone model provider to be installed
+     * @return  unmodifiable set of changed, added or removed timezone identifiers in the form
+     *          accepted by {@link #of(String)}
+     * @throws  IllegalArgumentException if given {@code ZoneModelProvider} refers to default
+     *          or platform provider by name or is a TZDB-provider not present at startup
+     * @see     #addChangeListener(ZoneChangeListener)
+     * @since   5.6
+     */
+    public static Set<String> installProvider(ZoneModelProvider provider) {
+
+        String name = provider.getName();
+
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException(
+                "Missing name of zone model provider.");
+        } else if (name.equals(NAME_JUT)) {
+            throw new IllegalArgumentException(
+                "Platform provider cannot be replaced.");
+        } else if (name.equals(NAME_DEFAULT)) {
+            throw new IllegalArgumentException(
+                "Default zone model provider cannot be overridden.");
+        } else if (name.equals(NAME_TZDB) && (defaultProvider == PLATFORM_PROVIDER)) {
+            throw new IllegalArgumentException(
+                "TZDB provider cannot be registered after startup.");
+        }
+
+        boolean isDefault = name.equals(NAME_TZDB);
+        Set<String> zoneIDs = new HashSet<>();
+
+        synchronized (PROVIDERS) {
+            Set<String> changed = getChangedIDs(PROVIDERS.get(name), provider);
+
+            // erst Provider tauschen, dann Version erhöhen, dann Cache bereinigen (siehe getTZ)
+            PROVIDERS.put(name, provider);
+            if (isDefault) {
+                defaultProvider = provider;
+            }
+            registryVersion++;
+
+            for (String id : changed) {
+                CACHE.remove(name + "~" + id);
+
+                if (isDefault) {
+                    CACHE.remove(id);
+                    CACHE.remove(NAME_DEFAULT + "~" + id);
+                    zoneIDs.add(id);
+                } else {
+                    zoneIDs.add(name + "~" + id);
+                }
+            }
+
+            zonalKeys = new ZonalKeys();
+
+            Timezone systemTZ = currentSystemTZ;
+
+            if (
+                ALLOW_SYSTEM_TZ_OVERRIDE
+                && (systemTZ != null)
+                && zoneIDs.contains(systemTZ.getID().canonical())
+            ) {
+                currentSystemTZ = Timezone.getDefaultTZ();
+            }
+        }
+
+        Set<String> result = Collections.unmodifiableSet(zoneIDs);
+
+        for (ZoneChangeListener listener : LISTENERS) {
+            listener.zonesChanged(provider, result);
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Registers a listener which will be informed about changed timezone data. </p>
+     *
+     * @param   listener    callback to be registered
+     * @see     #installProvider(ZoneModelProvider)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Registriert einen Beobachter, der &uuml;ber ge&auml;nderte Zeitzonendaten
+     * informiert wird. </p>
+     *
+     * @param   listener    callback to be registered
+     * @see     #installProvider(ZoneModelProvider)
+     * @since   5.6
+     */
+    public static void addChangeListener(ZoneChangeListener listener) {
+
+        LISTENERS.add(Objects.requireNonNull(listener, "Missing listener."));
+
+    }
+
+    /**
+     * <p>Deregisters given listener. </p>
+     *
+     * @param   listener    callback to be removed
+     * @return  {@code true} if the listener was registered else {@code false}
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Entfernt den angegebenen Beobachter. </p>
+     *
+     * @param   listener    callback to be removed
+     * @return  {@code true} if the listener was registered else {@code false}
+     * @since   5.6
+     */
+    public static boolean removeChangeListener(ZoneChangeListener listener) {
+
+        return LISTENERS.remove(listener);
+
+    }
+
     /**
      * <p>Creates a dump of this timezone and writes it to the given
      * buffer. </p>
@@ -1475,22 +1806,26 @@ public abstract class Timezone
         boolean wantsException
     ) {
 
-        // Suche im Cache
-        Timezone tz = null;
-        NamedReference sref = CACHE.get(zoneID);
+        return Timezone.getTZ(tzid, zoneID, wantsException, true);
 
-        if (sref != null) {
-            tz = sref.get();
-            if (tz == null) {
-                CACHE.remove(sref.tzid);
-            }
-        }
+    }
+
+    private static Timezone getTZ(
+        TZID tzid, // optional
+        String zoneID,
+        boolean wantsException,
+        boolean admit // false: nicht im begrenzten Cache-Ring speichern
+    ) {
+
+        // Suche im Cache
+        Timezone tz = (cacheActive ? CACHE.get(zoneID) : null);
 
         if (tz != null) {
             return tz;
         }
 
         // ZoneModelProvider auflösen
+        int version = registryVersion;
         String providerName = "";
         String zoneKey = zoneID;
 
@@ -1510,7 +1845,7 @@ public abstract class Timezone
             }
         }
 
-        ZoneModelProvider provider = DEFAULT_PROVIDER;
+        ZoneModelProvider provider = defaultProvider;
 
         boolean useDefault = (
             providerName.isEmpty()
@@ -1565,6 +1900,7 @@ public abstract class Timezone
             }
         } else { // exakte Suche in Historie
             TransitionHistory history;
+            long start = System.nanoTime();
 
             try {
                 history = provider.load(zoneKey);
@@ -1578,6 +1914,8 @@ public abstract class Timezone
             } else {
                 tz = new HistorizedTimezone(resolved, history);
             }
+
+            CACHE.recordLoad(System.nanoTime() - start);
         }
 
         // Ungültige ID?
@@ -1593,27 +1931,11 @@ public abstract class Timezone
         }
 
         // bei Bedarf im Cache speichern
-        if (cacheActive) {
-            NamedReference oldRef =
-                CACHE.putIfAbsent(
-                    zoneID,
-                    new NamedReference(tz, QUEUE)
-                );
-
-            if (oldRef == null) {
-                synchronized (Timezone.class) {
-                    LAST_USED.addFirst(tz);
-
-                    while (LAST_USED.size() >= softLimit) {
-                        LAST_USED.removeLast();
-                    }
-                }
-            } else {
-                Timezone oldZone = oldRef.get();
+        if (cacheActive && admit) {
+            tz = CACHE.putIfAbsent(zoneID, tz);
 
-                if (oldZone != null) {
-                    tz = oldZone;
-                }
+            if (version != registryVersion) {
+                CACHE.remove(zoneID); // eventuell mit veraltetem Provider geladen
             }
         }
 
@@ -1661,6 +1983,81 @@ public abstract class Timezone
 
     }
 
+    // Kennungen ohne Provider-Präfix, deren Historie oder Alias-Ziel sich geändert hat
+    private static Set<String> getChangedIDs(
+        ZoneModelProvider oldProvider,
+        ZoneModelProvider newProvider
+    ) {
+
+        Set<String> ids = new HashSet<>(newProvider.getAvailableIDs());
+        Map<String, String> oldAliases = Collections.emptyMap();
+
+        if (oldProvider != null) {
+            ids.addAll(oldProvider.getAvailableIDs());
+            oldAliases = oldProvider.getAliases();
+        }
+
+        Set<String> changed = new HashSet<>();
+
+        for (String id : ids) {
+            if (!Objects.equals(loadHistory(oldProvider, id), loadHistory(newProvider, id))) {
+                changed.add(id);
+            }
+        }
+
+        Map<String, String> newAliases = newProvider.getAliases();
+        Set<String> aliases = new HashSet<>(oldAliases.keySet());
+        aliases.addAll(newAliases.keySet());
+
+        for (String alias : aliases) {
+            String oldTarget = getAliasTarget(oldAliases, alias);
+            String newTarget = getAliasTarget(newAliases, alias);
+
+            if (
+                !Objects.equals(oldTarget, newTarget)
+                || changed.contains(oldTarget)
+                || changed.contains(newTarget)
+            ) {
+                changed.add(alias);
+            }
+        }
+
+        return changed;
+
+    }
+
+    private static TransitionHistory loadHistory(
+        ZoneModelProvider provider,
+        String zoneID
+    ) {
+
+        if (provider == null) {
+            return null;
+        }
+
+        try {
+            return provider.load(zoneID);
+        } catch (IllegalArgumentException iae) {
+            return null;
+        }
+
+    }
+
+    private static String getAliasTarget(
+        Map<String, String> aliases,
+        String alias
+    ) {
+
+        String target = aliases.get(alias);
+
+        for (int i = 0; (target != null) && aliases.containsKey(target) && (i < aliases.size()); i++) {
+            target = aliases.get(target);
+        }
+
+        return target;
+
+    }
+
     private static TZID resolve(String zoneKey) {
 
         // enums bevorzugen
@@ -1749,7 +2146,7 @@ public abstract class Timezone
 
         return (
             provider.equals(NAME_DEFAULT)
-            ? DEFAULT_PROVIDER
+            ? defaultProvider
             : PROVIDERS.get(provider));
 
     }
@@ -1819,11 +2216,6 @@ public abstract class Timezone
          */
         public static void refresh() {
 
-            synchronized (Timezone.class) {
-                while (QUEUE.poll() != null) {}
-                LAST_USED.clear();
-            }
-
             zonalKeys = new ZonalKeys();
             CACHE.clear();
 
@@ -1864,14 +2256,28 @@ public abstract class Timezone
         /**
          * <p>Updates the size of the internal timezone cache. </p>
          *
+         * <p>All cached timezones are strongly referenced so they cannot get lost under
+         * memory pressure. This method only guarantees that at least the given count of
+         * timezones can be cached. If the argument is greater than the
+         * {@link #getMaximumCacheSize() maximum size} then the maximum size will be
+         * raised accordingly. </p>
+         *
          * @param   minimumCacheSize    new minimum size of cache
          * @throws  IllegalArgumentException if the argument is negative
+         * @see     #setMaximumCacheSize(int)
          */
         /*[deutsch]
          * <p>Konfiguriert die Gr&ouml;&szlig;e des internen Cache neu. </p>
          *
+         * <p>Alle gespeicherten Zeitzonen werden stark referenziert, so da&szlig; sie unter
+         * Speicherdruck nicht verloren gehen k&ouml;nnen. Diese Methode garantiert nur, da&szlig;
+         * mindestens die angegebene Anzahl von Zeitzonen gespeichert werden kann. Ist das
+         * Argument gr&ouml;&szlig;er als die {@link #getMaximumCacheSize() maximale Gr&ouml;&szlig;e},
+         * dann wird letztere entsprechend erh&ouml;ht. </p>
+         *
          * @param   minimumCacheSize    new minimum size of cache
          * @throws  IllegalArgumentException if the argument is negative
+         * @see     #setMaximumCacheSize(int)
          */
         public static void setMinimumCacheSize(int minimumCacheSize) {
 
@@ -1880,40 +2286,343 @@ public abstract class Timezone
                     "Negative timezone cache size: " + minimumCacheSize);
             }
 
-            NamedReference ref;
+            if (minimumCacheSize > CACHE.getCapacity()) {
+                CACHE.resize(minimumCacheSize);
+            }
+
+        }
+
+        /**
+         * <p>Updates the maximum count of cached timezones. </p>
+         *
+         * <p>The default size is {@code 1024} and can be configured by the system property
+         * &quot;net.time4j.tz.cache.size&quot;. If the cache is full then the least recently
+         * used timezones will be evicted in approximation (CLOCK algorithm). Changing the size
+         * also clears the cache. </p>
+         *
+         * @param   maximumCacheSize    new maximum size of cache
+         * @throws  IllegalArgumentException if the argument is not positive
+         * @since   5.6
+         */
+        /*[deutsch]
+         * <p>Konfiguriert die maximale Anzahl der gespeicherten Zeitzonen neu. </p>
+         *
+         * <p>Die Standardgr&ouml;&szlig;e ist {@code 1024} und kann mit Hilfe der
+         * System-Property &quot;net.time4j.tz.cache.size&quot; eingestellt werden. Ist der
+         * Cache voll, werden n&auml;herungsweise die am l&auml;ngsten nicht benutzten
+         * Zeitzonen verdr&auml;ngt (CLOCK-Algorithmus). Eine &Auml;nderung der Gr&ouml;&szlig;e
+         * leert auch den Cache. </p>
+         *
+         * @param   maximumCacheSize    new maximum size of cache
+         * @throws  IllegalArgumentException if the argument is not positive
+         * @since   5.6
+         */
+        public static void setMaximumCacheSize(int maximumCacheSize) {
 
-            while ((ref = (NamedReference) QUEUE.poll()) != null) {
-                CACHE.remove(ref.tzid);
+            if (maximumCacheSize <= 0) {
+                throw new IllegalArgumentException(
+                    "Timezone cache size must be positive: " + maximumCacheSize);
             }
 
-            synchronized (Timezone.class) {
-                softLimit = minimumCacheSize + 1;
-                int n = LAST_USED.size() - minimumCacheSize;
+            CACHE.resize(maximumCacheSize);
+
+        }
+
+        /**
+         * <p>Yields the maximum count of cached timezones. </p>
+         *
+         * @return  int
+         * @since   5.6
+         */
+        /*[deutsch]
+         * <p>Liefert die maximale Anzahl der gespeicherten Zeitzonen. </p>
+         *
+         * @return  int
+         * @since   5.6
+         */
+        public static int getMaximumCacheSize() {
+
+            return CACHE.getCapacity();
+
+        }
+
+        /**
+         * <p>Yields the current count of cached timezones. </p>
+         *
+         * @return  int
+         * @since   5.6
+         */
+        /*[deutsch]
+         * <p>Liefert die aktuelle Anzahl der gespeicherten Zeitzonen. </p>
+         *
+         * @return  int
+         * @since   5.6
+         */
+        public static int getCurrentSize() {
+
+            return CACHE.size();
+
+        }
+
+        /**
+         * <p>Counts how often a requested timezone was found in the cache. </p>
+         *
+         * @return  count of cache hits since start of application
+         * @since   5.6
+         */
+        /*[deutsch]
+         * <p>Z&auml;hlt, wie oft eine angeforderte Zeitzone im Cache gefunden wurde. </p>
+         *
+         * @return  count of cache hits since start of application
+         * @since   5.6
+         */
+        public static long getHitCount() {
+
+            return CACHE.getHitCount();
+
+        }
+
+        /**
+         * <p>Counts how often a requested timezone was not found in the active cache. </p>
+         *
+         * @return  count of cache misses since start of application
+         * @since   5.6
+         */
+        /*[deutsch]
+         * <p>Z&auml;hlt, wie oft eine angeforderte Zeitzone nicht im aktiven Cache
+         * gefunden wurde. </p>
+         *
+         * @return  count of cache misses since start of application
+         * @since   5.6
+         */
+        public static long getMissCount() {
+
+            return CACHE.getMissCount();
+
+        }
+
+        /**
+         * <p>Counts how often a cached timezone was evicted because the cache was full. </p>
+         *
+         * @return  count of evictions since start of application
+         * @since   5.6
+         */
+        /*[deutsch]
+         * <p>Z&auml;hlt, wie oft eine gespeicherte Zeitzone verdr&auml;ngt wurde, weil der
+         * Cache voll war. </p>
+         *
+         * @return  count of evictions since start of application
+         * @since   5.6
+         */
+        public static long getEvictionCount() {
+
+            return CACHE.getEvictionCount();
+
+        }
 
-                for (int i = 0; i < n; i++) {
-                    LAST_USED.removeLast();
+        /**
+         * <p>Counts how often timezone data were loaded from a {@code ZoneModelProvider}. </p>
+         *
+         * @return  count of provider loads since start of application
+         * @since   5.6
+         */
+        /*[deutsch]
+         * <p>Z&auml;hlt, wie oft Zeitzonendaten von einem {@code ZoneModelProvider}
+         * geladen wurden. </p>
+         *
+         * @return  count of provider loads since start of application
+         * @since   5.6
+         */
+        public static long getLoadCount() {
+
+            return CACHE.getLoadCount();
+
+        }
+
+        /**
+         * <p>Sums up the time spent in loading timezone data from any {@code ZoneModelProvider}. </p>
+         *
+         * @return  total load time in nanoseconds since start of application
+         * @since   5.6
+         */
+        /*[deutsch]
+         * <p>Summiert die Zeit auf, die zum Laden von Zeitzonendaten von einem
+         * {@code ZoneModelProvider} verbraucht wurde. </p>
+         *
+         * @return  total load time in nanoseconds since start of application
+         * @since   5.6
+         */
+        public static long getTotalLoadTimeInNanos() {
+
+            return CACHE.getLoadTimeInNanos();
+
+        }
+
+        /**
+         * <p>Loads and pins given timezones in parallel so that their first use does not suffer
+         * from provider loading, alias resolution or name lookups. </p>
+         *
+         * <p>For every timezone, this method loads the transition history (including alias
+         * resolution), prepares the internal lookup tables for the current era and queries all
+         * display names in given locale. Successfully loaded timezones are pinned in the cache,
+         * that is they are never evicted and do not count against the
+         * {@link #getMaximumCacheSize() maximum size}. Only {@link #refresh()} or deactivating
+         * the cache removes them. </p>
+         *
+         * <p>Every identifier can be a timezone identifier as accepted by {@link Timezone#of(String)}
+         * or a wildcard for all {@link ZoneModelProvider#getAvailableIDs() available identifiers}
+         * of a provider: &quot;*&quot; stands for the default provider and &quot;{provider}~*&quot;
+         * for the named provider. Unknown identifiers are reported as failures but do not cause
+         * an exception. </p>
+         *
+         * <p>Alternatively, the system property &quot;net.time4j.tz.preload&quot; can contain
+         * a comma-separated list of such identifiers which will then be preloaded in a background
+         * thread after loading of this class. The result can be queried by
+         * {@link #getPreloadReport()}. </p>
+         *
+         * @param   zoneIDs     timezone identifiers or provider wildcards
+         * @param   locale      language for the warm-up of timezone names
+         * @return  report with load timings per zone model provider
+         * @since   5.6
+         */
+        /*[deutsch]
+         * <p>L&auml;dt die angegebenen Zeitzonen parallel und heftet sie im Cache an, damit
+         * ihre erste Verwendung nicht durch das Laden, die Aliassuche oder die Namenssuche
+         * verz&ouml;gert wird. </p>
+         *
+         * <p>F&uuml;r jede Zeitzone l&auml;dt diese Methode die &Uuml;bergangshistorie
+         * (einschlie&szlig;lich der Aliassuche), bereitet die internen Suchtabellen f&uuml;r die
+         * aktuelle &Auml;ra vor und fragt alle Anzeigenamen in der angegebenen Sprache ab.
+         * Erfolgreich geladene Zeitzonen werden im Cache angeheftet, das hei&szlig;t, sie werden
+         * nie verdr&auml;ngt und z&auml;hlen nicht zur {@link #getMaximumCacheSize() maximalen
+         * Gr&ouml;&szlig;e}. Nur {@link #refresh()} oder das Abschalten des Cache entfernt sie. </p>
+         *
+         * <p>Jede Kennung kann eine Zeitzonenkennung sein, wie sie {@link Timezone#of(String)}
+         * akzeptiert, oder ein Platzhalter f&uuml;r alle {@link ZoneModelProvider#getAvailableIDs()
+         * verf&uuml;gbaren Kennungen} eines {@code ZoneModelProvider}: &quot;*&quot; steht f&uuml;r
+         * den Standard-Provider und &quot;{provider}~*&quot; f&uuml;r den benannten Provider.
+         * Unbekannte Kennungen werden als Fehler gemeldet, verursachen aber keine Ausnahme. </p>
+         *
+         * <p>Alternativ kann die System-Property &quot;net.time4j.tz.preload&quot; eine
+         * kommaseparierte Liste solcher Kennungen enthalten, die dann nach dem Laden dieser
+         * Klasse in einem Hintergrund-Thread vorausgeladen werden. Das Ergebnis kann mit
+         * {@link #getPreloadReport()} abgefragt werden. </p>
+         *
+         * @param   zoneIDs     timezone identifiers or provider wildcards
+         * @param   locale      language for the warm-up of timezone names
+         * @return  report with load timings per zone model provider
+         * @since   5.6
+         */
+        public static PreloadReport preload(
+            Collection<String> zoneIDs,
+            Locale locale
+        ) {
+
+            if (locale == null) {
+                throw new NullPointerException("Missing locale.");
+            }
+
+            long start = System.nanoTime();
+            List<String> ids = new ArrayList<>();
+            List<String> failures = new ArrayList<>();
+
+            for (String zoneID : zoneIDs) {
+                if (zoneID.equals("*") || zoneID.endsWith("~*")) {
+                    String pname = (zoneID.length() > 2 ? zoneID.substring(0, zoneID.length() - 2) : NAME_DEFAULT);
+                    ZoneModelProvider zp = getProvider(pname);
+
+                    if (zp == null) {
+                        failures.add(zoneID);
+                    } else {
+                        String prefix = ((zp == defaultProvider) ? "" : pname + "~");
+                        for (String id : zp.getAvailableIDs()) {
+                            ids.add(prefix + id);
+                        }
+                    }
+                } else {
+                    ids.add(zoneID);
                 }
             }
 
-        }
+            long[] nanos = new long[ids.size()];
+            IntStream.range(0, nanos.length).parallel().forEach(i -> nanos[i] = warmUp(ids.get(i), locale));
+            Map<String, long[]> statistics = new TreeMap<>();
 
-    }
+            for (int i = 0; i < nanos.length; i++) {
+                String zoneID = ids.get(i);
 
-    private static class NamedReference
-        extends SoftReference<Timezone> {
+                if (nanos[i] < 0) {
+                    failures.add(zoneID);
+                } else {
+                    int index = zoneID.indexOf('~');
+                    String pname = ((index > 0) ? zoneID.substring(0, index) : NAME_DEFAULT);
+                    if (pname.equals(NAME_DEFAULT)) {
+                        pname = defaultProvider.getName();
+                    }
+                    long[] values = statistics.computeIfAbsent(pname, k -> new long[2]);
+                    values[0]++;
+                    values[1] += nanos[i];
+                }
+            }
 
-        //~ Instanzvariablen ----------------------------------------------
+            return new PreloadReport(statistics, failures, System.nanoTime() - start);
 
-        private final String tzid;
+        }
 
-        //~ Konstruktoren -------------------------------------------------
+        /**
+         * <p>Yields the result of preloading triggered by the system property
+         * &quot;net.time4j.tz.preload&quot;. </p>
+         *
+         * @return  report or {@code null} if there is no preloading or if it is not yet finished
+         * @see     #preload(Collection, Locale)
+         * @since   5.6
+         */
+        /*[deutsch]
+         * <p>Liefert das Ergebnis des Vorausladens, das durch die System-Property
+         * &quot;net.time4j.tz.preload&quot; ausgel&ouml;st wurde. </p>
+         *
+         * @return  report or {@code null} if there is no preloading or if it is not yet finished
+         * @see     #preload(Collection, Locale)
+         * @since   5.6
+         */
+        public static PreloadReport getPreloadReport() {
 
-        NamedReference(
-            Timezone tz,
-            ReferenceQueue<Timezone> queue
+            return preloadReport;
+
+        }
+
+        // liefert die Ladedauer in Nanosekunden oder -1 bei unbekannter Zeitzone
+        private static long warmUp(
+            String zoneID,
+            Locale locale
         ) {
-            super(tz, queue);
-            this.tzid = tz.getID().canonical();
+
+            long start = System.nanoTime();
+            Timezone tz;
+
+            try {
+                tz = Timezone.getTZ(null, zoneID, false, false); // angeheftet statt verdrängend
+            } catch (IllegalArgumentException iae) {
+                tz = null;
+            }
+
+            if (tz == null) {
+                return -1L;
+            }
+
+            if (tz instanceof HistorizedTimezone) {
+                ((HistorizedTimezone) tz).getLocalWindow();
+            }
+
+            for (NameStyle style : NameStyle.values()) {
+                tz.getDisplayName(style, locale);
+            }
+
+            if (cacheActive) {
+                CACHE.pin(zoneID, tz);
+            }
+
+            return System.nanoTime() - start;
 
         }
 
@@ -1940,7 +2649,7 @@ public abstract class Timezone
 
                 if (
                     (zp == PLATFORM_PROVIDER)
-                    && (DEFAULT_PROVIDER != PLATFORM_PROVIDER)
+                    && (defaultProvider != PLATFORM_PROVIDER)
                 ) {
                     continue;
                 }
@@ -0,0 +1,167 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (TransitionCursor.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+
+/**
+ * <p>Forward-only cursor over the transitions of a {@link TransitionHistory} in a POSIX-interval
+ * whose getters yield primitive values. </p>
+ *
+ * <p>Unlike {@link TransitionHistory#getTransitions(net.time4j.base.UnixTime, net.time4j.base.UnixTime)},
+ * a cursor does not collect all transitions into a list, and the standard implementations of
+ * Time4J avoid creating transition objects where possible. Example for scanning the daylight
+ * saving periods of 30 years: </p>
+ *
+ * <pre>
+ *  TransitionCursor cursor = history.getTransitionCursor(start, start + 30 * 366 * 86400L);
+ *
+ *  while (cursor.next()) {
+ *      long posix = cursor.getPosixTime();
+ *      int dst = cursor.getExtraOffset();
+ *      // ...
+ *  }
+ * </pre>
+ *
+ * <p>The getters must only be called after {@link #next()} has yielded {@code true}, otherwise
+ * they throw an {@code IllegalStateException}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     TransitionHistory#getTransitionCursor(long, long)
+ * @doctags.concurrency {mutable}
+ */
+/*[deutsch]
+ * <p>Vorw&auml;rts laufender Cursor &uuml;ber die &Uuml;berg&auml;nge einer {@link TransitionHistory}
+ * in einem POSIX-Intervall, dessen Abfragemethoden primitive Werte liefern. </p>
+ *
+ * <p>Im Unterschied zu {@link TransitionHistory#getTransitions(net.time4j.base.UnixTime, net.time4j.base.UnixTime)}
+ * sammelt ein Cursor nicht alle &Uuml;berg&auml;nge in einer Liste, und die Standardimplementierungen
+ * von Time4J vermeiden nach M&ouml;glichkeit die Erzeugung von &Uuml;bergangsobjekten. Beispiel
+ * f&uuml;r die Suche nach den Sommerzeitperioden von 30 Jahren: </p>
+ *
+ * <pre>
+ *  TransitionCursor cursor = history.getTransitionCursor(start, start + 30 * 366 * 86400L);
+ *
+ *  while (cursor.next()) {
+ *      long posix = cursor.getPosixTime();
+ *      int dst = cursor.getExtraOffset();
+ *      // ...
+ *  }
+ * </pre>
+ *
+ * <p>Die Abfragemethoden d&uuml;rfen erst aufgerufen werden, nachdem {@link #next()}
+ * {@code true} geliefert hat, sonst werfen sie eine {@code IllegalStateException}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     TransitionHistory#getTransitionCursor(long, long)
+ * @doctags.concurrency {mutable}
+ */
+public interface TransitionCursor {
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Moves this cursor to the next transition. </p>
+     *
+     * @return  {@code true} if there is a next transition in the interval else {@code false}
+     */
+    /*[deutsch]
+     * <p>Bewegt diesen Cursor zum n&auml;chsten &Uuml;bergang. </p>
+     *
+     * @return  {@code true} if there is a next transition in the interval else {@code false}
+     */
+    boolean next();
+
+    /**
+     * <p>Yields the time of the current transition. </p>
+     *
+     * @return  elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @see     ZonalTransition#getPosixTime()
+     */
+    /*[deutsch]
+     * <p>Liefert die Zeit des aktuellen &Uuml;bergangs. </p>
+     *
+     * @return  elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @see     ZonalTransition#getPosixTime()
+     */
+    long getPosixTime();
+
+    /**
+     * <p>Yields the total offset before the current transition. </p>
+     *
+     * @return  offset in seconds
+     * @see     ZonalTransition#getPreviousOffset()
+     */
+    /*[deutsch]
+     * <p>Liefert die Gesamtverschiebung vor dem aktuellen &Uuml;bergang. </p>
+     *
+     * @return  offset in seconds
+     * @see     ZonalTransition#getPreviousOffset()
+     */
+    int getPreviousOffset();
+
+    /**
+     * <p>Yields the total offset after the current transition. </p>
+     *
+     * @return  offset in seconds
+     * @see     ZonalTransition#getTotalOffset()
+     */
+    /*[deutsch]
+     * <p>Liefert die Gesamtverschiebung nach dem aktuellen &Uuml;bergang. </p>
+     *
+     * @return  offset in seconds
+     * @see     ZonalTransition#getTotalOffset()
+     */
+    int getTotalOffset();
+
+    /**
+     * <p>Yields the daylight saving part of the total offset after the current transition. </p>
+     *
+     * @return  offset in seconds
+     * @see     ZonalTransition#getExtraOffset()
+     */
+    /*[deutsch]
+     * <p>Liefert den Sommerzeitanteil der Gesamtverschiebung nach dem aktuellen &Uuml;bergang. </p>
+     *
+     * @return  offset in seconds
+     * @see     ZonalTransition#getExtraOffset()
+     */
+    int getExtraOffset();
+
+    /**
+     * <p>Yields the standard part of the total offset after the current transition. </p>
+     *
+     * @return  offset in seconds
+     * @see     ZonalTransition#getRawOffset()
+     */
+    /*[deutsch]
+     * <p>Liefert den Standardanteil der Gesamtverschiebung nach dem aktuellen &Uuml;bergang. </p>
+     *
+     * @return  offset in seconds
+     * @see     ZonalTransition#getRawOffset()
+     */
+    default int getRawOffset() {
+        return (this.getTotalOffset() - this.getExtraOffset());
+    }
+
+}
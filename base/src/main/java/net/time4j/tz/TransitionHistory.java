@@ -102,6 +102,79 @@ public interface TransitionHistory {
      */
     ZonalTransition getStartTransition(UnixTime ut);
 
+    /**
+     * <p>Queries the total offset in seconds which is valid at given
+     * posix time. </p>
+     *
+     * <p>This method yields the same value as the expression
+     * {@code getStartTransition(ut).getTotalOffset()} with the initial
+     * offset as fallback but is designed for hot paths where the creation
+     * of intermediate objects shall be avoided. </p>
+     *
+     * @param   posixTime   elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @return  total offset in seconds
+     * @see     #getStartTransition(UnixTime)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Ermittelt die zur angegebenen POSIX-Zeit g&uuml;ltige
+     * Gesamtverschiebung in Sekunden. </p>
+     *
+     * <p>Diese Methode liefert den gleichen Wert wie der Ausdruck
+     * {@code getStartTransition(ut).getTotalOffset()} mit der initialen
+     * Verschiebung als Ersatzwert, ist aber f&uuml;r zeitkritische Aufrufe
+     * gedacht, in denen keine Zwischenobjekte erzeugt werden sollen. </p>
+     *
+     * @param   posixTime   elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @return  total offset in seconds
+     * @see     #getStartTransition(UnixTime)
+     * @since   5.6
+     */
+    default int getTotalOffset(long posixTime) {
+        ZonalTransition transition = this.getStartTransition(SimpleUT.ofPosixTime(posixTime));
+        return ((transition == null) ? this.getInitialOffset().getIntegralAmount() : transition.getTotalOffset());
+    }
+
+    /**
+     * <p>Queries the total offsets in seconds for many posix times in one step. </p>
+     *
+     * <p>Equivalent to calling {@link #getTotalOffset(long)} for every element but implementations
+     * are free to exploit sorted or clustered input, for example by reusing the last found
+     * transition. </p>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   totalOffsets    output array for the total offsets in seconds (same index as input)
+     * @throws  IllegalArgumentException if the output array is shorter than the input array
+     * @see     #getTotalOffset(long)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Gesamtverschiebungen in Sekunden f&uuml;r viele POSIX-Zeiten in einem
+     * Schritt. </p>
+     *
+     * <p>&Auml;quivalent zum Aufruf von {@link #getTotalOffset(long)} f&uuml;r jedes Element,
+     * aber Implementierungen d&uuml;rfen sortierte oder geh&auml;ufte Eingaben ausnutzen, zum
+     * Beispiel, indem sie den zuletzt gefundenen &Uuml;bergang wiederverwenden. </p>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   totalOffsets    output array for the total offsets in seconds (same index as input)
+     * @throws  IllegalArgumentException if the output array is shorter than the input array
+     * @see     #getTotalOffset(long)
+     * @since   5.6
+     */
+    default void getOffsets(
+        long[] posixTimes,
+        int[] totalOffsets
+    ) {
+        if (totalOffsets.length < posixTimes.length) {
+            throw new IllegalArgumentException(
+                "Output array too short: " + totalOffsets.length + " < " + posixTimes.length);
+        }
+        for (int i = 0; i < posixTimes.length; i++) {
+            totalOffsets[i] = this.getTotalOffset(posixTimes[i]);
+        }
+    }
+
     /**
      * <p>Returns the conflict transition where given local timestamp
      * falls either in a gap or in an overlap on the local timeline. </p>
@@ -261,6 +334,45 @@ public interface TransitionHistory {
         UnixTime endExclusive
     );
 
+    /**
+     * <p>Creates a cursor over the defined transitions in given POSIX-interval. </p>
+     *
+     * <p>The cursor visits the same transitions as {@link #getTransitions(UnixTime, UnixTime)}
+     * in ascending order but is designed for scanning long intervals without creating
+     * intermediate objects. The default implementation just walks through the result of
+     * {@code getTransitions()}. </p>
+     *
+     * @param   startInclusive  start time in seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   endExclusive    end time in seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @return  new cursor positioned before the first transition in given interval
+     * @throws  IllegalArgumentException if start is after end
+     * @see     #getTransitions(UnixTime, UnixTime)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen Cursor &uuml;ber die im angegebenen POSIX-Intervall vorhandenen
+     * zonalen &Uuml;berg&auml;nge. </p>
+     *
+     * <p>Der Cursor besucht die gleichen &Uuml;berg&auml;nge wie
+     * {@link #getTransitions(UnixTime, UnixTime)} in aufsteigender Reihenfolge, ist aber daf&uuml;r
+     * gedacht, lange Intervalle ohne Erzeugung von Zwischenobjekten zu durchsuchen. Die
+     * Standardimplementierung durchl&auml;uft einfach das Ergebnis von {@code getTransitions()}. </p>
+     *
+     * @param   startInclusive  start time in seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   endExclusive    end time in seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @return  new cursor positioned before the first transition in given interval
+     * @throws  IllegalArgumentException if start is after end
+     * @see     #getTransitions(UnixTime, UnixTime)
+     * @since   5.6
+     */
+    default TransitionCursor getTransitionCursor(
+        long startInclusive,
+        long endExclusive
+    ) {
+        return new ListCursor(
+            this.getTransitions(SimpleUT.ofPosixTime(startInclusive), SimpleUT.ofPosixTime(endExclusive)));
+    }
+
     /**
      * <p>Determines if this history does not have any transitions. </p>
      *
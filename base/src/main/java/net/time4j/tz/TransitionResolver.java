@@ -95,6 +95,37 @@ final class TransitionResolver
         Timezone tz
     ) {
 
+        if (tz instanceof HistorizedTimezone) {
+            LocalWindow window = ((HistorizedTimezone) tz).getLocalWindow();
+            long localSecs = LocalWindow.toLocalSeconds(date, time);
+
+            if ((window != null) && window.contains(localSecs)) {
+                int index = window.search(localSecs);
+
+                if (window.isGap(index, localSecs)) {
+                    switch (this.gapResolver) {
+                        case PUSH_FORWARD:
+                            return localSecs - window.getPreviousOffset(index);
+                        case NEXT_VALID_TIME:
+                            return window.getPosixTime(index);
+                        case ABORT:
+                            throwInvalidException(date, time, tz);
+                            break;
+                        default:
+                            String msg = this.gapResolver.name();
+                            throw new UnsupportedOperationException(msg);
+                    }
+                } else if (window.isOverlap(index, localSecs)) {
+                    return localSecs - (
+                        (this.overlapResolver == OverlapResolver.EARLIER_OFFSET)
+                        ? window.getPreviousOffset(index)
+                        : window.getTotalOffset(index));
+                }
+
+                return localSecs - window.getOffset(index);
+            }
+        }
+
         int y = date.getYear();
         int m = date.getMonth();
         int d = date.getDayOfMonth();
@@ -187,6 +218,29 @@ final class TransitionResolver
         Timezone tz
     ) {
 
+        if (tz instanceof HistorizedTimezone) {
+            LocalWindow window = ((HistorizedTimezone) tz).getLocalWindow();
+            long localSecs = LocalWindow.toLocalSeconds(date, time);
+
+            if ((window != null) && window.contains(localSecs)) {
+                int index = window.search(localSecs);
+
+                if (window.isGap(index, localSecs)) {
+                    if (this.gapResolver == GapResolver.ABORT) {
+                        throwInvalidException(date, time, tz);
+                    }
+                    return ZonalOffset.ofTotalSeconds(window.getTotalOffset(index));
+                } else if (window.isOverlap(index, localSecs)) {
+                    return ZonalOffset.ofTotalSeconds(
+                        (this.overlapResolver == OverlapResolver.EARLIER_OFFSET)
+                        ? window.getPreviousOffset(index)
+                        : window.getTotalOffset(index));
+                }
+
+                return ZonalOffset.ofTotalSeconds(window.getOffset(index));
+            }
+        }
+
         TransitionHistory history = tz.getHistory();
 
         if (
@@ -28,8 +28,7 @@ import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Locale;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 
 /**
@@ -60,7 +59,11 @@ public final class ZonalOffset
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    private static final ConcurrentMap<Integer, ZonalOffset> OFFSET_CACHE = new ConcurrentHashMap<>();
+    private static final int MAX_MINUTES = 18 * 60;
+    private static final AtomicReferenceArray<ZonalOffset> MINUTE_OFFSETS =
+        new AtomicReferenceArray<>(2 * MAX_MINUTES + 1); // Index = Minuten + 18 * 60
+    private static final AtomicReferenceArray<ZonalOffset> SECOND_OFFSETS =
+        new AtomicReferenceArray<>(64); // direkt abgebildet, für LMT-Verschiebungen
 
     private static final BigDecimal DECIMAL_60 = new BigDecimal(60);
     private static final BigDecimal DECIMAL_3600 = new BigDecimal(3600);
@@ -81,7 +84,11 @@ public final class ZonalOffset
 
     static {
         UTC = new ZonalOffset(0, 0);
-        OFFSET_CACHE.put(Integer.valueOf(0), UTC);
+
+        // Viertelstundenintervalle vorab, andere ganze Minuten bei Bedarf
+        for (int minutes = -MAX_MINUTES; minutes <= MAX_MINUTES; minutes += 15) {
+            MINUTE_OFFSETS.set(minutes + MAX_MINUTES, (minutes == 0) ? UTC : new ZonalOffset(minutes * 60, 0));
+        }
     }
 
     private static final long serialVersionUID = -1410512619471503090L;
@@ -491,17 +498,26 @@ public final class ZonalOffset
             return new ZonalOffset(total, fraction);
         } else if (total == 0) {
             return UTC;
-        } else if ((total % (15 * 60)) == 0) { // Viertelstundenintervall
-            Integer value = Integer.valueOf(total);
-            ZonalOffset result = OFFSET_CACHE.get(value);
+        } else if ((total < -18 * 3600) || (total > 18 * 3600)) {
+            return new ZonalOffset(total, 0); // Bereichsfehler
+        } else if ((total % 60) == 0) { // ganze Minuten
+            int index = total / 60 + MAX_MINUTES;
+            ZonalOffset result = MINUTE_OFFSETS.get(index);
             if (result == null) {
                 result = new ZonalOffset(total, 0);
-                OFFSET_CACHE.putIfAbsent(value, result);
-                result = OFFSET_CACHE.get(value);
+                if (!MINUTE_OFFSETS.compareAndSet(index, null, result)) {
+                    result = MINUTE_OFFSETS.get(index);
+                }
             }
             return result;
         } else {
-            return new ZonalOffset(total, 0);
+            int slot = (total * 0x9E3779B9) >>> 26;
+            ZonalOffset result = SECOND_OFFSETS.get(slot);
+            if ((result == null) || (result.total != total)) {
+                result = new ZonalOffset(total, 0);
+                SECOND_OFFSETS.set(slot, result);
+            }
+            return result;
         }
 
     }
@@ -0,0 +1,309 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>Sperrfreier, gr&ouml;&szlig;enbegrenzter Cache f&uuml;r geladene Zeitzonen. </p>
+ *
+ * <p>Alle gespeicherten Zeitzonen werden stark referenziert, so da&szlig; sie nicht unter
+ * Speicherdruck verloren gehen. Ist die Kapazit&auml;t ersch&ouml;pft, wird ein Eintrag
+ * nach dem CLOCK-Verfahren verdr&auml;ngt: Ein Zeiger l&auml;uft &uuml;ber einen Ring
+ * von Pl&auml;tzen, l&ouml;scht das Zugriffsbit k&uuml;rzlich benutzter Eintr&auml;ge und
+ * verdr&auml;ngt den ersten Eintrag ohne Zugriffsbit. Nur die Konfiguration ist
+ * synchronisiert, nicht die Suche oder das Speichern. </p>
+ *
+ * @author      Meno Hochschild
+ * @since       5.6
+ * @doctags.concurrency {threadsafe}
+ */
+final class ZoneCache {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    static final int DEFAULT_SIZE =
+        Math.max(1, Integer.getInteger("net.time4j.tz.cache.size", 1024).intValue());
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ConcurrentMap<String, Entry> map = new ConcurrentHashMap<>();
+    private final AtomicInteger hand = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    private volatile AtomicReferenceArray<Entry> ring = new AtomicReferenceArray<>(DEFAULT_SIZE);
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Sucht eine Zeitzone im Cache. </p>
+     *
+     * @param   zoneID      timezone identifier
+     * @return  cached timezone or {@code null}
+     */
+    Timezone get(String zoneID) {
+
+        Entry entry = this.map.get(zoneID);
+
+        if (entry == null) {
+            this.misses.increment();
+            return null;
+        }
+
+        if (!entry.referenced) {
+            entry.referenced = true; // vermeidet unnötige Schreibzugriffe
+        }
+
+        this.hits.increment();
+        return entry.tz;
+
+    }
+
+    /**
+     * <p>Speichert eine Zeitzone im Cache, wenn noch keine gespeichert ist. </p>
+     *
+     * @param   zoneID      timezone identifier
+     * @param   tz          timezone to be stored
+     * @return  already cached timezone or else the argument
+     */
+    Timezone putIfAbsent(
+        String zoneID,
+        Timezone tz
+    ) {
+
+        Entry old = this.map.get(zoneID);
+
+        if (old != null) {
+            return old.tz;
+        }
+
+        // zuerst einen Platz im Ring belegen, damit die Map nie über die Kapazität wächst
+        Entry entry = new Entry(zoneID, tz, false);
+        AtomicReferenceArray<Entry> slots = this.admit(entry);
+        old = this.map.putIfAbsent(zoneID, entry);
+
+        if (old != null) {
+            slots.compareAndSet(entry.slot, entry, null);
+            return old.tz;
+        }
+
+        // inzwischen nebenläufig verdrängt oder Größenänderung?
+        if ((slots != this.ring) || (slots.get(entry.slot) != entry)) {
+            this.map.remove(zoneID, entry);
+        }
+
+        return tz;
+
+    }
+
+    /**
+     * <p>Entfernt eine Zeitzone aus dem Cache (auch wenn sie angeheftet ist). </p>
+     *
+     * <p>Ein eventuell noch belegter Platz im Ring wird sp&auml;ter beim Verdr&auml;ngen
+     * wiederverwendet. </p>
+     *
+     * @param   zoneID      timezone identifier
+     */
+    void remove(String zoneID) {
+
+        this.map.remove(zoneID);
+
+    }
+
+    /**
+     * <p>Speichert eine Zeitzone dauerhaft im Cache. </p>
+     *
+     * <p>Angeheftete Zeitzonen belegen keinen Platz im Ring, werden also nie verdr&auml;ngt
+     * und z&auml;hlen nicht zur Kapazit&auml;t. Nur {@link #clear()} entfernt sie. Ein bisher
+     * nicht angehefteter Eintrag gibt seinen Platz im Ring frei. </p>
+     *
+     * @param   zoneID      timezone identifier
+     * @param   tz          timezone to be pinned
+     */
+    void pin(
+        String zoneID,
+        Timezone tz
+    ) {
+
+        Entry old = this.map.put(zoneID, new Entry(zoneID, tz, true));
+
+        if ((old != null) && !old.pinned) {
+            AtomicReferenceArray<Entry> slots = this.ring;
+
+            if ((old.slot >= 0) && (old.slot < slots.length())) {
+                slots.compareAndSet(old.slot, old, null);
+            }
+        }
+
+    }
+
+    /**
+     * <p>Registriert die Dauer eines Ladevorgangs beim {@code ZoneModelProvider}. </p>
+     *
+     * @param   nanos   elapsed time in nanoseconds
+     */
+    void recordLoad(long nanos) {
+
+        this.loads.increment();
+        this.loadNanos.add(nanos);
+
+    }
+
+    /**
+     * <p>Entfernt alle Eintr&auml;ge, die Statistik bleibt erhalten. </p>
+     */
+    void clear() {
+
+        AtomicReferenceArray<Entry> slots = this.ring;
+
+        for (int i = 0, n = slots.length(); i < n; i++) {
+            slots.set(i, null);
+        }
+
+        this.map.clear();
+
+    }
+
+    /**
+     * <p>Setzt die Kapazit&auml;t neu und leert dabei den Cache bis auf angeheftete
+     * Zeitzonen. </p>
+     *
+     * @param   capacity    new maximum count of cached timezones (positive)
+     */
+    synchronized void resize(int capacity) {
+
+        if (capacity != this.ring.length()) {
+            this.ring = new AtomicReferenceArray<>(capacity);
+            this.map.values().removeIf(entry -> !entry.pinned);
+        }
+
+    }
+
+    int getCapacity() {
+
+        return this.ring.length();
+
+    }
+
+    int size() {
+
+        return this.map.size();
+
+    }
+
+    long getHitCount() {
+
+        return this.hits.sum();
+
+    }
+
+    long getMissCount() {
+
+        return this.misses.sum();
+
+    }
+
+    long getEvictionCount() {
+
+        return this.evictions.sum();
+
+    }
+
+    long getLoadCount() {
+
+        return this.loads.sum();
+
+    }
+
+    long getLoadTimeInNanos() {
+
+        return this.loadNanos.sum();
+
+    }
+
+    // CLOCK: erster Platz ohne Zugriffsbit wird neu belegt
+    private AtomicReferenceArray<Entry> admit(Entry entry) {
+
+        AtomicReferenceArray<Entry> slots = this.ring;
+        int n = slots.length();
+
+        while (true) {
+            int index = Math.floorMod(this.hand.getAndIncrement(), n);
+            Entry current = slots.get(index);
+            entry.slot = index; // wird erst mit erfolgreichem CAS sichtbar
+
+            if (current == null) {
+                if (slots.compareAndSet(index, null, entry)) {
+                    return slots;
+                }
+            } else if (current.referenced) {
+                current.referenced = false; // zweite Chance
+            } else if (slots.compareAndSet(index, current, entry)) {
+                if (this.map.remove(current.key, current)) {
+                    this.evictions.increment();
+                }
+                return slots;
+            }
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static final class Entry {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String key;
+        private final Timezone tz;
+        private volatile boolean referenced;
+        private final boolean pinned;
+        private int slot = -1;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Entry(
+            String key,
+            Timezone tz,
+            boolean pinned
+        ) {
+            super();
+
+            this.key = key;
+            this.tz = tz;
+            this.pinned = pinned;
+
+        }
+
+    }
+
+}
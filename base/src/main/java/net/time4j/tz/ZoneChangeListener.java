@@ -0,0 +1,86 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneChangeListener.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import java.util.Set;
+
+
+/**
+ * <p>Callback which is informed about changed timezone data after a zone model provider has
+ * been replaced at runtime. </p>
+ *
+ * <p>Applications can use this interface in order to invalidate own caches depending on
+ * timezone data incrementally instead of flushing everything. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     Timezone#installProvider(ZoneModelProvider)
+ * @see     Timezone#addChangeListener(ZoneChangeListener)
+ */
+/*[deutsch]
+ * <p>R&uuml;ckruf, der &uuml;ber ge&auml;nderte Zeitzonendaten informiert wird, nachdem ein
+ * {@code ZoneModelProvider} zur Laufzeit ersetzt wurde. </p>
+ *
+ * <p>Anwendungen k&ouml;nnen dieses Interface nutzen, um eigene von Zeitzonendaten
+ * abh&auml;ngige Puffer schrittweise zu entwerten, statt alles zu verwerfen. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     Timezone#installProvider(ZoneModelProvider)
+ * @see     Timezone#addChangeListener(ZoneChangeListener)
+ */
+@FunctionalInterface
+public interface ZoneChangeListener {
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Is called after given provider has been installed and the timezone cache has
+     * been updated. </p>
+     *
+     * <p>The identifiers are given in the form accepted by {@link Timezone#of(String)}, that is
+     * with the provider name as prefix unless the provider is the default provider. Aliases
+     * whose target zone has changed are included, too. </p>
+     *
+     * @param   provider    newly installed zone model provider
+     * @param   zoneIDs     unmodifiable set of identifiers whose transition history has changed,
+     *                      or which have been added or removed
+     */
+    /*[deutsch]
+     * <p>Wird aufgerufen, nachdem der angegebene {@code ZoneModelProvider} installiert und
+     * der Zeitzonen-Cache aktualisiert wurde. </p>
+     *
+     * <p>Die Kennungen werden in der von {@link Timezone#of(String)} akzeptierten Form
+     * angegeben, also mit dem Provider-Namen als Pr&auml;fix, es sei denn, der Provider ist
+     * der Standard-Provider. Aliasnamen, deren Ziel sich ge&auml;ndert hat, sind ebenfalls
+     * enthalten. </p>
+     *
+     * @param   provider    newly installed zone model provider
+     * @param   zoneIDs     unmodifiable set of identifiers whose transition history has changed,
+     *                      or which have been added or removed
+     */
+    void zonesChanged(
+        ZoneModelProvider provider,
+        Set<String> zoneIDs
+    );
+
+}
@@ -26,6 +26,7 @@ import net.time4j.base.GregorianDate;
 import net.time4j.base.UnixTime;
 import net.time4j.base.WallTime;
 import net.time4j.scale.TimeScale;
+import net.time4j.tz.TransitionCursor;
 import net.time4j.tz.ZonalOffset;
 import net.time4j.tz.ZonalTransition;
 
@@ -60,6 +61,11 @@ final class ArrayTransitionModel
     private transient final ZonalTransition[] transitions;
     private transient final boolean negativeDST;
 
+    // primitive Spalten für die Suche (ohne Dereferenzierung von Objekten)
+    private transient final long[] posixTimes;
+    private transient final int[] previousOffsets;
+    private transient final int[] totalOffsets;
+
     // Cache
     private transient final List<ZonalTransition> stdTransitions;
     private transient int hash = 0;
@@ -103,10 +109,20 @@ final class ArrayTransitionModel
         }
 
         this.transitions = tmp;
+        this.posixTimes = new long[n];
+        this.previousOffsets = new int[n];
+        this.totalOffsets = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            ZonalTransition zt = tmp[i];
+            this.posixTimes[i] = zt.getPosixTime();
+            this.previousOffsets[i] = zt.getPreviousOffset();
+            this.totalOffsets[i] = zt.getTotalOffset();
+        }
 
         // fill standard transition cache
         long end = TransitionModel.getFutureMoment(1);
-        this.stdTransitions = getTransitions(this.transitions, 0L, end);
+        this.stdTransitions = this.getTransitions(0L, end);
 
     }
 
@@ -115,15 +131,14 @@ final class ArrayTransitionModel
     @Override
     public ZonalOffset getInitialOffset() {
 
-        return ZonalOffset.ofTotalSeconds(
-            this.transitions[0].getPreviousOffset());
+        return ZonalOffset.ofTotalSeconds(this.previousOffsets[0]);
 
     }
 
     @Override
     public ZonalTransition getStartTransition(UnixTime ut) {
 
-        int index = search(ut.getPosixTime(), this.transitions);
+        int index = search(ut.getPosixTime(), this.posixTimes);
 
         return (
             (index == 0)
@@ -132,6 +147,29 @@ final class ArrayTransitionModel
 
     }
 
+    @Override
+    public int getTotalOffset(long posixTime) {
+
+        return this.getTotalOffsetBefore(search(posixTime, this.posixTimes));
+
+    }
+
+    @Override
+    public void getOffsets(
+        long[] posixTimes,
+        int[] totalOffsets
+    ) {
+
+        TransitionModel.checkBatch(posixTimes, totalOffsets);
+        int index = 0;
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            index = this.search(posixTimes[i], index);
+            totalOffsets[i] = this.getTotalOffsetBefore(index);
+        }
+
+    }
+
     @Override
     public ZonalTransition getConflictTransition(
         GregorianDate localDate,
@@ -145,7 +183,7 @@ final class ArrayTransitionModel
     @Override
     public Optional<ZonalTransition> findNextTransition(UnixTime ut) {
 
-        int index = search(ut.getPosixTime(), this.transitions);
+        int index = search(ut.getPosixTime(), this.posixTimes);
 
         return (
             (index == this.transitions.length)
@@ -177,13 +215,37 @@ final class ArrayTransitionModel
         UnixTime endExclusive
     ) {
 
-        return getTransitions(
-            this.transitions,
+        return this.getTransitions(
             startInclusive.getPosixTime(),
             endExclusive.getPosixTime());
 
     }
 
+    @Override
+    public TransitionCursor getTransitionCursor(
+        long startInclusive,
+        long endExclusive
+    ) {
+
+        if (startInclusive > endExclusive) {
+            throw new IllegalArgumentException("Start after end.");
+        }
+
+        int i1 = search(startInclusive, this.posixTimes);
+        int i2 = search(endExclusive, this.posixTimes);
+
+        if ((i1 > 0) && (this.posixTimes[i1 - 1] == startInclusive)) {
+            i1--;
+        }
+
+        if ((i2 > 0) && (this.posixTimes[i2 - 1] == endExclusive)) {
+            i2--;
+        }
+
+        return new ArrayCursor(i1, i2);
+
+    }
+
     @Override
     public void dump(Appendable buffer) throws IOException {
 
@@ -257,7 +319,7 @@ final class ArrayTransitionModel
     ) {
 
         long localSecs = TransitionModel.toLocalSecs(localDate, localTime);
-        int index = searchLocal(localSecs, this.transitions);
+        int index = this.searchLocal(localSecs);
 
         if (index == this.transitions.length) {
             return (
@@ -266,17 +328,19 @@ final class ArrayTransitionModel
                 : ruleModel.getConflictTransition(localDate, localSecs));
         }
 
-        ZonalTransition test = this.transitions[index];
+        long posix = this.posixTimes[index];
+        int previous = this.previousOffsets[index];
+        int total = this.totalOffsets[index];
 
-        if (test.isGap()) {
-            assert (test.getPosixTime() + test.getTotalOffset() > localSecs);
-            if (test.getPosixTime() + test.getPreviousOffset() <= localSecs) {
-                return test;
+        if (total > previous) { // gap
+            assert (posix + total > localSecs);
+            if (posix + previous <= localSecs) {
+                return this.transitions[index];
             }
-        } else if (test.isOverlap()) {
-            assert (test.getPosixTime() + test.getPreviousOffset() > localSecs);
-            if (test.getPosixTime() + test.getTotalOffset() <= localSecs) {
-                return test;
+        } else if (total < previous) { // overlap
+            assert (posix + previous > localSecs);
+            if (posix + total <= localSecs) {
+                return this.transitions[index];
             }
         }
 
@@ -300,35 +364,34 @@ final class ArrayTransitionModel
     ) {
 
         long localSecs = TransitionModel.toLocalSecs(localDate, localTime);
-        int index = searchLocal(localSecs, this.transitions);
+        int index = this.searchLocal(localSecs);
 
         if (index == this.transitions.length) {
             if (ruleModel == null) {
-                ZonalTransition last =
-                    this.transitions[this.transitions.length - 1];
-                return TransitionModel.toList(last.getTotalOffset());
+                return TransitionModel.toList(
+                    this.totalOffsets[this.totalOffsets.length - 1]);
             } else {
                 return ruleModel.getValidOffsets(localDate, localSecs);
             }
         }
 
-        ZonalTransition test = this.transitions[index];
+        long posix = this.posixTimes[index];
+        int previous = this.previousOffsets[index];
+        int total = this.totalOffsets[index];
 
-        if (test.isGap()) {
-            assert (test.getPosixTime() + test.getTotalOffset() > localSecs);
-            if (test.getPosixTime() + test.getPreviousOffset() <= localSecs) {
+        if (total > previous) { // gap
+            assert (posix + total > localSecs);
+            if (posix + previous <= localSecs) {
                 return Collections.emptyList();
             }
-        } else if (test.isOverlap()) {
-            assert (test.getPosixTime() + test.getPreviousOffset() > localSecs);
-            if (test.getPosixTime() + test.getTotalOffset() <= localSecs) {
-                return TransitionModel.toList(
-                    test.getTotalOffset(),
-                    test.getPreviousOffset());
+        } else if (total < previous) { // overlap
+            assert (posix + previous > localSecs);
+            if (posix + total <= localSecs) {
+                return TransitionModel.toList(total, previous);
             }
         }
 
-        return TransitionModel.toList(test.getPreviousOffset());
+        return TransitionModel.toList(previous);
 
     }
 
@@ -345,6 +408,48 @@ final class ArrayTransitionModel
 
     }
 
+    /**
+     * <p>Sucht wie {@code search(long, long[])} den Index des ersten &Uuml;bergangs nach der
+     * angegebenen POSIX-Zeit, pr&uuml;ft aber zuerst den zuletzt gefundenen Index und
+     * seinen Nachfolger (sortierte oder geh&auml;ufte Eingaben). </p>
+     *
+     * @param   posixTime   elapsed seconds since UNIX epoch
+     * @param   hint        last found index
+     * @return  index of first transition after given posix time
+     */
+    int search(
+        long posixTime,
+        int hint
+    ) {
+
+        long[] times = this.posixTimes;
+        int n = times.length;
+
+        for (int index = hint, end = Math.min(hint + 1, n); index <= end; index++) {
+            if (
+                ((index == 0) || (times[index - 1] <= posixTime))
+                && ((index == n) || (posixTime < times[index]))
+            ) {
+                return index;
+            }
+        }
+
+        return search(posixTime, times);
+
+    }
+
+    /**
+     * <p>Liefert die Gesamtverschiebung vor dem &Uuml;bergang mit dem angegebenen Index. </p>
+     *
+     * @param   index   result of a search
+     * @return  total offset in seconds
+     */
+    int getTotalOffsetBefore(int index) {
+
+        return ((index == 0) ? this.previousOffsets[0] : this.totalOffsets[index - 1]);
+
+    }
+
     // Called by CompositeTransitionModel
     ZonalTransition getLastTransition() {
 
@@ -434,8 +539,7 @@ final class ArrayTransitionModel
 
     }
 
-    private static List<ZonalTransition> getTransitions(
-        ZonalTransition[] transitions,
+    private List<ZonalTransition> getTransitions(
         long startInclusive,
         long endExclusive
     ) {
@@ -444,18 +548,18 @@ final class ArrayTransitionModel
             throw new IllegalArgumentException("Start after end.");
         }
 
-        int i1 = search(startInclusive, transitions);
-        int i2 = search(endExclusive, transitions);
+        int i1 = search(startInclusive, this.posixTimes);
+        int i2 = search(endExclusive, this.posixTimes);
 
         if (i2 == 0) {
             return Collections.emptyList();
-        } else if ((i1 > 0) && (transitions[i1 - 1].getPosixTime() == startInclusive)) {
+        } else if ((i1 > 0) && (this.posixTimes[i1 - 1] == startInclusive)) {
             i1--;
         }
 
         i2--;
 
-        if (transitions[i2].getPosixTime() == endExclusive) {
+        if (this.posixTimes[i2] == endExclusive) {
             i2--;
         }
 
@@ -464,7 +568,7 @@ final class ArrayTransitionModel
         } else {
             List<ZonalTransition> result = new ArrayList<>(i2 - i1 + 1);
             for (int i = i1; i <= i2; i++) {
-                result.add(transitions[i]);
+                result.add(this.transitions[i]);
             }
             return Collections.unmodifiableList(result);
         }
@@ -474,16 +578,16 @@ final class ArrayTransitionModel
     // returns index of first transition after posixTime
     private static int search(
         long posixTime,
-        ZonalTransition[] transitions
+        long[] posixTimes
     ) {
 
         int low = 0;
-        int high = transitions.length - 1;
+        int high = posixTimes.length - 1;
 
         while (low <= high) {
-            int middle = (low + high) / 2;
+            int middle = (low + high) >>> 1;
 
-            if (transitions[middle].getPosixTime() <= posixTime) {
+            if (posixTimes[middle] <= posixTime) {
                 low = middle + 1;
             } else {
                 high = middle - 1;
@@ -495,20 +599,16 @@ final class ArrayTransitionModel
     }
 
     // returns index of first transition after local date and time
-    private static int searchLocal(
-        long localSecs,
-        ZonalTransition[] transitions
-    ) {
+    private int searchLocal(long localSecs) {
 
         int low = 0;
-        int high = transitions.length - 1;
+        int high = this.posixTimes.length - 1;
 
         while (low <= high) {
-            int middle = (low + high) / 2;
-            ZonalTransition zt = transitions[middle];
-            int offset = Math.max(zt.getTotalOffset(), zt.getPreviousOffset());
+            int middle = (low + high) >>> 1;
+            int offset = Math.max(this.totalOffsets[middle], this.previousOffsets[middle]);
 
-            if (zt.getPosixTime() + offset <= localSecs) {
+            if (this.posixTimes[middle] + offset <= localSecs) {
                 low = middle + 1;
             } else {
                 high = middle - 1;
@@ -548,4 +648,83 @@ final class ArrayTransitionModel
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    private final class ArrayCursor
+        implements TransitionCursor {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int start;
+        private final int end;
+        private int index;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        ArrayCursor(
+            int start,
+            int end
+        ) {
+            super();
+
+            this.start = start;
+            this.end = end;
+            this.index = start - 1;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean next() {
+
+            if (this.index + 1 < this.end) {
+                this.index++;
+                return true;
+            }
+
+            this.index = this.end; // erschöpft
+            return false;
+
+        }
+
+        @Override
+        public long getPosixTime() {
+
+            return ArrayTransitionModel.this.posixTimes[this.current()];
+
+        }
+
+        @Override
+        public int getPreviousOffset() {
+
+            return ArrayTransitionModel.this.previousOffsets[this.current()];
+
+        }
+
+        @Override
+        public int getTotalOffset() {
+
+            return ArrayTransitionModel.this.totalOffsets[this.current()];
+
+        }
+
+        @Override
+        public int getExtraOffset() {
+
+            return ArrayTransitionModel.this.transitions[this.current()].getExtraOffset();
+
+        }
+
+        private int current() {
+
+            if ((this.index < this.start) || (this.index >= this.end)) {
+                throw new IllegalStateException("Cursor not positioned on a transition.");
+            }
+
+            return this.index;
+
+        }
+
+    }
 }
@@ -24,6 +24,7 @@ package net.time4j.tz.model;
 import net.time4j.base.GregorianDate;
 import net.time4j.base.UnixTime;
 import net.time4j.base.WallTime;
+import net.time4j.tz.TransitionCursor;
 import net.time4j.tz.ZonalOffset;
 import net.time4j.tz.ZonalTransition;
 
@@ -104,6 +105,41 @@ final class CompositeTransitionModel
 
     }
 
+    @Override
+    public int getTotalOffset(long posixTime) {
+
+        if (posixTime < this.last.getPosixTime()) {
+            return this.arrayModel.getTotalOffset(posixTime);
+        } else {
+            return this.ruleModel.getTotalOffset(posixTime);
+        }
+
+    }
+
+    @Override
+    public void getOffsets(
+        long[] posixTimes,
+        int[] totalOffsets
+    ) {
+
+        TransitionModel.checkBatch(posixTimes, totalOffsets);
+        long end = this.last.getPosixTime();
+        int index = 0;
+        long[] run = RuleBasedTransitionModel.createRun();
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            long posixTime = posixTimes[i];
+
+            if (posixTime < end) {
+                index = this.arrayModel.search(posixTime, index);
+                totalOffsets[i] = this.arrayModel.getTotalOffsetBefore(index);
+            } else {
+                totalOffsets[i] = this.ruleModel.getTotalOffset(posixTime, run);
+            }
+        }
+
+    }
+
     @Override
     public ZonalTransition getConflictTransition(
         GregorianDate localDate,
@@ -165,6 +201,18 @@ final class CompositeTransitionModel
 
     }
 
+    @Override
+    public TransitionCursor getTransitionCursor(
+        long startInclusive,
+        long endExclusive
+    ) {
+
+        return new ChainedCursor(
+            this.arrayModel.getTransitionCursor(startInclusive, endExclusive),
+            this.ruleModel.getTransitionCursor(startInclusive, endExclusive));
+
+    }
+
     @Override
     public void dump(Appendable buffer) throws IOException {
 
@@ -278,4 +326,73 @@ final class CompositeTransitionModel
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static final class ChainedCursor
+        implements TransitionCursor {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private TransitionCursor current;
+        private TransitionCursor following;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        ChainedCursor(
+            TransitionCursor first,
+            TransitionCursor second
+        ) {
+            super();
+
+            this.current = first;
+            this.following = second;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean next() {
+
+            if (this.current.next()) {
+                return true;
+            } else if (this.following != null) {
+                this.current = this.following;
+                this.following = null;
+                return this.current.next();
+            }
+
+            return false;
+
+        }
+
+        @Override
+        public long getPosixTime() {
+
+            return this.current.getPosixTime();
+
+        }
+
+        @Override
+        public int getPreviousOffset() {
+
+            return this.current.getPreviousOffset();
+
+        }
+
+        @Override
+        public int getTotalOffset() {
+
+            return this.current.getTotalOffset();
+
+        }
+
+        @Override
+        public int getExtraOffset() {
+
+            return this.current.getExtraOffset();
+
+        }
+
+    }
 }
@@ -30,6 +30,7 @@ import net.time4j.tz.ZonalTransition;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -84,6 +85,24 @@ final class EmptyTransitionModel
 
     }
 
+    @Override
+    public int getTotalOffset(long posixTime) {
+
+        return this.offset.getIntegralAmount();
+
+    }
+
+    @Override
+    public void getOffsets(
+        long[] posixTimes,
+        int[] totalOffsets
+    ) {
+
+        TransitionModel.checkBatch(posixTimes, totalOffsets);
+        Arrays.fill(totalOffsets, 0, posixTimes.length, this.offset.getIntegralAmount());
+
+    }
+
     @Override
     public ZonalTransition getConflictTransition(
         GregorianDate localDate,
@@ -24,12 +24,12 @@ package net.time4j.tz.model;
 import net.time4j.Moment;
 import net.time4j.PlainTimestamp;
 import net.time4j.base.GregorianDate;
-import net.time4j.base.GregorianMath;
 import net.time4j.base.MathUtils;
 import net.time4j.base.UnixTime;
 import net.time4j.base.WallTime;
 import net.time4j.engine.EpochDays;
 import net.time4j.format.CalendarText;
+import net.time4j.tz.TransitionCursor;
 import net.time4j.tz.ZonalOffset;
 import net.time4j.tz.ZonalTransition;
 
@@ -40,8 +40,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -57,15 +55,6 @@ final class RuleBasedTransitionModel
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    private static final int LAST_CACHED_YEAR;
-
-    static {
-        long ly = TransitionModel.getFutureMoment(100);
-        long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(ly, EpochDays.UNIX);
-        LAST_CACHED_YEAR =
-            GregorianMath.readYear(GregorianMath.toPackedDate(mjd));
-    }
-
     private static final long serialVersionUID = 2456700806862862287L;
 
     //~ Instanzvariablen --------------------------------------------------
@@ -73,7 +62,7 @@ final class RuleBasedTransitionModel
     private transient final ZonalTransition initial;
     private transient final List<DaylightSavingRule> rules;
 
-    private transient final ConcurrentMap<Integer, List<ZonalTransition>> tCache = new ConcurrentHashMap<>();
+    private transient final YearlyTransitionCache tCache = new YearlyTransitionCache();
     private transient final List<ZonalTransition> stdTransitions;
     private transient final boolean gregorian;
 
@@ -185,43 +174,30 @@ final class RuleBasedTransitionModel
     @Override
     public ZonalTransition getStartTransition(UnixTime ut) {
 
-        long preModel = this.initial.getPosixTime();
+        return this.getStartTransition(ut.getPosixTime());
 
-        if (ut.getPosixTime() <= preModel) {
-            return null;
-        }
+    }
 
-        ZonalTransition current = null;
-        int stdOffset = this.initial.getRawOffset();
-        int n = this.rules.size();
-        DaylightSavingRule rule = this.rules.get(0);
-        DaylightSavingRule previous = this.rules.get(n - 1);
-        int shift = getShift(rule, stdOffset, previous.getSavings());
-        int year = getYear(rule, ut.getPosixTime() + shift);
-        List<ZonalTransition> transitions = this.getTransitions(year);
+    @Override
+    public int getTotalOffset(long posixTime) {
 
-        for (int i = 0; i < n; i++) {
-            ZonalTransition zt = transitions.get(i);
-            long tt = zt.getPosixTime();
+        ZonalTransition start = this.getStartTransition(posixTime);
+        return ((start == null) ? this.initial.getTotalOffset() : start.getTotalOffset());
 
-            if (ut.getPosixTime() < tt) {
-                if (current == null) {
-                    if (i == 0) {
-                        zt = this.getTransitions(year - 1).get(n - 1);
-                    } else {
-                        zt = transitions.get(i - 1);
-                    }
-                    if (zt.getPosixTime() > preModel) {
-                        current = zt;
-                    }
-                }
-                break;
-            } else if (tt > preModel) {
-                current = zt;
-            }
-        }
+    }
 
-        return current;
+    @Override
+    public void getOffsets(
+        long[] posixTimes,
+        int[] totalOffsets
+    ) {
+
+        TransitionModel.checkBatch(posixTimes, totalOffsets);
+        long[] run = createRun();
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            totalOffsets[i] = this.getTotalOffset(posixTimes[i], run);
+        }
 
     }
 
@@ -276,6 +252,20 @@ final class RuleBasedTransitionModel
 
     }
 
+    @Override
+    public TransitionCursor getTransitionCursor(
+        long startInclusive,
+        long endExclusive
+    ) {
+
+        if (startInclusive > endExclusive) {
+            throw new IllegalArgumentException("Start after end.");
+        }
+
+        return new RuleCursor(startInclusive, endExclusive);
+
+    }
+
     @Override
     public boolean hasNegativeDST() {
 
@@ -561,6 +551,75 @@ final class RuleBasedTransitionModel
 
     }
 
+    // Called by CompositeTransitionModel: run = {start, end, offset} of last result
+    int getTotalOffset(
+        long posixTime,
+        long[] run
+    ) {
+
+        if ((posixTime >= run[0]) && (posixTime < run[1])) {
+            return (int) run[2];
+        }
+
+        ZonalTransition start = this.getStartTransition(posixTime);
+        ZonalTransition next = getNextTransition(posixTime, this.initial, this.rules);
+        int offset = ((start == null) ? this.initial.getTotalOffset() : start.getTotalOffset());
+        run[0] = ((start == null) ? Long.MIN_VALUE : start.getPosixTime());
+        run[1] = next.getPosixTime();
+        run[2] = offset;
+        return offset;
+
+    }
+
+    // Called by CompositeTransitionModel: empty run
+    static long[] createRun() {
+
+        return new long[] {Long.MAX_VALUE, Long.MIN_VALUE, 0L};
+
+    }
+
+    private ZonalTransition getStartTransition(long posixTime) {
+
+        long preModel = this.initial.getPosixTime();
+
+        if (posixTime <= preModel) {
+            return null;
+        }
+
+        ZonalTransition current = null;
+        int stdOffset = this.initial.getRawOffset();
+        int n = this.rules.size();
+        DaylightSavingRule rule = this.rules.get(0);
+        DaylightSavingRule previous = this.rules.get(n - 1);
+        int shift = getShift(rule, stdOffset, previous.getSavings());
+        int year = getYear(rule, posixTime + shift);
+        List<ZonalTransition> transitions = this.getTransitions(year);
+
+        for (int i = 0; i < n; i++) {
+            ZonalTransition zt = transitions.get(i);
+            long tt = zt.getPosixTime();
+
+            if (posixTime < tt) {
+                if (current == null) {
+                    if (i == 0) {
+                        zt = this.getTransitions(year - 1).get(n - 1);
+                    } else {
+                        zt = transitions.get(i - 1);
+                    }
+                    if (zt.getPosixTime() > preModel) {
+                        current = zt;
+                    }
+                }
+                break;
+            } else if (tt > preModel) {
+                current = zt;
+            }
+        }
+
+        return current;
+
+    }
+
     private List<ZonalTransition> getTransitions(GregorianDate date) {
 
         return this.getTransitions(this.rules.get(0).toCalendarYear(date));
@@ -569,8 +628,7 @@ final class RuleBasedTransitionModel
 
     private List<ZonalTransition> getTransitions(int year) {
 
-        Integer key = Integer.valueOf(year);
-        List<ZonalTransition> transitions = this.tCache.get(key);
+        List<ZonalTransition> transitions = (this.gregorian ? this.tCache.get(year) : null);
 
         if (transitions == null) {
             List<ZonalTransition> list = new ArrayList<>();
@@ -591,15 +649,8 @@ final class RuleBasedTransitionModel
 
             transitions = Collections.unmodifiableList(list);
 
-            if (
-                (year <= LAST_CACHED_YEAR)
-                && this.gregorian
-            ) {
-                List<ZonalTransition> old =
-                    this.tCache.putIfAbsent(key, transitions);
-                if (old != null) {
-                    transitions = old;
-                }
+            if (this.gregorian) {
+                this.tCache.put(year, transitions);
             }
         }
 
@@ -607,6 +658,13 @@ final class RuleBasedTransitionModel
 
     }
 
+    // Called by tests
+    int getCachedYearCount() {
+
+        return this.tCache.size();
+
+    }
+
     private static int getYear(
         DaylightSavingRule rule,
         long localSecs
@@ -648,4 +706,114 @@ final class RuleBasedTransitionModel
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    // nutzt die (gecachten) Jahreslisten, erzeugt also im Cache-Fenster keine Übergänge
+    private final class RuleCursor
+        implements TransitionCursor {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long start;
+        private final long end;
+        private int year;
+        private List<ZonalTransition> transitions;
+        private int index;
+        private ZonalTransition current = null;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        RuleCursor(
+            long startInclusive,
+            long endExclusive
+        ) {
+            super();
+
+            long preModel = RuleBasedTransitionModel.this.initial.getPosixTime();
+            this.start = Math.max(startInclusive, preModel + 1);
+            this.end = endExclusive;
+
+            if (this.start >= this.end) {
+                this.transitions = Collections.emptyList();
+                this.year = Integer.MAX_VALUE; // leer
+            } else {
+                List<DaylightSavingRule> rules = RuleBasedTransitionModel.this.rules;
+                DaylightSavingRule rule = rules.get(0);
+                int stdOffset = RuleBasedTransitionModel.this.initial.getRawOffset();
+                int shift = getShift(rule, stdOffset, rules.get(rules.size() - 1).getSavings());
+                this.year = getYear(rule, this.start + shift);
+                this.transitions = RuleBasedTransitionModel.this.getTransitions(this.year);
+            }
+
+            this.index = 0;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean next() {
+
+            while (this.year != Integer.MAX_VALUE) {
+                if (this.index == this.transitions.size()) {
+                    this.year++;
+                    this.transitions = RuleBasedTransitionModel.this.getTransitions(this.year);
+                    this.index = 0;
+                }
+
+                ZonalTransition zt = this.transitions.get(this.index++);
+                long tt = zt.getPosixTime();
+
+                if (tt >= this.end) {
+                    this.year = Integer.MAX_VALUE; // erschöpft
+                } else if (tt >= this.start) {
+                    this.current = zt;
+                    return true;
+                }
+            }
+
+            this.current = null; // erschöpft
+            return false;
+
+        }
+
+        @Override
+        public long getPosixTime() {
+
+            return this.current().getPosixTime();
+
+        }
+
+        @Override
+        public int getPreviousOffset() {
+
+            return this.current().getPreviousOffset();
+
+        }
+
+        @Override
+        public int getTotalOffset() {
+
+            return this.current().getTotalOffset();
+
+        }
+
+        @Override
+        public int getExtraOffset() {
+
+            return this.current().getExtraOffset();
+
+        }
+
+        private ZonalTransition current() {
+
+            if (this.current == null) {
+                throw new IllegalStateException("Cursor not positioned on a transition.");
+            }
+
+            return this.current;
+
+        }
+
+    }
 }
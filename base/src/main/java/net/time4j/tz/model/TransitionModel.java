@@ -316,6 +316,18 @@ public abstract class TransitionModel
 
     }
 
+    static void checkBatch(
+        long[] posixTimes,
+        int[] totalOffsets
+    ) {
+
+        if (totalOffsets.length < posixTimes.length) {
+            throw new IllegalArgumentException(
+                "Output array too short: " + totalOffsets.length + " < " + posixTimes.length);
+        }
+
+    }
+
     static long getFutureMoment(int years) {
 
         long y = (long) (365.2425 * 86400L * years);
@@ -329,4 +341,129 @@ public abstract class TransitionModel
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Offers statistics about the internal caching of yearly transitions in rule-based models. </p>
+     *
+     * <p>Every rule-based model caches the transitions of a dense window of years around the current
+     * year and additionally a small ring of other years. Years outside of the window share the ring
+     * slots so that a new year evicts the former occupant. The memory per model is hence bounded
+     * even if far-future or far-past years are queried. </p>
+     *
+     * @author  Meno Hochschild
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Bietet Statistiken &uuml;ber das interne Zwischenspeichern von j&auml;hrlichen
+     * &Uuml;berg&auml;ngen in regelbasierten Modellen. </p>
+     *
+     * <p>Jedes regelbasierte Modell speichert die &Uuml;berg&auml;nge eines dichten Fensters von
+     * Jahren um das aktuelle Jahr herum und zus&auml;tzlich einen kleinen Ring anderer Jahre.
+     * Jahre au&szlig;erhalb des Fensters teilen sich die Pl&auml;tze des Rings, so da&szlig; ein
+     * neues Jahr den vorherigen Eintrag verdr&auml;ngt. Der Speicherverbrauch pro Modell ist
+     * deshalb auch dann begrenzt, wenn Jahre in ferner Zukunft oder Vergangenheit abgefragt
+     * werden. </p>
+     *
+     * @author  Meno Hochschild
+     * @since   5.6
+     */
+    public static final class YearCache {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private YearCache() {
+            // no instantiation
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Yields the count of years which are cached per model in the dense window
+         * around the current year. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Jahre, die pro Modell im dichten Fenster um das
+         * aktuelle Jahr herum gespeichert werden. </p>
+         *
+         * @return  int
+         */
+        public static int getWindowSize() {
+
+            return YearlyTransitionCache.WINDOW_SIZE;
+
+        }
+
+        /**
+         * <p>Yields the count of ring slots per model for years outside of the dense window. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Ringpl&auml;tze pro Modell f&uuml;r Jahre au&szlig;erhalb
+         * des dichten Fensters. </p>
+         *
+         * @return  int
+         */
+        public static int getRingSize() {
+
+            return YearlyTransitionCache.RING_SIZE;
+
+        }
+
+        /**
+         * <p>Counts how often the transitions of a year were found in the cache. </p>
+         *
+         * @return  count of cache hits summed over all models since start of application
+         */
+        /*[deutsch]
+         * <p>Z&auml;hlt, wie oft die &Uuml;berg&auml;nge eines Jahres im Cache gefunden wurden. </p>
+         *
+         * @return  count of cache hits summed over all models since start of application
+         */
+        public static long getHitCount() {
+
+            return YearlyTransitionCache.HITS.sum();
+
+        }
+
+        /**
+         * <p>Counts how often the transitions of a year had to be calculated because they were
+         * not found in the cache. </p>
+         *
+         * @return  count of cache misses summed over all models since start of application
+         */
+        /*[deutsch]
+         * <p>Z&auml;hlt, wie oft die &Uuml;berg&auml;nge eines Jahres berechnet werden
+         * mu&szlig;ten, weil sie nicht im Cache gefunden wurden. </p>
+         *
+         * @return  count of cache misses summed over all models since start of application
+         */
+        public static long getMissCount() {
+
+            return YearlyTransitionCache.MISSES.sum();
+
+        }
+
+        /**
+         * <p>Counts how often a cached year was evicted from a ring slot by another year. </p>
+         *
+         * @return  count of evictions summed over all models since start of application
+         */
+        /*[deutsch]
+         * <p>Z&auml;hlt, wie oft ein gespeichertes Jahr von einem anderen Jahr aus einem
+         * Ringplatz verdr&auml;ngt wurde. </p>
+         *
+         * @return  count of evictions summed over all models since start of application
+         */
+        public static long getEvictionCount() {
+
+            return YearlyTransitionCache.EVICTIONS.sum();
+
+        }
+
+    }
+
 }
@@ -0,0 +1,174 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (YearlyTransitionCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.model;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.engine.EpochDays;
+import net.time4j.tz.ZonalTransition;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>Begrenzter Cache f&uuml;r die j&auml;hrlichen &Uuml;berg&auml;nge eines
+ * regelbasierten &Uuml;bergangsmodells. </p>
+ *
+ * <p>Jahre in einem dichten Fenster um das aktuelle Jahr herum werden direkt
+ * per Index adressiert. Alle anderen Jahre teilen sich einen kleinen Ring,
+ * in dem ein neues Jahr den vorherigen Eintrag mit dem gleichen Index
+ * verdr&auml;ngt. Es findet kein Boxing der Jahresangabe statt. </p>
+ *
+ * @author      Meno Hochschild
+ * @since       5.6
+ * @doctags.concurrency {threadsafe}
+ */
+final class YearlyTransitionCache {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    static final int WINDOW_SIZE = 128;
+    static final int RING_SIZE = 16;
+
+    static final LongAdder HITS = new LongAdder();
+    static final LongAdder MISSES = new LongAdder();
+    static final LongAdder EVICTIONS = new LongAdder();
+
+    private static final int WINDOW_START;
+
+    static {
+        long now = TransitionModel.getFutureMoment(0);
+        long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(MathUtils.floorDivide(now, 86400), EpochDays.UNIX);
+        WINDOW_START = GregorianMath.readYear(GregorianMath.toPackedDate(mjd)) - 28; // bis etwa 100 Jahre voraus
+    }
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final AtomicReferenceArray<List<ZonalTransition>> window = new AtomicReferenceArray<>(WINDOW_SIZE);
+    private final AtomicReferenceArray<Entry> ring = new AtomicReferenceArray<>(RING_SIZE);
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Sucht die &Uuml;berg&auml;nge des angegebenen Jahres. </p>
+     *
+     * @param   year    calendar year of the rules
+     * @return  cached transitions or {@code null} if not found
+     */
+    List<ZonalTransition> get(int year) {
+
+        List<ZonalTransition> transitions;
+        int index = year - WINDOW_START;
+
+        if ((index >= 0) && (index < WINDOW_SIZE)) {
+            transitions = this.window.get(index);
+        } else {
+            Entry entry = this.ring.get(year & (RING_SIZE - 1));
+            transitions = (((entry == null) || (entry.year != year)) ? null : entry.transitions);
+        }
+
+        if (transitions == null) {
+            MISSES.increment();
+        } else {
+            HITS.increment();
+        }
+
+        return transitions;
+
+    }
+
+    /**
+     * <p>Speichert die &Uuml;berg&auml;nge des angegebenen Jahres. </p>
+     *
+     * @param   year            calendar year of the rules
+     * @param   transitions     unmodifiable list of transitions in given year
+     */
+    void put(
+        int year,
+        List<ZonalTransition> transitions
+    ) {
+
+        int index = year - WINDOW_START;
+
+        if ((index >= 0) && (index < WINDOW_SIZE)) {
+            this.window.lazySet(index, transitions);
+        } else {
+            Entry old = this.ring.getAndSet(year & (RING_SIZE - 1), new Entry(year, transitions));
+            if ((old != null) && (old.year != year)) {
+                EVICTIONS.increment();
+            }
+        }
+
+    }
+
+    /**
+     * <p>Z&auml;hlt die aktuell gespeicherten Jahre. </p>
+     *
+     * @return  count of cached years
+     */
+    int size() {
+
+        int count = 0;
+
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            if (this.window.get(i) != null) {
+                count++;
+            }
+        }
+
+        for (int i = 0; i < RING_SIZE; i++) {
+            if (this.ring.get(i) != null) {
+                count++;
+            }
+        }
+
+        return count;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static final class Entry {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int year;
+        private final List<ZonalTransition> transitions;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Entry(
+            int year,
+            List<ZonalTransition> transitions
+        ) {
+            super();
+
+            this.year = year;
+            this.transitions = transitions;
+
+        }
+
+    }
+
+}
@@ -39,7 +39,6 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.zone.ZoneRulesException;
 import java.util.Collections;
-import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -62,7 +61,7 @@ public class ZoneNameProviderSPI
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    private static final ConcurrentMap<Locale, Map<String, Map<NameStyle, String>>> NAMES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Locale, ZoneNameTable> NAMES = new ConcurrentHashMap<>();
 
     private static final Set<String> GMT_ZONES;
     private static final Map<String, Set<String>> TERRITORIES;
@@ -152,55 +151,18 @@ public class ZoneNameProviderSPI
             return ""; // falls back to canonical identifier (Z for ZonalOffset.UTC)
         }
 
-        Map<String, Map<NameStyle, String>> map = NAMES.get(locale);
-
-        if (map == null) {
-            DateFormatSymbols symbols = DateFormatSymbols.getInstance(locale);
-            String[][] zoneNames = symbols.getZoneStrings();
-            map = new HashMap<>();
-
-            for (String[] arr : zoneNames) {
-                Map<NameStyle, String> names = new EnumMap<>(NameStyle.class);
-                names.put(NameStyle.LONG_STANDARD_TIME, arr[1]);
-                names.put(NameStyle.SHORT_STANDARD_TIME, arr[2]);
-                names.put(NameStyle.LONG_DAYLIGHT_TIME, arr[3]);
-                names.put(NameStyle.SHORT_DAYLIGHT_TIME, arr[4]);
-                if (arr.length >= 7) {
-                    names.put(NameStyle.LONG_GENERIC_TIME, arr[5]); // data introduced in Java-8
-                    names.put(NameStyle.SHORT_GENERIC_TIME, arr[6]);  // data introduced in Java-8
-                } else { // before 8u60
-                    try {
-                        ZoneId zoneId = ZoneId.of(arr[0]);
-                        DateTimeFormatter threetenLong =
-                            DateTimeFormatter.ofPattern("zzzz", locale).withZone(zoneId);
-                        DateTimeFormatter threetenShort =
-                            DateTimeFormatter.ofPattern("z", locale).withZone(zoneId);
-                        String s1 = threetenLong.format(LocalDate.MAX);
-                        String s2 = threetenShort.format(LocalDate.MAX);
-                        names.put(NameStyle.LONG_GENERIC_TIME, s1);
-                        names.put(NameStyle.SHORT_GENERIC_TIME, s2);
-                    } catch (ZoneRulesException ex) {
-                        names.put(NameStyle.LONG_GENERIC_TIME, "");
-                        names.put(NameStyle.SHORT_GENERIC_TIME, "");
-                    }
-                }
-                map.put(arr[0], names); // tz-id
-            }
+        ZoneNameTable table = NAMES.get(locale);
 
-            Map<String, Map<NameStyle, String>> old = NAMES.putIfAbsent(locale, map);
+        if (table == null) {
+            table = createTable(locale);
+            ZoneNameTable old = NAMES.putIfAbsent(locale, table);
 
             if (old != null) {
-                map = old;
+                table = old;
             }
         }
 
-        Map<NameStyle, String> styledNames = map.get(tzid);
-
-        if (styledNames != null) {
-            return styledNames.get(style);
-        }
-
-        return "";
+        return table.getName(tzid, style);
 
 // *************************************************************************************
 // OLD CODE
@@ -290,6 +252,43 @@ public class ZoneNameProviderSPI
 
     }
 
+    // Called by tests
+    static ZoneNameTable createTable(Locale locale) {
+
+        DateFormatSymbols symbols = DateFormatSymbols.getInstance(locale);
+        String[][] zoneNames = symbols.getZoneStrings();
+        Map<String, String[]> rows = new HashMap<>();
+
+        for (String[] arr : zoneNames) {
+            String[] names = new String[NameStyle.values().length];
+            names[NameStyle.LONG_STANDARD_TIME.ordinal()] = arr[1];
+            names[NameStyle.SHORT_STANDARD_TIME.ordinal()] = arr[2];
+            names[NameStyle.LONG_DAYLIGHT_TIME.ordinal()] = arr[3];
+            names[NameStyle.SHORT_DAYLIGHT_TIME.ordinal()] = arr[4];
+            if (arr.length >= 7) {
+                names[NameStyle.LONG_GENERIC_TIME.ordinal()] = arr[5]; // data introduced in Java-8
+                names[NameStyle.SHORT_GENERIC_TIME.ordinal()] = arr[6]; // data introduced in Java-8
+            } else { // before 8u60
+                try {
+                    ZoneId zoneId = ZoneId.of(arr[0]);
+                    DateTimeFormatter threetenLong =
+                        DateTimeFormatter.ofPattern("zzzz", locale).withZone(zoneId);
+                    DateTimeFormatter threetenShort =
+                        DateTimeFormatter.ofPattern("z", locale).withZone(zoneId);
+                    names[NameStyle.LONG_GENERIC_TIME.ordinal()] = threetenLong.format(LocalDate.MAX);
+                    names[NameStyle.SHORT_GENERIC_TIME.ordinal()] = threetenShort.format(LocalDate.MAX);
+                } catch (ZoneRulesException ex) {
+                    names[NameStyle.LONG_GENERIC_TIME.ordinal()] = "";
+                    names[NameStyle.SHORT_GENERIC_TIME.ordinal()] = "";
+                }
+            }
+            rows.put(arr[0], names); // tz-id
+        }
+
+        return new ZoneNameTable(rows);
+
+    }
+
     private static PropertyBundle getBundle(Locale desired) {
 
         return PropertyBundle.load("zones/tzname", desired);
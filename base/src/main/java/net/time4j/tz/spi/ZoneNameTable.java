@@ -0,0 +1,149 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneNameTable.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.spi;
+
+import net.time4j.tz.NameStyle;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+/**
+ * <p>Kompakte Tabelle aller Zeitzonennamen einer Sprache (Zeitzone x Namensstil). </p>
+ *
+ * <p>Die Zeitzonenkennungen liegen sortiert in einem Feld, das von allen Tabellen mit
+ * gleichen Kennungen gemeinsam genutzt wird. Die Namen liegen in einem einzigen Feld mit dem
+ * Index {@code zoneIndex * 6 + style.ordinal()}, wobei gleiche Namen nur einmal gespeichert
+ * werden. Das ersetzt verschachtelte Hash-Tabellen mit einer {@code EnumMap} pro Zeitzone. </p>
+ *
+ * @author      Meno Hochschild
+ * @since       5.6
+ * @doctags.concurrency {immutable}
+ */
+final class ZoneNameTable {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final NameStyle[] STYLES = NameStyle.values();
+
+    private static volatile String[] sharedIDs = new String[0];
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final String[] zoneIDs;
+    private final String[] names;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Erzeugt eine neue Tabelle. </p>
+     *
+     * @param   rows    map of zone ids to names indexed by name style ordinal
+     *                  (missing names as {@code null})
+     */
+    ZoneNameTable(Map<String, String[]> rows) {
+        super();
+
+        TreeMap<String, String[]> sorted = new TreeMap<>(rows);
+        String[] ids = sorted.keySet().toArray(new String[sorted.size()]);
+        String[] shared = sharedIDs;
+
+        if (Arrays.equals(ids, shared)) {
+            ids = shared;
+        } else {
+            sharedIDs = ids;
+        }
+
+        String[] table = new String[ids.length * STYLES.length];
+        Map<String, String> pool = new HashMap<>();
+        int index = 0;
+
+        for (String[] row : sorted.values()) {
+            for (int i = 0; i < STYLES.length; i++) {
+                String name = ((i < row.length) && (row[i] != null)) ? row[i] : "";
+                String dedup = pool.putIfAbsent(name, name);
+                table[index++] = ((dedup == null) ? name : dedup);
+            }
+        }
+
+        this.zoneIDs = ids;
+        this.names = table;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Liefert den Namen einer Zeitzone im angegebenen Stil. </p>
+     *
+     * @param   tzid    timezone identifier
+     * @param   style   name style
+     * @return  name or an empty string if not found
+     */
+    String getName(
+        String tzid,
+        NameStyle style
+    ) {
+
+        int index = Arrays.binarySearch(this.zoneIDs, tzid);
+        return ((index < 0) ? "" : this.names[index * STYLES.length + style.ordinal()]);
+
+    }
+
+    /**
+     * <p>Liefert die Anzahl der Zeitzonen. </p>
+     *
+     * @return  int
+     */
+    int size() {
+
+        return this.zoneIDs.length;
+
+    }
+
+    // Called by tests
+    boolean sharesIDsWith(ZoneNameTable other) {
+
+        return (this.zoneIDs == other.zoneIDs);
+
+    }
+
+    // Called by tests
+    int countDistinctNames() {
+
+        int count = 0;
+        Map<String, Boolean> identities = new IdentityHashMap<>();
+
+        for (String name : this.names) {
+            if (identities.put(name, Boolean.TRUE) == null) {
+                count++;
+            }
+        }
+
+        return count;
+
+    }
+
+}
@@ -0,0 +1,475 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CompactZoneProviderSPI.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.threeten;
+
+import net.time4j.Month;
+import net.time4j.PlainTime;
+import net.time4j.TemporalType;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+import net.time4j.tz.ZoneModelProvider;
+import net.time4j.tz.model.DaylightSavingRule;
+import net.time4j.tz.model.OffsetIndicator;
+import net.time4j.tz.model.TransitionModel;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneOffsetTransitionRule;
+import java.time.zone.ZoneRules;
+import java.time.zone.ZoneRulesProvider;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+
+/**
+ * <p>SPI-implementation which reads a compact precompiled binary tzdb-repository
+ * via a memory-mapped buffer. </p>
+ *
+ * <p>The repository file is created by {@link #compile(Path)} from the zone rules of the
+ * JDK (&quot;tzdb.dat&quot;). Compared with {@link JdkZoneProviderSPI}, no intermediate
+ * {@code ZoneRules}-objects are created, and every zone is only decoded on demand
+ * directly from the mapped file. Example for registering this provider before any
+ * other Time4J-code is executed: </p>
+ *
+ * <pre>
+ *     ResourceLoader.getInstance().registerService(
+ *       ZoneModelProvider.class,
+ *       new CompactZoneProviderSPI(Paths.get(&quot;data/tzdb.compact&quot;)));
+ * </pre>
+ *
+ * <p>File format (version 1, big endian): </p>
+ *
+ * <ul>
+ *     <li>header: magic number &quot;TZCB&quot;, format version (byte), tzdb version (ascii),
+ *     count of zones, directory of zone ids with relative positions of zone blocks,
+ *     count of aliases and alias pairs</li>
+ *     <li>zone block: table of distinct offsets in seconds, index of initial offset,
+ *     count of transitions, first posix time as long and then delta-encoded as unsigned
+ *     variable-length longs, per transition the offset indices before, after and of
+ *     daylight saving, finally the rules of the last standard period</li>
+ * </ul>
+ *
+ * <p>The ascii strings are preceded by their length (unsigned short). </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+public class CompactZoneProviderSPI
+    implements ZoneModelProvider {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MAGIC = 0x545A4342; // TZCB
+    private static final int FORMAT_VERSION = 1;
+    private static final int END_OF_DAY = 86400;
+
+    private static final OffsetIndicator[] INDICATORS = OffsetIndicator.values();
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final String location;
+    private final ByteBuffer buffer;
+    private final String version;
+    private final Map<String, Integer> positions;
+    private final Set<String> ids;
+    private final Map<String, String> aliases;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Maps given repository file into memory and reads its directory. </p>
+     *
+     * @param   file    compact repository file created by {@link #compile(Path)}
+     * @throws  IOException if the file cannot be read or has a wrong format
+     */
+    public CompactZoneProviderSPI(Path file) throws IOException {
+        super();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        this.location = file.toString();
+
+        try {
+            ByteBuffer header = this.buffer.duplicate();
+
+            if ((header.getInt() != MAGIC) || (header.get() != FORMAT_VERSION)) {
+                throw new IOException("Unknown format of compact tz-repository: " + file);
+            }
+
+            this.version = readAscii(header);
+            int count = header.getInt();
+            String[] zones = new String[count];
+            int[] relative = new int[count];
+
+            for (int i = 0; i < count; i++) {
+                zones[i] = readAscii(header);
+                relative[i] = header.getInt();
+            }
+
+            int n = header.getInt();
+            Map<String, String> map = new HashMap<>(n * 2);
+
+            for (int i = 0; i < n; i++) {
+                String alias = readAscii(header);
+                map.put(alias, readAscii(header));
+            }
+
+            int start = header.position();
+            Map<String, Integer> temp = new HashMap<>(count * 2);
+
+            for (int i = 0; i < count; i++) {
+                temp.put(zones[i], Integer.valueOf(start + relative[i]));
+            }
+
+            this.positions = temp;
+            this.ids = Collections.unmodifiableSet(temp.keySet());
+            this.aliases = Collections.unmodifiableMap(map);
+        } catch (BufferUnderflowException ex) {
+            throw new IOException("Truncated compact tz-repository: " + file, ex);
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Compiles the zone rules of the JDK to a compact repository file. </p>
+     *
+     * @param   file    target file (will be overwritten if existing)
+     * @throws  IOException in case of any I/O-error
+     */
+    public static void compile(Path file) throws IOException {
+
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(file))) {
+            compile(os);
+        }
+
+    }
+
+    /**
+     * <p>Compiles the zone rules of the JDK to a compact repository format. </p>
+     *
+     * @param   os      output stream which will not be closed
+     * @throws  IOException in case of any I/O-error
+     */
+    public static void compile(OutputStream os) throws IOException {
+
+        Set<String> zones = new TreeSet<>(ZoneRulesProvider.getAvailableZoneIds());
+        ByteArrayOutputStream blocks = new ByteArrayOutputStream(256 * 1024);
+        DataOutputStream data = new DataOutputStream(blocks);
+        DataOutputStream out = new DataOutputStream(os);
+
+        out.writeInt(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        writeAscii(out, ZoneRulesProvider.getVersions("America/New_York").lastEntry().getKey());
+        out.writeInt(zones.size());
+
+        for (String zoneID : zones) {
+            writeAscii(out, zoneID);
+            out.writeInt(data.size());
+            writeZone(data, ZoneId.of(zoneID).getRules());
+        }
+
+        out.writeInt(0); // no aliases in JDK
+        data.flush();
+        blocks.writeTo(out);
+        out.flush();
+
+    }
+
+    @Override
+    public Set<String> getAvailableIDs() {
+
+        return this.ids;
+
+    }
+
+    @Override
+    public Map<String, String> getAliases() {
+
+        return this.aliases;
+
+    }
+
+    @Override
+    public String getFallback() {
+
+        return "";
+
+    }
+
+    @Override
+    public String getName() {
+
+        return "TZDB";
+
+    }
+
+    @Override
+    public String getLocation() {
+
+        return this.location;
+
+    }
+
+    @Override
+    public String getVersion() {
+
+        return this.version;
+
+    }
+
+    @Override
+    public TransitionHistory load(String zoneID) {
+
+        Integer pos = this.positions.get(zoneID);
+
+        if (pos == null) {
+            throw new IllegalArgumentException("Unknown timezone: " + zoneID);
+        }
+
+        // nur absolute Lesezugriffe, damit der gemeinsame Puffer thread-sicher bleibt
+        ByteBuffer buf = this.buffer;
+        int index = pos.intValue();
+        int n = buf.get(index++) & 0xFF;
+        int[] offsets = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            offsets[i] = buf.getInt(index);
+            index += 4;
+        }
+
+        ZonalOffset initialOffset = ZonalOffset.ofTotalSeconds(offsets[buf.get(index++) & 0xFF]);
+        int count = buf.getInt(index);
+        index += 4;
+        List<ZonalTransition> transitions = new ArrayList<>(count);
+        long posix = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (i == 0) {
+                posix = buf.getLong(index);
+                index += 8;
+            } else {
+                long delta = 0;
+                int shift = 0;
+                int b;
+                do {
+                    b = buf.get(index++);
+                    delta |= ((long) (b & 0x7F) << shift);
+                    shift += 7;
+                } while (b < 0);
+                posix += delta;
+            }
+            int previous = offsets[buf.get(index++) & 0xFF];
+            int total = offsets[buf.get(index++) & 0xFF];
+            int dst = offsets[buf.get(index++) & 0xFF];
+            transitions.add(new ZonalTransition(posix, previous, total, dst));
+        }
+
+        int r = buf.get(index++);
+        List<DaylightSavingRule> rules = new ArrayList<>(r);
+
+        for (int i = 0; i < r; i++) {
+            Month month = Month.valueOf(buf.get(index++));
+            int dom = buf.get(index++);
+            int dayOfWeek = buf.get(index++);
+            int tod = buf.getInt(index);
+            index += 4;
+            PlainTime timeOfDay = (
+                (tod == END_OF_DAY)
+                    ? PlainTime.midnightAtEndOfDay()
+                    : PlainTime.of(tod / 3600, (tod / 60) % 60, tod % 60));
+            OffsetIndicator indicator = INDICATORS[buf.get(index++)];
+            int dst = offsets[buf.get(index++) & 0xFF];
+            rules.add(JdkZoneProviderSPI.createRule(month, dom, dayOfWeek, timeOfDay, indicator, dst));
+        }
+
+        return TransitionModel.of(initialOffset, transitions, rules);
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "CompactZoneProviderSPI[location=" + this.location + ",version=" + this.version + "]";
+
+    }
+
+    private static void writeZone(
+        DataOutputStream out,
+        ZoneRules zoneRules
+    ) throws IOException {
+
+        List<Integer> offsets = new ArrayList<>();
+        int initial = indexOf(offsets, zoneRules.getOffset(Instant.MIN).getTotalSeconds());
+        List<ZoneOffsetTransition> zots = zoneRules.getTransitions();
+        List<ZoneOffsetTransitionRule> zotrs = zoneRules.getTransitionRules();
+        int[] indices = new int[zots.size() * 3];
+        int[] dstIndices = new int[zotrs.size()];
+
+        for (int i = 0; i < zots.size(); i++) {
+            ZoneOffsetTransition zot = zots.get(i);
+            indices[i * 3] = indexOf(offsets, zot.getOffsetBefore().getTotalSeconds());
+            indices[i * 3 + 1] = indexOf(offsets, zot.getOffsetAfter().getTotalSeconds());
+            indices[i * 3 + 2] =
+                indexOf(offsets, Math.toIntExact(zoneRules.getDaylightSavings(zot.getInstant()).getSeconds()));
+        }
+
+        for (int i = 0; i < zotrs.size(); i++) {
+            ZoneOffsetTransitionRule zotr = zotrs.get(i);
+            dstIndices[i] =
+                indexOf(offsets, zotr.getOffsetAfter().getTotalSeconds() - zotr.getStandardOffset().getTotalSeconds());
+        }
+
+        if (offsets.size() > 255) {
+            throw new IOException("Too many different offsets: " + offsets.size());
+        }
+
+        out.writeByte(offsets.size());
+
+        for (Integer offset : offsets) {
+            out.writeInt(offset.intValue());
+        }
+
+        out.writeByte(initial);
+        out.writeInt(zots.size());
+        long previous = 0;
+
+        for (int i = 0; i < zots.size(); i++) {
+            long posix = zots.get(i).getInstant().getEpochSecond();
+            if (i == 0) {
+                out.writeLong(posix);
+            } else {
+                long delta = posix - previous;
+                while ((delta & ~0x7FL) != 0) {
+                    out.writeByte((int) ((delta & 0x7F) | 0x80));
+                    delta >>>= 7;
+                }
+                out.writeByte((int) delta);
+            }
+            previous = posix;
+            out.writeByte(indices[i * 3]);
+            out.writeByte(indices[i * 3 + 1]);
+            out.writeByte(indices[i * 3 + 2]);
+        }
+
+        out.writeByte(zotrs.size());
+
+        for (int i = 0; i < zotrs.size(); i++) {
+            ZoneOffsetTransitionRule zotr = zotrs.get(i);
+            LocalTime time = zotr.getLocalTime();
+            int tod;
+
+            if (zotr.isMidnightEndOfDay()) {
+                tod = END_OF_DAY;
+            } else if (time.getNano() == 0) {
+                tod = TemporalType.LOCAL_TIME.translate(time).getInt(PlainTime.SECOND_OF_DAY);
+            } else {
+                throw new IOException("Fractional time of rule not supported: " + zotr);
+            }
+
+            OffsetIndicator indicator;
+
+            switch (zotr.getTimeDefinition()) {
+                case STANDARD:
+                    indicator = OffsetIndicator.STANDARD_TIME;
+                    break;
+                case UTC:
+                    indicator = OffsetIndicator.UTC_TIME;
+                    break;
+                case WALL:
+                    indicator = OffsetIndicator.WALL_TIME;
+                    break;
+                default:
+                    throw new UnsupportedOperationException(zotr.getTimeDefinition().name());
+            }
+
+            out.writeByte(zotr.getMonth().getValue());
+            out.writeByte(zotr.getDayOfMonthIndicator());
+            out.writeByte((zotr.getDayOfWeek() == null) ? 0 : zotr.getDayOfWeek().getValue());
+            out.writeInt(tod);
+            out.writeByte(indicator.ordinal());
+            out.writeByte(dstIndices[i]);
+        }
+
+    }
+
+    private static int indexOf(
+        List<Integer> offsets,
+        int offset
+    ) {
+
+        Integer value = Integer.valueOf(offset);
+        int index = offsets.indexOf(value);
+
+        if (index == -1) {
+            offsets.add(value);
+            index = offsets.size() - 1;
+        }
+
+        return index;
+
+    }
+
+    private static void writeAscii(
+        DataOutputStream out,
+        String s
+    ) throws IOException {
+
+        byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+
+    }
+
+    private static String readAscii(ByteBuffer buf) {
+
+        int len = buf.getShort() & 0xFFFF;
+        byte[] bytes = new byte[len];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+
+    }
+
+}
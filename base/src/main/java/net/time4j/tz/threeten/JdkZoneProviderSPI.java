@@ -153,8 +153,6 @@ public class JdkZoneProviderSPI
             }
 
             for (ZoneOffsetTransitionRule zotr : zoneRules.getTransitionRules()) {
-                DaylightSavingRule rule;
-
                 int dom = zotr.getDayOfMonthIndicator(); // -28 bis +31 (ohne 0)
                 DayOfWeek dayOfWeek = zotr.getDayOfWeek();
 
@@ -181,21 +179,8 @@ public class JdkZoneProviderSPI
                 }
 
                 int dst = (zotr.getOffsetAfter().getTotalSeconds() - zotr.getStandardOffset().getTotalSeconds());
-
-                if (dayOfWeek == null) {
-                    rule = GregorianTimezoneRule.ofFixedDay(month, dom, timeOfDay, indicator, dst);
-                } else {
-                    Weekday wd = Weekday.valueOf(dayOfWeek.getValue());
-                    if (dom == -1) {
-                        rule = GregorianTimezoneRule.ofLastWeekday(month, wd, timeOfDay, indicator, dst);
-                    } else if (dom < 0) {
-                        rule = new NegativeDayOfMonthPattern(month, dom, wd, timeOfDay, indicator, dst);
-                    } else {
-                        rule = GregorianTimezoneRule.ofWeekdayAfterDate(month, dom, wd, timeOfDay, indicator, dst);
-                    }
-                }
-
-                rules.add(rule);
+                int dow = ((dayOfWeek == null) ? 0 : dayOfWeek.getValue());
+                rules.add(createRule(month, dom, dow, timeOfDay, indicator, dst));
             }
 
             return TransitionModel.of(initialOffset, transitions, rules);
@@ -206,4 +191,30 @@ public class JdkZoneProviderSPI
 
     }
 
+    // also used by CompactZoneProviderSPI, dayOfWeek = 0 if the day of month is fixed
+    static DaylightSavingRule createRule(
+        Month month,
+        int dom,
+        int dayOfWeek,
+        PlainTime timeOfDay,
+        OffsetIndicator indicator,
+        int dst
+    ) {
+
+        if (dayOfWeek == 0) {
+            return GregorianTimezoneRule.ofFixedDay(month, dom, timeOfDay, indicator, dst);
+        }
+
+        Weekday wd = Weekday.valueOf(dayOfWeek);
+
+        if (dom == -1) {
+            return GregorianTimezoneRule.ofLastWeekday(month, wd, timeOfDay, indicator, dst);
+        } else if (dom < 0) {
+            return new NegativeDayOfMonthPattern(month, dom, wd, timeOfDay, indicator, dst);
+        } else {
+            return GregorianTimezoneRule.ofWeekdayAfterDate(month, dom, wd, timeOfDay, indicator, dst);
+        }
+
+    }
+
 }
@@ -23,12 +23,14 @@ import org.junit.runners.Suite.SuiteClasses;
         MinMaxTest.class,
         NumberSuite.class,
         OperatorSuite.class,
+        PackedEncodingTest.class,
         ScaleSuite.class,
         SerializationTest.class,
         SystemClockTest.class,
         TemporalTypeTest.class,
         TimeLineTest.class,
         TimeSuite.class,
+        VectorTest.class,
         ZoneSuite.class
     }
 )
@@ -0,0 +1,124 @@
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.scale.TimeScale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class PackedEncodingTest {
+
+    @Test
+    public void dateRoundTrip() {
+        PlainDate[] dates = {
+            PlainDate.MIN, PlainDate.of(-1, 12, 31), PlainDate.of(0, 1, 1),
+            PlainDate.of(1970, 1, 1), PlainDate.of(2020, 2, 29), PlainDate.MAX
+        };
+        for (PlainDate date : dates) {
+            assertThat(PlainDate.decode(date.encode()), is(date));
+        }
+    }
+
+    @Test
+    public void dateCompatibleWithGregorianMath() {
+        long packed = PlainDate.of(2012, 6, 30).encode();
+        assertThat(GregorianMath.readYear(packed), is(2012));
+        assertThat(GregorianMath.readMonth(packed), is(6));
+        assertThat(GregorianMath.readDayOfMonth(packed), is(30));
+        assertThat(packed, is(GregorianMath.toPackedDate(PlainDate.of(2012, 6, 30).getDaysSinceEpochUTC() + 41317)));
+    }
+
+    @Test
+    public void dateOrderPreserving() {
+        PlainDate prev = PlainDate.of(-3, 1, 1);
+        for (int i = 0; i < 3000; i++) {
+            PlainDate next = prev.plus(1, CalendarUnit.DAYS);
+            assertThat(prev.encode() < next.encode(), is(true));
+            prev = next;
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void dateInvalid() {
+        PlainDate.decode(PlainDate.of(2012, 6, 30).encode() | 0x100);
+    }
+
+    @Test
+    public void timestampRoundTrip() {
+        PlainTimestamp[] tsps = {
+            PlainTimestamp.of(1677, 9, 21, 0, 12, 43).plus(145224192, ClockUnit.NANOS),
+            PlainTimestamp.of(1969, 12, 31, 23, 59, 59).plus(999999999, ClockUnit.NANOS),
+            PlainTimestamp.of(1970, 1, 1, 0, 0),
+            PlainTimestamp.of(2262, 4, 11, 23, 47, 16).plus(854775807, ClockUnit.NANOS)
+        };
+        for (PlainTimestamp tsp : tsps) {
+            assertThat(PlainTimestamp.decode(tsp.encode()), is(tsp));
+        }
+        assertThat(tsps[0].encode(), is(Long.MIN_VALUE));
+        assertThat(tsps[1].encode(), is(-1L));
+        assertThat(tsps[2].encode(), is(0L));
+        assertThat(tsps[3].encode(), is(Long.MAX_VALUE));
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void timestampOutOfRange() {
+        PlainTimestamp.of(2262, 4, 11, 23, 47, 16).plus(854775808, ClockUnit.NANOS).encode();
+    }
+
+    @Test
+    public void timestampOrderPreserving() {
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            long a = random.nextLong();
+            long b = random.nextLong();
+            PlainTimestamp ta = PlainTimestamp.decode(a);
+            PlainTimestamp tb = PlainTimestamp.decode(b);
+            assertThat(Long.compare(a, b), is(Integer.signum(ta.compareTo(tb))));
+            assertThat(ta.encode(), is(a));
+        }
+    }
+
+    @Test
+    public void momentRoundTrip() {
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            Moment m = Moment.of(random.nextInt() * 4L, random.nextInt(1000000000), TimeScale.POSIX);
+            long encoded = m.encode();
+            assertThat(Moment.decode(encoded), is(m));
+            assertThat(Moment.decode(encoded).encode(), is(encoded));
+        }
+    }
+
+    @Test
+    public void momentLeapSecond() {
+        Moment before = PlainTimestamp.of(2012, 6, 30, 23, 59, 59).atUTC().plus(999999999, TimeUnit.NANOSECONDS);
+        Moment leap = Moment.of(1278028824, 5, TimeScale.UTC);
+        Moment after = PlainTimestamp.of(2012, 7, 1, 0, 0).atUTC();
+        assertThat(leap.isLeapSecond(), is(true));
+        assertThat(before.encode() < leap.encode(), is(true));
+        assertThat(leap.encode() < after.encode(), is(true));
+        Moment decoded = Moment.decode(leap.encode());
+        assertThat(decoded, is(leap));
+        assertThat(decoded.isLeapSecond(), is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void momentUnregisteredLeapSecond() {
+        long encoded = PlainTimestamp.of(2013, 6, 30, 23, 59, 59).atUTC().encode();
+        Moment.decode(encoded + 1000000000L);
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void momentOutOfRange() {
+        PlainTimestamp.of(2300, 1, 1, 0, 0).atUTC().encode();
+    }
+
+}
@@ -2,6 +2,7 @@ package net.time4j;
 
 import net.time4j.base.TimeSource;
 import net.time4j.scale.LeapSeconds;
+import net.time4j.tz.ZonalOffset;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -26,12 +27,51 @@ public class SystemClockTest {
     @Test
     public void currentTimeInMicros() {
         SystemClock clock = SystemClock.INSTANCE;
+        long before = System.currentTimeMillis();
+        long micros = clock.currentTimeInMicros();
+        long after = System.currentTimeMillis();
         assertThat(
-            clock.currentTimeInMicros(),
-            is(System.currentTimeMillis() * 1000));
-        assertThat(
-            SystemClock.INSTANCE.currentTimeInMicros() % 1000,
-            is(0L));
+            micros >= before * 1000 && micros < (after + 1) * 1000,
+            is(true));
+        if (System.getProperty("java.specification.version").startsWith("1.")) {
+            assertThat(micros % 1000, is(0L));
+        }
+    }
+
+    @Test
+    public void currentTimeInMicrosPrecise() {
+        if (System.getProperty("java.specification.version").startsWith("1.")) {
+            return; // Java 8 liefert nur Millisekunden
+        }
+        SystemClock clock = SystemClock.INSTANCE; // Wanduhr, nicht monoton
+        boolean subMillis = false;
+        for (int i = 0; (i < 1000) && !subMillis; i++) {
+            subMillis = ((clock.currentTimeInMicros() % 1000) != 0);
+        }
+        assertThat(subMillis, is(true));
+        long micros = clock.currentTimeInMicros();
+        Moment m = clock.currentTime();
+        assertThat(Math.abs(m.getPosixTime() * 1000000 + m.getNanosecond() / 1000 - micros) < 1000000, is(true));
+    }
+
+    @Test
+    public void monotonicMicrosOrdered() {
+        SystemClock clock = SystemClock.MONOTONIC;
+        long previous = clock.currentTimeInMicros();
+        for (int i = 0; i < 1000; i++) {
+            long micros = clock.currentTimeInMicros();
+            assertThat("Clock went backwards: " + previous + " => " + micros, micros >= previous, is(true));
+            previous = micros;
+        }
+    }
+
+    @Test
+    public void monotonicMillisAndMicros() {
+        SystemClock clock = SystemClock.MONOTONIC;
+        long millis = clock.currentTimeInMillis();
+        long micros = clock.currentTimeInMicros();
+        assertThat(micros / 1000 - millis >= 0 && micros / 1000 - millis < 1000, is(true));
+        assertThat(Math.abs(millis - System.currentTimeMillis()) < 1000, is(true));
     }
 
     @Test
@@ -80,6 +120,73 @@ public class SystemClockTest {
         );
     }
 
+    @Test
+    public void coarseMillis() throws InterruptedException {
+        CoarseClock clock = SystemClock.coarse(ClockUnit.MILLIS);
+        assertThat(SystemClock.coarse(ClockUnit.MILLIS) == clock, is(true));
+        assertThat(clock.getPrecision(), is(ClockUnit.MILLIS));
+        Moment first = clock.currentTime();
+        assertThat(first.getNanosecond() % 1000000, is(0));
+        long delta = Math.abs(clock.currentTimeInMillis() - System.currentTimeMillis());
+        assertThat("Observed delta: " + delta, delta < 1000, is(true));
+        Thread.sleep(20);
+        assertThat(clock.currentTime().isAfter(first), is(true));
+        Moment m = clock.currentTime();
+        assertThat(
+            m.getPosixTime() * 1000 + m.getNanosecond() / 1000000 <= clock.currentTimeInMillis(),
+            is(true));
+    }
+
+    @Test
+    public void coarseSeconds() {
+        CoarseClock clock = SystemClock.coarse(ClockUnit.SECONDS);
+        assertThat(clock.currentTime().getNanosecond(), is(0));
+        assertThat(clock.currentTimeInMillis() % 1000, is(0L));
+        assertThat(
+            Math.abs(clock.currentTime().until(SystemClock.INSTANCE.currentTime(), TimeUnit.SECONDS)) < 2,
+            is(true));
+    }
+
+    @Test
+    public void coarseText() {
+        CoarseClock clock = SystemClock.coarse(ClockUnit.SECONDS);
+        String text = clock.currentTimeAsString();
+        assertThat(text.endsWith("Z"), is(true));
+        assertThat(text.startsWith(String.valueOf(clock.currentTime().toZonalTimestamp(ZonalOffset.UTC).getYear())), is(true));
+    }
+
+    @Test
+    public void coarseShutdown() throws InterruptedException {
+        CoarseClock clock = SystemClock.coarse(ClockUnit.MILLIS);
+        clock.shutdown();
+        clock.shutdown();
+        assertThat(SystemClock.coarse(ClockUnit.MILLIS) == clock, is(false));
+        assertThat(awaitTickers("time4j-coarse-clock-millis", 1), is(true));
+        Thread.sleep(20);
+        long delta = Math.abs(clock.currentTimeInMillis() - System.currentTimeMillis());
+        assertThat("Observed delta: " + delta, delta < 20, is(true)); // keine eingefrorene Zeit
+    }
+
+    @Test
+    public void coarseInterrupted() throws InterruptedException {
+        CoarseClock clock = SystemClock.coarse(ClockUnit.MILLIS);
+        for (Thread t : Thread.getAllStackTraces().keySet()) {
+            if (t.getName().equals("time4j-coarse-clock-millis")) {
+                t.interrupt();
+            }
+        }
+        assertThat(awaitTickers("time4j-coarse-clock-millis", 0), is(true));
+        assertThat(SystemClock.coarse(ClockUnit.MILLIS) == clock, is(false));
+        Thread.sleep(20);
+        long delta = Math.abs(clock.currentTimeInMillis() - System.currentTimeMillis());
+        assertThat("Observed delta: " + delta, delta < 20, is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void coarseNanos() {
+        SystemClock.coarse(ClockUnit.NANOS);
+    }
+
     @Test
     public void platformView() {
         System.out.println(SystemClock.inPlatformView().now());
@@ -123,4 +230,23 @@ public class SystemClockTest {
             is(true));
     }
 
+    private static boolean awaitTickers(
+        String name,
+        int maxCount
+    ) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            int count = 0;
+            for (Thread t : Thread.getAllStackTraces().keySet()) {
+                if (t.getName().equals(name) && t.isAlive()) {
+                    count++;
+                }
+            }
+            if (count <= maxCount) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+
 }
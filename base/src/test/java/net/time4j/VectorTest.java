@@ -0,0 +1,296 @@
+package net.time4j;
+
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.LeapSeconds;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class VectorTest {
+
+    private static final String[] ZONES = {"Europe/Berlin", "America/New_York", "Australia/Lord_Howe"};
+
+    @Test
+    public void datePlusCalendarUnit() {
+        PlainDate[] dates = randomDates(500);
+        DateVector vector = DateVector.of(dates);
+        for (CalendarUnit unit : CalendarUnit.values()) {
+            for (long amount : new long[] {-13, -1, 1, 7, 100}) {
+                DateVector result = vector.plus(amount, unit);
+                DateVector inverse = vector.minus(amount, unit);
+                for (int i = 0; i < dates.length; i++) {
+                    assertThat(result.get(i), is(dates[i].plus(amount, unit)));
+                    assertThat(inverse.get(i), is(dates[i].minus(amount, unit)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void dateEndOfMonthClamped() {
+        DateVector vector = DateVector.of(new PlainDate[] {PlainDate.of(2020, 1, 31), PlainDate.of(2020, 2, 29)});
+        assertThat(vector.plus(1, CalendarUnit.MONTHS).get(0), is(PlainDate.of(2020, 2, 29)));
+        assertThat(vector.plus(1, CalendarUnit.YEARS).get(1), is(PlainDate.of(2021, 2, 28)));
+    }
+
+    @Test
+    public void dateTruncated() {
+        DateVector vector = DateVector.of(new PlainDate[] {PlainDate.of(2021, 8, 19), PlainDate.of(1969, 12, 31)});
+        assertThat(vector.truncatedTo(CalendarUnit.WEEKS).get(0), is(PlainDate.of(2021, 8, 16)));
+        assertThat(vector.truncatedTo(CalendarUnit.WEEKS).get(1), is(PlainDate.of(1969, 12, 29)));
+        assertThat(vector.truncatedTo(CalendarUnit.MONTHS).get(0), is(PlainDate.of(2021, 8, 1)));
+        assertThat(vector.truncatedTo(CalendarUnit.QUARTERS).get(0), is(PlainDate.of(2021, 7, 1)));
+        assertThat(vector.truncatedTo(CalendarUnit.YEARS).get(1), is(PlainDate.of(1969, 1, 1)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void dateTruncatedToDecades() {
+        DateVector.of(new PlainDate[] {PlainDate.of(2021, 8, 19)}).truncatedTo(CalendarUnit.DECADES);
+    }
+
+    @Test
+    public void dateMasks() {
+        DateVector vector =
+            DateVector.of(new PlainDate[] {PlainDate.of(2021, 8, 18), PlainDate.of(2021, 8, 19), PlainDate.of(2021, 8, 20)});
+        PlainDate ref = PlainDate.of(2021, 8, 19);
+        assertThat(vector.isBefore(ref), is(new boolean[] {true, false, false}));
+        assertThat(vector.isSimultaneous(ref), is(new boolean[] {false, true, false}));
+        assertThat(vector.isAfter(ref), is(new boolean[] {false, false, true}));
+    }
+
+    @Test
+    public void dateAtTime() {
+        PlainDate[] dates = randomDates(100);
+        PlainTime time = PlainTime.of(17, 45, 30, 123456789);
+        TimestampVector vector = DateVector.of(dates).at(time);
+        for (int i = 0; i < dates.length; i++) {
+            assertThat(vector.get(i), is(dates[i].at(time)));
+        }
+        assertThat(
+            DateVector.of(new PlainDate[] {PlainDate.of(2021, 12, 31)}).at(PlainTime.midnightAtEndOfDay()).get(0),
+            is(PlainTimestamp.of(2022, 1, 1, 0, 0)));
+    }
+
+    @Test
+    public void dateThreetenRoundTrip() {
+        PlainDate[] dates = randomDates(100);
+        LocalDate[] threeten = DateVector.of(dates).toLocalDates();
+        DateVector vector = DateVector.from(threeten);
+        for (int i = 0; i < dates.length; i++) {
+            assertThat(threeten[i], is(dates[i].toTemporalAccessor()));
+            assertThat(vector.get(i), is(dates[i]));
+        }
+        assertThat(vector, is(DateVector.of(dates)));
+    }
+
+    @Test
+    public void timestampPlusClockUnit() {
+        PlainTimestamp[] tsps = randomTimestamps(500);
+        TimestampVector vector = TimestampVector.of(tsps);
+        for (ClockUnit unit : ClockUnit.values()) {
+            for (long amount : new long[] {-1234567, -1, 1, 999999999, 86400}) {
+                TimestampVector result = vector.plus(amount, unit);
+                TimestampVector inverse = vector.minus(amount, unit);
+                for (int i = 0; i < tsps.length; i++) {
+                    assertThat(result.get(i), is(tsps[i].plus(amount, unit)));
+                    assertThat(inverse.get(i), is(tsps[i].minus(amount, unit)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void timestampPlusCalendarUnit() {
+        PlainTimestamp[] tsps = randomTimestamps(500);
+        TimestampVector vector = TimestampVector.of(tsps);
+        for (CalendarUnit unit : CalendarUnit.values()) {
+            for (long amount : new long[] {-13, -1, 1, 7, 100}) {
+                TimestampVector result = vector.plus(amount, unit);
+                for (int i = 0; i < tsps.length; i++) {
+                    assertThat(result.get(i), is(tsps[i].plus(amount, unit)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void timestampTruncated() {
+        PlainTimestamp tsp = PlainTimestamp.of(PlainDate.of(1969, 12, 31), PlainTime.of(23, 59, 58, 987654321));
+        TimestampVector vector = TimestampVector.of(new PlainTimestamp[] {tsp});
+        assertThat(vector.truncatedTo(ClockUnit.HOURS).get(0), is(PlainTimestamp.of(1969, 12, 31, 23, 0)));
+        assertThat(vector.truncatedTo(ClockUnit.SECONDS).get(0), is(PlainTimestamp.of(1969, 12, 31, 23, 59, 58)));
+        assertThat(
+            vector.truncatedTo(ClockUnit.MICROS).get(0),
+            is(tsp.with(PlainTime.NANO_OF_SECOND, 987654000)));
+        assertThat(vector.getCalendarDates().get(0), is(PlainDate.of(1969, 12, 31)));
+    }
+
+    @Test
+    public void timestampMasks() {
+        PlainTimestamp ref = PlainTimestamp.of(2021, 8, 19, 12, 0);
+        TimestampVector vector =
+            TimestampVector.of(
+                new PlainTimestamp[] {ref.minus(1, ClockUnit.NANOS), ref, ref.plus(1, ClockUnit.NANOS)});
+        assertThat(vector.isBefore(ref), is(new boolean[] {true, false, false}));
+        assertThat(vector.isSimultaneous(ref), is(new boolean[] {false, true, false}));
+        assertThat(vector.isAfter(ref), is(new boolean[] {false, false, true}));
+    }
+
+    @Test
+    public void timestampInTimezone() {
+        PlainTimestamp[] tsps = randomTimestamps(2000);
+        TimestampVector vector = TimestampVector.of(tsps);
+        for (String zoneID : ZONES) {
+            Timezone tz = Timezone.of(zoneID);
+            MomentVector moments = vector.in(tz);
+            for (int i = 0; i < tsps.length; i++) {
+                assertThat(moments.get(i), is(tsps[i].in(tz)));
+            }
+        }
+    }
+
+    @Test
+    public void timestampThreetenRoundTrip() {
+        PlainTimestamp[] tsps = randomTimestamps(100);
+        LocalDateTime[] threeten = TimestampVector.of(tsps).toLocalDateTimes();
+        TimestampVector vector = TimestampVector.from(threeten);
+        for (int i = 0; i < tsps.length; i++) {
+            assertThat(threeten[i], is(tsps[i].toTemporalAccessor()));
+            assertThat(vector.get(i), is(tsps[i]));
+        }
+        assertThat(vector, is(TimestampVector.of(tsps)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void timestampOutOfRange() {
+        TimestampVector.ofLocalSeconds(new long[] {0, Long.MAX_VALUE / 2});
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void timestampInvalidNanosecond() {
+        TimestampVector.ofLocalSeconds(new long[] {0}, new int[] {1000000000});
+    }
+
+    @Test
+    public void momentPlusTimeUnit() {
+        Moment[] moments = randomMoments(500);
+        MomentVector vector = MomentVector.of(moments);
+        for (TimeUnit unit : TimeUnit.values()) {
+            for (long amount : new long[] {-1234567, -1, 1, 999999999}) {
+                MomentVector result = vector.plus(amount, unit);
+                MomentVector inverse = vector.minus(amount, unit);
+                for (int i = 0; i < moments.length; i++) {
+                    assertThat(result.get(i), is(moments[i].plus(amount, unit)));
+                    assertThat(inverse.get(i), is(moments[i].minus(amount, unit)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void momentToZonalTimestamps() {
+        Moment[] moments = randomMoments(2000);
+        MomentVector vector = MomentVector.of(moments);
+        for (String zoneID : ZONES) {
+            TimestampVector tsps = vector.toZonalTimestamps(Timezone.of(zoneID));
+            for (int i = 0; i < moments.length; i++) {
+                assertThat(tsps.get(i), is(moments[i].toZonalTimestamp(zoneID)));
+            }
+        }
+        TimestampVector shifted = vector.toZonalTimestamps(Timezone.of(ZonalOffset.ofTotalSeconds(19800)));
+        assertThat(shifted.get(0), is(moments[0].toZonalTimestamp(ZonalOffset.ofTotalSeconds(19800))));
+    }
+
+    @Test
+    public void momentLeapSecond() {
+        if (!LeapSeconds.getInstance().isEnabled()) {
+            return;
+        }
+        Moment before = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(750, TimeUnit.MILLISECONDS);
+        Moment leap = before.plus(1, SI.SECONDS);
+        Moment after = leap.plus(1, SI.SECONDS);
+        MomentVector vector = MomentVector.of(new Moment[] {before, leap, after});
+        assertThat(leap.isLeapSecond(), is(true));
+        assertThat(vector.get(1), is(leap));
+        assertThat(vector.isLeapSecond(1), is(true));
+        assertThat(vector.getPosixTime(1), is(before.getPosixTime()));
+        assertThat(vector.isBefore(leap), is(new boolean[] {true, false, false}));
+        assertThat(vector.isSimultaneous(leap), is(new boolean[] {false, true, false}));
+        assertThat(vector.isAfter(leap), is(new boolean[] {false, false, true}));
+        assertThat(vector.truncatedTo(TimeUnit.SECONDS).get(1), is(leap.minus(750000000, SI.NANOSECONDS)));
+        assertThat(vector.plus(1, TimeUnit.SECONDS).get(1), is(leap.plus(1, TimeUnit.SECONDS)));
+        assertThat(vector.toZonalTimestamps(Timezone.of(ZonalOffset.UTC)).get(1), is(leap.toZonalTimestamp(ZonalOffset.UTC)));
+    }
+
+    @Test
+    public void momentMasks() {
+        Moment ref = Moment.of(1000000, 500, TimeScale.POSIX);
+        MomentVector vector =
+            MomentVector.of(new Moment[] {ref.minus(1, TimeUnit.NANOSECONDS), ref, ref.plus(1, TimeUnit.NANOSECONDS)});
+        assertThat(vector.isBefore(ref), is(new boolean[] {true, false, false}));
+        assertThat(vector.isSimultaneous(ref), is(new boolean[] {false, true, false}));
+        assertThat(vector.isAfter(ref), is(new boolean[] {false, false, true}));
+    }
+
+    @Test
+    public void momentThreetenRoundTrip() {
+        Moment[] moments = randomMoments(100);
+        Instant[] threeten = MomentVector.of(moments).toInstants();
+        MomentVector vector = MomentVector.from(threeten);
+        for (int i = 0; i < moments.length; i++) {
+            assertThat(threeten[i], is(moments[i].toTemporalAccessor()));
+            assertThat(vector.get(i), is(moments[i]));
+        }
+        assertThat(vector, is(MomentVector.of(moments)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void momentOutOfRange() {
+        MomentVector.ofPosixTimes(new long[] {0, Long.MIN_VALUE / 2});
+    }
+
+    private static PlainDate[] randomDates(int count) {
+        Random random = new Random(1234L);
+        PlainDate[] dates = new PlainDate[count];
+        for (int i = 0; i < count; i++) {
+            dates[i] = PlainDate.of(random.nextInt(300 * 366) - 100 * 366, EpochDays.UNIX);
+        }
+        return dates;
+    }
+
+    private static PlainTimestamp[] randomTimestamps(int count) {
+        Random random = new Random(5678L);
+        PlainDate[] dates = randomDates(count);
+        PlainTimestamp[] tsps = new PlainTimestamp[count];
+        for (int i = 0; i < count; i++) {
+            long nanoOfDay = Math.floorMod(random.nextLong(), 86400L * 1000000000L);
+            tsps[i] = PlainTimestamp.of(dates[i], PlainTime.createFromNanos(nanoOfDay));
+        }
+        return tsps;
+    }
+
+    private static Moment[] randomMoments(int count) {
+        Random random = new Random(9012L);
+        Moment[] moments = new Moment[count];
+        for (int i = 0; i < count; i++) {
+            long posix = Math.floorMod(random.nextLong(), 200L * 365 * 86400) - 50L * 365 * 86400;
+            moments[i] = Moment.of(posix, random.nextInt(1000000000), TimeScale.POSIX);
+        }
+        return moments;
+    }
+
+}
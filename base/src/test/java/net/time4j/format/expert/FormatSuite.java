@@ -16,22 +16,29 @@ import org.junit.runners.Suite.SuiteClasses;
         DefaultValueTest.class,
         DozenalNumberTest.class,
         DuplicateElementTest.class,
+        FormatterCacheTest.class,
         FractionTest.class,
+        IsoFastPathTest.class,
         Iso8601FormatTest.class,
         LiteralWithBidisTest.class,
         LiteralWithDigitsTest.class,
         MiscellaneousTest.class,
         MomentPatternTest.class,
         MomentScaleTest.class,
+        MultiFormatDispatchTest.class,
         MultiFormatTest.class,
         OffsetPatternTest.class,
         OrFormatTest.class,
         OrdinalTest.class,
+        ParseBytesTest.class,
+        ParseSessionTest.class,
         ParsingTextOverflowTest.class,
+        PrintToArrayTest.class,
         SkipUnknownTest.class,
         StyleProcessorTest.class,
         ThreetenFormatTest.class,
-        WhitespaceTest.class
+        WhitespaceTest.class,
+        ZoneLabelsTest.class
     }
 )
 public class FormatSuite {
@@ -0,0 +1,134 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.format.Leniency;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class FormatterCacheTest {
+
+    @After
+    public void restore() {
+        ChronoFormatter.Cache.setMaximumCacheSize(256);
+    }
+
+    @Test
+    public void hitAndMiss() {
+        ChronoFormatter.Cache.refresh();
+        long hits = ChronoFormatter.Cache.getHitCount();
+        long misses = ChronoFormatter.Cache.getMissCount();
+        ChronoFormatter<PlainDate> f1 = ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN);
+        ChronoFormatter<PlainDate> f2 = ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN);
+        assertThat(f2, sameInstance(f1));
+        assertThat(ChronoFormatter.Cache.getHitCount() - hits, is(1L));
+        assertThat(ChronoFormatter.Cache.getMissCount() - misses, is(1L));
+    }
+
+    @Test
+    public void keyComponents() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN);
+        assertThat(
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.FRENCH),
+            not(sameInstance(f)));
+        assertThat(
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.SIMPLE_DATE_FORMAT, Locale.GERMAN),
+            not(sameInstance(f)));
+        assertThat(
+            ChronoFormatter.ofDatePattern("dd.MM.yyyy", PatternType.CLDR, Locale.GERMAN),
+            not(sameInstance(f)));
+        assertThat(
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC),
+            not(sameInstance(
+                ChronoFormatter.ofMomentPattern(
+                    "uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 1)))));
+        assertThat(
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC),
+            sameInstance(
+                ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC)));
+    }
+
+    @Test
+    public void leniencyVariants() throws ParseException {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("d.M.uuuu", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter<PlainDate> strict = f.with(Leniency.STRICT);
+        assertThat(f.with(Leniency.SMART), sameInstance(f));
+        assertThat(f.with(Leniency.STRICT), sameInstance(strict));
+        assertThat(strict.with(Leniency.SMART), sameInstance(f));
+        assertThat(strict.getAttributes().get(net.time4j.format.Attributes.LENIENCY), is(Leniency.STRICT));
+        assertThat(strict.parse("4.11.2019"), is(PlainDate.of(2019, 11, 4)));
+    }
+
+    @Test
+    public void sameBehaviourAsUncached() throws ParseException {
+        ChronoFormatter.Cache.setMaximumCacheSize(0);
+        ChronoFormatter<Moment> uncached =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        assertThat(ChronoFormatter.Cache.getCurrentSize(), is(0));
+        ChronoFormatter.Cache.setMaximumCacheSize(256);
+        ChronoFormatter<Moment> cached =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        assertThat(cached, is(uncached));
+        assertThat(cached.parse("2019-11-04 17:45"), is(uncached.parse("2019-11-04 17:45")));
+    }
+
+    @Test
+    public void bounded() {
+        ChronoFormatter.Cache.setMaximumCacheSize(5);
+        for (int i = 0; i < 20; i++) {
+            ChronoFormatter.ofDatePattern("uuuu-MM-dd'" + i + "'", PatternType.CLDR, Locale.ROOT);
+        }
+        assertThat(ChronoFormatter.Cache.getCurrentSize() <= 5, is(true));
+        ChronoFormatter.Cache.setMaximumCacheSize(2);
+        assertThat(ChronoFormatter.Cache.getCurrentSize() <= 2, is(true));
+    }
+
+    @Test
+    public void frequentlyUsedFormatterSurvives() {
+        ChronoFormatter.Cache.setMaximumCacheSize(4);
+        ChronoFormatter<PlainDate> hot = ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.ROOT);
+        long misses = ChronoFormatter.Cache.getMissCount();
+        for (int i = 0; i < 50; i++) {
+            assertThat(
+                ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.ROOT),
+                sameInstance(hot)); // setzt Zugriffsbit
+            ChronoFormatter.ofDatePattern("uuuu-MM-dd'" + i + "'", PatternType.CLDR, Locale.ROOT);
+        }
+        assertThat(ChronoFormatter.Cache.getMissCount() - misses, is(50L));
+        assertThat(ChronoFormatter.Cache.getCurrentSize() <= 4, is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void negativeSize() {
+        ChronoFormatter.Cache.setMaximumCacheSize(-1);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidPatternNotCached() {
+        try {
+            ChronoFormatter.ofDatePattern("uuuu-MM-dd HH", PatternType.CLDR, Locale.ROOT);
+        } finally {
+            assertThat(ChronoFormatter.Cache.getCurrentSize() <= ChronoFormatter.Cache.getMaximumCacheSize(), is(true));
+        }
+    }
+
+    @Test(expected=NullPointerException.class)
+    public void nullTimezone() {
+        ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, null);
+    }
+
+}
@@ -2,7 +2,9 @@ package net.time4j.format.expert;
 
 import net.time4j.ClockUnit;
 import net.time4j.Moment;
+import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
+import net.time4j.engine.ChronoElement;
 import net.time4j.format.Leniency;
 import net.time4j.tz.ZonalOffset;
 import org.junit.Test;
@@ -20,6 +22,24 @@ import static org.junit.Assert.assertThat;
 @RunWith(JUnit4.class)
 public class FractionTest {
 
+    @Test
+    public void printFractionOfDecimalRange() {
+        assertThat(printFraction(PlainTime.NANO_OF_SECOND, 0, 9, PlainTime.of(12, 0, 0, 120_000_000)), is("12"));
+        assertThat(printFraction(PlainTime.NANO_OF_SECOND, 3, 9, PlainTime.of(12, 0, 0, 120_000_000)), is("120"));
+        assertThat(printFraction(PlainTime.NANO_OF_SECOND, 0, 2, PlainTime.of(12, 0, 0, 129_999_999)), is("12"));
+        assertThat(printFraction(PlainTime.NANO_OF_SECOND, 0, 9, PlainTime.of(12, 0, 0, 1)), is("000000001"));
+        assertThat(printFraction(PlainTime.NANO_OF_SECOND, 0, 9, PlainTime.of(12)), is(""));
+        assertThat(printFraction(PlainTime.NANO_OF_SECOND, 2, 9, PlainTime.of(12)), is("00"));
+        assertThat(printFraction(PlainTime.MILLI_OF_SECOND, 0, 6, PlainTime.of(12, 0, 0, 5_000_000)), is("005"));
+        assertThat(printFraction(PlainTime.MILLI_OF_SECOND, 6, 6, PlainTime.of(12, 0, 0, 5_000_000)), is("005000"));
+    }
+
+    @Test
+    public void printFractionOfNonDecimalRange() {
+        assertThat(printFraction(PlainTime.SECOND_OF_MINUTE, 0, 9, PlainTime.of(12, 0, 30)), is("5"));
+        assertThat(printFraction(PlainTime.SECOND_OF_MINUTE, 0, 3, PlainTime.of(12, 0, 20)), is("333"));
+    }
+
     @Test
     public void smartMoment() throws ParseException {
         ChronoFormatter<Moment> f =
@@ -52,4 +72,16 @@ public class FractionTest {
         f.parse("2016-07-14T15:45:00.123Z"); // less than 6 fractional digits
     }
 
+    private static String printFraction(
+        ChronoElement<Integer> element,
+        int minDigits,
+        int maxDigits,
+        PlainTime time
+    ) {
+        return ChronoFormatter.setUp(PlainTime.axis(), Locale.ROOT)
+            .addFraction(element, minDigits, maxDigits, false)
+            .build()
+            .format(time);
+    }
+
 }
@@ -0,0 +1,196 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.format.Attributes;
+import net.time4j.scale.TimeScale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class IsoFastPathTest {
+
+    private static final int[] NANOS = {0, 1, 10, 120_000_000, 123_456_789, 500_000_000, 999_999_999, 1_000};
+
+    private static final List<String> DATE_TIMES =
+        Arrays.asList(
+            "2019-11-04T17:45", "2019-11-04T17:45:30", "2019-11-04T17:45:30,5", "2019-11-04T17:45:30.123456789",
+            "2019-11-04T17:45:30,1234567891", "2019-11-04T17", "2019-11-04T24:00", "2019-11-04T24:00:01",
+            "2019-11-04T17:60", "2019-11-04T17:45:60", "2019-11-04t17:45", "2019-02-29T00:00", "2020-02-29T00:00",
+            "2019-13-04T17:45", "2019-00-04T17:45", "2019-11-00T17:45", "2019-308T17:45", "2019-W45-1T17:45",
+            "+12019-11-04T17:45", "0000-01-01T00:00", "9999-12-31T23:59:59,999999999", "2019-11-04T17:45:",
+            "2019-11-04T17:45:30,", "2019-11-04T1745", "2019-11-04", "2019-11-04T17:4x", "20191104T174530",
+            "20191104T1745", "20191104T174530,25", "2019308T1745", "2019W451T1745", "201911-04T17:45", "",
+            "T", "2019-11-04T17:45:30Z");
+
+    private static final List<String> OFFSETS =
+        Arrays.asList("Z", "+05:30", "-05:30", "+0530", "-0530", "+05", "-00:00", "+00:00", "+18:00", "-17:59",
+            "+05:60", "z", "+05:30:15", "+05:3", "");
+
+    @Test
+    public void printDates() {
+        for (int year : new int[] {-1, 0, 1, 999, 1970, 2019, 9999, 10000}) {
+            for (PlainDate date : new PlainDate[] {PlainDate.of(year, 1, 1), PlainDate.of(year, 12, 31)}) {
+                assertSamePrint(Iso8601Format.BASIC_CALENDAR_DATE, date);
+                assertSamePrint(Iso8601Format.EXTENDED_CALENDAR_DATE, date);
+                assertSamePrint(Iso8601Format.BASIC_DATE, date);
+                assertSamePrint(Iso8601Format.EXTENDED_DATE, date);
+            }
+        }
+    }
+
+    @Test
+    public void printTimesAndTimestamps() {
+        PlainDate date = PlainDate.of(2019, 11, 4);
+        for (int second : new int[] {0, 7, 59}) {
+            for (int nano : NANOS) {
+                PlainTime time = PlainTime.of(17, 5, second, nano);
+                assertSamePrint(Iso8601Format.BASIC_WALL_TIME, time);
+                assertSamePrint(Iso8601Format.EXTENDED_WALL_TIME, time);
+                assertSamePrint(Iso8601Format.BASIC_DATE_TIME, date.at(time));
+                assertSamePrint(Iso8601Format.EXTENDED_DATE_TIME, date.at(time));
+            }
+        }
+        assertSamePrint(Iso8601Format.EXTENDED_WALL_TIME, PlainTime.midnightAtEndOfDay());
+        assertSamePrint(Iso8601Format.EXTENDED_DATE_TIME, PlainTimestamp.of(10000, 1, 1, 0, 0));
+    }
+
+    @Test
+    public void printMoments() {
+        for (long posix : new long[] {-62167219201L, -62167219200L, -1, 0, 1572889530L, 253402300799L, 253402300800L}) {
+            for (int nano : NANOS) {
+                Moment moment = Moment.of(posix, nano, TimeScale.POSIX);
+                assertSamePrint(Iso8601Format.BASIC_DATE_TIME_OFFSET, moment);
+                assertSamePrint(Iso8601Format.EXTENDED_DATE_TIME_OFFSET, moment);
+            }
+        }
+        Moment ls = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        assertThat(ls.isLeapSecond(), is(true));
+        assertSamePrint(Iso8601Format.EXTENDED_DATE_TIME_OFFSET, ls);
+    }
+
+    @Test
+    public void printIntoArrays() {
+        Moment moment = PlainTimestamp.of(2019, 11, 4, 17, 45, 30).atUTC();
+        char[] chars = new char[30];
+        int end = Iso8601Format.EXTENDED_DATE_TIME_OFFSET.print(moment, chars, 1);
+        assertThat(new String(chars, 1, end - 1), is("2019-11-04T17:45:30Z"));
+    }
+
+    @Test
+    public void parseDates() {
+        for (String text : DATE_TIMES) {
+            String date = (text.length() > 10) ? text.substring(0, 10) : text;
+            assertSameParse(Iso8601Format.EXTENDED_CALENDAR_DATE, date);
+            assertSameParse(Iso8601Format.EXTENDED_DATE, date);
+            String basic = (text.length() > 8) ? text.substring(0, 8) : text;
+            assertSameParse(Iso8601Format.BASIC_CALENDAR_DATE, basic);
+            assertSameParse(Iso8601Format.BASIC_DATE, basic);
+        }
+    }
+
+    @Test
+    public void parseTimes() {
+        for (String text : DATE_TIMES) {
+            int t = text.indexOf('T');
+            if (t >= 0) {
+                assertSameParse(Iso8601Format.EXTENDED_WALL_TIME, text.substring(t));
+                assertSameParse(Iso8601Format.EXTENDED_WALL_TIME, text.substring(t + 1));
+                assertSameParse(Iso8601Format.BASIC_WALL_TIME, text.substring(t + 1));
+            }
+        }
+    }
+
+    @Test
+    public void parseTimestamps() {
+        for (String text : DATE_TIMES) {
+            assertSameParse(Iso8601Format.EXTENDED_DATE_TIME, text);
+            assertSameParse(Iso8601Format.BASIC_DATE_TIME, text);
+        }
+    }
+
+    @Test
+    public void parseMoments() {
+        for (String text : DATE_TIMES) {
+            for (String offset : OFFSETS) {
+                assertSameParse(Iso8601Format.EXTENDED_DATE_TIME_OFFSET, text + offset);
+                assertSameParse(Iso8601Format.BASIC_DATE_TIME_OFFSET, text + offset);
+            }
+        }
+        assertSameParse(Iso8601Format.EXTENDED_DATE_TIME_OFFSET, "2016-12-31T23:59:60Z");
+    }
+
+    @Test
+    public void parseDateStatic() throws ParseException {
+        assertThat(Iso8601Format.parseDate("2019-11-04"), is(PlainDate.of(2019, 11, 4)));
+        assertThat(Iso8601Format.parseDate("20191104"), is(PlainDate.of(2019, 11, 4)));
+        assertThat(Iso8601Format.parseDate("2016-001"), is(PlainDate.of(2016, 1, 1)));
+        assertThat(Iso8601Format.parseDate("2016W011"), is(PlainDate.of(2016, 1, 4)));
+        assertThat(Iso8601Format.parseDate("2016-W01-1"), is(PlainDate.of(2016, 1, 4)));
+    }
+
+    @Test
+    public void derivedFormatterUsesGenericPath() throws ParseException {
+        ChronoFormatter<PlainDate> f = Iso8601Format.EXTENDED_CALENDAR_DATE.with(Attributes.TRAILING_CHARACTERS, true);
+        assertThat(f.parse("2019-11-04xyz"), is(PlainDate.of(2019, 11, 4)));
+    }
+
+    private static <T> void assertSamePrint(
+        ChronoFormatter<T> fast,
+        T value
+    ) {
+        ChronoFormatter<T> generic = generic(fast);
+        String expected;
+        try {
+            expected = generic.print(value);
+        } catch (RuntimeException re) {
+            expected = re.getClass().getName();
+        }
+        String actual;
+        try {
+            actual = fast.print(value);
+        } catch (RuntimeException re) {
+            actual = re.getClass().getName();
+        }
+        assertThat(value.toString(), actual, is(expected));
+    }
+
+    private static <T> void assertSameParse(
+        ChronoFormatter<T> fast,
+        String text
+    ) {
+        ChronoFormatter<T> generic = generic(fast);
+        assertThat(text, describe(fast, text), is(describe(generic, text)));
+    }
+
+    private static String describe(
+        ChronoFormatter<?> f,
+        String text
+    ) {
+        try {
+            return String.valueOf(f.parse(text));
+        } catch (ParseException pe) {
+            return "ParseException[" + pe.getErrorOffset() + "]: " + pe.getMessage();
+        } catch (RuntimeException re) {
+            return re.getClass().getName();
+        }
+    }
+
+    // any derived formatter gives up the fast path
+    private static <T> ChronoFormatter<T> generic(ChronoFormatter<T> fast) {
+        return fast.with(Attributes.TRAILING_CHARACTERS, false);
+    }
+
+}
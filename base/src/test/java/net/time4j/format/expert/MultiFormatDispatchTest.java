@@ -0,0 +1,173 @@
+package net.time4j.format.expert;
+
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.Attributes;
+import net.time4j.format.Leniency;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class MultiFormatDispatchTest {
+
+    private static final String[] INPUTS = {
+        "2015-12-31", "2015/12/31", "31.12.2015", "12/31/2015", "31. Dezember 2015", "31st of December 2015",
+        "D2015-365", "d2015-365", "20151231", "-2015-12-31", "+2015-12-31", "2015-W53-4", "31-12-2015",
+        "2015-12", "2015", "31.", "x", "1", "Dezember 2015", "  2015-12-31", "2015-12-31xyz", "31.12.15",
+        "٢٠١٥-12-31", "31.12.2015 extra"
+    };
+
+    @Test
+    public void sameResultsAsWithoutDispatch() {
+        MultiFormatParser<PlainDate> mfp = createMultipleFormat();
+        MultiFormatParser<PlainDate> dispatched = mfp.withPrefixDispatch();
+
+        for (String input : INPUTS) {
+            assertSameResult(mfp, dispatched, input);
+        }
+    }
+
+    @Test
+    public void sameLogResultsAsWithoutDispatch() {
+        MultiFormatParser<PlainDate> mfp = createMultipleFormat();
+        MultiFormatParser<PlainDate> dispatched = mfp.withPrefixDispatch();
+
+        for (String input : INPUTS) {
+            for (int start = 0; start < input.length(); start++) {
+                ParseLog expectedLog = new ParseLog(start);
+                ParseLog log = new ParseLog(start);
+                PlainDate expected = mfp.parse(input, expectedLog);
+                assertThat(input, dispatched.parse(input, log), is(expected));
+                assertThat(input, log.isError(), is(expectedLog.isError()));
+                assertThat(input, log.getErrorIndex(), is(expectedLog.getErrorIndex()));
+                assertThat(input, log.getPosition(), is(expectedLog.getPosition()));
+            }
+        }
+    }
+
+    @Test
+    public void withDefaultValues() throws ParseException {
+        ChronoFormatter<PlainTimestamp> full =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT)
+                .withDefault(PlainTime.MINUTE_OF_HOUR, 0);
+        ChronoFormatter<PlainTimestamp> other =
+            ChronoFormatter.ofTimestampPattern("dd.MM.uuuu HH:mm", PatternType.CLDR, Locale.ROOT);
+        MultiFormatParser<PlainTimestamp> dispatched = MultiFormatParser.of(other, full).withPrefixDispatch();
+        assertThat(
+            dispatched.parse("2015-12-31 17:45"),
+            is(PlainTimestamp.of(2015, 12, 31, 17, 45)));
+        assertThat(
+            dispatched.parse("2015-12-31 17:"),
+            is(PlainTimestamp.of(2015, 12, 31, 17, 0)));
+        assertThat(
+            dispatched.parse("31.12.2015 17:45"),
+            is(PlainTimestamp.of(2015, 12, 31, 17, 45)));
+    }
+
+    @Test
+    public void caseInsensitiveLiterals() throws ParseException {
+        ChronoFormatter<PlainDate> f1 =
+            ChronoFormatter.ofDatePattern("'T'uuuuMMdd", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter<PlainDate> f2 =
+            ChronoFormatter.ofDatePattern("'X'uuuuMMdd", PatternType.CLDR, Locale.ROOT)
+                .with(Attributes.PARSE_CASE_INSENSITIVE, false);
+        MultiFormatParser<PlainDate> dispatched = MultiFormatParser.of(f1, f2).withPrefixDispatch();
+        assertThat(dispatched.parse("t20151231"), is(PlainDate.of(2015, 12, 31)));
+        assertThat(dispatched.parse("X20151231"), is(PlainDate.of(2015, 12, 31)));
+        try {
+            dispatched.parse("x20151231");
+            fail("Expected ParseException.");
+        } catch (ParseException pe) {
+            // ok
+        }
+    }
+
+    @Test
+    public void orBlocksAndLaxNumbers() throws ParseException {
+        ChronoFormatter<PlainDate> orFormat =
+            ChronoFormatter.ofDatePattern("dd/MM/uuuu|uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter<PlainDate> lax =
+            ChronoFormatter.ofDatePattern("d.M.uuuu", PatternType.CLDR, Locale.ROOT).with(Leniency.LAX);
+        MultiFormatParser<PlainDate> dispatched = MultiFormatParser.of(orFormat, lax).withPrefixDispatch();
+        assertThat(dispatched.parse("2015-12-31"), is(PlainDate.of(2015, 12, 31)));
+        assertThat(dispatched.parse("31/12/2015"), is(PlainDate.of(2015, 12, 31)));
+        assertThat(dispatched.parse("1.2.2015"), is(PlainDate.of(2015, 2, 1)));
+        assertThat(dispatched.parse(" 1.2.2015", new ParseLog()), nullValue());
+    }
+
+    @Test
+    public void prefixShape() {
+        PrefixShape shape =
+            ChronoFormatter.ofDatePattern("dd/MM/uuuu", PatternType.CLDR, Locale.ROOT).getPrefixShape();
+        assertThat(shape.length(), is(7)); // year with optional sign ends the analysis
+        assertThat(shape.mismatch("31/12/2015", 0), is(-1));
+        assertThat(shape.mismatch("31/12/-2015", 0), is(-1));
+        assertThat(shape.mismatch("31/12", 0), is(-1));
+        assertThat(shape.mismatch("31-12-2015", 0), is(2));
+        assertThat(shape.mismatch("31/1x/2015", 0), is(4));
+        assertThat(shape.mismatch("x31/12/2015", 1), is(-1));
+        assertThat(
+            ChronoFormatter.ofDatePattern("[dd.]MM.uuuu", PatternType.CLDR, Locale.ROOT).getPrefixShape().length(),
+            is(0));
+        assertThat(
+            ChronoFormatter.ofDatePattern("d.M.uuuu", PatternType.CLDR, Locale.ROOT).getPrefixShape().length(),
+            is(1));
+        assertThat( // dot might be missing in abbreviations
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.ROOT).getPrefixShape().length(),
+            is(2));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void parseEmptyString() throws ParseException {
+        createMultipleFormat().withPrefixDispatch().parse("");
+    }
+
+    private static void assertSameResult(
+        MultiFormatParser<PlainDate> mfp,
+        MultiFormatParser<PlainDate> dispatched,
+        String input
+    ) {
+        PlainDate expected;
+        try {
+            expected = mfp.parse(input);
+        } catch (ParseException pe) {
+            expected = null;
+        }
+        try {
+            assertThat(input, dispatched.parse(input), is(expected));
+        } catch (ParseException pe) {
+            assertThat(input, expected, nullValue());
+        }
+    }
+
+    private static MultiFormatParser<PlainDate> createMultipleFormat() {
+        return MultiFormatParser.of(
+            ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT),
+            ChronoFormatter.ofDatePattern("uuuu/MM/dd", PatternType.CLDR, Locale.ROOT),
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.ROOT),
+            ChronoFormatter.ofDatePattern("MM/dd/uuuu", PatternType.CLDR, Locale.US),
+            ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN),
+            ChronoFormatter.ofDatePattern("d['st']['nd']['rd']['th'] 'of' MMMM uuuu", PatternType.CLDR, Locale.ENGLISH),
+            ChronoFormatter.ofDatePattern("'D'uuuu-DDD", PatternType.CLDR, Locale.ROOT),
+            ChronoFormatter.ofDatePattern("uuuuMMdd", PatternType.CLDR, Locale.ROOT),
+            ChronoFormatter.ofDatePattern("YYYY-'W'ww-e", PatternType.CLDR, Locale.ROOT),
+            ChronoFormatter.ofDatePattern("uuuu-MM", PatternType.CLDR, Locale.ROOT)
+                .withDefault(PlainDate.DAY_OF_MONTH, 1),
+            ChronoFormatter.ofDatePattern("dd.MM.yy", PatternType.CLDR, Locale.ROOT),
+            ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT)
+                .with(Attributes.ZERO_DIGIT, '٠')
+        );
+    }
+
+}
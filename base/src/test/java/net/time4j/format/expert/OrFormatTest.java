@@ -7,8 +7,10 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.io.IOException;
 import java.text.ParseException;
 import java.util.Locale;
+import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -49,6 +51,46 @@ public class OrFormatTest {
         assertThat(f.format(date2), is("365"));
     }
 
+    @Test
+    public void formatOrInsideOptional() {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.setUp(PlainDate.axis(), Locale.ROOT)
+                .addFixedInteger(PlainDate.YEAR, 4)
+                .startOptionalSection()
+                .addLiteral('-')
+                .addFixedInteger(PlainDate.DAY_OF_YEAR, 2)
+                .or()
+                .addLiteral('/')
+                .addFixedInteger(PlainDate.DAY_OF_YEAR, 3)
+                .endSection()
+                .build();
+        assertThat(f.format(PlainDate.of(2015, 1, 1)), is("2015-01"));
+        assertThat(f.format(PlainDate.of(2015, 12, 31)), is("2015/365"));
+    }
+
+    @Test
+    public void formatWithPositionsIntoFilledBuffer() throws IOException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.setUp(PlainDate.axis(), Locale.ROOT)
+                .addFixedInteger(PlainDate.DAY_OF_YEAR, 2)
+                .or()
+                .addFixedInteger(PlainDate.DAY_OF_YEAR, 3)
+                .build();
+        StringBuilder buffer = new StringBuilder("abc");
+        Set<ElementPosition> positions = f.print(PlainDate.of(2015, 12, 31), buffer, f.getAttributes());
+        assertThat(buffer.toString(), is("abc365"));
+        assertThat(positions.size(), is(1));
+        assertThat(
+            positions.iterator().next(),
+            is(new ElementPosition(PlainDate.DAY_OF_YEAR, 0, 3)));
+        Appendable appendable = new StringBuffer("abc");
+        positions = f.print(PlainDate.of(2015, 12, 31), appendable, f.getAttributes());
+        assertThat(appendable.toString(), is("abc365"));
+        assertThat(
+            positions.iterator().next(),
+            is(new ElementPosition(PlainDate.DAY_OF_YEAR, 0, 3)));
+    }
+
     @Test
     public void parse() throws ParseException {
         ChronoFormatter<PlainDate> f =
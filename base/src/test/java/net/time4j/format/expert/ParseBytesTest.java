@@ -0,0 +1,91 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class ParseBytesTest {
+
+    private static final Moment MOMENT = PlainTimestamp.of(2019, 11, 4, 17, 45, 30).atUTC();
+
+    @Test
+    public void parseAsciiRange() throws ParseException {
+        byte[] text = "xx2019-11-04T17:45:30Zyy".getBytes(StandardCharsets.US_ASCII);
+        assertThat(Iso8601Format.EXTENDED_DATE_TIME_OFFSET.parseBytes(text, 2, 20), is(MOMENT));
+    }
+
+    @Test
+    public void parseUtf8Range() throws ParseException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+        byte[] text = "#1. März 2019#".getBytes(StandardCharsets.UTF_8);
+        assertThat(f.parseBytes(text, 1, text.length - 2), is(PlainDate.of(2019, 3, 1)));
+    }
+
+    @Test
+    public void parseHeapBuffer() throws ParseException {
+        ByteBuffer buffer = ByteBuffer.wrap("--20191104T174530Z".getBytes(StandardCharsets.US_ASCII));
+        buffer.position(2);
+        assertThat(Iso8601Format.BASIC_DATE_TIME_OFFSET.parseBytes(buffer), is(MOMENT));
+        assertThat(buffer.position(), is(2));
+    }
+
+    @Test
+    public void parseDirectBuffer() throws ParseException {
+        byte[] bytes = "2019-11-04T17:45:30Z".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+        assertThat(Iso8601Format.EXTENDED_DATE_TIME_OFFSET.parseBytes(buffer), is(MOMENT));
+        assertThat(buffer.remaining(), is(bytes.length));
+    }
+
+    @Test
+    public void parseCharBuffer() throws ParseException {
+        CharBuffer buffer = CharBuffer.wrap("2019-11-04T17:45:30Z".toCharArray());
+        assertThat(Iso8601Format.EXTENDED_DATE_TIME_OFFSET.parse(buffer), is(MOMENT));
+    }
+
+    @Test
+    public void errorIndexRelativeToRange() {
+        byte[] text = "xx2019-x1-04".getBytes(StandardCharsets.US_ASCII);
+        try {
+            Iso8601Format.EXTENDED_CALENDAR_DATE.parseBytes(text, 2, 10);
+            fail("Expected ParseException.");
+        } catch (ParseException pe) {
+            assertThat(pe.getErrorOffset(), is(5));
+        }
+    }
+
+    @Test
+    public void trailingCharacters() {
+        byte[] text = "2019-11-04x".getBytes(StandardCharsets.US_ASCII);
+        try {
+            Iso8601Format.EXTENDED_CALENDAR_DATE.parseBytes(text, 0, text.length);
+            fail("Expected ParseException.");
+        } catch (ParseException pe) {
+            assertThat(pe.getErrorOffset(), is(10));
+        }
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void invalidRange() throws ParseException {
+        Iso8601Format.EXTENDED_CALENDAR_DATE.parseBytes(new byte[10], 5, 6);
+    }
+
+}
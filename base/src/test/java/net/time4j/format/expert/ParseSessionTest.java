@@ -0,0 +1,118 @@
+package net.time4j.format.expert;
+
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.Attributes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class ParseSessionTest {
+
+    @Test
+    public void parseValidAndInvalidAlternately() {
+        ParseSession<PlainDate> session = Iso8601Format.EXTENDED_CALENDAR_DATE.newParseSession();
+        assertThat(session.parse("2019-11-04"), is(PlainDate.of(2019, 11, 4)));
+        assertThat(session.isError(), is(false));
+        assertThat(session.getErrorIndex(), is(-1));
+        assertThat(session.getErrorMessage(), is(""));
+        assertThat(session.getPosition(), is(10));
+        assertThat(session.parse("2019-x1-04"), nullValue());
+        assertThat(session.isError(), is(true));
+        assertThat(session.getErrorIndex(), is(expectedErrorIndex(Iso8601Format.EXTENDED_CALENDAR_DATE, "2019-x1-04")));
+        assertThat(session.parse("2020-02-29"), is(PlainDate.of(2020, 2, 29)));
+        assertThat(session.isError(), is(false));
+    }
+
+    @Test
+    public void sameErrorAsParseException() {
+        ChronoFormatter<PlainDate> f = Iso8601Format.EXTENDED_CALENDAR_DATE;
+        ParseSession<PlainDate> session = f.newParseSession();
+        String text = "2019-02-30";
+        assertThat(session.parse(text), nullValue());
+        try {
+            f.parse(text);
+            fail("Expected ParseException.");
+        } catch (ParseException pe) {
+            assertThat(session.getErrorIndex(), is(pe.getErrorOffset()));
+            assertThat(session.getErrorMessage(), is(pe.getMessage()));
+        }
+    }
+
+    @Test
+    public void noStaleValuesFromPreviousText() {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm[:ss]", PatternType.CLDR, Locale.ROOT);
+        ParseSession<PlainTimestamp> session = f.newParseSession();
+        assertThat(session.parse("2019-11-04 17:45:30"), is(PlainTimestamp.of(2019, 11, 4, 17, 45, 30)));
+        assertThat(session.parse("2019-11-05 08:15"), is(PlainTimestamp.of(2019, 11, 5, 8, 15)));
+    }
+
+    @Test
+    public void noStaleValuesWithOrBlocks() {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("uuuu-MM-dd|dd.MM.uuuu", PatternType.CLDR, Locale.ROOT);
+        ParseSession<PlainDate> session = f.newParseSession();
+        assertThat(session.parse("2019-11-04"), is(PlainDate.of(2019, 11, 4)));
+        assertThat(session.parse("05.12.2018"), is(PlainDate.of(2018, 12, 5)));
+        assertThat(session.parse("05/12/2018"), nullValue());
+        assertThat(session.parse("2017-01-31"), is(PlainDate.of(2017, 1, 31)));
+    }
+
+    @Test
+    public void trailingCharacters() {
+        ParseSession<PlainDate> session = Iso8601Format.EXTENDED_CALENDAR_DATE.newParseSession();
+        assertThat(session.parse("2019-11-04xyz"), nullValue());
+        assertThat(session.getErrorIndex(), is(10));
+        assertThat(session.getErrorMessage(), is("Unparsed trailing characters: xyz"));
+        ParseSession<PlainDate> lenient =
+            Iso8601Format.EXTENDED_CALENDAR_DATE.with(Attributes.TRAILING_CHARACTERS, true).newParseSession();
+        assertThat(lenient.parse("2019-11-04xyz"), is(PlainDate.of(2019, 11, 4)));
+        assertThat(lenient.getPosition(), is(10));
+    }
+
+    @Test
+    public void emptyText() {
+        ParseSession<PlainDate> session = Iso8601Format.EXTENDED_CALENDAR_DATE.newParseSession();
+        assertThat(session.parse(""), nullValue());
+        assertThat(session.getErrorIndex(), is(0));
+    }
+
+    @Test
+    public void embeddedFormatter() {
+        ChronoFormatter<PlainTime> inner =
+            ChronoFormatter.ofTimePattern("HH:mm", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.setUp(PlainTimestamp.axis(), Locale.ROOT)
+                .addPattern("uuuu-MM-dd'T'", PatternType.CLDR)
+                .addCustomized(PlainTime.COMPONENT, inner, inner)
+                .build();
+        ParseSession<PlainTimestamp> session = f.newParseSession();
+        assertThat(session.parse("2019-11-04T17:45"), is(PlainTimestamp.of(2019, 11, 4, 17, 45)));
+        assertThat(session.parse("2019-11-05T08:15"), is(PlainTimestamp.of(2019, 11, 5, 8, 15)));
+    }
+
+    private static int expectedErrorIndex(
+        ChronoFormatter<?> f,
+        String text
+    ) {
+        try {
+            f.parse(text);
+        } catch (ParseException pe) {
+            return pe.getErrorOffset();
+        }
+        throw new AssertionError("Parsing should fail: " + text);
+    }
+
+}
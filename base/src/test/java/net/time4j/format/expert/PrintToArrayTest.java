@@ -0,0 +1,96 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class PrintToArrayTest {
+
+    private static final Moment MOMENT = PlainTimestamp.of(2019, 11, 4, 17, 45, 30).atUTC();
+
+    @Test
+    public void printCharsAtOffset() {
+        ChronoFormatter<Moment> f = Iso8601Format.EXTENDED_DATE_TIME_OFFSET;
+        char[] buffer = new char[40];
+        Arrays.fill(buffer, '#');
+        int end = f.print(MOMENT, buffer, 3);
+        String expected = f.format(MOMENT);
+        assertThat(end, is(3 + expected.length()));
+        assertThat(new String(buffer, 3, expected.length()), is(expected));
+        assertThat(buffer[2], is('#'));
+        assertThat(buffer[end], is('#'));
+    }
+
+    @Test
+    public void printAsciiBytes() {
+        ChronoFormatter<Moment> f = Iso8601Format.BASIC_DATE_TIME_OFFSET.withTimezone(ZonalOffset.ofTotalSeconds(5 * 3600 + 1800));
+        byte[] buffer = new byte[30];
+        int end = f.print(MOMENT, buffer, 0);
+        assertThat(new String(buffer, 0, end, StandardCharsets.US_ASCII), is(f.format(MOMENT)));
+    }
+
+    @Test
+    public void printUtf8Bytes() {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+        PlainDate date = PlainDate.of(2019, 3, 1);
+        byte[] expected = f.format(date).getBytes(StandardCharsets.UTF_8);
+        byte[] buffer = new byte[expected.length + 1];
+        int end = f.print(date, buffer, 1);
+        assertThat(end, is(buffer.length));
+        assertThat(Arrays.copyOfRange(buffer, 1, end), is(expected));
+    }
+
+    @Test
+    public void printOrBlocksToChars() {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.setUp(PlainDate.axis(), Locale.ROOT)
+                .addFixedInteger(PlainDate.DAY_OF_YEAR, 2)
+                .or()
+                .addFixedInteger(PlainDate.DAY_OF_YEAR, 3)
+                .build();
+        char[] buffer = new char[3];
+        int end = f.print(PlainDate.of(2015, 12, 31), buffer, 0);
+        assertThat(new String(buffer, 0, end), is("365"));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void printCharsTooSmall() {
+        Iso8601Format.EXTENDED_CALENDAR_DATE.print(PlainDate.of(2019, 11, 4), new char[12], 3);
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void printBytesWithInvalidOffset() {
+        Iso8601Format.EXTENDED_CALENDAR_DATE.print(PlainDate.of(2019, 11, 4), new byte[12], 13);
+    }
+
+    @Test
+    public void printByDefaultMethod() {
+        ChronoPrinter<PlainDate> printer =
+            (date, buffer, attributes) -> {
+                buffer.append(date.toString());
+                return Collections.emptySet();
+            };
+        char[] chars = new char[12];
+        assertThat(printer.print(PlainDate.of(2019, 11, 4), chars, 2), is(12));
+        assertThat(new String(chars, 2, 10), is("2019-11-04"));
+        byte[] bytes = new byte[10];
+        assertThat(printer.print(PlainDate.of(2019, 11, 4), bytes, 0), is(10));
+        assertThat(new String(bytes, StandardCharsets.US_ASCII), is("2019-11-04"));
+    }
+
+}
@@ -0,0 +1,95 @@
+package net.time4j.format.expert;
+
+import net.time4j.tz.NameStyle;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ZoneLabelsTest {
+
+    private static final TZID BERLIN = () -> "Europe/Berlin";
+    private static final TZID PARIS = () -> "Europe/Paris";
+    private static final TZID LONDON = () -> "Europe/London";
+
+    @Test
+    public void longestPrefix() {
+        ZoneLabels labels =
+            new ZoneLabels.Builder()
+                .add("CE", LONDON)
+                .add("CET", BERLIN)
+                .add("CEST", PARIS)
+                .build();
+        int slot = labels.lookup("xCESTy", 1);
+        assertThat(labels.getLength(slot), is(4));
+        assertThat(labels.getZones(slot), is(Collections.singletonList(PARIS)));
+        slot = labels.lookup("CETCEST", 0);
+        assertThat(labels.getLength(slot), is(3));
+        assertThat(labels.getZones(slot), is(Collections.singletonList(BERLIN)));
+        slot = labels.lookup("CES", 0);
+        assertThat(labels.getLength(slot), is(2));
+        assertThat(labels.getZones(slot), is(Collections.singletonList(LONDON)));
+    }
+
+    @Test
+    public void noMatch() {
+        ZoneLabels labels = new ZoneLabels.Builder().add("CET", BERLIN).build();
+        assertThat(labels.lookup("cet", 0), is(ZoneLabels.NONE));
+        assertThat(labels.lookup("CET", 3), is(ZoneLabels.NONE));
+        assertThat(labels.getLength(ZoneLabels.NONE), is(0));
+        assertThat(labels.getZones(ZoneLabels.NONE).isEmpty(), is(true));
+        assertThat(labels.find("CE").isEmpty(), is(true));
+    }
+
+    @Test
+    public void emptyLabels() {
+        ZoneLabels labels = new ZoneLabels.Builder().build();
+        assertThat(labels.lookup("CET", 0), is(ZoneLabels.NONE));
+        assertThat(labels.toString(), is("count=0,labels={}"));
+    }
+
+    @Test
+    public void sharedLabelKeepsInsertionOrder() {
+        ZoneLabels labels =
+            new ZoneLabels.Builder()
+                .add("CET", PARIS)
+                .add("CET", BERLIN)
+                .build();
+        assertThat(labels.find("CET"), is(Arrays.asList(PARIS, BERLIN)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void emptyKey() {
+        new ZoneLabels.Builder().add("", BERLIN);
+    }
+
+    @Test
+    public void allDisplayNamesFound() {
+        ZoneLabels.Builder builder = new ZoneLabels.Builder();
+        int chars = 0;
+        for (TZID tzid : Timezone.getAvailableIDs()) {
+            String name = Timezone.getDisplayName(tzid, NameStyle.LONG_STANDARD_TIME, Locale.US);
+            builder.add(name, tzid);
+            chars += name.length();
+        }
+        ZoneLabels labels = builder.build();
+        assertThat(labels.getNodeCount() <= chars, is(true));
+        for (TZID tzid : Timezone.getAvailableIDs()) {
+            String name = Timezone.getDisplayName(tzid, NameStyle.LONG_STANDARD_TIME, Locale.US);
+            assertThat(labels.find(name).contains(tzid), is(true));
+            int slot = labels.lookup(name + " suffix", 0);
+            assertThat(labels.getLength(slot) >= name.length(), is(true));
+        }
+    }
+
+}
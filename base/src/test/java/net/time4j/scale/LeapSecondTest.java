@@ -294,6 +294,57 @@ public class LeapSecondTest {
             is(1341100801L + NLS_OFFSET));
     }
 
+    @Test
+    public void conversionsAroundEachEvent() {
+        LeapSeconds instance = LeapSeconds.getInstance();
+        boolean snls = instance.supportsNegativeLS();
+
+        for (LeapSecondEvent event : instance) {
+            ExtendedLSE lse = (ExtendedLSE) event;
+            for (long utc = lse.utc() - 3; utc <= lse.utc() + 3; utc++) {
+                // Referenz: lineare Suche über die Ereignisobjekte
+                long stripped = utc;
+                int shift = 0;
+                boolean positive = false;
+                for (LeapSecondEvent e : instance) {
+                    ExtendedLSE x = (ExtendedLSE) e;
+                    if ((x.utc() - x.getShift() < utc) || (snls && (x.getShift() < 0) && (x.utc() < utc))) {
+                        stripped = utc + x.raw() - x.utc();
+                        break;
+                    }
+                }
+                for (LeapSecondEvent e : instance) {
+                    ExtendedLSE x = (ExtendedLSE) e;
+                    if (utc > x.utc()) {
+                        break;
+                    } else if (utc > x.utc() - x.getShift()) {
+                        shift = (int) (utc - x.utc() + x.getShift());
+                        break;
+                    }
+                }
+                for (LeapSecondEvent e : instance) {
+                    if (((ExtendedLSE) e).utc() == utc) {
+                        positive = (e.getShift() == 1);
+                    }
+                }
+                assertThat(instance.strip(utc), is(stripped + UTC_OFFSET));
+                assertThat(instance.getShift(utc), is(shift));
+                assertThat(instance.isPositiveLS(utc), is(positive));
+            }
+            for (long raw = lse.raw() - 3; raw <= lse.raw() + 3; raw++) {
+                long enhanced = raw;
+                for (LeapSecondEvent e : instance) {
+                    ExtendedLSE x = (ExtendedLSE) e;
+                    if (x.raw() < raw) {
+                        enhanced = raw + x.utc() - x.raw();
+                        break;
+                    }
+                }
+                assertThat(instance.enhance(raw + UTC_OFFSET), is(enhanced));
+            }
+        }
+    }
+
     @Test
     public void getDateOfExpiration() {
         GregorianDate expected = PlainDate.of(2017, 12, 28);
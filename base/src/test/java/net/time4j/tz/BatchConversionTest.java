@@ -0,0 +1,135 @@
+package net.time4j.tz;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.scale.TimeScale;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BatchConversionTest {
+
+    private static final String[] ZONES = {
+        "Europe/Berlin", "America/New_York", "Asia/Kolkata", "Australia/Lord_Howe", "Pacific/Apia", "Europe/Dublin"
+    };
+
+    private static final TransitionStrategy[] STRATEGIES = {
+        Timezone.DEFAULT_CONFLICT_STRATEGY,
+        GapResolver.NEXT_VALID_TIME.and(OverlapResolver.EARLIER_OFFSET),
+        GapResolver.PUSH_FORWARD.and(OverlapResolver.EARLIER_OFFSET),
+        GapResolver.NEXT_VALID_TIME.and(OverlapResolver.LATER_OFFSET)
+    };
+
+    private static final PlainTimestamp EPOCH = PlainTimestamp.of(1970, 1, 1, 0, 0);
+    private static final long START = -2208988800L; // 1900-01-01T00:00:00Z
+    private static final long END = 4102444800L; // 2100-01-01T00:00:00Z
+
+    @Test
+    public void getOffsetsRandom() {
+        for (String zoneID : ZONES) {
+            checkOffsets(Timezone.of(zoneID), randomTimes(2000));
+        }
+    }
+
+    @Test
+    public void getOffsetsSorted() {
+        for (String zoneID : ZONES) {
+            long[] posixTimes = randomTimes(2000);
+            Arrays.sort(posixTimes);
+            checkOffsets(Timezone.of(zoneID), posixTimes);
+            checkOffsets(Timezone.of(zoneID), quarterHours(2020));
+        }
+    }
+
+    @Test
+    public void getOffsetsOfFixedOffset() {
+        checkOffsets(Timezone.of(ZonalOffset.ofTotalSeconds(19800)), randomTimes(100));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void getOffsetsWithShortOutput() {
+        Timezone.of("Europe/Berlin").getOffsets(new long[2], new int[1]);
+    }
+
+    @Test
+    public void getPosixTimesRandom() {
+        for (String zoneID : ZONES) {
+            for (TransitionStrategy strategy : STRATEGIES) {
+                checkPosixTimes(Timezone.of(zoneID).with(strategy), randomTimes(2000));
+            }
+        }
+    }
+
+    @Test
+    public void getPosixTimesSorted() {
+        for (String zoneID : ZONES) {
+            for (TransitionStrategy strategy : STRATEGIES) {
+                Timezone tz = Timezone.of(zoneID).with(strategy);
+                checkPosixTimes(tz, quarterHours(1996));
+                checkPosixTimes(tz, quarterHours(2020));
+                long[] localSeconds = randomTimes(2000);
+                Arrays.sort(localSeconds);
+                checkPosixTimes(tz, localSeconds);
+            }
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void getPosixTimesAbortInGap() {
+        Timezone tz = Timezone.of("Europe/Berlin").with(GapResolver.ABORT.and(OverlapResolver.LATER_OFFSET));
+        long local = PlainTimestamp.of(2020, 3, 29, 2, 30).atUTC().getPosixTime();
+        tz.getPosixTimes(new long[] {local}, new long[1]);
+    }
+
+    private static void checkOffsets(
+        Timezone tz,
+        long[] posixTimes
+    ) {
+        int[] totalOffsets = new int[posixTimes.length];
+        tz.getOffsets(posixTimes, totalOffsets);
+        for (int i = 0; i < posixTimes.length; i++) {
+            Moment moment = Moment.of(posixTimes[i], TimeScale.POSIX);
+            assertThat(totalOffsets[i], is(tz.getOffset(moment).getIntegralAmount()));
+        }
+    }
+
+    private static void checkPosixTimes(
+        Timezone tz,
+        long[] localSeconds
+    ) {
+        long[] posixTimes = new long[localSeconds.length];
+        tz.getPosixTimes(localSeconds, posixTimes);
+        for (int i = 0; i < localSeconds.length; i++) {
+            PlainTimestamp tsp = EPOCH.plus(localSeconds[i], ClockUnit.SECONDS);
+            assertThat(posixTimes[i], is(tsp.in(tz).getPosixTime()));
+        }
+    }
+
+    private static long[] randomTimes(int count) {
+        Random random = new Random(count);
+        long[] times = new long[count];
+        for (int i = 0; i < count; i++) {
+            times[i] = START + (long) (random.nextDouble() * (END - START));
+        }
+        return times;
+    }
+
+    private static long[] quarterHours(int year) {
+        long start = PlainTimestamp.of(year, 1, 1, 0, 0).atUTC().getPosixTime();
+        long[] times = new long[366 * 24 * 4];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = start + i * 900L; // Viertelstunden
+        }
+        return times;
+    }
+
+}
@@ -0,0 +1,131 @@
+package net.time4j.tz;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.scale.TimeScale;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class LocalWindowTest {
+
+    private static final GapResolver[] GAPS = {GapResolver.PUSH_FORWARD, GapResolver.NEXT_VALID_TIME};
+    private static final OverlapResolver[] OVERLAPS = {OverlapResolver.EARLIER_OFFSET, OverlapResolver.LATER_OFFSET};
+
+    @Test
+    public void sameResultsAsHistory() {
+        Random random = new Random(2020);
+        long now = System.currentTimeMillis() / 1000;
+        long range = 45 * 365 * 86400L;
+
+        for (TZID tzid : Timezone.getAvailableIDs()) {
+            Timezone tz = Timezone.of(tzid);
+            TransitionHistory history = tz.getHistory();
+
+            if ((history == null) || history.isEmpty()) {
+                continue;
+            }
+
+            List<Long> localTimes = new ArrayList<>();
+
+            for (int i = 0; i < 50; i++) {
+                localTimes.add(Long.valueOf(now - range + (long) (random.nextDouble() * 2 * range)));
+            }
+
+            for (ZonalTransition zt : history.getTransitions(at(now - range), at(now + range))) {
+                long posix = zt.getPosixTime();
+                int previous = zt.getPreviousOffset();
+                int total = zt.getTotalOffset();
+                for (long delta = -1; delta <= 1; delta++) {
+                    localTimes.add(Long.valueOf(posix + previous + delta));
+                    localTimes.add(Long.valueOf(posix + total + delta));
+                }
+                localTimes.add(Long.valueOf(posix + (previous + total) / 2));
+            }
+
+            for (Long localTime : localTimes) {
+                PlainTimestamp tsp = PlainTimestamp.of(1970, 1, 1, 0, 0).plus(localTime.longValue(), ClockUnit.SECONDS);
+                check(tz, history, tsp.getCalendarDate(), tsp.getWallTime());
+            }
+        }
+    }
+
+    @Test
+    public void midnightAtEndOfDayNotAffected() {
+        Timezone tz = Timezone.of("America/Sao_Paulo");
+        PlainDate date = PlainDate.of(2018, 11, 3);
+        check(tz, tz.getHistory(), date, PlainTime.midnightAtEndOfDay());
+    }
+
+    private static void check(
+        Timezone tz,
+        TransitionHistory history,
+        PlainDate date,
+        PlainTime time
+    ) {
+        ZonalTransition conflict = history.getConflictTransition(date, time);
+        List<ZonalOffset> offsets = history.getValidOffsets(date, time);
+        String msg = tz.getID().canonical() + " " + date + time;
+
+        ZonalOffset expectedOffset = (
+            (offsets.size() == 1)
+            ? offsets.get(0)
+            : ZonalOffset.ofTotalSeconds(conflict.getTotalOffset()));
+        assertThat(msg, tz.getOffset(date, time), is(expectedOffset));
+        assertThat(msg, tz.isInvalid(date, time), is((conflict != null) && conflict.isGap()));
+
+        long localSecs = date.at(time).atUTC().getPosixTime();
+
+        for (GapResolver gr : GAPS) {
+            for (OverlapResolver or : OVERLAPS) {
+                TransitionStrategy strategy = gr.and(or);
+                long expected;
+                int offset;
+                if ((conflict != null) && conflict.isGap()) {
+                    expected = (
+                        (gr == GapResolver.PUSH_FORWARD)
+                        ? localSecs + conflict.getSize() - conflict.getTotalOffset()
+                        : conflict.getPosixTime());
+                    offset = conflict.getTotalOffset();
+                } else if ((conflict != null) && conflict.isOverlap()) {
+                    offset = (
+                        (or == OverlapResolver.EARLIER_OFFSET)
+                        ? conflict.getPreviousOffset()
+                        : conflict.getTotalOffset());
+                    expected = localSecs - offset;
+                } else {
+                    offset = offsets.get(0).getIntegralAmount();
+                    expected = localSecs - offset;
+                }
+                assertThat(msg + " " + strategy, strategy.resolve(date, time, tz), is(expected));
+                assertThat(msg + " " + strategy, strategy.getOffset(date, time, tz).getIntegralAmount(), is(offset));
+            }
+        }
+
+        TransitionStrategy strict = GapResolver.ABORT.and(OverlapResolver.LATER_OFFSET);
+        boolean aborted = false;
+        try {
+            strict.resolve(date, time, tz);
+        } catch (IllegalArgumentException iae) {
+            aborted = true;
+        }
+        assertThat(msg, aborted, is((conflict != null) && conflict.isGap()));
+    }
+
+    private static Moment at(long posix) {
+        return Moment.of(posix, TimeScale.POSIX);
+    }
+
+}
@@ -11,6 +11,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 
@@ -397,4 +398,37 @@ public class OffsetTest {
         return ser;
     }
 
-}
\ No newline at end of file
+    @Test
+    public void internedWholeMinutes() {
+        for (int minutes = -18 * 60; minutes <= 18 * 60; minutes++) {
+            ZonalOffset offset = ZonalOffset.ofTotalSeconds(minutes * 60);
+            assertThat(offset.getIntegralAmount(), is(minutes * 60));
+            assertThat(ZonalOffset.ofTotalSeconds(minutes * 60), sameInstance(offset));
+        }
+        assertThat(ZonalOffset.ofTotalSeconds(0), sameInstance(ZonalOffset.UTC));
+        assertThat(
+            ZonalOffset.ofHoursMinutes(OffsetSign.BEHIND_UTC, 4, 30),
+            sameInstance(ZonalOffset.ofTotalSeconds(-16200)));
+    }
+
+    @Test
+    public void cachedLocalMeanTimeOffsets() {
+        ZonalOffset lmt = ZonalOffset.ofTotalSeconds(3208); // Berlin LMT
+        assertThat(ZonalOffset.ofTotalSeconds(3208), sameInstance(lmt));
+        assertThat(lmt.toString(), is("+00:53:28"));
+        ZonalOffset other = ZonalOffset.ofTotalSeconds(-17762);
+        assertThat(other.getIntegralAmount(), is(-17762));
+        assertThat(ZonalOffset.ofTotalSeconds(3208).getIntegralAmount(), is(3208));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void wholeMinuteOutOfRange() {
+        ZonalOffset.ofTotalSeconds(18 * 3600 + 60);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void secondsOutOfRange() {
+        ZonalOffset.ofTotalSeconds(-18 * 3600 - 1);
+    }
+
+}
@@ -0,0 +1,150 @@
+package net.time4j.tz;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ProviderInstallTest {
+
+    @Test(expected=IllegalArgumentException.class)
+    public void installPlatformProvider() {
+        Timezone.installProvider(new MapProvider("java.util.TimeZone", "1"));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void installDefaultProvider() {
+        Timezone.installProvider(new MapProvider("DEFAULT", "1"));
+    }
+
+    @Test
+    public void installWithIncrementalInvalidation() {
+        TransitionHistory berlin = Timezone.of("Europe/Berlin").getHistory();
+        TransitionHistory tokyo = Timezone.of("Asia/Tokyo").getHistory();
+        TransitionHistory lisbon = Timezone.of("Europe/Lisbon").getHistory();
+
+        MapProvider v1 = new MapProvider("hot", "1");
+        v1.zones.put("Europe/Lisbon", lisbon);
+        v1.zones.put("Asia/Tokyo", tokyo);
+        v1.aliases.put("Portugal", "Europe/Lisbon");
+        assertThat(
+            Timezone.installProvider(v1),
+            is(set("hot~Europe/Lisbon", "hot~Asia/Tokyo", "hot~Portugal")));
+
+        Timezone x = Timezone.of("hot~Europe/Lisbon");
+        Timezone y = Timezone.of("hot~Asia/Tokyo");
+        Timezone z = Timezone.of("hot~Portugal");
+        Moment summer = PlainTimestamp.of(2020, 7, 1, 12, 0).atUTC();
+        assertThat(z.getOffset(summer).getIntegralAmount(), is(3600));
+
+        List<Set<String>> events = new ArrayList<>();
+        ZoneChangeListener listener = (provider, zoneIDs) -> events.add(zoneIDs);
+        Timezone.addChangeListener(listener);
+
+        try {
+            MapProvider v2 = new MapProvider("hot", "2");
+            v2.zones.put("Europe/Lisbon", berlin); // fiktive Regeländerung
+            v2.zones.put("Asia/Tokyo", tokyo);
+            v2.zones.put("Europe/Berlin", berlin);
+            v2.aliases.put("Portugal", "Europe/Lisbon");
+            Set<String> expected = set("hot~Europe/Berlin", "hot~Europe/Lisbon", "hot~Portugal");
+            assertThat(Timezone.installProvider(v2), is(expected));
+            assertThat(events, is(Collections.singletonList(expected)));
+        } finally {
+            assertThat(Timezone.removeChangeListener(listener), is(true));
+        }
+
+        assertThat(Timezone.of("hot~Asia/Tokyo"), sameInstance(y));
+        assertThat(Timezone.of("hot~Europe/Lisbon") == x, is(false));
+        assertThat(Timezone.of("hot~Europe/Lisbon").getOffset(summer).getIntegralAmount(), is(7200));
+        assertThat(Timezone.of("hot~Portugal").getOffset(summer).getIntegralAmount(), is(7200));
+        assertThat(Timezone.of("hot~Europe/Berlin").getOffset(summer).getIntegralAmount(), is(7200));
+        assertThat(Timezone.getVersion("hot"), is("2"));
+    }
+
+    @Test
+    public void unchangedDataKeepsCache() {
+        MapProvider v1 = new MapProvider("stable", "1");
+        v1.zones.put("Europe/Paris", Timezone.of("Europe/Paris").getHistory());
+        Timezone.installProvider(v1);
+        Timezone x = Timezone.of("stable~Europe/Paris");
+        MapProvider v2 = new MapProvider("stable", "2");
+        v2.zones.put("Europe/Paris", Timezone.of("Europe/Paris").getHistory());
+        assertThat(Timezone.installProvider(v2).isEmpty(), is(true));
+        assertThat(Timezone.of("stable~Europe/Paris"), sameInstance(x));
+    }
+
+    private static Set<String> set(String... ids) {
+        return new HashSet<>(Arrays.asList(ids));
+    }
+
+    private static class MapProvider
+        implements ZoneModelProvider {
+
+        private final String name;
+        private final String version;
+        private final Map<String, TransitionHistory> zones = new HashMap<>();
+        private final Map<String, String> aliases = new HashMap<>();
+
+        MapProvider(
+            String name,
+            String version
+        ) {
+            this.name = name;
+            this.version = version;
+        }
+
+        @Override
+        public Set<String> getAvailableIDs() {
+            return Collections.unmodifiableSet(this.zones.keySet());
+        }
+
+        @Override
+        public Map<String, String> getAliases() {
+            return Collections.unmodifiableMap(this.aliases);
+        }
+
+        @Override
+        public TransitionHistory load(String zoneID) {
+            return this.zones.get(zoneID);
+        }
+
+        @Override
+        public String getFallback() {
+            return "";
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public String getLocation() {
+            return "";
+        }
+
+        @Override
+        public String getVersion() {
+            return this.version;
+        }
+
+    }
+
+}
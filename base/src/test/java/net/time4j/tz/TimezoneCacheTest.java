@@ -0,0 +1,198 @@
+package net.time4j.tz;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class TimezoneCacheTest {
+
+    @After
+    public void restore() {
+        Timezone.Cache.setMaximumCacheSize(ZoneCache.DEFAULT_SIZE);
+        Timezone.Cache.refresh();
+    }
+
+    @Test
+    public void hitsMissesAndLoads() {
+        Timezone.Cache.refresh();
+        long hits = Timezone.Cache.getHitCount();
+        long misses = Timezone.Cache.getMissCount();
+        long loads = Timezone.Cache.getLoadCount();
+        Timezone tz = Timezone.of("Europe/Berlin");
+        assertThat(Timezone.Cache.getMissCount() > misses, is(true));
+        assertThat(Timezone.Cache.getLoadCount() > loads, is(true));
+        assertThat(Timezone.Cache.getTotalLoadTimeInNanos() > 0, is(true));
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(tz));
+        assertThat(Timezone.Cache.getHitCount() > hits, is(true));
+    }
+
+    @Test
+    public void boundedWithEviction() {
+        Timezone.Cache.setMaximumCacheSize(4);
+        assertThat(Timezone.Cache.getMaximumCacheSize(), is(4));
+        long evictions = Timezone.Cache.getEvictionCount();
+        String[] zones = {
+            "Europe/Berlin", "Europe/Paris", "Europe/London", "America/New_York", "Asia/Tokyo", "Asia/Kolkata"
+        };
+        for (String zone : zones) {
+            Timezone.of(zone);
+        }
+        assertThat(Timezone.Cache.getCurrentSize() <= 4, is(true));
+        assertThat(Timezone.Cache.getEvictionCount() >= evictions + 2, is(true));
+    }
+
+    @Test
+    public void frequentlyUsedZoneSurvives() {
+        Timezone.Cache.setMaximumCacheSize(4);
+        Timezone berlin = Timezone.of("Europe/Berlin");
+        String[] zones = {"Europe/Paris", "Europe/London", "America/New_York", "Asia/Tokyo", "Asia/Kolkata"};
+        for (String zone : zones) {
+            assertThat(Timezone.of("Europe/Berlin"), sameInstance(berlin)); // setzt Zugriffsbit
+            Timezone.of(zone);
+        }
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(berlin));
+    }
+
+    @Test
+    public void minimumSizeRaisesMaximum() {
+        Timezone.Cache.setMaximumCacheSize(4);
+        Timezone.Cache.setMinimumCacheSize(10);
+        assertThat(Timezone.Cache.getMaximumCacheSize(), is(10));
+        Timezone.Cache.setMinimumCacheSize(5);
+        assertThat(Timezone.Cache.getMaximumCacheSize(), is(10));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void zeroMaximumSize() {
+        Timezone.Cache.setMaximumCacheSize(0);
+    }
+
+    @Test
+    public void concurrentAccess() throws Exception {
+        Timezone.Cache.setMaximumCacheSize(8);
+        Timezone.Cache.refresh(); // keine angehefteten Zeitzonen
+        final List<String> ids = new ArrayList<>();
+        for (TZID tzid : Timezone.getAvailableIDs()) {
+            ids.add(tzid.canonical());
+            if (ids.size() == 40) {
+                break;
+            }
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        final CountDownLatch latch = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < 16; t++) {
+                final int offset = t;
+                results.add(executor.submit(() -> {
+                    latch.await();
+                    for (int i = 0; i < 2000; i++) {
+                        String id = ids.get((i * 7 + offset) % ids.size());
+                        if (!Timezone.of(id).getID().canonical().equals(id)) {
+                            return Boolean.FALSE;
+                        }
+                    }
+                    return Boolean.TRUE;
+                }));
+            }
+            latch.countDown();
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(1, TimeUnit.MINUTES), is(true));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        int size = Timezone.Cache.getCurrentSize();
+        assertThat("Observed size: " + size, size <= 8, is(true));
+    }
+
+    @Test
+    public void preloadPinsZones() {
+        Timezone.Cache.setMaximumCacheSize(2);
+        PreloadReport report =
+            Timezone.Cache.preload(Arrays.asList("Europe/Berlin", "Asia/Tokyo", "Xyz/Unknown"), Locale.GERMAN);
+        assertThat(report.getFailures(), is(Collections.singletonList("Xyz/Unknown")));
+        assertThat(report.getProviders().size(), is(1));
+        String provider = report.getProviders().iterator().next();
+        assertThat(report.getZoneCount(provider), is(2));
+        assertThat(report.getLoadTimeInNanos(provider) > 0, is(true));
+        assertThat(report.getZoneCount("Xyz"), is(0));
+        Timezone berlin = Timezone.of("Europe/Berlin");
+        long evictions = Timezone.Cache.getEvictionCount();
+        String[] zones = {"Europe/Paris", "Europe/London", "America/New_York", "Asia/Kolkata", "Africa/Cairo"};
+        for (String zone : zones) {
+            Timezone.of(zone);
+        }
+        assertThat(Timezone.Cache.getEvictionCount() > evictions, is(true));
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(berlin));
+        Timezone.Cache.setMaximumCacheSize(3);
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(berlin));
+        Timezone.Cache.refresh();
+        assertThat(Timezone.of("Europe/Berlin"), not(sameInstance(berlin)));
+    }
+
+    @Test
+    public void preloadDoesNotEvictCachedZones() {
+        Timezone.Cache.setMaximumCacheSize(2);
+        Timezone.Cache.refresh();
+        Timezone berlin = Timezone.of("Europe/Berlin");
+        Timezone paris = Timezone.of("Europe/Paris");
+        long evictions = Timezone.Cache.getEvictionCount();
+        PreloadReport report =
+            Timezone.Cache.preload(
+                Arrays.asList("Europe/London", "America/New_York", "Asia/Tokyo", "Asia/Kolkata", "Africa/Cairo"),
+                Locale.ENGLISH);
+        assertThat(report.getFailures().isEmpty(), is(true));
+        assertThat(Timezone.Cache.getEvictionCount(), is(evictions));
+        assertThat(Timezone.Cache.getCurrentSize(), is(2 + 5));
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(berlin));
+        assertThat(Timezone.of("Europe/Paris"), sameInstance(paris));
+    }
+
+    @Test
+    public void pinningReleasesRingSlot() {
+        Timezone.Cache.setMaximumCacheSize(2);
+        Timezone.Cache.refresh();
+        Timezone berlin = Timezone.of("Europe/Berlin");
+        Timezone paris = Timezone.of("Europe/Paris");
+        Timezone.Cache.preload(Collections.singletonList("Europe/Berlin"), Locale.ENGLISH);
+        long evictions = Timezone.Cache.getEvictionCount();
+        Timezone london = Timezone.of("Europe/London"); // belegt den freigewordenen Platz
+        assertThat(Timezone.Cache.getEvictionCount(), is(evictions));
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(berlin));
+        assertThat(Timezone.of("Europe/Paris"), sameInstance(paris));
+        assertThat(Timezone.of("Europe/London"), sameInstance(london));
+    }
+
+    @Test
+    public void preloadAllOfProvider() {
+        PreloadReport report = Timezone.Cache.preload(Arrays.asList("*", "Xyz~*"), Locale.ENGLISH);
+        assertThat(report.getFailures(), is(Collections.singletonList("Xyz~*")));
+        int count = 0;
+        for (String provider : report.getProviders()) {
+            count += report.getZoneCount(provider);
+        }
+        assertThat(count > 100, is(true));
+        assertThat(Timezone.Cache.getCurrentSize() >= count, is(true));
+        assertThat(report.getElapsedTimeInNanos() > 0, is(true));
+    }
+
+}
@@ -8,10 +8,14 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses(
     {
+        BatchConversionTest.class,
         DatelineBorderTest.class,
+        LocalWindowTest.class,
         OffsetTest.class,
         PlatformTimezoneTest.class,
+        ProviderInstallTest.class,
         ProviderRegistrationTest.class,
+        TimezoneCacheTest.class,
         TZIDTest.class
     }
 )
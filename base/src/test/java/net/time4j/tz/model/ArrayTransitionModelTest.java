@@ -87,6 +87,26 @@ public class ArrayTransitionModelTest {
             is(SECOND));
     }
 
+    @Test
+    public void getTotalOffset() {
+        assertThat(MODEL.getTotalOffset(-1), is(1800));
+        assertThat(MODEL.getTotalOffset(0), is(7200));
+        assertThat(MODEL.getTotalOffset(365 * 86400L - 1), is(7200));
+        assertThat(MODEL.getTotalOffset(365 * 86400L), is(3600));
+        assertThat(MODEL.getTotalOffset(730 * 86400L), is(-13 * 3600));
+        assertThat(MODEL.getTotalOffset(FOURTH.getPosixTime()), is(-12 * 3600));
+        assertThat(MODEL.getTotalOffset(Long.MAX_VALUE), is(-12 * 3600));
+    }
+
+    @Test
+    public void getTotalOffsetConsistentWithStartTransition() {
+        for (long t = -86400L; t <= FOURTH.getPosixTime() + 86400L; t += 86400L * 17 + 3599) {
+            ZonalTransition zt = MODEL.getStartTransition(new UT(t));
+            int expected = ((zt == null) ? MODEL.getInitialOffset().getIntegralAmount() : zt.getTotalOffset());
+            assertThat(MODEL.getTotalOffset(t), is(expected));
+        }
+    }
+
     @Test
     public void findNextTransition1() {
         assertThat(
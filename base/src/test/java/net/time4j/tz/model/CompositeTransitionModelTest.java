@@ -74,6 +74,17 @@ public class CompositeTransitionModelTest {
         assertThat(MODEL_SINGLE.getInitialOffset(), is(expected));
     }
 
+    @Test
+    public void getTotalOffsetConsistentWithStartTransition() {
+        for (TransitionHistory model : Arrays.asList(MODEL, MODEL_EXT, MODEL_SINGLE)) {
+            for (long t = -86400L; t <= 100 * 365 * 86400L; t += 86400L * 13 + 1799) {
+                ZonalTransition zt = model.getStartTransition(new UT(t));
+                int expected = ((zt == null) ? model.getInitialOffset().getIntegralAmount() : zt.getTotalOffset());
+                assertThat(model.getTotalOffset(t), is(expected));
+            }
+        }
+    }
+
     @Test
     public void getStartTransition1() {
         assertThat(MODEL.getStartTransition(new UT(-1)), nullValue());
@@ -0,0 +1,113 @@
+package net.time4j.tz.model;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionCursor;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class TransitionCursorTest {
+
+    @Test
+    public void sameAsTransitionListForAllZones() {
+        long[][] intervals = {
+            {posix(1850), posix(1970)},
+            {posix(1900), posix(2100)},
+            {posix(2020), posix(2050)},
+            {posix(2037), posix(2038)},
+            {posix(2400), posix(2430)},
+            {posix(2000), posix(2000)}
+        };
+        for (TZID tzid : Timezone.getAvailableIDs()) {
+            TransitionHistory history = Timezone.of(tzid).getHistory();
+            if (history == null) {
+                continue;
+            }
+            for (long[] interval : intervals) {
+                check(history, interval[0], interval[1], tzid.canonical());
+            }
+            List<ZonalTransition> all = history.getTransitions(moment(posix(1900)), moment(posix(2100)));
+            if (all.size() > 2) {
+                long first = all.get(1).getPosixTime();
+                long last = all.get(all.size() - 1).getPosixTime();
+                check(history, first, last, tzid.canonical()); // Grenzen genau auf Übergängen
+                check(history, first + 1, last + 1, tzid.canonical());
+            }
+        }
+    }
+
+    @Test
+    public void fixedOffset() {
+        TransitionHistory history = Timezone.of(ZonalOffset.ofTotalSeconds(3600)).getHistory();
+        assertThat(history.getTransitionCursor(posix(1900), posix(2100)).next(), is(false));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void startAfterEnd() {
+        Timezone.of("Europe/Berlin").getHistory().getTransitionCursor(posix(2020), posix(2019));
+    }
+
+    private static void check(
+        TransitionHistory history,
+        long start,
+        long end,
+        String zoneID
+    ) {
+        List<ZonalTransition> expected = history.getTransitions(moment(start), moment(end));
+        TransitionCursor cursor = history.getTransitionCursor(start, end);
+        checkNotPositioned(cursor, zoneID);
+        for (ZonalTransition zt : expected) {
+            assertThat(zoneID, cursor.next(), is(true));
+            assertThat(zoneID, cursor.getPosixTime(), is(zt.getPosixTime()));
+            assertThat(zoneID, cursor.getPreviousOffset(), is(zt.getPreviousOffset()));
+            assertThat(zoneID, cursor.getTotalOffset(), is(zt.getTotalOffset()));
+            assertThat(zoneID, cursor.getExtraOffset(), is(zt.getExtraOffset()));
+            assertThat(zoneID, cursor.getRawOffset(), is(zt.getRawOffset()));
+        }
+        assertThat(zoneID, cursor.next(), is(false));
+        assertThat(zoneID, cursor.next(), is(false));
+        checkNotPositioned(cursor, zoneID);
+    }
+
+    private static void checkNotPositioned(
+        TransitionCursor cursor,
+        String zoneID
+    ) {
+        try {
+            cursor.getPosixTime();
+            fail(zoneID + ": cursor not positioned");
+        } catch (IllegalStateException ise) {
+            // expected
+        }
+        try {
+            cursor.getExtraOffset();
+            fail(zoneID + ": cursor not positioned");
+        } catch (IllegalStateException ise) {
+            // expected
+        }
+    }
+
+    private static long posix(int year) {
+        return PlainTimestamp.of(year, 1, 1, 0, 0).atUTC().getPosixTime();
+    }
+
+    private static Moment moment(long posix) {
+        return Moment.of(posix, TimeScale.POSIX);
+    }
+
+}
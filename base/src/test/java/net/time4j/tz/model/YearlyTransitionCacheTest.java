@@ -0,0 +1,81 @@
+package net.time4j.tz.model;
+
+import net.time4j.Moment;
+import net.time4j.Month;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.Weekday;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class YearlyTransitionCacheTest {
+
+    @Test
+    public void boundedForFarFutureYears() {
+        RuleBasedTransitionModel model = createModel();
+        for (int year = 1900; year <= 9999; year++) {
+            model.getStartTransition(Moment.of(utc(year, 7), TimeScale.POSIX));
+        }
+        int max = TransitionModel.YearCache.getWindowSize() + TransitionModel.YearCache.getRingSize();
+        assertThat(model.getCachedYearCount() <= max, is(true));
+    }
+
+    @Test
+    public void sameResultsAsFreshModel() {
+        RuleBasedTransitionModel cached = createModel();
+        for (int year = 1800; year <= 5000; year += 7) {
+            for (int month = 1; month <= 12; month++) {
+                Moment m = Moment.of(utc(year, month), TimeScale.POSIX);
+                ZonalTransition expected = createModel().getStartTransition(m);
+                assertThat(cached.getStartTransition(m), is(expected));
+                assertThat(cached.getStartTransition(m), is(expected)); // now from cache
+            }
+        }
+    }
+
+    @Test
+    public void hitsAndEvictionsAreCounted() {
+        RuleBasedTransitionModel model = createModel();
+        Moment m = Moment.of(utc(2030, 1), TimeScale.POSIX);
+        model.getStartTransition(m);
+        long hits = TransitionModel.YearCache.getHitCount();
+        model.getStartTransition(m);
+        assertThat(TransitionModel.YearCache.getHitCount() > hits, is(true));
+
+        long evictions = TransitionModel.YearCache.getEvictionCount();
+        long misses = TransitionModel.YearCache.getMissCount();
+        int ring = TransitionModel.YearCache.getRingSize();
+        model.getStartTransition(Moment.of(utc(5000, 7), TimeScale.POSIX));
+        model.getStartTransition(Moment.of(utc(5000 + ring, 7), TimeScale.POSIX));
+        assertThat(TransitionModel.YearCache.getMissCount() > misses, is(true));
+        assertThat(TransitionModel.YearCache.getEvictionCount() > evictions, is(true));
+    }
+
+    private static long utc(
+        int year,
+        int month
+    ) {
+        return PlainDate.of(year, month, 15).atStartOfDay().atUTC().getPosixTime();
+    }
+
+    private static RuleBasedTransitionModel createModel() {
+        DaylightSavingRule spring =
+            GregorianTimezoneRule.ofLastWeekday(Month.MARCH, Weekday.SUNDAY, PlainTime.of(1), OffsetIndicator.UTC_TIME, 3600);
+        DaylightSavingRule autumn =
+            GregorianTimezoneRule.ofLastWeekday(Month.OCTOBER, Weekday.SUNDAY, PlainTime.of(1), OffsetIndicator.UTC_TIME, 0);
+        return new RuleBasedTransitionModel(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 1), Arrays.asList(spring, autumn));
+    }
+
+}
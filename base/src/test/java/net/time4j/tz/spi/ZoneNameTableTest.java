@@ -0,0 +1,60 @@
+package net.time4j.tz.spi;
+
+import net.time4j.tz.NameStyle;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.DateFormatSymbols;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ZoneNameTableTest {
+
+    @Test
+    public void sameNamesAsPlatform() {
+        for (Locale locale : new Locale[] {Locale.ENGLISH, Locale.GERMAN, Locale.JAPANESE, new Locale("ru")}) {
+            ZoneNameTable table = ZoneNameProviderSPI.createTable(locale);
+            Map<String, String[]> expected = new HashMap<>();
+            for (String[] arr : DateFormatSymbols.getInstance(locale).getZoneStrings()) {
+                expected.put(arr[0], arr);
+            }
+            assertThat(table.size(), is(expected.size()));
+            for (String[] arr : expected.values()) {
+                assertThat(table.getName(arr[0], NameStyle.LONG_STANDARD_TIME), is(arr[1]));
+                assertThat(table.getName(arr[0], NameStyle.SHORT_STANDARD_TIME), is(arr[2]));
+                assertThat(table.getName(arr[0], NameStyle.LONG_DAYLIGHT_TIME), is(arr[3]));
+                assertThat(table.getName(arr[0], NameStyle.SHORT_DAYLIGHT_TIME), is(arr[4]));
+                if (arr.length >= 7) {
+                    assertThat(table.getName(arr[0], NameStyle.LONG_GENERIC_TIME), is(arr[5]));
+                    assertThat(table.getName(arr[0], NameStyle.SHORT_GENERIC_TIME), is(arr[6]));
+                }
+            }
+            assertThat(table.getName("Xyz/Unknown", NameStyle.LONG_STANDARD_TIME), is(""));
+        }
+    }
+
+    @Test
+    public void sharedIdentifiersAndDeduplicatedNames() {
+        ZoneNameTable english = ZoneNameProviderSPI.createTable(Locale.ENGLISH);
+        ZoneNameTable french = ZoneNameProviderSPI.createTable(Locale.FRENCH);
+        assertThat(english.sharesIDsWith(french), is(english.size() == french.size()));
+        assertThat(english.countDistinctNames() < english.size() * 2, is(true));
+    }
+
+    @Test
+    public void providerUsesTable() {
+        ZoneNameProviderSPI provider = new ZoneNameProviderSPI();
+        assertThat(
+            provider.getDisplayName("Europe/Berlin", NameStyle.LONG_STANDARD_TIME, Locale.ENGLISH),
+            is(ZoneNameProviderSPI.createTable(Locale.ENGLISH).getName("Europe/Berlin", NameStyle.LONG_STANDARD_TIME)));
+        assertThat(provider.getDisplayName("UTC", NameStyle.LONG_STANDARD_TIME, Locale.ENGLISH), is(""));
+    }
+
+}
@@ -0,0 +1,77 @@
+package net.time4j.tz.threeten;
+
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZoneModelProvider;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.zone.ZoneRulesProvider;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class CompactZoneProviderTest {
+
+    private static Path file = null;
+    private static ZoneModelProvider zp = null;
+
+    @BeforeClass
+    public static void init() throws IOException {
+        file = Files.createTempFile("tzdb", ".compact");
+        CompactZoneProviderSPI.compile(file);
+        zp = new CompactZoneProviderSPI(file);
+    }
+
+    @AfterClass
+    public static void cleanUp() throws IOException {
+        zp = null;
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void metaData() {
+        assertThat(zp.getName(), is("TZDB"));
+        assertThat(zp.getVersion(), is(new JdkZoneProviderSPI().getVersion()));
+        assertThat(zp.getLocation(), is(file.toString()));
+        assertThat(zp.getFallback(), is(""));
+        assertThat(zp.getAliases().isEmpty(), is(true));
+        assertThat(zp.getAvailableIDs(), is(ZoneRulesProvider.getAvailableZoneIds()));
+    }
+
+    @Test
+    public void sameHistoriesAsJdk() {
+        for (String zoneID : zp.getAvailableIDs()) {
+            TransitionHistory expected = JdkZoneProviderSPI.load(ZoneId.of(zoneID));
+            TransitionHistory history = zp.load(zoneID);
+            assertThat(zoneID, history, is(expected));
+            assertThat(zoneID, history.getStdTransitions(), is(expected.getStdTransitions()));
+            assertThat(zoneID, history.getInitialOffset(), is(expected.getInitialOffset()));
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void loadUnknownZone() {
+        zp.load("Europe/Atlantis");
+    }
+
+    @Test(expected=IOException.class)
+    public void wrongFormat() throws IOException {
+        Path wrong = Files.createTempFile("tzdb", ".wrong");
+        try {
+            Files.write(wrong, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+            new CompactZoneProviderSPI(wrong);
+        } finally {
+            Files.deleteIfExists(wrong);
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BatchOffsetBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the conversion of a sorted column of timestamps (one per minute over a week)
+ * element by element and by the batch methods of {@code Timezone}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Mi&szlig;t die Konvertierung einer sortierten Spalte von Zeitstempeln (einer pro Minute
+ * &uuml;ber eine Woche) elementweise und mit den Massenmethoden von {@code Timezone}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BatchOffsetBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int SIZE = 7 * 1440;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private Timezone tz;
+    private long[] posixTimes;
+    private long[] localSeconds;
+    private int[] offsets;
+    private long[] results;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.tz = Timezone.of("Europe/Berlin");
+        this.posixTimes = new long[SIZE];
+        this.localSeconds = new long[SIZE];
+        this.offsets = new int[SIZE];
+        this.results = new long[SIZE];
+        long start = PlainTimestamp.of(2020, 3, 25, 0, 0).atUTC().getPosixTime(); // inklusive Sommerzeitbeginn
+
+        for (int i = 0; i < SIZE; i++) {
+            this.posixTimes[i] = start + i * 60L;
+            this.localSeconds[i] = start + i * 60L;
+        }
+
+    }
+
+    @Benchmark
+    public int[] getOffsetPerElement() {
+
+        for (int i = 0; i < SIZE; i++) {
+            Moment moment = Moment.of(this.posixTimes[i], TimeScale.POSIX);
+            this.offsets[i] = this.tz.getOffset(moment).getIntegralAmount();
+        }
+
+        return this.offsets;
+
+    }
+
+    @Benchmark
+    public int[] getOffsetsBatch() {
+
+        this.tz.getOffsets(this.posixTimes, this.offsets);
+        return this.offsets;
+
+    }
+
+    @Benchmark
+    public long[] resolvePerElement() {
+
+        PlainTimestamp epoch = PlainTimestamp.of(1970, 1, 1, 0, 0);
+
+        for (int i = 0; i < SIZE; i++) {
+            PlainTimestamp tsp = epoch.plus(this.localSeconds[i], ClockUnit.SECONDS);
+            this.results[i] = tsp.in(this.tz).getPosixTime();
+        }
+
+        return this.results;
+
+    }
+
+    @Benchmark
+    public long[] getPosixTimesBatch() {
+
+        this.tz.getPosixTimes(this.localSeconds, this.results);
+        return this.results;
+
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BenchmarkRunner.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * <p>Entry point which runs all or selected benchmarks together with the GC-profiler. </p>
+ *
+ * <p>All standard JMH-command-line-options are supported, for example a regular expression
+ * for selecting benchmarks by name: {@code java -jar benchmarks.jar Iso8601 -f 1}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Startpunkt, der alle oder ausgew&auml;hlte Benchmarks zusammen mit dem GC-Profiler ausf&uuml;hrt. </p>
+ *
+ * <p>Alle Standard-Kommandozeilenoptionen von JMH werden unterst&uuml;tzt, zum Beispiel ein
+ * regul&auml;rer Ausdruck zur Auswahl von Benchmarks: {@code java -jar benchmarks.jar Iso8601 -f 1}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+public final class BenchmarkRunner {
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private BenchmarkRunner() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Runs the benchmarks. </p>
+     *
+     * @param   args    JMH-command-line-options
+     * @throws  CommandLineOptionException if the options are invalid
+     * @throws  RunnerException if any benchmark fails
+     */
+    /*[deutsch]
+     * <p>F&uuml;hrt die Benchmarks aus. </p>
+     *
+     * @param   args    JMH-command-line-options
+     * @throws  CommandLineOptionException if the options are invalid
+     * @throws  RunnerException if any benchmark fails
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+
+        Options options =
+            new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ChronoFormatterBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.ClockUnit;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.AttributeQuery;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.ElementPosition;
+import net.time4j.format.expert.ParseLog;
+import net.time4j.format.expert.ParseSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures printing and parsing of {@code ChronoFormatter} for every {@link FormatterShape}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Mi&szlig;t Formatierung und Interpretation mit {@code ChronoFormatter} f&uuml;r jede
+ * {@link FormatterShape}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ChronoFormatterBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param
+    public FormatterShape shape;
+
+    private ChronoFormatter<PlainTimestamp> formatter;
+    private PlainTimestamp value;
+    private String text;
+    private AttributeQuery attributes;
+    private StringBuilder buffer;
+    private char[] chars;
+    private byte[] bytes;
+    private byte[] sampleBytes;
+    private String malformed;
+    private ParseSession<PlainTimestamp> session;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() throws ParseException {
+
+        this.formatter = this.shape.formatter();
+        this.value = PlainTimestamp.of(2019, 11, 4, 17, 45, 30).plus(123456789, ClockUnit.NANOS);
+        this.text = this.shape.sample();
+        this.attributes = this.formatter.getAttributes();
+        this.buffer = new StringBuilder(64);
+        this.chars = new char[64];
+        this.bytes = new byte[64];
+        this.sampleBytes = this.text.getBytes(StandardCharsets.UTF_8);
+        this.malformed = this.text.substring(0, 5) + '#' + this.text.substring(6);
+        this.session = this.formatter.newParseSession();
+        this.formatter.parse(this.text); // fail-fast if the sample text does not match
+
+    }
+
+    @Benchmark
+    public String printToString() {
+
+        return this.formatter.print(this.value);
+
+    }
+
+    @Benchmark
+    public Set<ElementPosition> printToAppendable() throws IOException {
+
+        this.buffer.setLength(0);
+        return this.formatter.print(this.value, this.buffer, this.attributes);
+
+    }
+
+    @Benchmark
+    public int printToCharArray() {
+
+        return this.formatter.print(this.value, this.chars, 0);
+
+    }
+
+    @Benchmark
+    public int printToByteArray() {
+
+        return this.formatter.print(this.value, this.bytes, 0);
+
+    }
+
+    @Benchmark
+    public ChronoFormatter<PlainTimestamp> createByFactory() {
+
+        return this.shape.formatter();
+
+    }
+
+    @Benchmark
+    public ChronoFormatter<PlainTimestamp> createByBuilder() {
+
+        return this.shape.buildFormatter();
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parse() throws ParseException {
+
+        return this.formatter.parse(this.text);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseWithLog() {
+
+        return this.formatter.parse(this.text, new ParseLog());
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseBytes() throws ParseException {
+
+        return this.formatter.parseBytes(this.sampleBytes, 0, this.sampleBytes.length);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseWithSession() {
+
+        return this.session.parse(this.text);
+
+    }
+
+    @Benchmark
+    public int parseMalformed() {
+
+        try {
+            this.formatter.parse(this.malformed);
+            return -1;
+        } catch (ParseException pe) {
+            return pe.getErrorOffset();
+        }
+
+    }
+
+    @Benchmark
+    public int parseMalformedWithSession() {
+
+        this.session.parse(this.malformed);
+        return this.session.getErrorIndex();
+
+    }
+
+}
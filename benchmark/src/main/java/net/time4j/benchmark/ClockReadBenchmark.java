@@ -0,0 +1,98 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ClockReadBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.ClockUnit;
+import net.time4j.CoarseClock;
+import net.time4j.Moment;
+import net.time4j.SystemClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Compares reading the standard system clock with reading the coarse millisecond clock. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Vergleicht das Lesen der Standard-Systemuhr mit dem Lesen der grobk&ouml;rnigen Millisekundenuhr. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ClockReadBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private SystemClock monotonic;
+    private CoarseClock coarse;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.monotonic = SystemClock.MONOTONIC;
+        this.coarse = SystemClock.coarse(ClockUnit.MILLIS);
+
+    }
+
+    @Benchmark
+    public Moment standard() {
+
+        return SystemClock.INSTANCE.currentTime();
+
+    }
+
+    @Benchmark
+    public Moment monotonic() {
+
+        return this.monotonic.currentTime();
+
+    }
+
+    @Benchmark
+    public Moment coarse() {
+
+        return this.coarse.currentTime();
+
+    }
+
+}
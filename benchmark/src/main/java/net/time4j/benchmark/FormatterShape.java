@@ -0,0 +1,150 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FormatterShape.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.PlainTimestamp;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.PatternType;
+
+import java.util.Locale;
+
+
+/**
+ * <p>Typical structures of pattern-based formatters which exercise different code paths. </p>
+ *
+ * <p>Every shape also provides a sample text for parsing. In case of or-blocks, the sample text
+ * deliberately matches the last alternative only so the parser has to roll back at least once. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Typische Strukturen von musterbasierten Formatierern, die verschiedene Code-Pfade durchlaufen. </p>
+ *
+ * <p>Jede Struktur liefert auch einen Beispieltext zur Interpretation. Im Fall von oder-Bl&ouml;cken
+ * pa&szlig;t der Beispieltext absichtlich nur zur letzten Alternative, so da&szlig; der Interpretierer
+ * mindestens einmal zur&uuml;ckspringen mu&szlig;. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+public enum FormatterShape {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * Flat sequence of numbers and literals without any optional section or or-block.
+     */
+    PLAIN("uuuu-MM-dd'T'HH:mm:ss", Locale.ROOT, "2019-11-04T17:45:30"),
+
+    /**
+     * Nested optional sections for second and fraction of second.
+     */
+    OPTIONAL("uuuu-MM-dd'T'HH:mm[:ss[.SSSSSSSSS]]", Locale.ROOT, "2019-11-04T17:45:30.123456789"),
+
+    /**
+     * Three alternative or-blocks where the parser only succeeds with the last one.
+     */
+    OR_BLOCKS(
+        "uuuu-MM-dd'T'HH:mm:ss|dd.MM.uuuu HH:mm:ss|MM/dd/uuuu h:mm:ss a",
+        Locale.US,
+        "11/04/2019 5:45:30 PM"),
+
+    /**
+     * Localized text elements like weekday and month names.
+     */
+    LOCALIZED("EEE, d. MMMM uuuu HH:mm:ss", Locale.ENGLISH, "Mon, 4. November 2019 17:45:30");
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final transient String pattern;
+    private final transient Locale locale;
+    private final transient String sample;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private FormatterShape(
+        String pattern,
+        Locale locale,
+        String sample
+    ) {
+
+        this.pattern = pattern;
+        this.locale = locale;
+        this.sample = sample;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new formatter for this shape. </p>
+     *
+     * @return  new formatter for local timestamps
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Formatierer f&uuml;r diese Struktur. </p>
+     *
+     * @return  new formatter for local timestamps
+     */
+    public ChronoFormatter<PlainTimestamp> formatter() {
+
+        return ChronoFormatter.ofTimestampPattern(this.pattern, PatternType.CLDR, this.locale);
+
+    }
+
+    /**
+     * <p>Builds a new formatter for this shape without looking up the shared formatter cache. </p>
+     *
+     * @return  new formatter for local timestamps
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Formatierer f&uuml;r diese Struktur, ohne im gemeinsamen Cache
+     * nachzuschauen. </p>
+     *
+     * @return  new formatter for local timestamps
+     */
+    public ChronoFormatter<PlainTimestamp> buildFormatter() {
+
+        return ChronoFormatter.setUp(PlainTimestamp.axis(), this.locale)
+            .addPattern(this.pattern, PatternType.CLDR)
+            .build();
+
+    }
+
+    /**
+     * <p>Yields a text which can be parsed by the formatter of this shape. </p>
+     *
+     * @return  sample text for parsing
+     */
+    /*[deutsch]
+     * <p>Liefert einen Text, den der Formatierer dieser Struktur interpretieren kann. </p>
+     *
+     * @return  sample text for parsing
+     */
+    public String sample() {
+
+        return this.sample;
+
+    }
+
+}
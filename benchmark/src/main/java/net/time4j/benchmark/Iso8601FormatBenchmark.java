@@ -0,0 +1,208 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (Iso8601FormatBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.ClockUnit;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.Iso8601Format;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures printing and parsing of every predefined formatter in {@link Iso8601Format}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Mi&szlig;t Formatierung und Interpretation mit jedem vordefinierten Formatierer in
+ * {@link Iso8601Format}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class Iso8601FormatBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final PlainTimestamp TSP =
+        PlainTimestamp.of(2019, 11, 4, 17, 45, 30).plus(123456789, ClockUnit.NANOS);
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param
+    public Constant constant;
+
+    private Sample<?> sample;
+    private String text;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() throws ParseException {
+
+        this.sample = this.constant.sample();
+        this.text = this.sample.print();
+        this.sample.parse(this.text); // fail-fast
+
+    }
+
+    @Benchmark
+    public String print() {
+
+        return this.sample.print();
+
+    }
+
+    @Benchmark
+    public Object parse() throws ParseException {
+
+        return this.sample.parse(this.text);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Enumerates all public formatter constants of {@link Iso8601Format}. </p>
+     */
+    /*[deutsch]
+     * <p>Z&auml;hlt alle &ouml;ffentlichen Formatierkonstanten von {@link Iso8601Format} auf. </p>
+     */
+    public enum Constant {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        BASIC_CALENDAR_DATE,
+        EXTENDED_CALENDAR_DATE,
+        BASIC_ORDINAL_DATE,
+        EXTENDED_ORDINAL_DATE,
+        BASIC_WEEK_DATE,
+        EXTENDED_WEEK_DATE,
+        BASIC_DATE,
+        EXTENDED_DATE,
+        BASIC_WALL_TIME,
+        EXTENDED_WALL_TIME,
+        BASIC_DATE_TIME,
+        EXTENDED_DATE_TIME,
+        BASIC_DATE_TIME_OFFSET,
+        EXTENDED_DATE_TIME_OFFSET;
+
+        //~ Methoden ------------------------------------------------------
+
+        Sample<?> sample() {
+
+            switch (this) {
+                case BASIC_CALENDAR_DATE:
+                    return new Sample<>(Iso8601Format.BASIC_CALENDAR_DATE, TSP.getCalendarDate());
+                case EXTENDED_CALENDAR_DATE:
+                    return new Sample<>(Iso8601Format.EXTENDED_CALENDAR_DATE, TSP.getCalendarDate());
+                case BASIC_ORDINAL_DATE:
+                    return new Sample<>(Iso8601Format.BASIC_ORDINAL_DATE, TSP.getCalendarDate());
+                case EXTENDED_ORDINAL_DATE:
+                    return new Sample<>(Iso8601Format.EXTENDED_ORDINAL_DATE, TSP.getCalendarDate());
+                case BASIC_WEEK_DATE:
+                    return new Sample<>(Iso8601Format.BASIC_WEEK_DATE, TSP.getCalendarDate());
+                case EXTENDED_WEEK_DATE:
+                    return new Sample<>(Iso8601Format.EXTENDED_WEEK_DATE, TSP.getCalendarDate());
+                case BASIC_DATE:
+                    return new Sample<>(Iso8601Format.BASIC_DATE, TSP.getCalendarDate());
+                case EXTENDED_DATE:
+                    return new Sample<>(Iso8601Format.EXTENDED_DATE, TSP.getCalendarDate());
+                case BASIC_WALL_TIME:
+                    return new Sample<>(Iso8601Format.BASIC_WALL_TIME, TSP.getWallTime());
+                case EXTENDED_WALL_TIME:
+                    return new Sample<>(Iso8601Format.EXTENDED_WALL_TIME, TSP.getWallTime());
+                case BASIC_DATE_TIME:
+                    return new Sample<>(Iso8601Format.BASIC_DATE_TIME, TSP);
+                case EXTENDED_DATE_TIME:
+                    return new Sample<>(Iso8601Format.EXTENDED_DATE_TIME, TSP);
+                case BASIC_DATE_TIME_OFFSET:
+                    return new Sample<>(Iso8601Format.BASIC_DATE_TIME_OFFSET, TSP.atUTC());
+                case EXTENDED_DATE_TIME_OFFSET:
+                    return new Sample<>(Iso8601Format.EXTENDED_DATE_TIME_OFFSET, TSP.atUTC());
+                default:
+                    throw new UnsupportedOperationException(this.name());
+            }
+
+        }
+
+    }
+
+    // bindet Formatierer und Beispielwert typsicher aneinander
+    static final class Sample<T> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ChronoFormatter<T> formatter;
+        private final T value;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Sample(
+            ChronoFormatter<T> formatter,
+            T value
+        ) {
+            super();
+
+            this.formatter = formatter;
+            this.value = value;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        String print() {
+
+            return this.formatter.print(this.value);
+
+        }
+
+        T parse(String text) throws ParseException {
+
+            return this.formatter.parse(text);
+
+        }
+
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (JavaTimeBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Baseline with the ISO-8601-formatters of {@code java.time} for comparison with
+ * {@link Iso8601FormatBenchmark}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Vergleichsma&szlig;stab mit den ISO-8601-Formatierern von {@code java.time} f&uuml;r
+ * {@link Iso8601FormatBenchmark}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JavaTimeBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private LocalDateTime ldt = LocalDateTime.of(2019, 11, 4, 17, 45, 30, 123456789);
+    private String localText = "2019-11-04T17:45:30.123456789";
+    private String offsetText = "2019-11-04T17:45:30.123456789Z";
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Benchmark
+    public String printLocalDateTime() {
+
+        return this.ldt.toString();
+
+    }
+
+    @Benchmark
+    public LocalDateTime parseLocalDateTime() {
+
+        return LocalDateTime.parse(this.localText);
+
+    }
+
+    @Benchmark
+    public OffsetDateTime parseOffsetDateTime() {
+
+        return OffsetDateTime.parse(this.offsetText);
+
+    }
+
+}
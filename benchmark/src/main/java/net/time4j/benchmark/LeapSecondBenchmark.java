@@ -0,0 +1,127 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (LeapSecondBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.scale.LeapSeconds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the conversions between POSIX and UTC seconds for current and historic time points. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Mi&szlig;t die Umrechnungen zwischen POSIX- und UTC-Sekunden f&uuml;r aktuelle und historische
+ * Zeitpunkte. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LeapSecondBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int SIZE = 1024;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"1972", "2020"})
+    public int startYear;
+
+    private LeapSeconds leapSeconds;
+    private long[] posix;
+    private long[] utc;
+    private int index = 0;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.leapSeconds = LeapSeconds.getInstance();
+        this.posix = new long[SIZE];
+        this.utc = new long[SIZE];
+        long start = (this.startYear - 1970) * 365L * 86400;
+        long end = 2145916800L; // 2038-01-01T00:00:00Z
+        Random random = new Random(42);
+
+        for (int i = 0; i < SIZE; i++) {
+            this.posix[i] = start + (long) (random.nextDouble() * (end - start));
+            this.utc[i] = this.leapSeconds.enhance(this.posix[i]);
+        }
+
+    }
+
+    @Benchmark
+    public long enhance() {
+
+        int i = this.next();
+        return this.leapSeconds.enhance(this.posix[i]);
+
+    }
+
+    @Benchmark
+    public long strip() {
+
+        int i = this.next();
+        return this.leapSeconds.strip(this.utc[i]);
+
+    }
+
+    @Benchmark
+    public int getShift() {
+
+        int i = this.next();
+        return this.leapSeconds.getShift(this.utc[i]);
+
+    }
+
+    private int next() {
+
+        int i = this.index;
+        this.index = (i + 1) & (SIZE - 1);
+        return i;
+
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (LocalResolutionBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the conversion of local timestamps between 2000 and 2040 to moments and offsets. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Mi&szlig;t die Konvertierung lokaler Zeitstempel zwischen 2000 und 2040 zu Momenten und
+ * Verschiebungen. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LocalResolutionBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int SIZE = 1024;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"Europe/Berlin", "America/New_York"})
+    public String zoneID;
+
+    private Timezone tz;
+    private PlainTimestamp[] timestamps;
+    private int index = 0;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.tz = Timezone.of(this.zoneID);
+        this.timestamps = new PlainTimestamp[SIZE];
+        PlainTimestamp start = PlainTimestamp.of(2000, 1, 1, 0, 0);
+        Random random = new Random(42);
+
+        for (int i = 0; i < SIZE; i++) {
+            long minutes = (long) (random.nextDouble() * 40 * 365.2425 * 1440);
+            this.timestamps[i] = start.plus(minutes, ClockUnit.MINUTES);
+        }
+
+    }
+
+    @Benchmark
+    public Moment in() {
+
+        return this.next().in(this.tz);
+
+    }
+
+    @Benchmark
+    public ZonalOffset getOffset() {
+
+        PlainTimestamp tsp = this.next();
+        return this.tz.getOffset(tsp.getCalendarDate(), tsp.getWallTime());
+
+    }
+
+    private PlainTimestamp next() {
+
+        PlainTimestamp tsp = this.timestamps[this.index];
+        this.index = (this.index + 1) & (SIZE - 1);
+        return tsp;
+
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (MultiFormatParserBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.PlainDate;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.MultiFormatParser;
+import net.time4j.format.expert.PatternType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures a {@code MultiFormatParser} with many formats with and without prefix dispatch
+ * where the matching format is the last one. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Mi&szlig;t einen {@code MultiFormatParser} mit vielen Formaten mit und ohne Vorauswahl
+ * nach dem Textanfang, wobei das passende Format das letzte ist. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MultiFormatParserBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private MultiFormatParser<PlainDate> sequential;
+    private MultiFormatParser<PlainDate> dispatched;
+    private String text = "D2019-308";
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        String[] patterns = {
+            "uuuu-MM-dd", "uuuu/MM/dd", "dd/MM/uuuu", "uuuuMMdd", "YYYY-'W'ww-e", "uuuu-DDD", "'W'ww-e uuuu",
+            "d. MMMM uuuu", "MMMM d, uuuu", "'D'uuuu-DDD"
+        };
+
+        @SuppressWarnings("unchecked")
+        ChronoFormatter<PlainDate>[] formats = new ChronoFormatter[patterns.length];
+
+        for (int i = 0; i < patterns.length; i++) {
+            formats[i] = ChronoFormatter.ofDatePattern(patterns[i], PatternType.CLDR, Locale.ENGLISH);
+        }
+
+        this.sequential = MultiFormatParser.of(formats);
+        this.dispatched = this.sequential.withPrefixDispatch();
+
+    }
+
+    @Benchmark
+    public PlainDate parseSequential() throws ParseException {
+
+        return this.sequential.parse(this.text);
+
+    }
+
+    @Benchmark
+    public PlainDate parseDispatched() throws ParseException {
+
+        return this.dispatched.parse(this.text);
+
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (TimezoneOffsetBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.Moment;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the offset lookup of a historized timezone for random moments between 1900 and 2037. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Mi&szlig;t die Ermittlung der Verschiebung einer historisierten Zeitzone f&uuml;r zuf&auml;llige
+ * Momente zwischen 1900 und 2037. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TimezoneOffsetBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int SIZE = 1024;
+    private static final long START = -2208988800L; // 1900-01-01T00:00:00Z
+    private static final long END = 2145916800L; // 2038-01-01T00:00:00Z
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"Europe/Berlin", "America/New_York", "Asia/Kolkata"})
+    public String zoneID;
+
+    private Timezone tz;
+    private TransitionHistory history;
+    private Moment[] moments;
+    private int index = 0;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.tz = Timezone.of(this.zoneID);
+        this.history = this.tz.getHistory();
+        this.moments = new Moment[SIZE];
+        Random random = new Random(42);
+
+        for (int i = 0; i < SIZE; i++) {
+            long posix = START + (long) (random.nextDouble() * (END - START));
+            this.moments[i] = Moment.of(posix, TimeScale.POSIX);
+        }
+
+    }
+
+    @Benchmark
+    public ZonalOffset getOffset() {
+
+        return this.tz.getOffset(this.next());
+
+    }
+
+    @Benchmark
+    public ZonalTransition getStartTransition() {
+
+        return this.history.getStartTransition(this.next());
+
+    }
+
+    private Moment next() {
+
+        Moment moment = this.moments[this.index];
+        this.index = (this.index + 1) & (SIZE - 1);
+        return moment;
+
+    }
+
+}
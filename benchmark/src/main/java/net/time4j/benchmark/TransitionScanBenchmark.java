@@ -0,0 +1,118 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (TransitionScanBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.Moment;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionCursor;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalTransition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures scanning all transitions of 30 years (2020-2050) via list and via cursor. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Mi&szlig;t das Durchsuchen aller &Uuml;berg&auml;nge von 30 Jahren (2020-2050) mit Hilfe
+ * einer Liste und mit Hilfe eines Cursors. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TransitionScanBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final long START = 1577836800L; // 2020-01-01T00:00:00Z
+    private static final long END = 2524608000L; // 2050-01-01T00:00:00Z
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"Europe/Berlin", "America/New_York"})
+    public String zoneID;
+
+    private TransitionHistory history;
+    private Moment start;
+    private Moment end;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.history = Timezone.of(this.zoneID).getHistory();
+        this.start = Moment.of(START, TimeScale.POSIX);
+        this.end = Moment.of(END, TimeScale.POSIX);
+
+    }
+
+    @Benchmark
+    public long scanList() {
+
+        long sum = 0;
+
+        for (ZonalTransition zt : this.history.getTransitions(this.start, this.end)) {
+            sum += zt.getPosixTime() + zt.getExtraOffset();
+        }
+
+        return sum;
+
+    }
+
+    @Benchmark
+    public long scanCursor() {
+
+        long sum = 0;
+        TransitionCursor cursor = this.history.getTransitionCursor(START, END);
+
+        while (cursor.next()) {
+            sum += cursor.getPosixTime() + cursor.getExtraOffset();
+        }
+
+        return sum;
+
+    }
+
+}
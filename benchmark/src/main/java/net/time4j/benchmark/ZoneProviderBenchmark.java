@@ -0,0 +1,116 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneProviderBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZoneModelProvider;
+import net.time4j.tz.threeten.CompactZoneProviderSPI;
+import net.time4j.tz.threeten.JdkZoneProviderSPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the loading of all zones by the JDK-provider and by the compact binary provider. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Mi&szlig;t das Laden aller Zeitzonen mit dem JDK-Provider und mit dem kompakten
+ * bin&auml;ren Provider. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ZoneProviderBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private Path file;
+    private ZoneModelProvider jdk;
+    private ZoneModelProvider compact;
+    private String[] zoneIDs;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() throws IOException {
+
+        this.file = Files.createTempFile("tzdb", ".compact");
+        CompactZoneProviderSPI.compile(this.file);
+        this.jdk = new JdkZoneProviderSPI();
+        this.compact = new CompactZoneProviderSPI(this.file);
+        this.zoneIDs = this.compact.getAvailableIDs().toArray(new String[0]);
+
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+
+        this.compact = null;
+        Files.deleteIfExists(this.file);
+
+    }
+
+    @Benchmark
+    public void loadAllByJdk(Blackhole bh) {
+
+        for (String zoneID : this.zoneIDs) {
+            TransitionHistory history = this.jdk.load(zoneID);
+            bh.consume(history);
+        }
+
+    }
+
+    @Benchmark
+    public void loadAllByCompact(Blackhole bh) {
+
+        for (String zoneID : this.zoneIDs) {
+            TransitionHistory history = this.compact.load(zoneID);
+            bh.consume(history);
+        }
+
+    }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (package-info.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+/**
+ * <p>JMH-benchmarks for the hot paths of format and parse engine and of timezone data. </p>
+ *
+ * <p>Build the module with {@code mvn package} and run the resulting self-contained jar by
+ * {@code java -jar target/benchmarks.jar}. The runner always attaches the GC-profiler so
+ * every result is reported both as throughput and as allocation rate per operation. </p>
+ */
+/*[deutsch]
+ * <p>JMH-Benchmarks f&uuml;r die zeitkritischen Pfade der Formatierung und Interpretation und
+ * der Zeitzonendaten. </p>
+ *
+ * <p>Das Modul wird mit {@code mvn package} gebaut und das resultierende Jar mit
+ * {@code java -jar target/benchmarks.jar} gestartet. Der Runner verwendet immer den GC-Profiler,
+ * so da&szlig; jedes Ergebnis sowohl als Durchsatz wie auch als Allokationsrate je Operation
+ * ausgegeben wird. </p>
+ */
+package net.time4j.benchmark;